@@ -0,0 +1,77 @@
+package com.gridifymydungeon.plugin.dnd;
+
+import com.gridifymydungeon.plugin.spell.SpellCatalog;
+import com.gridifymydungeon.plugin.spell.SpellDatabase;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Loads the spell and monster catalogs from <plugin data>/catalog/.
+ *
+ * On first start the bundled spells.tsv / monsters.tsv are copied there so the
+ * GM has something to edit. A reload parses BOTH files fully before installing
+ * either, so a typo never leaves the server with a half-applied catalog — the
+ * old snapshot simply stays live and the error (with file:line) is reported.
+ *
+ * Parsing runs off the caller's thread; until the first load finishes the
+ * databases lazily fall back to the bundled defaults.
+ */
+public class CatalogLoader {
+
+    private final File catalogDirectory;
+
+    public CatalogLoader(File pluginDataFolder) {
+        this.catalogDirectory = new File(pluginDataFolder, "catalog");
+    }
+
+    /** Reload both catalogs in the background. Completes with a one-line summary. */
+    public CompletableFuture<String> reloadAsync() {
+        return CompletableFuture.supplyAsync(this::reload);
+    }
+
+    /** Parse and install both catalogs. Synchronized so overlapping /gridreload calls run one at a time. */
+    public synchronized String reload() {
+        long start = System.nanoTime();
+        try {
+            File spellFile   = ensureFile("spells.tsv",   SpellDatabase.BUNDLED_RESOURCE);
+            File monsterFile = ensureFile("monsters.tsv", MonsterDatabase.BUNDLED_RESOURCE);
+
+            SpellCatalog spells;
+            try (BufferedReader r = Files.newBufferedReader(spellFile.toPath(), StandardCharsets.UTF_8)) {
+                spells = SpellDatabase.parse(r, spellFile.getName());
+            }
+            MonsterCatalog monsters;
+            try (BufferedReader r = Files.newBufferedReader(monsterFile.toPath(), StandardCharsets.UTF_8)) {
+                monsters = MonsterDatabase.parse(r, monsterFile.getName());
+            }
+
+            SpellDatabase.install(spells);
+            MonsterDatabase.install(monsters);
+
+            long ms = (System.nanoTime() - start) / 1_000_000;
+            String summary = spells.size() + " spells, " + monsters.size() + " monsters (" + ms + " ms)";
+            System.out.println("[Griddify] [CATALOG] Loaded " + summary + " from " + catalogDirectory);
+            return summary;
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to read catalog: " + e.getMessage(), e);
+        }
+    }
+
+    private File ensureFile(String fileName, String bundledResource) throws IOException {
+        File file = new File(catalogDirectory, fileName);
+        if (file.exists()) return file;
+        if (!catalogDirectory.exists()) catalogDirectory.mkdirs();
+        try (InputStream in = CatalogLoader.class.getResourceAsStream(bundledResource)) {
+            if (in == null) throw new IOException("Missing bundled " + bundledResource);
+            Files.copy(in, file.toPath());
+        }
+        System.out.println("[Griddify] [CATALOG] Wrote default " + file);
+        return file;
+    }
+}
@@ -0,0 +1,296 @@
+package com.gridifymydungeon.plugin.dnd;
+
+import com.gridifymydungeon.plugin.gridmove.BlockFlags;
+import com.gridifymydungeon.plugin.gridmove.FieldOfView;
+import com.gridifymydungeon.plugin.gridmove.GridMoveManager;
+import com.gridifymydungeon.plugin.gridmove.GridPlayerState;
+import com.hypixel.hytale.component.Ref;
+import com.hypixel.hytale.component.Store;
+import com.hypixel.hytale.protocol.packets.entities.EntityUpdates;
+import com.hypixel.hytale.server.core.modules.entity.tracker.EntityTrackerSystems;
+import com.hypixel.hytale.server.core.modules.entity.tracker.NetworkId;
+import com.hypixel.hytale.server.core.universe.PlayerRef;
+import com.hypixel.hytale.server.core.universe.world.World;
+import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Line-of-sight fog of war.
+ *
+ * Every player with an NPC gets a FieldOfView computed by symmetric shadowcasting
+ * from the NPC's cell. A cell is opaque when at least two of its four block columns
+ * are solid at the NPC's head height, so walls, pillars and cliff faces block sight
+ * while knee-high ledges and barriers do not.
+ *
+ * Monsters (and their number holograms) and other players' NPCs outside a player's
+ * visible set are removed from that player's client with ONE EntityUpdates packet
+ * per player per refresh. When they come back into view the player is dropped from
+ * the entity's tracker so the next tracker tick re-sends the spawn.
+ *
+ * Incremental: FOV is recomputed only for the player whose NPC moved, and cell
+ * opacity is cached per player (like groundYCache) so a one-cell step only reads
+ * blocks for the fringe of new cells. All calls must run on the world thread.
+ */
+public class FogOfWarManager {
+
+    /** 60 ft darkvision = 12 cells. */
+    private static final int SIGHT_RADIUS = 12;
+
+    private final GridMoveManager gridMoveManager;
+    private final EncounterManager encounterManager;
+    private final RoleManager roleManager;
+
+    private final Map<UUID, Viewer> viewers = new HashMap<>();
+
+    /** Per-player FOV, opacity cache and the set of entities currently hidden from them. */
+    private static final class Viewer {
+        final FieldOfView fov = new FieldOfView(SIGHT_RADIUS);
+        final Map<Long, Boolean> opacityCache = new HashMap<>();
+        int eyeBlockY = Integer.MIN_VALUE;
+        /** netId → entity ref for everything currently removed from this player's client. */
+        final Map<Integer, Ref<EntityStore>> hidden = new HashMap<>();
+        boolean dirty = true;
+    }
+
+    public FogOfWarManager(GridMoveManager gridMoveManager, EncounterManager encounterManager,
+                           RoleManager roleManager) {
+        this.gridMoveManager = gridMoveManager;
+        this.encounterManager = encounterManager;
+        this.roleManager = roleManager;
+    }
+
+    // ========================================================
+    // PUBLIC API
+    // ========================================================
+
+    /** Recompute every player's FOV and re-apply entity visibility (fog toggled on, combat start). */
+    public void refreshAll(World world) {
+        if (!gridMoveManager.isFogOfWarActive()) return;
+        for (Viewer v : viewers.values()) v.dirty = true;
+        applyAll(world);
+    }
+
+    /** A player's NPC stepped: recompute only their FOV, then update who sees what. */
+    public void onNpcMoved(World world, GridPlayerState state) {
+        if (!gridMoveManager.isFogOfWarActive()) return;
+        if (state.playerRef != null) {
+            Viewer v = viewers.get(state.playerRef.getUuid());
+            if (v != null && !v.fov.hasOrigin(state.currentGridX, state.currentGridZ)) v.dirty = true;
+        }
+        applyAll(world);
+    }
+
+    /** A monster moved: no FOV changes, only which entities fall inside them. */
+    public void onEntityMoved(World world) {
+        if (!gridMoveManager.isFogOfWarActive()) return;
+        applyAll(world);
+    }
+
+    /**
+     * Blocks changed in these cells (door opened, wall built): drop their cached
+     * opacity and recompute only the viewers whose field of view read them.
+     */
+    public void invalidateOpacity(World world, Set<Long> cellKeys) {
+        boolean any = false;
+        for (Viewer v : viewers.values()) {
+            boolean hit = false;
+            for (long key : cellKeys) hit |= v.opacityCache.remove(key) != null;
+            if (hit) {
+                v.dirty = true;
+                any = true;
+            }
+        }
+        if (any && gridMoveManager.isFogOfWarActive()) applyAll(world);
+    }
+
+    /** Fog switched off: give every player back everything that was hidden from them. */
+    public void revealAll(World world) {
+        Store<EntityStore> store = world.getEntityStore().getStore();
+        for (Map.Entry<UUID, Viewer> e : viewers.entrySet()) revealHidden(store, e.getKey(), e.getValue());
+        viewers.clear();
+    }
+
+    /** Players with a fog viewer (session audit). World thread. */
+    public Set<UUID> trackedViewers() {
+        return new HashSet<>(viewers.keySet());
+    }
+
+    /** Drop the player's FOV and hidden set (disconnect); their client is gone, so nothing to reveal. */
+    public void forgetViewer(UUID playerUuid) {
+        viewers.remove(playerUuid);
+    }
+
+    public boolean canSee(UUID playerUuid, int gridX, int gridZ) {
+        Viewer v = viewers.get(playerUuid);
+        return v == null || v.fov.isVisible(gridX, gridZ);
+    }
+
+    // ========================================================
+    // VISIBILITY PASS
+    // ========================================================
+
+    private void applyAll(World world) {
+        Store<EntityStore> store = world.getEntityStore().getStore();
+
+        // Snapshot the entities that fog can hide: monsters + every player NPC
+        List<Tracked> tracked = new ArrayList<>();
+        for (MonsterState m : encounterManager.getMonsters()) {
+            addTracked(store, tracked, m.monsterEntity, m.currentGridX, m.currentGridZ, null);
+            addTracked(store, tracked, m.numberHologram, m.currentGridX, m.currentGridZ, null);
+        }
+        Set<UUID> active = new HashSet<>();
+        for (GridPlayerState s : gridMoveManager.getAllStates()) {
+            if (s.playerRef == null) continue;
+            addTracked(store, tracked, s.npcEntity, s.currentGridX, s.currentGridZ, s.playerRef.getUuid());
+            if (isViewer(s)) active.add(s.playerRef.getUuid());
+        }
+        // Players who stopped being viewers (NPC gone, became GM) get back what fog hid from them
+        for (Map.Entry<UUID, Viewer> e : new ArrayList<>(viewers.entrySet())) {
+            if (active.contains(e.getKey())) continue;
+            viewers.remove(e.getKey());
+            revealHidden(store, e.getKey(), e.getValue());
+        }
+
+        for (GridPlayerState s : gridMoveManager.getAllStates()) {
+            if (!isViewer(s)) continue;
+            UUID uuid = s.playerRef.getUuid();
+            Viewer v = viewers.computeIfAbsent(uuid, k -> new Viewer());
+
+            if (v.dirty || !v.fov.hasOrigin(s.currentGridX, s.currentGridZ)) {
+                recompute(world, s, v);
+            }
+
+            List<Integer> toHide = new ArrayList<>();
+            Set<Integer> stillHidden = new HashSet<>();
+            for (Tracked t : tracked) {
+                if (uuid.equals(t.owner)) continue; // always see your own NPC
+                if (v.fov.isVisible(t.gridX, t.gridZ)) continue;
+                stillHidden.add(t.netId);
+                toHide.add(t.netId);
+                v.hidden.put(t.netId, t.ref);
+            }
+
+            // Entities that left the hidden set (or despawned) come back
+            for (Map.Entry<Integer, Ref<EntityStore>> h : new ArrayList<>(v.hidden.entrySet())) {
+                if (stillHidden.contains(h.getKey())) continue;
+                v.hidden.remove(h.getKey());
+                reveal(store, h.getValue(), s.playerRef);
+            }
+
+            // Re-send the whole hidden set: the tracker re-spawns entities that wander
+            // out of and back into view range, so hiding once is not enough.
+            if (!toHide.isEmpty()) {
+                int[] ids = new int[toHide.size()];
+                for (int i = 0; i < ids.length; i++) ids[i] = toHide.get(i);
+                try {
+                    s.playerRef.getPacketHandler().writeNoCache(new EntityUpdates(ids, null));
+                } catch (Exception e) {
+                    System.err.println("[Griddify] [FOG] Hide packet failed for "
+                            + s.playerRef.getUsername() + ": " + e.getMessage());
+                }
+            }
+        }
+    }
+
+    private boolean isViewer(GridPlayerState s) {
+        return s.playerRef != null && s.npcEntity != null && s.npcEntity.isValid()
+                && !roleManager.isGM(s.playerRef);
+    }
+
+    private void recompute(World world, GridPlayerState s, Viewer v) {
+        int eyeBlockY = (int) Math.floor(s.npcY) + 1;
+        if (eyeBlockY != v.eyeBlockY) {
+            // Different floor level → different walls; cached opacity is meaningless
+            v.opacityCache.clear();
+            v.eyeBlockY = eyeBlockY;
+        }
+        final int cx = s.currentGridX, cz = s.currentGridZ;
+        v.fov.compute(cx, cz, (gx, gz) -> {
+            if (gx == cx && gz == cz) return false;
+            return v.opacityCache.computeIfAbsent(cellKey(gx, gz), k -> isOpaqueCell(world, gx, gz, eyeBlockY));
+        });
+        v.dirty = false;
+
+        int evict = SIGHT_RADIUS + 4;
+        v.opacityCache.keySet().removeIf(k -> {
+            int kx = (int) (k >> 32), kz = (int) (k & 0xFFFFFFFFL);
+            return Math.max(Math.abs(kx - cx), Math.abs(kz - cz)) > evict;
+        });
+    }
+
+    // ========================================================
+    // ENTITY HELPERS
+    // ========================================================
+
+    private static final class Tracked {
+        final Ref<EntityStore> ref; final int netId; final int gridX, gridZ; final UUID owner;
+        Tracked(Ref<EntityStore> r, int n, int x, int z, UUID o) { ref = r; netId = n; gridX = x; gridZ = z; owner = o; }
+    }
+
+    private static void addTracked(Store<EntityStore> store, List<Tracked> out,
+                                   Ref<EntityStore> ref, int gridX, int gridZ, UUID owner) {
+        if (ref == null || !ref.isValid()) return;
+        try {
+            NetworkId nc = store.getComponent(ref, NetworkId.getComponentType());
+            if (nc != null) out.add(new Tracked(ref, nc.getId(), gridX, gridZ, owner));
+        } catch (Exception ignored) {}
+    }
+
+    /**
+     * Forget that this player already has the entity, so the entity tracker treats
+     * it as newly visible and sends a full spawn on its next tick.
+     */
+    private static void reveal(Store<EntityStore> store, Ref<EntityStore> ref, PlayerRef playerRef) {
+        if (ref == null || !ref.isValid()) return;
+        try {
+            Ref<EntityStore> viewerRef = playerRef.getReference();
+            EntityTrackerSystems.Visible vis = store.getComponent(ref, EntityTrackerSystems.Visible.getComponentType());
+            if (vis != null && vis.visibleTo != null && viewerRef != null) {
+                vis.visibleTo.keySet().remove(viewerRef);
+            }
+        } catch (Exception e) {
+            System.err.println("[Griddify] [FOG] Reveal failed: " + e.getMessage());
+        }
+    }
+
+    /** Give the player back everything fog removed from their client. */
+    private void revealHidden(Store<EntityStore> store, UUID uuid, Viewer v) {
+        PlayerRef playerRef = findPlayerRef(uuid);
+        if (playerRef != null) {
+            for (Ref<EntityStore> ref : v.hidden.values()) reveal(store, ref, playerRef);
+        }
+        v.hidden.clear();
+    }
+
+    private PlayerRef findPlayerRef(UUID uuid) {
+        for (GridPlayerState s : gridMoveManager.getAllStates()) {
+            if (s.playerRef != null && s.playerRef.getUuid().equals(uuid)) return s.playerRef;
+        }
+        return null;
+    }
+
+    // ========================================================
+    // BLOCK OCCLUSION
+    // ========================================================
+
+    private static boolean isOpaqueCell(World world, int gridX, int gridZ, int eyeBlockY) {
+        int solid = 0;
+        for (int xOff = 0; xOff < 2; xOff++) {
+            for (int zOff = 0; zOff < 2; zOff++) {
+                try {
+                    if (BlockFlags.isGround(BlockFlags.at(world, (gridX * 2) + xOff, eyeBlockY, (gridZ * 2) + zOff))) solid++;
+                } catch (Exception ignored) {}
+            }
+        }
+        return solid >= 2;
+    }
+
+    private static long cellKey(int x, int z) { return ((long) x << 32) | (z & 0xFFFFFFFFL); }
+}
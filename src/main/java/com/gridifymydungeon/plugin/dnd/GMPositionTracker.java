@@ -1,17 +1,22 @@
 package com.gridifymydungeon.plugin.dnd;
 
 import com.hypixel.hytale.math.vector.Vector3d;
-import com.hypixel.hytale.server.core.Message;
 import com.hypixel.hytale.server.core.universe.PlayerRef;
 import com.hypixel.hytale.server.core.universe.world.World;
 import com.gridifymydungeon.plugin.dnd.commands.MonsterEntityController;
+import com.gridifymydungeon.plugin.gridmove.ChatBatcher;
 import com.gridifymydungeon.plugin.gridmove.CollisionDetector;
 import com.gridifymydungeon.plugin.gridmove.GridMoveManager;
 import com.gridifymydungeon.plugin.gridmove.GridOverlayManager;
 import com.gridifymydungeon.plugin.gridmove.GridPlayerState;
+import com.gridifymydungeon.plugin.gridmove.GriddifyHud;
+import com.gridifymydungeon.plugin.gridmove.WorldWorkQueue;
 
-import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
@@ -36,7 +41,28 @@ public class GMPositionTracker {
         this.spellVisualManager = svm;
     }
 
-    private final Map<PlayerRef, Long> lastMoveTime = new HashMap<>();
+    private FogOfWarManager fogOfWarManager = null;
+
+    public void setFogOfWarManager(FogOfWarManager fog) {
+        this.fogOfWarManager = fog;
+    }
+
+    private com.gridifymydungeon.plugin.spell.PersistentSpellManager persistentSpellManager = null;
+
+    public void setPersistentSpellManager(com.gridifymydungeon.plugin.spell.PersistentSpellManager psm) {
+        this.persistentSpellManager = psm;
+    }
+
+    private com.gridifymydungeon.plugin.gridmove.LineOfSightService lineOfSight = null;
+
+    public void setLineOfSight(com.gridifymydungeon.plugin.gridmove.LineOfSightService los) {
+        this.lineOfSight = los;
+    }
+
+    // Keyed by UUID: a reconnect brings a new PlayerRef. Released by forgetPlayer on disconnect.
+    private final Map<UUID, Long> lastMoveTime = new ConcurrentHashMap<>();
+    // Last cell handed to the follow map, packed (packet thread); the GM state itself is written on the world thread
+    private final Map<UUID, Long> lastFollowCell = new ConcurrentHashMap<>();
     private final AtomicBoolean movePending = new AtomicBoolean(false);
 
     public GMPositionTracker(EncounterManager encounterManager, RoleManager roleManager,
@@ -49,6 +75,19 @@ public class GMPositionTracker {
         this.gridMoveManager = gridMoveManager;
     }
 
+    /** Players with movement-throttle state (session audit). */
+    public Set<UUID> trackedPlayers() {
+        Set<UUID> players = new HashSet<>(lastMoveTime.keySet());
+        players.addAll(lastFollowCell.keySet());
+        return players;
+    }
+
+    /** Drop the player's movement-throttle and follow-map state (disconnect). */
+    public void forgetPlayer(UUID playerId) {
+        lastMoveTime.remove(playerId);
+        lastFollowCell.remove(playerId);
+    }
+
     public void onGMMove(PlayerRef playerRef, World world, Vector3d newPosition) {
         if (!roleManager.isGM(playerRef)) {
             return;
@@ -56,11 +95,12 @@ public class GMPositionTracker {
 
         MonsterState monster = encounterManager.getControlledMonster();
         if (monster == null) {
+            followGMMap(playerRef, world, newPosition);
             return;
         }
 
         long now = System.currentTimeMillis();
-        Long lastMove = lastMoveTime.get(playerRef);
+        Long lastMove = lastMoveTime.get(playerRef.getUuid());
         if (lastMove != null && (now - lastMove) < MOVE_COOLDOWN_MS) {
             return;
         }
@@ -92,13 +132,20 @@ public class GMPositionTracker {
                         final com.gridifymydungeon.plugin.spell.SpellData spellData = castState.getSpell();
                         final com.gridifymydungeon.plugin.spell.SpellPattern pattern = spellData.getPattern();
                         final int cx = castState.getCasterGridX(), cz = castState.getCasterGridZ();
-                        world.execute(() -> {
+                        final com.gridifymydungeon.plugin.spell.SpellCastingState fCast = castState;
+                        WorldWorkQueue.submit(world, WorldWorkQueue.Priority.OVERLAY, "aim:" + playerRef.getUuid(), () -> {
+                            // Directional spells: facing precomputed at /cast (already wall-filtered)
                             java.util.Set<com.gridifymydungeon.plugin.spell.SpellPatternCalculator.GridCell> cells =
-                                    com.gridifymydungeon.plugin.spell.CastCommand.computeOverlay(
-                                            pattern, dir, cx, cz, spellData, px, pz);
+                                    fCast.getDirectionalCells(dir);
+                            if (cells == null) {
+                                cells = com.gridifymydungeon.plugin.spell.CastCommand.computeOverlay(
+                                        pattern, dir, cx, cz, spellData, px, pz);
+                                com.gridifymydungeon.plugin.spell.CastCommand.filterByLineOfSight(
+                                        lineOfSight, world, pattern, cx, cz, py, px, pz, cells);
+                            }
                             spellVisualManager.showSpellArea(playerRef.getUuid(), cells, world, py, playerRef);
                         });
-                        lastMoveTime.put(playerRef, now);
+                        lastMoveTime.put(playerRef.getUuid(), now);
                     }
                 }
             } else {
@@ -117,8 +164,7 @@ public class GMPositionTracker {
             // Unfreeze when GM physically walks to the monster's grid cell
             if (newGridX == monster.currentGridX && newGridZ == monster.currentGridZ) {
                 monster.unfreeze();
-                playerRef.sendMessage(com.hypixel.hytale.server.core.Message.raw(
-                        "[Griddify] Monster unfrozen — ready to move!"));
+                ChatBatcher.sendThrottled(playerRef, "[Griddify] Monster unfrozen — ready to move!");
             }
             monster.lastGMPosition = newPosition;
             return;
@@ -129,11 +175,11 @@ public class GMPositionTracker {
         // -----------------------------------------------------------------------
         if (monster.isFrozen && newGridX == monster.currentGridX && newGridZ == monster.currentGridZ) {
             monster.unfreeze();
-            playerRef.sendMessage(com.hypixel.hytale.server.core.Message.raw("[Griddify] Monster unfrozen!"));
+            ChatBatcher.sendThrottled(playerRef, "[Griddify] Monster unfrozen!");
         }
 
         if (newGridX != monster.currentGridX || newGridZ != monster.currentGridZ) {
-            lastMoveTime.put(playerRef, now);
+            lastMoveTime.put(playerRef.getUuid(), now);
             handleMonsterMovement(playerRef, monster, newGridX, newGridZ, newPosition.getY(), world);
         }
 
@@ -182,13 +228,13 @@ public class GMPositionTracker {
                                        int newGridX, int newGridZ, double gmY, World world) {
 
         if (monster.isFrozen) {
-            playerRef.sendMessage(Message.raw("[Griddify] Monster frozen! Return to (" +
-                    monster.currentGridX + ", " + monster.currentGridZ + ")"));
+            ChatBatcher.sendThrottled(playerRef, "[Griddify] Monster frozen! Return to (" +
+                    monster.currentGridX + ", " + monster.currentGridZ + ")");
             return;
         }
 
         if (combatManager.isCombatActive() && !combatManager.isMonsterTurn(monster.monsterNumber)) {
-            playerRef.sendMessage(Message.raw("[Griddify] Not monster's turn!"));
+            ChatBatcher.sendThrottled(playerRef, "[Griddify] Not monster's turn!");
             return;
         }
 
@@ -196,8 +242,8 @@ public class GMPositionTracker {
         if (collisionDetector.isPositionOccupied(newGridX, newGridZ, monster.monsterNumber, null)) {
             String occupant = collisionDetector.getEntityNameAtPosition(newGridX, newGridZ);
             monster.freeze("Blocked by " + (occupant != null ? occupant : "entity"));
-            playerRef.sendMessage(Message.raw("[Griddify] Blocked! Position occupied by: " +
-                    (occupant != null ? occupant : "entity")));
+            ChatBatcher.sendThrottled(playerRef, "[Griddify] Blocked! Position occupied by: " +
+                    (occupant != null ? occupant : "entity"));
             return;
         }
 
@@ -205,8 +251,8 @@ public class GMPositionTracker {
 
         if (combatManager.isCombatActive()) {
             if (!monster.hasMovesRemaining(moveCost)) {
-                playerRef.sendMessage(Message.raw("[Griddify] " + monster.getDisplayName() +
-                        " no moves! (" + (int) monster.remainingMoves + "/" + (int) monster.maxMoves + ")"));
+                ChatBatcher.sendThrottled(playerRef, "[Griddify] " + monster.getDisplayName() +
+                        " no moves! (" + (int) monster.remainingMoves + "/" + (int) monster.maxMoves + ")");
                 return;
             }
         }
@@ -218,31 +264,34 @@ public class GMPositionTracker {
         final int oldGridX = monster.currentGridX;
         final int oldGridZ = monster.currentGridZ;
 
-        world.execute(() -> {
+        WorldWorkQueue.submit(world, WorldWorkQueue.Priority.MOVEMENT, () -> {
             try {
                 // FLYING: Still scan for ground (avoid clipping into walls), skip height limit
                 if (monster.isFlying || monster.stats.isFlying) {
                     Float newGroundY = MonsterEntityController.scanForGroundPublic(world, newGridX, newGridZ, (float) gmY);
 
                     if (newGroundY == null) {
-                        playerRef.sendMessage(Message.raw("[Griddify] Can't fly there - no valid landing!"));
+                        ChatBatcher.sendThrottled(playerRef, "[Griddify] Can't fly there - no valid landing!");
                         return;
                     }
 
                     if (combatManager.isCombatActive()) {
                         monster.consumeMoves(moveCost);
-                        playerRef.sendMessage(Message.raw("[Griddify] " + monster.getDisplayName() +
-                                " moves: " + (int) monster.remainingMoves + "/" + (int) monster.maxMoves));
+                        showMovesCounter(playerRef, monster, world);
                     }
 
                     MonsterEntityController.teleportMonsterToY(world, monster, newGridX, newGridZ, newGroundY);
                     monster.currentGridX = newGridX;
                     monster.currentGridZ = newGridZ;
+                    if (persistentSpellManager != null && combatManager.isCombatActive()) {
+                        persistentSpellManager.onEnter(monster, oldGridX, oldGridZ);
+                    }
 
                     float yaw = calculateFacingYaw(oldGridX, oldGridZ, newGridX, newGridZ);
                     MonsterEntityController.setMonsterYaw(world, monster, yaw);
 
                     refreshGMGridOverlay(playerRef, monster, world);
+                    if (fogOfWarManager != null) fogOfWarManager.onEntityMoved(world);
                     return;
                 }
 
@@ -251,7 +300,7 @@ public class GMPositionTracker {
 
                 if (newGroundY == null) {
                     monster.freeze("No ground");
-                    playerRef.sendMessage(Message.raw("[Griddify] No ground!"));
+                    ChatBatcher.sendThrottled(playerRef, "[Griddify] No ground!");
                     return;
                 }
 
@@ -260,31 +309,34 @@ public class GMPositionTracker {
                 // FIXED: >= 3.0f (strictly under 3 blocks climb, 2 OK, 3 NOT OK)
                 if (heightDiff >= 3.0f) {
                     monster.freeze("Too steep (+" + (int) heightDiff + ")");
-                    playerRef.sendMessage(Message.raw("[Griddify] Too steep! (+" + (int) heightDiff + ")"));
+                    ChatBatcher.sendThrottled(playerRef, "[Griddify] Too steep! (+" + (int) heightDiff + ")");
                     return;
                 }
 
                 if (heightDiff < -4.0f) {
                     monster.freeze("Too steep (" + (int) heightDiff + ")");
-                    playerRef.sendMessage(Message.raw("[Griddify] Too steep! (" + (int) heightDiff + ")"));
+                    ChatBatcher.sendThrottled(playerRef, "[Griddify] Too steep! (" + (int) heightDiff + ")");
                     return;
                 }
 
                 if (combatManager.isCombatActive()) {
                     monster.consumeMoves(moveCost);
-                    playerRef.sendMessage(Message.raw("[Griddify] " + monster.getDisplayName() +
-                            " moves: " + (int) monster.remainingMoves + "/" + (int) monster.maxMoves));
+                    showMovesCounter(playerRef, monster, world);
                 }
 
                 MonsterEntityController.teleportMonsterToY(world, monster, newGridX, newGridZ, newGroundY);
 
                 monster.currentGridX = newGridX;
                 monster.currentGridZ = newGridZ;
+                if (persistentSpellManager != null && combatManager.isCombatActive()) {
+                    persistentSpellManager.onEnter(monster, oldGridX, oldGridZ);
+                }
 
                 float yaw = calculateFacingYaw(oldGridX, oldGridZ, newGridX, newGridZ);
                 MonsterEntityController.setMonsterYaw(world, monster, yaw);
 
                 refreshGMGridOverlay(playerRef, monster, world);
+                if (fogOfWarManager != null) fogOfWarManager.onEntityMoved(world);
 
             } finally {
                 movePending.set(false);
@@ -293,7 +345,8 @@ public class GMPositionTracker {
     }
 
     /**
-     * Refresh the GM's grid overlay after a monster move.
+     * Refresh the GM's grid overlay after a monster move. The rebuild is queued as
+     * overlay work; only the latest one per GM runs if moves outpace it.
      */
     private void refreshGMGridOverlay(PlayerRef playerRef, MonsterState monster, World world) {
         GridPlayerState gmState = gridMoveManager.getState(playerRef);
@@ -307,7 +360,41 @@ public class GMPositionTracker {
         gmState.remainingMoves = monster.remainingMoves;
         gmState.maxMoves = monster.maxMoves;
 
-        GridOverlayManager.refreshGridOverlay(world, gmState, collisionDetector, null);
+        WorldWorkQueue.submit(world, WorldWorkQueue.Priority.OVERLAY, "overlay:" + playerRef.getUuid(), () -> {
+            if (gmState.gridOverlayEnabled) GridOverlayManager.refreshGridOverlay(world, gmState, collisionDetector, null);
+        });
+    }
+
+    /**
+     * Keep a streaming /gridfollow map centred on the GM while no monster is controlled.
+     * Only crossing a cell boundary hops to the world thread.
+     */
+    private void followGMMap(PlayerRef playerRef, World world, Vector3d position) {
+        GridPlayerState gmState = gridMoveManager.getState(playerRef);
+        if (gmState == null || gmState.gmMapWindow == null) return;
+
+        int gridX = (int) Math.floor(position.getX() / GRID_SIZE);
+        int gridZ = (int) Math.floor(position.getZ() / GRID_SIZE);
+        long cell = ((long) gridX << 32) | (gridZ & 0xFFFFFFFFL);
+        Long last = lastFollowCell.put(playerRef.getUuid(), cell);
+        if (last != null && last == cell) return;
+
+        float y = (float) position.getY();
+        WorldWorkQueue.submit(world, WorldWorkQueue.Priority.OVERLAY, "follow:" + playerRef.getUuid(), () -> {
+            gmState.currentGridX = gridX;
+            gmState.currentGridZ = gridZ;
+            gmState.npcY = y;
+            GridOverlayManager.followGMMap(world, gmState, gridX, gridZ, y);
+        });
+    }
+
+    /** Remaining moves after a step: refresh the GM's HUD panel, or chat without a HUD. */
+    private void showMovesCounter(PlayerRef playerRef, MonsterState monster, World world) {
+        GridPlayerState gmState = gridMoveManager.getState(playerRef);
+        GriddifyHud hud = gmState != null ? gmState.hud : null;
+        ChatBatcher.counter(playerRef, "moves", "[Griddify] " + monster.getDisplayName() + " moves: "
+                        + (int) monster.remainingMoves + "/" + (int) monster.maxMoves,
+                hud != null ? () -> hud.requestPanelUpdate(world, gmState, encounterManager, roleManager) : null);
     }
 
     // --- Utilities ---
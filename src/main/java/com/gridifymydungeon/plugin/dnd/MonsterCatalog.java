@@ -0,0 +1,48 @@
+package com.gridifymydungeon.plugin.dnd;
+
+import com.gridifymydungeon.plugin.spell.MonsterType;
+import com.gridifymydungeon.plugin.utils.PrefixTrie;
+import com.gridifymydungeon.plugin.utils.TsvTable;
+
+import java.util.*;
+
+/**
+ * Immutable snapshot of monsters.tsv: lower-cased entity name → stats,
+ * plus a prefix trie of canonical names for /creature autocomplete.
+ */
+public final class MonsterCatalog {
+
+    private final Map<String, MonsterDatabase.MonsterStats> byName;
+    private final PrefixTrie<String> names;
+
+    private MonsterCatalog(Map<String, MonsterDatabase.MonsterStats> byName, PrefixTrie<String> names) {
+        this.byName = Collections.unmodifiableMap(byName);
+        this.names = names;
+    }
+
+    public static MonsterCatalog fromTable(TsvTable table) {
+        Map<String, MonsterDatabase.MonsterStats> db = new HashMap<>();
+        PrefixTrie<String> names = new PrefixTrie<>();
+        for (TsvTable.Row r : table.rows()) {
+            String name = r.required("name");
+            db.put(name.toLowerCase(), new MonsterDatabase.MonsterStats(
+                    r.integer("hp"), r.required("hitDice"), r.integer("ac"), r.integer("speed"),
+                    r.integer("str"), r.integer("dex"), r.integer("con"),
+                    r.integer("int"), r.integer("wis"), r.integer("cha"),
+                    r.integer("cr10x"), r.required("type"), r.bool("flying"),
+                    r.enumOf(MonsterType.class, "monsterType")));
+            names.put(name, name);
+        }
+        return new MonsterCatalog(db, names);
+    }
+
+    public MonsterDatabase.MonsterStats get(String entityName) {
+        return entityName != null ? byName.get(entityName.toLowerCase()) : null;
+    }
+
+    public int size() { return byName.size(); }
+
+    public List<String> withPrefix(String prefix, int limit) {
+        return names.withPrefix(prefix, limit);
+    }
+}
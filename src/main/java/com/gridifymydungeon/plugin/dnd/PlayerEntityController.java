@@ -1,6 +1,9 @@
 package com.gridifymydungeon.plugin.dnd;
 
 import com.gridifymydungeon.plugin.gridmove.GridPlayerState;
+import com.gridifymydungeon.plugin.gridmove.BlockFlags;
+import com.gridifymydungeon.plugin.gridmove.EntityReaper;
+import com.gridifymydungeon.plugin.gridmove.ModelRegistry;
 import com.hypixel.hytale.component.Holder;
 import com.hypixel.hytale.component.Ref;
 import com.hypixel.hytale.component.RemoveReason;
@@ -8,13 +11,9 @@ import com.hypixel.hytale.component.Store;
 import com.hypixel.hytale.math.util.ChunkUtil;
 import com.hypixel.hytale.math.vector.Vector3d;
 import com.hypixel.hytale.math.vector.Vector3f;
-import com.hypixel.hytale.math.vector.Vector3i;
-import com.hypixel.hytale.protocol.BlockMaterial;
 import com.hypixel.hytale.protocol.EquipmentUpdate;
 import com.hypixel.hytale.protocol.PlayerSkin;
 import com.hypixel.hytale.server.core.Message;
-import com.hypixel.hytale.server.core.asset.type.blocktype.config.BlockType;
-import com.hypixel.hytale.server.core.asset.type.model.config.ModelAsset;
 import com.hypixel.hytale.server.core.asset.type.model.config.Model;
 import com.hypixel.hytale.server.core.entity.UUIDComponent;
 import com.hypixel.hytale.server.core.entity.entities.Player;
@@ -73,15 +72,13 @@ public class PlayerEntityController {
 
             state.npcY = npcY;
 
-            ModelAsset modelAsset = ModelAsset.getAssetMap().getAsset(PLAYER_MODEL);
+            Model model = ModelRegistry.get(PLAYER_MODEL);
 
-            if (modelAsset == null) {
+            if (model == null) {
                 System.err.println("[GridMove] [ERROR] Model not found: " + PLAYER_MODEL);
                 return false;
             }
 
-            Model model = Model.createScaledModel(modelAsset, 1.0f);
-
             Store<EntityStore> store = world.getEntityStore().getStore();
             Holder<EntityStore> holder = EntityStore.REGISTRY.newHolder();
 
@@ -119,6 +116,7 @@ public class PlayerEntityController {
 
             Ref<EntityStore> npcRef = store.addEntity(holder, com.hypixel.hytale.component.AddReason.SPAWN);
             state.npcEntity = npcRef;
+            EntityReaper.tag(world, npcRef, "player-npc", state);
 
             // Mark skin for network update
             if (npcRef != null && npcRef.isValid()) {
@@ -253,19 +251,14 @@ public class PlayerEntityController {
     spawnPrivateEntity(World world, PlayerRef targetPlayer,
                        String modelAssetId, float x, float y, float z, int[] netIdOut) {
         try {
-            // FIX 1+2: Use the correct fully-qualified ModelAsset path; AssetPackage removed entirely.
-            com.hypixel.hytale.server.core.asset.type.model.config.ModelAsset asset =
-                    com.hypixel.hytale.server.core.asset.type.model.config.ModelAsset.getAssetMap().getAsset(modelAssetId);
-            if (asset == null) {
+            // FOG_MODEL scale: 6.5f (13x13 tiles = 6.5x the base 2x2 tile)
+            com.hypixel.hytale.server.core.asset.type.model.config.Model model =
+                    ModelRegistry.get(modelAssetId, 6.5f);
+            if (model == null) {
                 System.err.println("[GridMove] spawnPrivateEntity: model not found: " + modelAssetId);
                 return null;
             }
 
-            // FIX 3: createScaledModel instead of non-existent createDefaultModel
-            // FOG_MODEL scale: 6.5f (13x13 tiles = 6.5x the base 2x2 tile)
-            com.hypixel.hytale.server.core.asset.type.model.config.Model model =
-                    com.hypixel.hytale.server.core.asset.type.model.config.Model.createScaledModel(asset, 6.5f);
-
             Store<com.hypixel.hytale.server.core.universe.world.storage.EntityStore> store =
                     world.getEntityStore().getStore();
 
@@ -624,15 +617,15 @@ public class PlayerEntityController {
                     int blockX = (gridX * 2) + xOff;
                     int blockZ = (gridZ * 2) + zOff;
 
-                    BlockType block = world.getBlockType(new Vector3i(blockX, blockY, blockZ));
+                    int flags = BlockFlags.at(world, blockX, blockY, blockZ);
 
-                    if (isSolidBlock(block) && !isBarrierBlock(block)) {
-                        float blockHeight = getBlockHeight(block);
+                    if (BlockFlags.isGround(flags)) {
+                        float blockHeight = getBlockHeight(flags);
                         if (blockHeight > maxHeight) {
                             maxHeight = blockHeight;
                         }
                         hasGround = true;
-                    } else if (isBarrierBlock(block)) {
+                    } else if ((flags & BlockFlags.BARRIER) != 0) {
                         // Barrier present — this cell is blocked, skip it entirely
                         hasGround = false;
                     }
@@ -664,10 +657,10 @@ public class PlayerEntityController {
                     int blockX = (gridX * 2) + xOff;
                     int blockZ = (gridZ * 2) + zOff;
 
-                    BlockType block = world.getBlockType(new Vector3i(blockX, checkY, blockZ));
+                    int flags = BlockFlags.at(world, blockX, checkY, blockZ);
 
-                    if (isSolidBlock(block)) {
-                        float blockTop = checkY + getBlockHeight(block);
+                    if ((flags & BlockFlags.SOLID) != 0) {
+                        float blockTop = checkY + getBlockHeight(flags);
                         if (blockTop > groundY) {
                             return false;
                         }
@@ -751,24 +744,8 @@ public class PlayerEntityController {
     // BLOCK HELPERS
     // ====================================================================
 
-    private static boolean isSolidBlock(BlockType block) {
-        if (block == null) return false;
-        return block.getMaterial() == BlockMaterial.Solid;
-    }
-
-    /**
-     * Barrier blocks are invisible walls — entities cannot stand on or inside them.
-     * Identified by block ID containing "barrier" (case-insensitive).
-     */
-    private static boolean isBarrierBlock(BlockType block) {
-        return block != null && block.getId() != null &&
-                block.getId().toLowerCase().contains("barrier");
-    }
-
-    private static float getBlockHeight(BlockType block) {
-        if (block == null || !isSolidBlock(block)) {
-            return 0.0f;
-        }
-        return 1.0f;
+    /** Players stand on full blocks: any solid block counts as height 1. */
+    private static float getBlockHeight(int flagBits) {
+        return (flagBits & BlockFlags.SOLID) != 0 ? 1.0f : 0.0f;
     }
 }
\ No newline at end of file
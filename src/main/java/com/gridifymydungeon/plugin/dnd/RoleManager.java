@@ -145,7 +145,13 @@ public class RoleManager {
      * Check if player has any role assigned
      */
     public boolean hasRole(PlayerRef playerRef) {
-        UUID uuid = playerRef.getUuid();
+        return hasRole(playerRef.getUuid());
+    }
+
+    /**
+     * Check if a player (online or not) has any role assigned
+     */
+    public boolean hasRole(UUID uuid) {
         return uuid.equals(gmUUID) || playerNumbers.containsKey(uuid);
     }
 
@@ -0,0 +1,179 @@
+package com.gridifymydungeon.plugin.dnd.commands;
+
+import com.gridifymydungeon.plugin.dnd.CombatManager;
+import com.gridifymydungeon.plugin.dnd.EncounterManager;
+import com.gridifymydungeon.plugin.dnd.FogOfWarManager;
+import com.gridifymydungeon.plugin.dnd.MonsterState;
+import com.gridifymydungeon.plugin.dnd.RoleManager;
+import com.gridifymydungeon.plugin.gridmove.CollisionDetector;
+import com.gridifymydungeon.plugin.gridmove.FlowField;
+import com.gridifymydungeon.plugin.gridmove.TableRegistry;
+import com.gridifymydungeon.plugin.gridmove.TableSession;
+import com.hypixel.hytale.component.Ref;
+import com.hypixel.hytale.component.Store;
+import com.hypixel.hytale.server.core.Message;
+import com.hypixel.hytale.server.core.command.system.CommandContext;
+import com.hypixel.hytale.server.core.command.system.arguments.system.RequiredArg;
+import com.hypixel.hytale.server.core.command.system.arguments.types.ArgTypes;
+import com.hypixel.hytale.server.core.command.system.basecommands.AbstractPlayerCommand;
+import com.hypixel.hytale.server.core.universe.PlayerRef;
+import com.hypixel.hytale.server.core.universe.world.World;
+import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+
+import javax.annotation.Nonnull;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * /advance <all | 1,2,5 | 1-4> - Move a group of monsters toward the party (GM only)
+ *
+ * Every monster follows the table's shared flow field (see FlowField), so the
+ * whole group costs one Dijkstra pass per turn rather than one path search per
+ * monster. Each monster walks until its moves run out (remaining moves in
+ * combat, max moves otherwise), it reaches a player, or the way is blocked.
+ * Closest monsters go first so the ones behind queue up around them.
+ */
+public class AdvanceCommand extends AbstractPlayerCommand {
+
+    private final TableRegistry tables;
+
+    private final RequiredArg<String> groupArg;
+
+    public AdvanceCommand(TableRegistry tables) {
+        super("advance", "Move monsters toward the party (GM only)");
+        this.tables = tables;
+        this.groupArg = this.withRequiredArg("group", "all, 1,2,5 or 1-4", ArgTypes.STRING);
+    }
+
+    @Override
+    protected void execute(
+            @Nonnull CommandContext context,
+            @Nonnull Store<EntityStore> store,
+            @Nonnull Ref<EntityStore> ref,
+            @Nonnull PlayerRef playerRef,
+            @Nonnull World world
+    ) {
+        TableSession table = tables.forWorld(world);
+        RoleManager roleManager = table.getRoleManager();
+        EncounterManager encounterManager = table.getEncounterManager();
+
+        if (!roleManager.isGM(playerRef)) {
+            playerRef.sendMessage(Message.raw("[Griddify] Only the GM can use this command!").color("#FF0000"));
+            return;
+        }
+
+        List<MonsterState> group = parseGroup(groupArg.get(context), encounterManager);
+        if (group == null) {
+            playerRef.sendMessage(Message.raw("[Griddify] Usage: /advance all | 1,2,5 | 1-4").color("#FF0000"));
+            return;
+        }
+        if (group.isEmpty()) {
+            playerRef.sendMessage(Message.raw("[Griddify] No matching monsters!").color("#FF0000"));
+            return;
+        }
+
+        world.execute(() -> advance(world, table, playerRef, group));
+    }
+
+    private void advance(World world, TableSession table, PlayerRef playerRef, List<MonsterState> group) {
+        CombatManager combatManager = table.getCombatManager();
+        CollisionDetector collisionDetector = table.getCollisionDetector();
+        FogOfWarManager fogOfWarManager = table.getFogOfWarManager();
+
+        FlowField field = table.getFlowField();
+        if (field.size() == 0) {
+            playerRef.sendMessage(Message.raw("[Griddify] No players on the grid to advance toward.").color("#FF0000"));
+            return;
+        }
+
+        boolean inCombat = combatManager.isCombatActive();
+        group.sort(Comparator.comparingDouble(m -> field.distanceAt(m.currentGridX, m.currentGridZ)));
+
+        int moved = 0;
+        for (MonsterState monster : group) {
+            String name = monster.getDisplayName();
+            if (!monster.isAlive() || monster.monsterEntity == null || !monster.monsterEntity.isValid()) continue;
+            if (monster.isFrozen) {
+                playerRef.sendMessage(Message.raw("  " + name + ": frozen (" + monster.freezeReason + ")").color("#AAAAAA"));
+                continue;
+            }
+            if (!field.contains(monster.currentGridX, monster.currentGridZ)) {
+                playerRef.sendMessage(Message.raw("  " + name + ": no path to the party").color("#AAAAAA"));
+                continue;
+            }
+
+            final int startX = monster.currentGridX, startZ = monster.currentGridZ;
+            final int self = monster.monsterNumber;
+            double budget = inCombat ? monster.remainingMoves : monster.maxMoves;
+            double spent = 0;
+            int x = startX, z = startZ, prevX = startX, prevZ = startZ;
+
+            while (true) {
+                // Adjacent to a player: stop here
+                int[] ideal = field.nextStep(x, z);
+                if (ideal == null || field.distanceAt(ideal[0], ideal[1]) == 0) break;
+
+                int[] step = field.nextStep(x, z,
+                        (cx, cz) -> collisionDetector.isPositionOccupied(cx, cz, self, null));
+                if (step == null) break;
+                double cost = field.stepCost(x, z, step[0], step[1]);
+                if (spent + cost > budget) break;
+
+                spent += cost;
+                prevX = x; prevZ = z;
+                x = step[0]; z = step[1];
+                // Claim the cell now so monsters moved after this one route around it
+                monster.currentGridX = x;
+                monster.currentGridZ = z;
+                if (inCombat) table.getPersistentSpellManager().onEnter(monster, prevX, prevZ);
+            }
+
+            if (x == startX && z == startZ) {
+                playerRef.sendMessage(Message.raw("  " + name + ": holds position").color("#AAAAAA"));
+                continue;
+            }
+
+            Float groundY = field.groundAt(x, z);
+            MonsterEntityController.teleportMonsterToY(world, monster, x, z, groundY != null ? groundY : monster.spawnY);
+            MonsterEntityController.setMonsterYaw(world, monster, (float) Math.atan2(-(x - prevX), -(z - prevZ)));
+            if (inCombat) monster.consumeMoves(spent);
+            moved++;
+
+            String movesText = inCombat
+                    ? " (" + (int) monster.remainingMoves + "/" + (int) monster.maxMoves + " moves left)"
+                    : "";
+            playerRef.sendMessage(Message.raw("  " + name + " -> (" + x + ", " + z + ")" + movesText).color("#FFFFFF"));
+        }
+
+        if (moved > 0 && fogOfWarManager != null) fogOfWarManager.onEntityMoved(world);
+        playerRef.sendMessage(Message.raw("[Griddify] Advanced " + moved + "/" + group.size() + " monsters").color("#00FF00"));
+        System.out.println("[Griddify] [ADVANCE] " + moved + "/" + group.size() + " monsters moved, field "
+                + field.size() + " cells");
+    }
+
+    /** "all", "1,2,5" or "1-4" (mixable: "1-3,7"). Returns null on a malformed spec. */
+    private static List<MonsterState> parseGroup(String spec, EncounterManager encounterManager) {
+        List<MonsterState> group = new ArrayList<>();
+        if (spec.equalsIgnoreCase("all")) {
+            group.addAll(encounterManager.getMonsters());
+            return group;
+        }
+        try {
+            for (String part : spec.split(",")) {
+                part = part.trim();
+                if (part.isEmpty()) continue;
+                int dash = part.indexOf('-', 1);
+                int from = Integer.parseInt(dash < 0 ? part : part.substring(0, dash).trim());
+                int to   = dash < 0 ? from : Integer.parseInt(part.substring(dash + 1).trim());
+                for (int n = Math.min(from, to); n <= Math.max(from, to); n++) {
+                    MonsterState m = encounterManager.getMonster(n);
+                    if (m != null && !group.contains(m)) group.add(m);
+                }
+            }
+        } catch (NumberFormatException e) {
+            return null;
+        }
+        return group;
+    }
+}
@@ -6,6 +6,8 @@ import com.gridifymydungeon.plugin.dnd.MonsterState;
 import com.gridifymydungeon.plugin.dnd.RoleManager;
 import com.gridifymydungeon.plugin.gridmove.GridMoveManager;
 import com.gridifymydungeon.plugin.gridmove.GridPlayerState;
+import com.gridifymydungeon.plugin.gridmove.TableRegistry;
+import com.gridifymydungeon.plugin.gridmove.TableSession;
 import com.hypixel.hytale.component.Ref;
 import com.hypixel.hytale.component.Store;
 import com.hypixel.hytale.protocol.ItemWithAllMetadata;
@@ -29,16 +31,13 @@ import javax.annotation.Nonnull;
  */
 public class CONCommand extends AbstractPlayerCommand {
 
-    private final GridMoveManager playerManager;
-    private final RoleManager roleManager;
-    private final EncounterManager encounterManager;
+    private final TableRegistry tables;
+
     private final RequiredArg<Integer> valueArg;
 
-    public CONCommand(GridMoveManager playerManager, RoleManager roleManager, EncounterManager encounterManager) {
+    public CONCommand(TableRegistry tables) {
         super("CON", "Set Constitution stat");
-        this.playerManager = playerManager;
-        this.roleManager = roleManager;
-        this.encounterManager = encounterManager;
+        this.tables = tables;
         this.valueArg = this.withRequiredArg("value", "Constitution value (0-30)", ArgTypes.INTEGER);
     }
 
@@ -48,6 +47,10 @@ public class CONCommand extends AbstractPlayerCommand {
                            @Nonnull Ref<EntityStore> ref,
                            @Nonnull PlayerRef playerRef,
                            @Nonnull World world) {
+        TableSession table = tables.forWorld(world);
+        GridMoveManager playerManager = table.getGridMoveManager();
+        RoleManager roleManager = table.getRoleManager();
+        EncounterManager encounterManager = table.getEncounterManager();
 
         int value = valueArg.get(context);
 
@@ -1,9 +1,17 @@
 package com.gridifymydungeon.plugin.dnd.commands;
 
 import com.gridifymydungeon.plugin.dnd.CombatManager;
+import com.gridifymydungeon.plugin.dnd.MonsterState;
 import com.gridifymydungeon.plugin.dnd.RoleManager;
+import com.gridifymydungeon.plugin.gridmove.BattlefieldRaster;
+import com.gridifymydungeon.plugin.gridmove.ChatBatcher;
 import com.gridifymydungeon.plugin.gridmove.GridMoveManager;
+import com.gridifymydungeon.plugin.gridmove.GridPlayerState;
 import com.gridifymydungeon.plugin.dnd.commands.FogOfWarCommand;
+import com.gridifymydungeon.plugin.gridmove.TableRegistry;
+import com.gridifymydungeon.plugin.gridmove.TableSession;
+import com.gridifymydungeon.plugin.gridmove.TerrainManager;
+import com.gridifymydungeon.plugin.spell.VfxSequencer;
 import com.hypixel.hytale.component.Ref;
 import com.hypixel.hytale.component.Store;
 import com.hypixel.hytale.server.core.Message;
@@ -14,6 +22,7 @@ import com.hypixel.hytale.server.core.universe.world.World;
 import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
 
 import javax.annotation.Nonnull;
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -22,16 +31,13 @@ import java.util.List;
  */
 public class CombatCommand extends AbstractPlayerCommand {
 
-    private final RoleManager roleManager;
-    private final CombatManager combatManager;
-    private final GridMoveManager gridMoveManager;
+    private final TableRegistry tables;
+
     private FogOfWarCommand fogOfWarCommand;  // set via setter after construction
 
-    public CombatCommand(RoleManager roleManager, CombatManager combatManager, GridMoveManager gridMoveManager) {
+    public CombatCommand(TableRegistry tables) {
         super("combat", "Start/end combat mode (GM only)");
-        this.roleManager = roleManager;
-        this.combatManager = combatManager;
-        this.gridMoveManager = gridMoveManager;
+        this.tables = tables;
     }
 
     public void setFogOfWarCommand(FogOfWarCommand cmd) { this.fogOfWarCommand = cmd; }
@@ -39,6 +45,10 @@ public class CombatCommand extends AbstractPlayerCommand {
     @Override
     protected void execute(@Nonnull CommandContext context, @Nonnull Store<EntityStore> store,
                            @Nonnull Ref<EntityStore> ref, @Nonnull PlayerRef playerRef, @Nonnull World world) {
+        TableSession table = tables.forWorld(world);
+        RoleManager roleManager = table.getRoleManager();
+        CombatManager combatManager = table.getCombatManager();
+        GridMoveManager gridMoveManager = table.getGridMoveManager();
 
         if (!roleManager.isGM(playerRef)) {
             playerRef.sendMessage(Message.raw("[Griddify] Only the GM can use this command!").color("#FF0000"));
@@ -47,8 +57,11 @@ public class CombatCommand extends AbstractPlayerCommand {
 
         if (combatManager.isCombatActive()) {
             combatManager.endCombat();
-            broadcast("[Griddify] ========================================= COMBAT ENDED =========================================", "#90EE90");
-            broadcast("[Griddify] All participants can now move freely.", "#FFFFFF");
+            world.execute(() -> BattlefieldRaster.release(world));
+            table.getPersistentSpellManager().clearAllEffects();
+            VfxSequencer.cancelAll(world);
+            broadcast(gridMoveManager, "[Griddify] ========================================= COMBAT ENDED =========================================", "#90EE90");
+            broadcast(gridMoveManager, "[Griddify] All participants can now move freely.", "#FFFFFF");
             System.out.println("[Griddify] [COMBAT] Combat mode ended by GM");
         } else {
             List<CombatManager.CombatParticipant> turnOrder = combatManager.startCombat();
@@ -56,8 +69,11 @@ public class CombatCommand extends AbstractPlayerCommand {
                 playerRef.sendMessage(Message.raw("[Griddify] Cannot start combat - no valid participants!").color("#FF0000"));
                 return;
             }
-            broadcastTurnOrder(turnOrder, 0, "COMBAT STARTED!", combatManager.getRoundNumber());
+            broadcastTurnOrder(gridMoveManager, turnOrder, 0, "COMBAT STARTED!", combatManager.getRoundNumber());
             System.out.println("[Griddify] [COMBAT] Combat mode started - " + turnOrder.size() + " participants");
+            // New encounter: rescan terrain costs rather than trust scans from earlier edits
+            TerrainManager.clearCostRaster(world);
+            world.execute(() -> prefetchBattlefield(world, table));
             // If fog of war is active, spawn markers for all players who joined after /FogOfWar was toggled
             if (fogOfWarCommand != null && gridMoveManager.isFogOfWarActive()) {
                 fogOfWarCommand.spawnAllFogMarkers(world);
@@ -66,44 +82,72 @@ public class CombatCommand extends AbstractPlayerCommand {
         }
     }
 
-    /** Send the full turn order list to every player in the game. */
-    public void broadcastTurnOrder(List<CombatManager.CombatParticipant> turnOrder, int currentIndex, String header) {
-        broadcastTurnOrder(turnOrder, currentIndex, header, combatManager.getRoundNumber());
+    /** Send the full turn order list to every player at the table. */
+    public void broadcastTurnOrder(TableSession table, List<CombatManager.CombatParticipant> turnOrder, int currentIndex, String header) {
+        broadcastTurnOrder(table.getGridMoveManager(), turnOrder, currentIndex, header, table.getCombatManager().getRoundNumber());
+    }
+
+
+    /**
+     * Snapshot the blocks around every participant so the fight's grid queries
+     * are served from memory (see BattlefieldRaster). World thread.
+     */
+    private void prefetchBattlefield(World world, TableSession table) {
+        int minX = Integer.MAX_VALUE, minZ = Integer.MAX_VALUE, maxX = Integer.MIN_VALUE, maxZ = Integer.MIN_VALUE;
+        float minY = Float.MAX_VALUE, maxY = -Float.MAX_VALUE;
+        for (GridPlayerState s : table.getGridMoveManager().getAllStates()) {
+            if (s.npcEntity == null || !s.npcEntity.isValid()) continue;
+            minX = Math.min(minX, s.currentGridX); maxX = Math.max(maxX, s.currentGridX);
+            minZ = Math.min(minZ, s.currentGridZ); maxZ = Math.max(maxZ, s.currentGridZ);
+            minY = Math.min(minY, s.npcY); maxY = Math.max(maxY, s.npcY);
+        }
+        for (MonsterState m : table.getEncounterManager().getMonsters()) {
+            if (m.monsterEntity == null || !m.monsterEntity.isValid()) continue;
+            minX = Math.min(minX, m.currentGridX); maxX = Math.max(maxX, m.currentGridX);
+            minZ = Math.min(minZ, m.currentGridZ); maxZ = Math.max(maxZ, m.currentGridZ);
+            minY = Math.min(minY, m.spawnY); maxY = Math.max(maxY, m.spawnY);
+        }
+        if (minX == Integer.MAX_VALUE) return;
+        BattlefieldRaster.start(world, minX, minZ, maxX, maxZ, (int) Math.floor(minY), (int) Math.ceil(maxY));
     }
 
-    public void broadcastTurnOrder(List<CombatManager.CombatParticipant> turnOrder, int currentIndex, String header, int round) {
+    private void broadcastTurnOrder(GridMoveManager gridMoveManager, List<CombatManager.CombatParticipant> turnOrder,
+                                    int currentIndex, String header, int round) {
         List<PlayerRef> all = gridMoveManager.getAllPlayerRefs();
         for (PlayerRef p : all) {
             sendTurnOrderTo(p, turnOrder, currentIndex, header, round);
         }
     }
 
+    /** The turn-order block, queued as one batch so it reaches the player as a single message. */
     private void sendTurnOrderTo(PlayerRef p, List<CombatManager.CombatParticipant> turnOrder, int currentIndex, String header, int round) {
-        p.sendMessage(Message.raw(""));
-        p.sendMessage(Message.raw("=========================================").color("#FFD700"));
-        p.sendMessage(Message.raw("   " + header + (round > 0 ? "  [Round " + round + "]" : "")).color("#FF4500"));
-        p.sendMessage(Message.raw("=========================================").color("#FFD700"));
-        p.sendMessage(Message.raw("TURN ORDER:").color("#00BFFF"));
-        p.sendMessage(Message.raw(""));
+        List<String[]> lines = new ArrayList<>();
+        lines.add(new String[]{null, ""});
+        lines.add(new String[]{"#FFD700", "========================================="});
+        lines.add(new String[]{"#FF4500", "   " + header + (round > 0 ? "  [Round " + round + "]" : "")});
+        lines.add(new String[]{"#FFD700", "========================================="});
+        lines.add(new String[]{"#00BFFF", "TURN ORDER:"});
+        lines.add(new String[]{null, ""});
 
         for (int i = 0; i < turnOrder.size(); i++) {
             CombatManager.CombatParticipant cp = turnOrder.get(i);
             boolean isCurrent = (i == currentIndex);
             String marker = isCurrent ? "> " : "  ";
             String line = marker + (i + 1) + ". " + cp.name + "  (init: " + cp.totalInitiative + ")";
-            p.sendMessage(Message.raw(line).color(isCurrent ? "#00FF00" : "#CCCCCC"));
+            lines.add(new String[]{isCurrent ? "#00FF00" : "#CCCCCC", line});
         }
 
-        p.sendMessage(Message.raw(""));
+        lines.add(new String[]{null, ""});
         CombatManager.CombatParticipant current = turnOrder.get(currentIndex);
-        p.sendMessage(Message.raw("NOW: " + current.name + " - use /endturn when done").color("#00FFFF"));
-        p.sendMessage(Message.raw("=========================================").color("#FFD700"));
-        p.sendMessage(Message.raw(""));
+        lines.add(new String[]{"#00FFFF", "NOW: " + current.name + " - use /endturn when done"});
+        lines.add(new String[]{"#FFD700", "========================================="});
+        lines.add(new String[]{null, ""});
+        ChatBatcher.sendAll(p, lines);
     }
 
-    private void broadcast(String text, String color) {
+    private void broadcast(GridMoveManager gridMoveManager, String text, String color) {
         for (PlayerRef p : gridMoveManager.getAllPlayerRefs()) {
-            p.sendMessage(Message.raw(text).color(color));
+            ChatBatcher.send(p, text, color);
         }
     }
 }
\ No newline at end of file
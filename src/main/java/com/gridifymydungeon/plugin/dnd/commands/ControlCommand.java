@@ -5,6 +5,8 @@ import com.gridifymydungeon.plugin.dnd.MonsterState;
 import com.gridifymydungeon.plugin.dnd.RoleManager;
 import com.gridifymydungeon.plugin.gridmove.GridMoveManager;
 import com.gridifymydungeon.plugin.gridmove.GridPlayerState;
+import com.gridifymydungeon.plugin.gridmove.TableRegistry;
+import com.gridifymydungeon.plugin.gridmove.TableSession;
 import com.hypixel.hytale.component.Ref;
 import com.hypixel.hytale.component.Store;
 import com.hypixel.hytale.protocol.ItemWithAllMetadata;
@@ -32,17 +34,13 @@ import javax.annotation.Nonnull;
  */
 public class ControlCommand extends AbstractPlayerCommand {
 
-    private final RoleManager roleManager;
-    private final EncounterManager encounterManager;
-    private final GridMoveManager gridMoveManager;
+    private final TableRegistry tables;
+
     private final RequiredArg<Integer> monsterNumberArg;
 
-    public ControlCommand(RoleManager roleManager, EncounterManager encounterManager,
-                          GridMoveManager gridMoveManager) {
+    public ControlCommand(TableRegistry tables) {
         super("control", "Control a monster by number (GM only)");
-        this.roleManager = roleManager;
-        this.encounterManager = encounterManager;
-        this.gridMoveManager = gridMoveManager;
+        this.tables = tables;
         this.monsterNumberArg = this.withRequiredArg("number", "Monster number to control (0 to stop)", ArgTypes.INTEGER);
     }
 
@@ -54,6 +52,11 @@ public class ControlCommand extends AbstractPlayerCommand {
             @Nonnull PlayerRef playerRef,
             @Nonnull World world
     ) {
+        TableSession table = tables.forWorld(world);
+        RoleManager roleManager = table.getRoleManager();
+        EncounterManager encounterManager = table.getEncounterManager();
+        GridMoveManager gridMoveManager = table.getGridMoveManager();
+
         if (!roleManager.isGM(playerRef)) {
             Message primary = Message.raw("Only the GM can use this command!").color("#FF0000");
             ItemWithAllMetadata icon = new ItemStack("Ingredient_Crystal_Red", 1).toPacket();
@@ -139,7 +142,7 @@ public class ControlCommand extends AbstractPlayerCommand {
      * is NEVER touched — it persists until the GM types /grid again.
      */
     private void cleanUpGMBFSOverlay(PlayerRef playerRef, World world) {
-        GridPlayerState gmState = gridMoveManager.getState(playerRef);
+        GridPlayerState gmState = tables.forWorld(world).getGridMoveManager().getState(playerRef);
         if (gmState == null) return;
 
         // FIX #8: Static /grid map — never remove it here
@@ -10,6 +10,8 @@ import com.gridifymydungeon.plugin.gridmove.GridPlayerState;
 import com.gridifymydungeon.plugin.gridmove.HotbarInputHandler;
 import com.gridifymydungeon.plugin.gridmove.PlayerHotbarState;
 import com.gridifymydungeon.plugin.gridmove.StatEditorPage;
+import com.gridifymydungeon.plugin.gridmove.TableRegistry;
+import com.gridifymydungeon.plugin.gridmove.TableSession;
 import com.hypixel.hytale.component.Ref;
 import com.hypixel.hytale.component.Store;
 import com.hypixel.hytale.math.vector.Vector3d;
@@ -28,6 +30,7 @@ import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
 import com.hypixel.hytale.server.core.util.NotificationUtil;
 
 import javax.annotation.Nonnull;
+import java.util.List;
 
 /**
  * /creature <name> <number> - Spawn a monster (GM only)
@@ -35,25 +38,16 @@ import javax.annotation.Nonnull;
  */
 public class CreatureCommand extends AbstractPlayerCommand {
 
-    private final EncounterManager   encounterManager;
-    private final RoleManager        roleManager;
-    private final CollisionDetector  collisionDetector;
-    private final GridMoveManager    gridMoveManager;
-    private final HotbarInputHandler hotbarInputHandler;
+    private final TableRegistry tables;
+
+    private static final int SUGGESTION_LIMIT = 6;
+
     private final RequiredArg<String>  nameArg;
     private final RequiredArg<Integer> numberArg;
 
-    public CreatureCommand(@Nonnull EncounterManager encounterManager,
-                           @Nonnull RoleManager roleManager,
-                           @Nonnull CollisionDetector collisionDetector,
-                           @Nonnull GridMoveManager gridMoveManager,
-                           @Nonnull HotbarInputHandler hotbarInputHandler) {
+    public CreatureCommand(TableRegistry tables) {
         super("creature", "Spawn a creature (GM only)");
-        this.encounterManager   = encounterManager;
-        this.roleManager        = roleManager;
-        this.collisionDetector  = collisionDetector;
-        this.gridMoveManager    = gridMoveManager;
-        this.hotbarInputHandler = hotbarInputHandler;
+        this.tables = tables;
         this.nameArg   = this.withRequiredArg("name",   "Creature name",   ArgTypes.STRING);
         this.numberArg = this.withRequiredArg("number", "Creature number", ArgTypes.INTEGER);
     }
@@ -62,6 +56,12 @@ public class CreatureCommand extends AbstractPlayerCommand {
     protected void execute(@Nonnull CommandContext context, @Nonnull Store<EntityStore> store,
                            @Nonnull Ref<EntityStore> ref, @Nonnull PlayerRef playerRef,
                            @Nonnull World world) {
+        TableSession table = tables.forWorld(world);
+        EncounterManager encounterManager = table.getEncounterManager();
+        RoleManager roleManager = table.getRoleManager();
+        CollisionDetector collisionDetector = table.getCollisionDetector();
+        GridMoveManager gridMoveManager = table.getGridMoveManager();
+        HotbarInputHandler hotbarInputHandler = table.getHotbarInputHandler();
 
         if (!roleManager.isGM(playerRef)) {
             notify(playerRef, "#FF0000", "Only the GM can use this command!", null, "Ingredient_Crystal_Red");
@@ -71,6 +71,19 @@ public class CreatureCommand extends AbstractPlayerCommand {
         String monsterName   = nameArg.get(context);
         int    monsterNumber = numberArg.get(context);
 
+        // Autocomplete: a unique prefix resolves to the canonical entity name
+        if (!MonsterDatabase.has(monsterName)) {
+            List<String> matches = MonsterDatabase.findNamesByPrefix(monsterName, SUGGESTION_LIMIT + 1);
+            if (matches.size() == 1) {
+                monsterName = matches.get(0);
+            } else if (!matches.isEmpty()) {
+                playerRef.sendMessage(Message.raw("[Griddify] '" + monsterName + "' is ambiguous: "
+                        + String.join(", ", matches.subList(0, Math.min(SUGGESTION_LIMIT, matches.size())))
+                        + (matches.size() > SUGGESTION_LIMIT ? ", ..." : "")).color("#FFA500"));
+                return;
+            }
+        }
+
         if (monsterNumber <= 0) {
             notify(playerRef, "#FF0000", "Monster number must be greater than 0!", null, "Ingredient_Crystal_Red");
             return;
@@ -142,12 +155,12 @@ public class CreatureCommand extends AbstractPlayerCommand {
                         + " at grid (" + finalGridX + ", " + finalGridZ + ")");
 
                 // ── Auto-open stat editor for the new monster ─────────────────
-                openStatEditorForMonster(playerRef, finalMonster);
+                openStatEditorForMonster(table, playerRef, finalMonster);
 
             } else {
                 encounterManager.removeMonster(finalMonster.monsterNumber);
                 notify(playerRef, "#FF0000",
-                        "Failed to spawn " + monsterName + " #" + monsterNumber,
+                        "Failed to spawn " + finalMonster.getDisplayName(),
                         "No ground found within 15 blocks below you!",
                         "Ingredient_Crystal_Red");
                 System.err.println("[Griddify] [ERROR] Failed to spawn " + finalMonster.getDisplayName());
@@ -157,8 +170,10 @@ public class CreatureCommand extends AbstractPlayerCommand {
 
     // ── Opens stat editor for a freshly spawned monster ───────────────────────
 
-    private void openStatEditorForMonster(PlayerRef playerRef, MonsterState monster) {
-        GridPlayerState state = gridMoveManager.getState(playerRef);
+    private void openStatEditorForMonster(TableSession table, PlayerRef playerRef, MonsterState monster) {
+        EncounterManager encounterManager = table.getEncounterManager();
+        HotbarInputHandler hotbarInputHandler = table.getHotbarInputHandler();
+        GridPlayerState state = table.getGridMoveManager().getState(playerRef);
         if (state == null) return;
 
         PlayerHotbarState hs = state.hotbarState;
@@ -2,6 +2,8 @@ package com.gridifymydungeon.plugin.dnd.commands;
 
 import com.gridifymydungeon.plugin.dnd.CombatSettings;
 import com.gridifymydungeon.plugin.dnd.RoleManager;
+import com.gridifymydungeon.plugin.gridmove.TableRegistry;
+import com.gridifymydungeon.plugin.gridmove.TableSession;
 import com.hypixel.hytale.component.Ref;
 import com.hypixel.hytale.component.Store;
 import com.hypixel.hytale.protocol.ItemWithAllMetadata;
@@ -22,18 +24,21 @@ import javax.annotation.Nonnull;
  * UPDATED: Uses popup notifications instead of chat messages
  */
 public class CriticalCommand extends AbstractPlayerCommand {
-    private final RoleManager roleManager;
+
+    private final TableRegistry tables;
     private final CombatSettings combatSettings;
 
-    public CriticalCommand(RoleManager roleManager, CombatSettings combatSettings) {
+    public CriticalCommand(TableRegistry tables, CombatSettings combatSettings) {
         super("Critical", "Toggle critical success/failure (GM only)");
-        this.roleManager = roleManager;
+        this.tables = tables;
         this.combatSettings = combatSettings;
     }
 
     @Override
     protected void execute(@Nonnull CommandContext context, @Nonnull Store<EntityStore> store,
                            @Nonnull Ref<EntityStore> ref, @Nonnull PlayerRef playerRef, @Nonnull World world) {
+        TableSession table = tables.forWorld(world);
+        RoleManager roleManager = table.getRoleManager();
 
         // Check if player is GM
         if (!roleManager.isGM(playerRef)) {
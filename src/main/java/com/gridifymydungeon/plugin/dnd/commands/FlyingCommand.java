@@ -5,6 +5,8 @@ import com.gridifymydungeon.plugin.dnd.MonsterState;
 import com.gridifymydungeon.plugin.dnd.RoleManager;
 import com.gridifymydungeon.plugin.gridmove.GridMoveManager;
 import com.gridifymydungeon.plugin.gridmove.GridPlayerState;
+import com.gridifymydungeon.plugin.gridmove.TableRegistry;
+import com.gridifymydungeon.plugin.gridmove.TableSession;
 import com.hypixel.hytale.component.Ref;
 import com.hypixel.hytale.component.Store;
 import com.hypixel.hytale.protocol.ItemWithAllMetadata;
@@ -25,20 +27,21 @@ import javax.annotation.Nonnull;
  * UPDATED: Uses popup notifications instead of chat messages
  */
 public class FlyingCommand extends AbstractPlayerCommand {
-    private final GridMoveManager playerManager;
-    private final RoleManager roleManager;
-    private final EncounterManager encounterManager;
 
-    public FlyingCommand(GridMoveManager playerManager, RoleManager roleManager, EncounterManager encounterManager) {
+    private final TableRegistry tables;
+
+    public FlyingCommand(TableRegistry tables) {
         super("flying", "Toggle flying mode");
-        this.playerManager = playerManager;
-        this.roleManager = roleManager;
-        this.encounterManager = encounterManager;
+        this.tables = tables;
     }
 
     @Override
     protected void execute(@Nonnull CommandContext context, @Nonnull Store<EntityStore> store,
                            @Nonnull Ref<EntityStore> ref, @Nonnull PlayerRef playerRef, @Nonnull World world) {
+        TableSession table = tables.forWorld(world);
+        GridMoveManager playerManager = table.getGridMoveManager();
+        RoleManager roleManager = table.getRoleManager();
+        EncounterManager encounterManager = table.getEncounterManager();
 
         if (roleManager.isGM(playerRef)) {
             MonsterState monster = encounterManager.getControlledMonster();
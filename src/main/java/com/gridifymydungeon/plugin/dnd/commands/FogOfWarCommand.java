@@ -1,9 +1,14 @@
 package com.gridifymydungeon.plugin.dnd.commands;
 
+import com.gridifymydungeon.plugin.dnd.FogOfWarManager;
 import com.gridifymydungeon.plugin.dnd.PlayerEntityController;
 import com.gridifymydungeon.plugin.dnd.RoleManager;
+import com.gridifymydungeon.plugin.gridmove.EntityReaper;
 import com.gridifymydungeon.plugin.gridmove.GridMoveManager;
 import com.gridifymydungeon.plugin.gridmove.GridPlayerState;
+import com.gridifymydungeon.plugin.gridmove.ModelRegistry;
+import com.gridifymydungeon.plugin.gridmove.TableRegistry;
+import com.gridifymydungeon.plugin.gridmove.TableSession;
 import com.hypixel.hytale.component.Ref;
 import com.hypixel.hytale.component.RemoveReason;
 import com.hypixel.hytale.component.Store;
@@ -27,12 +32,17 @@ import java.util.concurrent.TimeUnit;
  *        Outer layer: scale 6.5f  →  13×13 tiles (6 grids radius)
  *      Only the owning player sees them. Follow the NPC on every grid step.
  *
- * OFF: Removes all active fog markers.
+ *      Monsters and other NPCs outside each player's line of sight (FogOfWarManager,
+ *      shadowcasting against walls) are hidden from that player.
+ *
+ * OFF: Removes all active fog markers and reveals everything hidden by line of sight.
  *
  * FIX #6: Was a single 3×3 fog entity. Now spawns inner 11×11 + outer 13×13 layers.
  */
 public class FogOfWarCommand extends AbstractPlayerCommand {
 
+    private final TableRegistry tables;
+
     private static final ScheduledExecutorService SCHED =
             Executors.newSingleThreadScheduledExecutor(r -> {
                 Thread t = new Thread(r, "fogofwar-scheduler");
@@ -48,19 +58,19 @@ public class FogOfWarCommand extends AbstractPlayerCommand {
     private static final float INNER_SCALE = 26.0f; // 26×26 blocks = 13×13 grids
     private static final float OUTER_SCALE = 28.0f; // 28×28 blocks = 14×14 grids
 
-    private final GridMoveManager gridMoveManager;
-    private final RoleManager     roleManager;
-
-    public FogOfWarCommand(GridMoveManager gridMoveManager, RoleManager roleManager) {
+    public FogOfWarCommand(TableRegistry tables) {
         super("FogOfWar", "Toggle fog-of-war markers for all players (GM only)");
-        this.gridMoveManager = gridMoveManager;
-        this.roleManager     = roleManager;
+        this.tables = tables;
     }
 
     @Override
     protected void execute(@Nonnull CommandContext context, @Nonnull Store<EntityStore> store,
                            @Nonnull Ref<EntityStore> ref, @Nonnull PlayerRef playerRef,
                            @Nonnull World world) {
+        TableSession table = tables.forWorld(world);
+        GridMoveManager gridMoveManager = table.getGridMoveManager();
+        RoleManager roleManager = table.getRoleManager();
+        FogOfWarManager fogOfWarManager = table.getFogOfWarManager();
 
         if (!roleManager.isGM(playerRef)) {
             playerRef.sendMessage(Message.raw("[FogOfWar] Only the GM can use this command.").color("#FF0000"));
@@ -71,6 +81,7 @@ public class FogOfWarCommand extends AbstractPlayerCommand {
             // ── TURN OFF ─────────────────────────────────────────────────────────
             gridMoveManager.setFogOfWarActive(false);
             removeAllFogMarkers(world);
+            world.execute(() -> fogOfWarManager.revealAll(world));
             playerRef.sendMessage(Message.raw("[FogOfWar] Fog of War DISABLED.").color("#FFA500"));
             System.out.println("[FogOfWar] Disabled by GM " + playerRef.getUsername());
         } else {
@@ -86,19 +97,22 @@ public class FogOfWarCommand extends AbstractPlayerCommand {
     // ── Package-visible helpers (called from CombatCommand) ──────────────────
 
     /**
-     * Spawn inner + outer fog markers for every player with an active NPC.
+     * Spawn inner + outer fog markers for every player with an active NPC,
+     * then run a full line-of-sight pass.
      */
     public void spawnAllFogMarkers(World world) {
-        for (GridPlayerState state : gridMoveManager.getAllStates()) {
+        TableSession table = tables.forWorld(world);
+        for (GridPlayerState state : table.getGridMoveManager().getAllStates()) {
             if (state.npcEntity == null || !state.npcEntity.isValid()) continue;
             if (state.playerRef == null) continue;
             spawnMarkersForState(world, state);
         }
+        world.execute(() -> table.getFogOfWarManager().refreshAll(world));
     }
 
     /** Remove all active fog markers across all player states. */
     public void removeAllFogMarkers(World world) {
-        for (GridPlayerState state : gridMoveManager.getAllStates()) {
+        for (GridPlayerState state : tables.forWorld(world).getGridMoveManager().getAllStates()) {
             removeFogMarkers(world, state);
         }
     }
@@ -128,6 +142,7 @@ public class FogOfWarCommand extends AbstractPlayerCommand {
                 System.err.println("[FogOfWar] Failed to spawn inner marker for " + fPlayer.getUsername());
             } else {
                 fState.fogMarkerRef   = innerMarker;
+                EntityReaper.tag(world, innerMarker, "fog-marker", fState);
                 fState.fogMarkerNetId = innerNetId[0];
                 System.out.println("[FogOfWar] Inner marker spawned for " + fPlayer.getUsername()
                         + " netId=" + innerNetId[0] + " scale=" + INNER_SCALE);
@@ -149,6 +164,7 @@ public class FogOfWarCommand extends AbstractPlayerCommand {
                 System.err.println("[FogOfWar] Failed to spawn outer marker for " + fPlayer.getUsername());
             } else {
                 fState.fogMarkerRef2   = outerMarker;
+                EntityReaper.tag(world, outerMarker, "fog-marker", fState);
                 fState.fogMarkerNetId2 = outerNetId[0];
                 System.out.println("[FogOfWar] Outer marker spawned for " + fPlayer.getUsername()
                         + " netId=" + outerNetId[0] + " scale=" + OUTER_SCALE);
@@ -171,16 +187,13 @@ public class FogOfWarCommand extends AbstractPlayerCommand {
                                                        String modelAssetId, float x, float y, float z,
                                                        int[] netIdOut, float scale) {
         try {
-            com.hypixel.hytale.server.core.asset.type.model.config.ModelAsset asset =
-                    com.hypixel.hytale.server.core.asset.type.model.config.ModelAsset.getAssetMap().getAsset(modelAssetId);
-            if (asset == null) {
+            com.hypixel.hytale.server.core.asset.type.model.config.Model model =
+                    ModelRegistry.get(modelAssetId, scale);
+            if (model == null) {
                 System.err.println("[FogOfWar] spawnScaledPrivate: model not found: " + modelAssetId);
                 return null;
             }
 
-            com.hypixel.hytale.server.core.asset.type.model.config.Model model =
-                    com.hypixel.hytale.server.core.asset.type.model.config.Model.createScaledModel(asset, scale);
-
             Store<com.hypixel.hytale.server.core.universe.world.storage.EntityStore> store =
                     world.getEntityStore().getStore();
 
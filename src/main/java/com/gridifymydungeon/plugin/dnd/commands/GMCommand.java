@@ -1,6 +1,8 @@
 package com.gridifymydungeon.plugin.dnd.commands;
 
 import com.gridifymydungeon.plugin.dnd.RoleManager;
+import com.gridifymydungeon.plugin.gridmove.TableRegistry;
+import com.gridifymydungeon.plugin.gridmove.TableSession;
 import com.hypixel.hytale.component.Ref;
 import com.hypixel.hytale.component.Store;
 import com.hypixel.hytale.server.core.Message;
@@ -20,17 +22,11 @@ import javax.annotation.Nonnull;
  */
 public class GMCommand extends AbstractPlayerCommand {
 
-    // Injected after construction — used to register HUD once role is assigned
-    private com.gridifymydungeon.plugin.gridmove.HotbarInputHandler hotbarInputHandler = null;
-    public void setHotbarInputHandler(com.gridifymydungeon.plugin.gridmove.HotbarInputHandler h) {
-        this.hotbarInputHandler = h;
-    }
-
-    private final RoleManager roleManager;
+    private final TableRegistry tables;
 
-    public GMCommand(RoleManager roleManager) {
+    public GMCommand(TableRegistry tables) {
         super("GridGM", "Become the Game Master");
-        this.roleManager = roleManager;
+        this.tables = tables;
     }
 
     @Override
@@ -41,6 +37,10 @@ public class GMCommand extends AbstractPlayerCommand {
             @Nonnull PlayerRef playerRef,
             @Nonnull World world
     ) {
+        TableSession table = tables.forWorld(world);
+        com.gridifymydungeon.plugin.gridmove.HotbarInputHandler hotbarInputHandler = table.getHotbarInputHandler();
+        RoleManager roleManager = table.getRoleManager();
+
         // Check if GM already exists
         if (roleManager.hasGM()) {
             PlayerRef existingGM = roleManager.getGM();
@@ -5,6 +5,8 @@ import com.gridifymydungeon.plugin.dnd.RoleManager;
 import com.gridifymydungeon.plugin.dnd.EncounterManager;
 import com.gridifymydungeon.plugin.gridmove.GridMoveManager;
 import com.gridifymydungeon.plugin.gridmove.GridPlayerState;
+import com.gridifymydungeon.plugin.gridmove.TableRegistry;
+import com.gridifymydungeon.plugin.gridmove.TableSession;
 import com.gridifymydungeon.plugin.spell.ClassType;
 import com.hypixel.hytale.component.Ref;
 import com.hypixel.hytale.component.Store;
@@ -29,22 +31,23 @@ import javax.annotation.Nonnull;
  * FIXED: Use CharacterPresets.Preset and applyPreset()
  */
 public class GridClassCommand extends AbstractPlayerCommand {
-    private final GridMoveManager playerManager;
-    private final RoleManager roleManager;
-    private final EncounterManager encounterManager;
+
+    private final TableRegistry tables;
     private final RequiredArg<String> classNameArg;
 
-    public GridClassCommand(GridMoveManager playerManager, RoleManager roleManager, EncounterManager encounterManager) {
+    public GridClassCommand(TableRegistry tables) {
         super("GridClass", "Choose your character class");
-        this.playerManager = playerManager;
-        this.roleManager = roleManager;
-        this.encounterManager = encounterManager;
+        this.tables = tables;
         this.classNameArg = this.withRequiredArg("class", "Class name (Wizard, Fighter, etc.)", ArgTypes.STRING);
     }
 
     @Override
     protected void execute(@Nonnull CommandContext context, @Nonnull Store<EntityStore> store,
                            @Nonnull Ref<EntityStore> ref, @Nonnull PlayerRef playerRef, @Nonnull World world) {
+        TableSession table = tables.forWorld(world);
+        GridMoveManager playerManager = table.getGridMoveManager();
+        RoleManager roleManager = table.getRoleManager();
+        EncounterManager encounterManager = table.getEncounterManager();
 
         String className = classNameArg.get(context);
 
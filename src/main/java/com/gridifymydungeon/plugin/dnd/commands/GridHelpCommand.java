@@ -1,6 +1,8 @@
 package com.gridifymydungeon.plugin.dnd.commands;
 
 import com.gridifymydungeon.plugin.dnd.RoleManager;
+import com.gridifymydungeon.plugin.gridmove.TableRegistry;
+import com.gridifymydungeon.plugin.gridmove.TableSession;
 import com.hypixel.hytale.component.Ref;
 import com.hypixel.hytale.component.Store;
 import com.hypixel.hytale.server.core.Message;
@@ -17,16 +19,18 @@ import javax.annotation.Nonnull;
  */
 public class GridHelpCommand extends AbstractPlayerCommand {
 
-    private final RoleManager roleManager;
+    private final TableRegistry tables;
 
-    public GridHelpCommand(RoleManager roleManager) {
+    public GridHelpCommand(TableRegistry tables) {
         super("gridhelp", "Show all available commands");
-        this.roleManager = roleManager;
+        this.tables = tables;
     }
 
     @Override
     protected void execute(@Nonnull CommandContext context, @Nonnull Store<EntityStore> store,
                            @Nonnull Ref<EntityStore> ref, @Nonnull PlayerRef playerRef, @Nonnull World world) {
+        TableSession table = tables.forWorld(world);
+        RoleManager roleManager = table.getRoleManager();
 
         boolean isGM = roleManager.isGM(playerRef);
         boolean isPlayer = roleManager.isPlayer(playerRef);
@@ -47,6 +51,7 @@ public class GridHelpCommand extends AbstractPlayerCommand {
         cmd(playerRef, "/GridPlayer",     "Become a numbered Player");
         cmd(playerRef, "/GridNull",       "Revoke your role");
         cmd(playerRef, "/GridRestart",    "Reset all roles (GM only)");
+        cmd(playerRef, "/GridReload",     "Reload spell/monster catalogs (GM only)");
         playerRef.sendMessage(Message.raw(""));
 
         // PLAYER COMMANDS
@@ -86,6 +91,7 @@ public class GridHelpCommand extends AbstractPlayerCommand {
         cmd(playerRef, "/creature <n> <#>","Spawn a monster");
         cmd(playerRef, "/control <#>",    "Control monster (0=stop)");
         cmd(playerRef, "/slain <#>",      "Remove slain monster");
+        cmd(playerRef, "/advance <all|1-4>", "Move monsters toward the party");
         cmd(playerRef, "/GridClass <c>",  "Set monster class while controlling");
         playerRef.sendMessage(Message.raw("  Monster Actions:").color("#FFA500"));
         cmd(playerRef, "/ListSpells",     "Show monster actions when controlling");
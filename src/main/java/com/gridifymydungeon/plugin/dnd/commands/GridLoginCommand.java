@@ -4,6 +4,8 @@ import com.gridifymydungeon.plugin.dnd.CharacterCodec;
 import com.gridifymydungeon.plugin.dnd.RoleManager;
 import com.gridifymydungeon.plugin.gridmove.GridMoveManager;
 import com.gridifymydungeon.plugin.gridmove.GridPlayerState;
+import com.gridifymydungeon.plugin.gridmove.TableRegistry;
+import com.gridifymydungeon.plugin.gridmove.TableSession;
 import com.hypixel.hytale.component.Ref;
 import com.hypixel.hytale.component.Store;
 import com.hypixel.hytale.server.core.Message;
@@ -25,20 +27,22 @@ import javax.annotation.Nonnull;
  */
 public class GridLoginCommand extends AbstractPlayerCommand {
 
-    private final GridMoveManager playerManager;
-    private final RoleManager roleManager;
+    private final TableRegistry tables;
+
     private final RequiredArg<String> codeArg;
 
-    public GridLoginCommand(GridMoveManager playerManager, RoleManager roleManager) {
+    public GridLoginCommand(TableRegistry tables) {
         super("gridlogin", "Load character stats from code");
-        this.playerManager = playerManager;
-        this.roleManager = roleManager;
+        this.tables = tables;
         this.codeArg = this.withRequiredArg("code", "Your character code", ArgTypes.STRING);
     }
 
     @Override
     protected void execute(@Nonnull CommandContext context, @Nonnull Store<EntityStore> store,
                            @Nonnull Ref<EntityStore> ref, @Nonnull PlayerRef playerRef, @Nonnull World world) {
+        TableSession table = tables.forWorld(world);
+        GridMoveManager playerManager = table.getGridMoveManager();
+        RoleManager roleManager = table.getRoleManager();
 
         // GMs cannot use this
         if (roleManager.isGM(playerRef)) {
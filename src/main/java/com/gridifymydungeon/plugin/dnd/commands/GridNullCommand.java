@@ -1,6 +1,8 @@
 package com.gridifymydungeon.plugin.dnd.commands;
 
 import com.gridifymydungeon.plugin.dnd.RoleManager;
+import com.gridifymydungeon.plugin.gridmove.TableRegistry;
+import com.gridifymydungeon.plugin.gridmove.TableSession;
 import com.hypixel.hytale.component.Ref;
 import com.hypixel.hytale.component.Store;
 import com.hypixel.hytale.protocol.ItemWithAllMetadata;
@@ -23,11 +25,11 @@ import javax.annotation.Nonnull;
  */
 public class GridNullCommand extends AbstractPlayerCommand {
 
-    private final RoleManager roleManager;
+    private final TableRegistry tables;
 
-    public GridNullCommand(RoleManager roleManager) {
+    public GridNullCommand(TableRegistry tables) {
         super("GridNull", "Revoke your current role");
-        this.roleManager = roleManager;
+        this.tables = tables;
     }
 
     @Override
@@ -38,6 +40,9 @@ public class GridNullCommand extends AbstractPlayerCommand {
             @Nonnull PlayerRef playerRef,
             @Nonnull World world
     ) {
+        TableSession table = tables.forWorld(world);
+        RoleManager roleManager = table.getRoleManager();
+
         // Check if player has a role
         if (!roleManager.hasRole(playerRef)) {
             // WARNING: No role to revoke
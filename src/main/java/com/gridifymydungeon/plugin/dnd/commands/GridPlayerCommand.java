@@ -1,6 +1,8 @@
 package com.gridifymydungeon.plugin.dnd.commands;
 
 import com.gridifymydungeon.plugin.dnd.RoleManager;
+import com.gridifymydungeon.plugin.gridmove.TableRegistry;
+import com.gridifymydungeon.plugin.gridmove.TableSession;
 import com.hypixel.hytale.component.Ref;
 import com.hypixel.hytale.component.Store;
 import com.hypixel.hytale.protocol.ItemWithAllMetadata;
@@ -22,16 +24,11 @@ import javax.annotation.Nonnull;
  */
 public class GridPlayerCommand extends AbstractPlayerCommand {
 
-    private com.gridifymydungeon.plugin.gridmove.HotbarInputHandler hotbarInputHandler = null;
-    public void setHotbarInputHandler(com.gridifymydungeon.plugin.gridmove.HotbarInputHandler h) {
-        this.hotbarInputHandler = h;
-    }
-
-    private final RoleManager roleManager;
+    private final TableRegistry tables;
 
-    public GridPlayerCommand(RoleManager roleManager) {
+    public GridPlayerCommand(TableRegistry tables) {
         super("GridPlayer", "Become a numbered Player");
-        this.roleManager = roleManager;
+        this.tables = tables;
     }
 
     @Override
@@ -42,6 +39,10 @@ public class GridPlayerCommand extends AbstractPlayerCommand {
             @Nonnull PlayerRef playerRef,
             @Nonnull World world
     ) {
+        TableSession table = tables.forWorld(world);
+        com.gridifymydungeon.plugin.gridmove.HotbarInputHandler hotbarInputHandler = table.getHotbarInputHandler();
+        RoleManager roleManager = table.getRoleManager();
+
         // Check if already has a role
         if (roleManager.isGM(playerRef)) {
             // ERROR: Already GM
@@ -4,6 +4,8 @@ import com.gridifymydungeon.plugin.dnd.CharacterCodec;
 import com.gridifymydungeon.plugin.dnd.RoleManager;
 import com.gridifymydungeon.plugin.gridmove.GridMoveManager;
 import com.gridifymydungeon.plugin.gridmove.GridPlayerState;
+import com.gridifymydungeon.plugin.gridmove.TableRegistry;
+import com.gridifymydungeon.plugin.gridmove.TableSession;
 import com.hypixel.hytale.component.Ref;
 import com.hypixel.hytale.component.Store;
 import com.hypixel.hytale.server.core.Message;
@@ -21,18 +23,19 @@ import javax.annotation.Nonnull;
  */
 public class GridRegisterCommand extends AbstractPlayerCommand {
 
-    private final GridMoveManager playerManager;
-    private final RoleManager roleManager;
+    private final TableRegistry tables;
 
-    public GridRegisterCommand(GridMoveManager playerManager, RoleManager roleManager) {
+    public GridRegisterCommand(TableRegistry tables) {
         super("gridregister", "Generate your character code");
-        this.playerManager = playerManager;
-        this.roleManager = roleManager;
+        this.tables = tables;
     }
 
     @Override
     protected void execute(@Nonnull CommandContext context, @Nonnull Store<EntityStore> store,
                            @Nonnull Ref<EntityStore> ref, @Nonnull PlayerRef playerRef, @Nonnull World world) {
+        TableSession table = tables.forWorld(world);
+        GridMoveManager playerManager = table.getGridMoveManager();
+        RoleManager roleManager = table.getRoleManager();
 
         // GMs cannot use this
         if (roleManager.isGM(playerRef)) {
@@ -0,0 +1,63 @@
+package com.gridifymydungeon.plugin.dnd.commands;
+
+import com.gridifymydungeon.plugin.dnd.CatalogLoader;
+import com.gridifymydungeon.plugin.dnd.RoleManager;
+import com.gridifymydungeon.plugin.gridmove.ModelRegistry;
+import com.gridifymydungeon.plugin.gridmove.TableRegistry;
+import com.gridifymydungeon.plugin.gridmove.TableSession;
+import com.hypixel.hytale.component.Ref;
+import com.hypixel.hytale.component.Store;
+import com.hypixel.hytale.server.core.Message;
+import com.hypixel.hytale.server.core.command.system.CommandContext;
+import com.hypixel.hytale.server.core.command.system.basecommands.AbstractPlayerCommand;
+import com.hypixel.hytale.server.core.universe.PlayerRef;
+import com.hypixel.hytale.server.core.universe.world.World;
+import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+
+import javax.annotation.Nonnull;
+
+/**
+ * /GridReload - Re-read spells.tsv and monsters.tsv from the plugin data folder (GM only).
+ * Parsing happens in the background; the new catalog replaces the old one in a single
+ * swap. Spells already being cast keep the data they started with.
+ */
+public class GridReloadCommand extends AbstractPlayerCommand {
+
+    private final TableRegistry tables;
+
+    private final CatalogLoader catalogLoader;
+
+    public GridReloadCommand(TableRegistry tables, CatalogLoader catalogLoader) {
+        super("GridReload", "Reload spell and monster catalogs (GM only)");
+        this.tables = tables;
+        this.catalogLoader = catalogLoader;
+    }
+
+    @Override
+    protected void execute(@Nonnull CommandContext context, @Nonnull Store<EntityStore> store,
+                           @Nonnull Ref<EntityStore> ref, @Nonnull PlayerRef playerRef,
+                           @Nonnull World world) {
+        TableSession table = tables.forWorld(world);
+        RoleManager roleManager = table.getRoleManager();
+
+        if (!roleManager.isGM(playerRef)) {
+            playerRef.sendMessage(Message.raw("[Griddify] Only the GM can reload catalogs!").color("#FF0000"));
+            return;
+        }
+
+        playerRef.sendMessage(Message.raw("[Griddify] Reloading catalogs...").color("#AAAAAA"));
+        ModelRegistry.forgetMissing();
+        catalogLoader.reloadAsync().whenComplete((summary, error) -> {
+            if (error != null) {
+                Throwable cause = error.getCause() != null ? error.getCause() : error;
+                playerRef.sendMessage(Message.raw("[Griddify] Reload failed — old catalog kept.").color("#FF0000"));
+                playerRef.sendMessage(Message.raw("  " + cause.getMessage()).color("#FF6B6B"));
+                System.err.println("[Griddify] [CATALOG] Reload failed: " + cause.getMessage());
+            } else {
+                playerRef.sendMessage(Message.raw("[Griddify] Catalog reloaded: " + summary).color("#90EE90"));
+                playerRef.sendMessage(Message.raw("  Models: " + ModelRegistry.stats()).color("#AAAAAA"));
+                System.out.println("[Griddify] [CATALOG] " + playerRef.getUsername() + " reloaded catalogs");
+            }
+        });
+    }
+}
@@ -1,6 +1,8 @@
 package com.gridifymydungeon.plugin.dnd.commands;
 
 import com.gridifymydungeon.plugin.dnd.RoleManager;
+import com.gridifymydungeon.plugin.gridmove.TableRegistry;
+import com.gridifymydungeon.plugin.gridmove.TableSession;
 import com.hypixel.hytale.component.Ref;
 import com.hypixel.hytale.component.Store;
 import com.hypixel.hytale.protocol.ItemWithAllMetadata;
@@ -24,11 +26,11 @@ import javax.annotation.Nonnull;
  */
 public class GridRestartCommand extends AbstractPlayerCommand {
 
-    private final RoleManager roleManager;
+    private final TableRegistry tables;
 
-    public GridRestartCommand(RoleManager roleManager) {
+    public GridRestartCommand(TableRegistry tables) {
         super("GridRestart", "Reset all player roles (OP only)");
-        this.roleManager = roleManager;
+        this.tables = tables;
     }
 
     @Override
@@ -39,6 +41,9 @@ public class GridRestartCommand extends AbstractPlayerCommand {
             @Nonnull PlayerRef playerRef,
             @Nonnull World world
     ) {
+        TableSession table = tables.forWorld(world);
+        RoleManager roleManager = table.getRoleManager();
+
         // TODO: Add proper permission check when available
         // For now, only allow if player is current GM (temporary solution)
         if (!roleManager.isGM(playerRef)) {
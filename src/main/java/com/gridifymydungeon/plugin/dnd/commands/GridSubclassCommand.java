@@ -2,6 +2,8 @@ package com.gridifymydungeon.plugin.dnd.commands;
 
 import com.gridifymydungeon.plugin.gridmove.GridMoveManager;
 import com.gridifymydungeon.plugin.gridmove.GridPlayerState;
+import com.gridifymydungeon.plugin.gridmove.TableRegistry;
+import com.gridifymydungeon.plugin.gridmove.TableSession;
 import com.gridifymydungeon.plugin.spell.SpellData;
 import com.gridifymydungeon.plugin.spell.SpellDatabase;
 import com.gridifymydungeon.plugin.spell.SubclassType;
@@ -27,18 +29,21 @@ import java.util.List;
  * /GridSubclass <subclass name> - Choose your subclass (requires level 3+)
  */
 public class GridSubclassCommand extends AbstractPlayerCommand {
-    private final GridMoveManager playerManager;
+
+    private final TableRegistry tables;
     private final RequiredArg<String> subclassNameArg;
 
-    public GridSubclassCommand(GridMoveManager playerManager) {
+    public GridSubclassCommand(TableRegistry tables) {
         super("GridSubclass", "Choose your subclass (level 3+ required)");
-        this.playerManager = playerManager;
+        this.tables = tables;
         this.subclassNameArg = this.withRequiredArg("subclass", "Subclass name", ArgTypes.STRING);
     }
 
     @Override
     protected void execute(@Nonnull CommandContext context, @Nonnull Store<EntityStore> store,
                            @Nonnull Ref<EntityStore> ref, @Nonnull PlayerRef playerRef, @Nonnull World world) {
+        TableSession table = tables.forWorld(world);
+        GridMoveManager playerManager = table.getGridMoveManager();
 
         GridPlayerState state = playerManager.getState(playerRef);
 
@@ -2,6 +2,8 @@ package com.gridifymydungeon.plugin.dnd.commands;
 
 import com.gridifymydungeon.plugin.gridmove.GridMoveManager;
 import com.gridifymydungeon.plugin.gridmove.GridPlayerState;
+import com.gridifymydungeon.plugin.gridmove.TableRegistry;
+import com.gridifymydungeon.plugin.gridmove.TableSession;
 import com.gridifymydungeon.plugin.spell.ClassType;
 import com.gridifymydungeon.plugin.spell.SubclassType;
 import com.hypixel.hytale.component.Ref;
@@ -24,16 +26,18 @@ import javax.annotation.Nonnull;
  */
 public class GridSubclassesCommand extends AbstractPlayerCommand {
 
-    private final GridMoveManager playerManager;
+    private final TableRegistry tables;
 
-    public GridSubclassesCommand(GridMoveManager playerManager) {
+    public GridSubclassesCommand(TableRegistry tables) {
         super("GridSubclasses", "List subclasses available for your current class");
-        this.playerManager = playerManager;
+        this.tables = tables;
     }
 
     @Override
     protected void execute(@Nonnull CommandContext context, @Nonnull Store<EntityStore> store,
                            @Nonnull Ref<EntityStore> ref, @Nonnull PlayerRef playerRef, @Nonnull World world) {
+        TableSession table = tables.forWorld(world);
+        GridMoveManager playerManager = table.getGridMoveManager();
 
         GridPlayerState state = playerManager.getState(playerRef);
         ClassType classType = state.stats.getClassType();
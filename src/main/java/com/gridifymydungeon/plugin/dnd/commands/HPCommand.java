@@ -5,6 +5,8 @@ import com.gridifymydungeon.plugin.dnd.MonsterState;
 import com.gridifymydungeon.plugin.dnd.RoleManager;
 import com.gridifymydungeon.plugin.gridmove.GridMoveManager;
 import com.gridifymydungeon.plugin.gridmove.GridPlayerState;
+import com.gridifymydungeon.plugin.gridmove.TableRegistry;
+import com.gridifymydungeon.plugin.gridmove.TableSession;
 import com.hypixel.hytale.component.Ref;
 import com.hypixel.hytale.component.Store;
 import com.hypixel.hytale.protocol.ItemWithAllMetadata;
@@ -27,22 +29,24 @@ import javax.annotation.Nonnull;
  * UPDATED: Uses popup notifications instead of chat messages
  */
 public class HPCommand extends AbstractPlayerCommand {
-    private final GridMoveManager playerManager;
-    private final RoleManager roleManager;
-    private final EncounterManager encounterManager;
+
+    private final TableRegistry tables;
     private final RequiredArg<Integer> valueArg;
 
-    public HPCommand(GridMoveManager playerManager, RoleManager roleManager, EncounterManager encounterManager) {
+    public HPCommand(TableRegistry tables) {
         super("HP", "Set max HP");
-        this.playerManager = playerManager;
-        this.roleManager = roleManager;
-        this.encounterManager = encounterManager;
+        this.tables = tables;
         this.valueArg = this.withRequiredArg("value", "Max HP (1-999)", ArgTypes.INTEGER);
     }
 
     @Override
     protected void execute(@Nonnull CommandContext context, @Nonnull Store<EntityStore> store,
                            @Nonnull Ref<EntityStore> ref, @Nonnull PlayerRef playerRef, @Nonnull World world) {
+        TableSession table = tables.forWorld(world);
+        GridMoveManager playerManager = table.getGridMoveManager();
+        RoleManager roleManager = table.getRoleManager();
+        EncounterManager encounterManager = table.getEncounterManager();
+
         int value = valueArg.get(context);
 
         if (value < 1 || value > 999) {
@@ -2,6 +2,8 @@ package com.gridifymydungeon.plugin.dnd.commands;
 
 import com.gridifymydungeon.plugin.dnd.CombatManager;
 import com.gridifymydungeon.plugin.dnd.RoleManager;
+import com.gridifymydungeon.plugin.gridmove.TableRegistry;
+import com.gridifymydungeon.plugin.gridmove.TableSession;
 import com.hypixel.hytale.component.Ref;
 import com.hypixel.hytale.component.Store;
 import com.hypixel.hytale.server.core.Message;
@@ -21,13 +23,11 @@ import java.util.List;
  */
 public class InitivCommand extends AbstractPlayerCommand {
 
-    private final RoleManager roleManager;
-    private final CombatManager combatManager;
+    private final TableRegistry tables;
 
-    public InitivCommand(RoleManager roleManager, CombatManager combatManager) {
+    public InitivCommand(TableRegistry tables) {
         super("initiv", "Roll initiative for all (GM only)");
-        this.roleManager = roleManager;
-        this.combatManager = combatManager;
+        this.tables = tables;
     }
 
     @Override
@@ -38,6 +38,10 @@ public class InitivCommand extends AbstractPlayerCommand {
             @Nonnull PlayerRef playerRef,
             @Nonnull World world
     ) {
+        TableSession table = tables.forWorld(world);
+        RoleManager roleManager = table.getRoleManager();
+        CombatManager combatManager = table.getCombatManager();
+
         // Check if player is GM
         if (!roleManager.isGM(playerRef)) {
             playerRef.sendMessage(Message.raw("[Griddify] Only the GM can use this command!"));
@@ -3,6 +3,8 @@ package com.gridifymydungeon.plugin.dnd.commands;
 import com.gridifymydungeon.plugin.dnd.RoleManager;
 import com.gridifymydungeon.plugin.gridmove.GridMoveManager;
 import com.gridifymydungeon.plugin.gridmove.GridPlayerState;
+import com.gridifymydungeon.plugin.gridmove.TableRegistry;
+import com.gridifymydungeon.plugin.gridmove.TableSession;
 import com.hypixel.hytale.component.Ref;
 import com.hypixel.hytale.component.Store;
 import com.hypixel.hytale.protocol.ItemWithAllMetadata;
@@ -23,18 +25,20 @@ import javax.annotation.Nonnull;
  * FIXED: Iterate over getAllStates() and get playerRef from GridMoveManager
  */
 public class LevelUpCommand extends AbstractPlayerCommand {
-    private final GridMoveManager playerManager;
-    private final RoleManager roleManager;
 
-    public LevelUpCommand(GridMoveManager playerManager, RoleManager roleManager) {
+    private final TableRegistry tables;
+
+    public LevelUpCommand(TableRegistry tables) {
         super("LevelUp", "Increase all players' level by 1 (GM only)");
-        this.playerManager = playerManager;
-        this.roleManager = roleManager;
+        this.tables = tables;
     }
 
     @Override
     protected void execute(@Nonnull CommandContext context, @Nonnull Store<EntityStore> store,
                            @Nonnull Ref<EntityStore> ref, @Nonnull PlayerRef executingPlayer, @Nonnull World world) {
+        TableSession table = tables.forWorld(world);
+        GridMoveManager playerManager = table.getGridMoveManager();
+        RoleManager roleManager = table.getRoleManager();
 
         // Check if executing player is GM
         if (!roleManager.isGM(executingPlayer)) {
@@ -1,20 +1,17 @@
 package com.gridifymydungeon.plugin.dnd.commands;
 
 import com.gridifymydungeon.plugin.dnd.MonsterState;
+import com.gridifymydungeon.plugin.gridmove.BlockFlags;
+import com.gridifymydungeon.plugin.gridmove.EntityReaper;
+import com.gridifymydungeon.plugin.gridmove.ModelRegistry;
 import com.hypixel.hytale.component.Holder;
 import com.hypixel.hytale.component.Ref;
 import com.hypixel.hytale.component.RemoveReason;
 import com.hypixel.hytale.component.Store;
-import com.hypixel.hytale.math.shape.Box;
 import com.hypixel.hytale.math.util.ChunkUtil;
 import com.hypixel.hytale.math.vector.Vector3d;
 import com.hypixel.hytale.math.vector.Vector3f;
-import com.hypixel.hytale.math.vector.Vector3i;
-import com.hypixel.hytale.protocol.BlockMaterial;
-import com.hypixel.hytale.server.core.asset.type.blockhitbox.BlockBoundingBoxes;
-import com.hypixel.hytale.server.core.asset.type.blocktype.config.BlockType;
 import com.hypixel.hytale.server.core.asset.type.model.config.Model;
-import com.hypixel.hytale.server.core.asset.type.model.config.ModelAsset;
 import com.hypixel.hytale.server.core.entity.UUIDComponent;
 import com.hypixel.hytale.server.core.entity.entities.ProjectileComponent;
 import com.hypixel.hytale.server.core.entity.nameplate.Nameplate;
@@ -64,20 +61,18 @@ public class MonsterEntityController {
             Holder<EntityStore> holder = EntityStore.REGISTRY.newHolder();
 
             String modelName = monster.monsterName;
-            ModelAsset modelAsset = ModelAsset.getAssetMap().getAsset(modelName);
+            Model model = ModelRegistry.get(modelName);
 
-            if (modelAsset == null) {
+            if (model == null) {
                 System.err.println("[Griddify] [ERROR] Model not found: " + modelName + " - trying default");
-                modelAsset = ModelAsset.getAssetMap().getAsset(DEFAULT_MODEL);
+                model = ModelRegistry.get(DEFAULT_MODEL);
 
-                if (modelAsset == null) {
+                if (model == null) {
                     System.err.println("[Griddify] [ERROR] Default model also not found: " + DEFAULT_MODEL);
                     return false;
                 }
             }
 
-            Model model = Model.createScaledModel(modelAsset, 1.0f);
-
             Vector3d position = new Vector3d(monsterX, monsterY, monsterZ);
             Vector3f rotation = new Vector3f(0, 0, 0);
 
@@ -91,6 +86,7 @@ public class MonsterEntityController {
 
             Ref<EntityStore> monsterRef = store.addEntity(holder, com.hypixel.hytale.component.AddReason.SPAWN);
             monster.monsterEntity = monsterRef;
+            EntityReaper.tag(world, monsterRef, "monster", monster);
 
             System.out.println("[Griddify] [MONSTER] Spawned " + monster.getDisplayName() +
                     " at (" + monsterX + ", " + monsterY + ", " + monsterZ + ")");
@@ -133,6 +129,7 @@ public class MonsterEntityController {
 
             Ref<EntityStore> hologramRef = store.addEntity(holder, com.hypixel.hytale.component.AddReason.SPAWN);
             monster.numberHologram = hologramRef;
+            EntityReaper.tag(world, hologramRef, "monster-label", monster);
 
         } catch (Exception e) {
             System.err.println("[Griddify] [ERROR] Failed to spawn number hologram: " + e.getMessage());
@@ -158,6 +155,7 @@ public class MonsterEntityController {
 
         monster.monsterEntity = null;
         monster.numberHologram = null;
+        EntityReaper.release(world, monster);
     }
 
     public static void teleportMonsterToY(World world, MonsterState monster, int newGridX, int newGridZ, float targetY) {
@@ -264,15 +262,15 @@ public class MonsterEntityController {
                     int blockX = (gridX * 2) + xOff;
                     int blockZ = (gridZ * 2) + zOff;
 
-                    BlockType block = world.getBlockType(new Vector3i(blockX, blockY, blockZ));
+                    int flags = BlockFlags.at(world, blockX, blockY, blockZ);
 
-                    if (isSolidBlock(block) && !isBarrierBlock(block)) {
-                        float blockHeight = getBlockHeight(block);
+                    if (BlockFlags.isGround(flags)) {
+                        float blockHeight = BlockFlags.heightAt(world, blockX, blockY, blockZ);
                         if (blockHeight > maxHeight) {
                             maxHeight = blockHeight;
                         }
                         hasGround = true;
-                    } else if (isBarrierBlock(block)) {
+                    } else if ((flags & BlockFlags.BARRIER) != 0) {
                         // Barrier present — this cell is blocked, skip it entirely
                         hasGround = false;
                     }
@@ -309,10 +307,8 @@ public class MonsterEntityController {
                     int blockX = (gridX * 2) + xOff;
                     int blockZ = (gridZ * 2) + zOff;
 
-                    BlockType block = world.getBlockType(new Vector3i(blockX, checkY, blockZ));
-
-                    if (isSolidBlock(block)) {
-                        float blockHeight = getBlockHeight(block);
+                    if ((BlockFlags.at(world, blockX, checkY, blockZ) & BlockFlags.SOLID) != 0) {
+                        float blockHeight = BlockFlags.heightAt(world, blockX, checkY, blockZ);
                         float blockTop = checkY + blockHeight;
 
                         if (blockTop > groundY) {
@@ -401,48 +397,6 @@ public class MonsterEntityController {
     // BLOCK HELPERS
     // ====================================================================
 
-    private static boolean isSolidBlock(BlockType block) {
-        if (block == null) return false;
-        return block.getMaterial() == BlockMaterial.Solid;
-    }
-
-    /**
-     * Barrier blocks are invisible walls — entities cannot stand on or inside them.
-     * Identified by block ID containing "barrier" (case-insensitive).
-     */
-    private static boolean isBarrierBlock(BlockType block) {
-        return block != null && block.getId() != null &&
-                block.getId().toLowerCase().contains("barrier");
-    }
-
-    private static float getBlockHeight(BlockType block) {
-        if (block == null || !isSolidBlock(block)) {
-            return 0.0f;
-        }
-
-        try {
-            int hitboxIndex = block.getHitboxTypeIndex();
-            BlockBoundingBoxes hitboxAsset = BlockBoundingBoxes.getAssetMap().getAsset(hitboxIndex);
-
-            if (hitboxAsset != null) {
-                BlockBoundingBoxes.RotatedVariantBoxes variant = hitboxAsset.get(0);
-                if (variant != null) {
-                    Box boundingBox = variant.getBoundingBox();
-                    return (float) (boundingBox.max.y - boundingBox.min.y);
-                }
-            }
-        } catch (Exception e) {
-            // Fallback to default height
-        }
-
-        String blockId = block.getId();
-        if (blockId != null && blockId.toLowerCase().contains("slab")) {
-            return 0.5f;
-        }
-
-        return 1.0f;
-    }
-
     public static Float scanForGroundPublic(World world, int gridX, int gridZ, float gmY) {
         return scanForGround(world, gridX, gridZ, gmY, MIN_SCAN_OFFSET, MAX_SCAN_OFFSET);
     }
@@ -4,6 +4,8 @@ import com.gridifymydungeon.plugin.dnd.EncounterManager;
 import com.gridifymydungeon.plugin.dnd.commands.MonsterEntityController;
 import com.gridifymydungeon.plugin.dnd.MonsterState;
 import com.gridifymydungeon.plugin.dnd.RoleManager;
+import com.gridifymydungeon.plugin.gridmove.TableRegistry;
+import com.gridifymydungeon.plugin.gridmove.TableSession;
 import com.hypixel.hytale.component.Ref;
 import com.hypixel.hytale.component.Store;
 import com.hypixel.hytale.protocol.ItemWithAllMetadata;
@@ -27,14 +29,13 @@ import javax.annotation.Nonnull;
  */
 public class SlainCommand extends AbstractPlayerCommand {
 
-    private final EncounterManager encounterManager;
-    private final RoleManager roleManager;
+    private final TableRegistry tables;
+
     private final RequiredArg<Integer> monsterNumberArg;
 
-    public SlainCommand(EncounterManager encounterManager, RoleManager roleManager) {
+    public SlainCommand(TableRegistry tables) {
         super("slain", "Remove a slain monster (GM only)");
-        this.encounterManager = encounterManager;
-        this.roleManager = roleManager;
+        this.tables = tables;
         this.monsterNumberArg = this.withRequiredArg("number", "Monster number to remove", ArgTypes.INTEGER);
     }
 
@@ -46,6 +47,10 @@ public class SlainCommand extends AbstractPlayerCommand {
             @Nonnull PlayerRef playerRef,
             @Nonnull World world
     ) {
+        TableSession table = tables.forWorld(world);
+        EncounterManager encounterManager = table.getEncounterManager();
+        RoleManager roleManager = table.getRoleManager();
+
         // Check if player is GM
         if (!roleManager.isGM(playerRef)) {
             // ERROR: Not GM
@@ -1,6 +1,7 @@
 package com.gridifymydungeon.plugin.dnd.commands;
 
 import com.gridifymydungeon.plugin.dnd.PlayerEntityController;
+import com.gridifymydungeon.plugin.gridmove.EntityReaper;
 import com.gridifymydungeon.plugin.gridmove.GridMoveManager;
 import com.gridifymydungeon.plugin.gridmove.GridPlayerState;
 import com.hypixel.hytale.component.Ref;
@@ -89,6 +90,7 @@ public class TestFogCommand extends AbstractPlayerCommand {
             }
 
             fState.fogMarkerRef   = marker;
+            EntityReaper.tag(world, marker, "fog-marker", fState);
             fState.fogMarkerNetId = netIdOut[0];
 
             System.out.println("[TestFog] Marker spawned netId=" + netIdOut[0]
@@ -0,0 +1,312 @@
+package com.gridifymydungeon.plugin.gridmove;
+
+import com.hypixel.hytale.component.Ref;
+import com.hypixel.hytale.math.util.ChunkUtil;
+import com.hypixel.hytale.server.core.universe.world.World;
+import com.hypixel.hytale.server.core.universe.world.storage.ChunkStore;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Snapshot of the block classification around an encounter, one byte per block.
+ *
+ * A fight stays inside a bounded area that is then scanned thousands of times
+ * (overlay BFS, ground scans, line of sight, fog, terrain costs). When combat
+ * starts the area around every participant is copied into a flat byte[] of
+ * BlockFlags bits, and BlockFlags.at / heightAt answer from it instead of the
+ * world. Collision heights are 1.0 for full solids and 0 for everything else, so
+ * only PARTIAL blocks (slabs, stairs) keep theirs, in a sparse side table.
+ * Fluids flow on their own mid-fight, so they are not copied: fluid checks
+ * always read the world.
+ *
+ * The copy is filled chunk by chunk (32×32 columns, nearest the centre first) on
+ * the world thread under a per-tick time budget, because block sections are only
+ * safe to read there. Columns not copied yet, and anything outside the box or the
+ * Y band, fall through to the world. A chunk whose read fails (not loaded yet)
+ * stays unready and is retried on a later slice, up to MAX_RETRIES.
+ *
+ * Player breaks and placements patch the affected cell at once through the
+ * table's BlockChangeBus. Edits that bus never hears of (explosions, block
+ * physics, command edits) are caught by re-reading one copied chunk every
+ * VERIFY_STEP_MS: cells whose blocks differ from the copy are reported to the
+ * bus like a player edit, so every grid cache drops them, not only the raster.
+ * The raster is released when combat ends.
+ */
+public class BattlefieldRaster {
+
+    private static final int CHUNK = 32;
+    private static final int MARGIN_CELLS = 16;
+    private static final int MAX_CELLS = 96;        // per axis
+    private static final int Y_BELOW = 16, Y_ABOVE = 16;
+    private static final int MAX_HEIGHT = 96;
+    private static final long FILL_BUDGET_NANOS = 4_000_000L;
+    private static final long FILL_STEP_MS = 50L;
+    private static final int MAX_RETRIES = 20;
+    private static final long VERIFY_STEP_MS = 500L;
+
+    private static final Map<World, BattlefieldRaster> active = new ConcurrentHashMap<>();
+
+    private final World world;
+    private final int minX, minZ, sizeX, sizeZ, minY, height;
+    private final int chunksX, chunksZ;
+    private final byte[] data;
+    private final boolean[] chunkReady;
+    /** Data index → collision height of PARTIAL blocks. */
+    private final Map<Integer, Float> partialHeights = new ConcurrentHashMap<>();
+    /** Chunks to copy: {cx, cz, failed attempts}. World thread. */
+    private final List<int[]> fillOrder = new ArrayList<>();
+    private int nextFill = 0;
+    private boolean fillScheduled = false;
+    private boolean verifyScheduled = false;
+    private int verifyCursor = 0;
+    private int retries = 0, abandoned = 0;
+    private volatile boolean released = false;
+    private final long startNanos = System.nanoTime();
+
+    private BattlefieldRaster(World world, int minX, int minZ, int sizeX, int sizeZ, int minY, int height) {
+        this.world = world;
+        this.minX = minX; this.minZ = minZ;
+        this.sizeX = sizeX; this.sizeZ = sizeZ;
+        this.minY = minY; this.height = height;
+        this.chunksX = sizeX / CHUNK;
+        this.chunksZ = sizeZ / CHUNK;
+        this.data = new byte[sizeX * sizeZ * height];
+        this.chunkReady = new boolean[chunksX * chunksZ];
+
+        // Centre chunks first: that is where the first queries of the fight land
+        for (int cx = 0; cx < chunksX; cx++)
+            for (int cz = 0; cz < chunksZ; cz++)
+                fillOrder.add(new int[]{cx, cz, 0});
+        double midX = (chunksX - 1) / 2.0, midZ = (chunksZ - 1) / 2.0;
+        fillOrder.sort((a, b) -> Double.compare(
+                Math.hypot(a[0] - midX, a[1] - midZ), Math.hypot(b[0] - midX, b[1] - midZ)));
+    }
+
+    // ========================================================
+    // LIFECYCLE
+    // ========================================================
+
+    /**
+     * Snapshot the area around the given grid bounds (inclusive) and block Y range,
+     * replacing any previous raster for the world. World thread only.
+     */
+    public static BattlefieldRaster start(World world, int minGX, int minGZ, int maxGX, int maxGZ,
+                                          int lowY, int highY) {
+        release(world);
+
+        // Pad, cap around the centre, then widen to whole chunks
+        int cx = (minGX + maxGX) / 2, cz = (minGZ + maxGZ) / 2;
+        int halfX = Math.min((maxGX - minGX) / 2 + MARGIN_CELLS, MAX_CELLS / 2);
+        int halfZ = Math.min((maxGZ - minGZ) / 2 + MARGIN_CELLS, MAX_CELLS / 2);
+        int x0 = Math.floorDiv((cx - halfX) * 2, CHUNK) * CHUNK;
+        int z0 = Math.floorDiv((cz - halfZ) * 2, CHUNK) * CHUNK;
+        int x1 = (Math.floorDiv((cx + halfX) * 2 + 1, CHUNK) + 1) * CHUNK;
+        int z1 = (Math.floorDiv((cz + halfZ) * 2 + 1, CHUNK) + 1) * CHUNK;
+        int y0 = lowY - Y_BELOW;
+        int h = Math.min(highY + Y_ABOVE - y0 + 1, MAX_HEIGHT);
+
+        BattlefieldRaster raster = new BattlefieldRaster(world, x0, z0, x1 - x0, z1 - z0, y0, h);
+        active.put(world, raster);
+        raster.fillStep();
+        return raster;
+    }
+
+    /** Drop the world's raster (combat ended, table closed). */
+    public static void release(World world) {
+        BattlefieldRaster raster = active.remove(world);
+        if (raster != null) raster.released = true;
+    }
+
+    public static BattlefieldRaster get(World world) {
+        return world != null ? active.get(world) : null;
+    }
+
+    // ========================================================
+    // LOOKUPS
+    // ========================================================
+
+    /** BlockFlags bits at a block, or -1 if the raster does not cover it yet. */
+    public static int flagsAt(World world, int x, int y, int z) {
+        if (active.isEmpty()) return -1;
+        BattlefieldRaster raster = active.get(world);
+        return raster != null ? raster.lookup(x, y, z) : -1;
+    }
+
+    /** Collision height of the block (see BlockFlags.heightOf), or -1 if not covered. */
+    public static float heightAt(World world, int x, int y, int z) {
+        if (active.isEmpty()) return -1f;
+        BattlefieldRaster raster = active.get(world);
+        return raster != null ? raster.lookupHeight(x, y, z) : -1f;
+    }
+
+    private int lookup(int x, int y, int z) {
+        int lx = x - minX, lz = z - minZ, ly = y - minY;
+        if (lx < 0 || lz < 0 || ly < 0 || lx >= sizeX || lz >= sizeZ || ly >= height) return -1;
+        if (!chunkReady[(lx / CHUNK) * chunksZ + (lz / CHUNK)]) return -1;
+        return data[index(lx, ly, lz)] & 0xFF;
+    }
+
+    private float lookupHeight(int x, int y, int z) {
+        int lx = x - minX, lz = z - minZ, ly = y - minY;
+        if (lx < 0 || lz < 0 || ly < 0 || lx >= sizeX || lz >= sizeZ || ly >= height) return -1f;
+        if (!chunkReady[(lx / CHUNK) * chunksZ + (lz / CHUNK)]) return -1f;
+        int i = index(lx, ly, lz);
+        int f = data[i];
+        if ((f & BlockFlags.SOLID) == 0) return 0f;
+        if ((f & BlockFlags.PARTIAL) == 0) return 1f;
+        Float h = partialHeights.get(i);
+        return h != null ? h : 1f;
+    }
+
+    private int index(int lx, int ly, int lz) {
+        return (ly * sizeZ + lz) * sizeX + lx;
+    }
+
+    public boolean isComplete() { return nextFill >= fillOrder.size(); }
+
+    /** Whether a chunk (local chunk coordinates) has been copied. */
+    private boolean ready(int cx, int cz) { return chunkReady[cx * chunksZ + cz]; }
+
+    // ========================================================
+    // FILL / PATCH
+    // ========================================================
+
+    private void fillStep() {
+        fillScheduled = false;
+        if (released) return;
+        long deadline = System.nanoTime() + FILL_BUDGET_NANOS;
+        while (nextFill < fillOrder.size() && System.nanoTime() < deadline) {
+            int[] c = fillOrder.get(nextFill++);
+            if (ready(c[0], c[1])) continue; // queued again by refreshCell, then filled meanwhile
+            if (fillColumns(c[0] * CHUNK, c[1] * CHUNK, CHUNK, null)) {
+                chunkReady[c[0] * chunksZ + c[1]] = true;
+            } else if (++c[2] < MAX_RETRIES) {
+                // Unreadable (chunk not loaded?): stays on the world path, retried next slice
+                fillOrder.add(c);
+                retries++;
+                break;
+            } else {
+                abandoned++;
+            }
+        }
+        if (!isComplete()) {
+            scheduleFill();
+        } else {
+            System.out.println("[Griddify] [RASTER] Prefetched " + sizeX + "x" + sizeZ + "x" + height
+                    + " blocks (" + (data.length / 1024) + " KB) in " + ((System.nanoTime() - startNanos) / 1_000_000)
+                    + " ms (" + retries + " retries, " + abandoned + " chunks left to the world)");
+            scheduleVerify();
+        }
+    }
+
+    private void scheduleFill() {
+        if (fillScheduled) return;
+        fillScheduled = TableSession.scheduleOn(world, this::fillStep, FILL_STEP_MS, TimeUnit.MILLISECONDS) != null;
+    }
+
+    /**
+     * A grid cell's blocks changed: re-read its 2×2 columns if they are already copied.
+     * If the read fails, the whole chunk goes back on the world path and is re-copied.
+     */
+    public void refreshCell(int gridX, int gridZ) {
+        int lx = gridX * 2 - minX, lz = gridZ * 2 - minZ;
+        if (lx < 0 || lz < 0 || lx + 1 >= sizeX || lz + 1 >= sizeZ) return;
+        int cx = lx / CHUNK, cz = lz / CHUNK;
+        if (!ready(cx, cz)) return; // will be read fresh anyway
+        if (fillColumns(lx, lz, 2, null)) return;
+        refill(cx, cz);
+    }
+
+    /** Put a copied chunk back on the world path and queue it to be copied again. */
+    private void refill(int cx, int cz) {
+        chunkReady[cx * chunksZ + cz] = false;
+        fillOrder.add(new int[]{cx, cz, 0});
+        scheduleFill();
+    }
+
+    private void scheduleVerify() {
+        if (verifyScheduled || released) return;
+        verifyScheduled = TableSession.scheduleOn(world, this::verifyStep, VERIFY_STEP_MS, TimeUnit.MILLISECONDS) != null;
+    }
+
+    /**
+     * Re-read the next copied chunk and report every cell whose blocks no longer
+     * match the copy to the table's BlockChangeBus (edits no event announced).
+     */
+    private void verifyStep() {
+        verifyScheduled = false;
+        if (released) return;
+        int chunks = chunksX * chunksZ;
+        for (int n = 0; n < chunks; n++) {
+            int c = verifyCursor++ % chunks;
+            int cx = c / chunksZ, cz = c % chunksZ;
+            if (!ready(cx, cz)) continue; // the fill reads it fresh
+            Set<Long> changed = new HashSet<>();
+            if (!fillColumns(cx * CHUNK, cz * CHUNK, CHUNK, changed)) refill(cx, cz);
+            BlockChangeBus bus = TableSession.blockChangesOf(world);
+            if (bus != null) {
+                for (long key : changed) bus.blockChanged(BlockChangeBus.cellX(key) * 2, minY, BlockChangeBus.cellZ(key) * 2);
+            }
+            break;
+        }
+        scheduleVerify();
+    }
+
+    /**
+     * Copy a size×size square of columns starting at local (lx, lz); one chunk at most.
+     * Cells whose copied blocks changed are added to {@code changed} when it is not
+     * null. Returns false, leaving the copy partial, if the chunk is not loaded or
+     * a block read failed.
+     */
+    private boolean fillColumns(int lx, int lz, int size, Set<Long> changed) {
+        if (!chunkLoaded(minX + lx, minZ + lz)) return false;
+        for (int ly = 0; ly < height; ly++) {
+            int y = minY + ly;
+            for (int dz = 0; dz < size; dz++) {
+                int z = minZ + lz + dz;
+                for (int dx = 0; dx < size; dx++) {
+                    int x = minX + lx + dx;
+                    int i = index(lx + dx, ly, lz + dz);
+                    int f;
+                    try {
+                        int block = world.getBlock(x, y, z);
+                        f = BlockFlags.of(block) & 0x3F;
+                        if ((f & BlockFlags.PARTIAL) != 0) {
+                            float h = BlockFlags.heightOf(block);
+                            Float old = partialHeights.put(i, h);
+                            if (changed != null && old != null && old != h) changed.add(cellKey(x, z));
+                        } else {
+                            partialHeights.remove(i);
+                        }
+                    } catch (Exception e) {
+                        return false;
+                    }
+                    if (changed != null && data[i] != (byte) f) changed.add(cellKey(x, z));
+                    data[i] = (byte) f;
+                }
+            }
+        }
+        return true;
+    }
+
+    /** Whether the chunk column containing block (x, z) is loaded; reads of unloaded chunks are not trusted. */
+    private boolean chunkLoaded(int x, int z) {
+        try {
+            Ref<ChunkStore> cRef = world.getChunkStore().getChunkReference(ChunkUtil.indexChunkFromBlock(x, z));
+            return cRef != null && cRef.isValid();
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    /** Grid cell key (BlockChangeBus format) of a block column. */
+    private static long cellKey(int x, int z) {
+        return ((long) Math.floorDiv(x, 2) << 32) | (Math.floorDiv(z, 2) & 0xFFFFFFFFL);
+    }
+}
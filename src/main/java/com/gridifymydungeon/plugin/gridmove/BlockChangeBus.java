@@ -0,0 +1,94 @@
+package com.gridifymydungeon.plugin.gridmove;
+
+import com.hypixel.hytale.server.core.universe.world.World;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Fans world block edits out to every grid cache of one table.
+ *
+ * Ground heights, barriers, terrain costs and line of sight are all cached per
+ * cell, and all go stale when a block is broken or placed mid-encounter. Block
+ * events are mapped to their grid cell (2×2 blocks) and collected; the first
+ * change in a tick schedules one flush on the world thread, so a burst of edits
+ * reaches each listener as one set of cells. Only edits that are reported here
+ * invalidate anything; see BlockChangeSystems for which ones are.
+ *
+ * Listeners run on the world thread. Short-lived caches (a GM follow map) may
+ * subscribe and unsubscribe at any time, including from inside a flush.
+ */
+public class BlockChangeBus {
+
+    /** Receives the grid cells (packed x/z keys) touched since the last flush. */
+    public interface Listener {
+        void onCellsChanged(World world, Set<Long> cellKeys);
+    }
+
+    private final World world;
+    private final List<Listener> listeners = new CopyOnWriteArrayList<>();
+
+    private final Object lock = new Object();
+    private Set<Long> pending = new HashSet<>();
+    private boolean flushScheduled = false;
+    private long flushes = 0, blocks = 0;
+
+    public BlockChangeBus(World world) {
+        this.world = world;
+    }
+
+    public void addListener(Listener listener) {
+        listeners.add(listener);
+    }
+
+    public void removeListener(Listener listener) {
+        listeners.remove(listener);
+    }
+
+    /** A block changed at world coordinates. Any thread. */
+    public void blockChanged(int x, int y, int z) {
+        long key = cellKey(Math.floorDiv(x, 2), Math.floorDiv(z, 2));
+        boolean schedule;
+        synchronized (lock) {
+            pending.add(key);
+            blocks++;
+            schedule = !flushScheduled;
+            flushScheduled = true;
+        }
+        if (schedule) world.execute(this::flush);
+    }
+
+    private void flush() {
+        Set<Long> cells;
+        synchronized (lock) {
+            cells = pending;
+            pending = new HashSet<>();
+            flushScheduled = false;
+            flushes++;
+        }
+        if (cells.isEmpty()) return;
+        for (Listener listener : listeners) {
+            try {
+                listener.onCellsChanged(world, cells);
+            } catch (Exception e) {
+                System.err.println("[Griddify] [BLOCKS] Invalidation listener failed: " + e.getMessage());
+            }
+        }
+    }
+
+    /** One-line summary for logs. */
+    public String stats() {
+        synchronized (lock) {
+            return blocks + " block edits in " + flushes + " flushes";
+        }
+    }
+
+    public static int cellX(long key) { return (int) (key >> 32); }
+    public static int cellZ(long key) { return (int) (key & 0xFFFFFFFFL); }
+
+    private static long cellKey(int gridX, int gridZ) {
+        return ((long) gridX << 32) | (gridZ & 0xFFFFFFFFL);
+    }
+}
@@ -0,0 +1,79 @@
+package com.gridifymydungeon.plugin.gridmove;
+
+import com.hypixel.hytale.component.ArchetypeChunk;
+import com.hypixel.hytale.component.CommandBuffer;
+import com.hypixel.hytale.component.Store;
+import com.hypixel.hytale.component.query.Query;
+import com.hypixel.hytale.component.system.EntityEventSystem;
+import com.hypixel.hytale.math.vector.Vector3i;
+import com.hypixel.hytale.server.core.event.events.ecs.BreakBlockEvent;
+import com.hypixel.hytale.server.core.event.events.ecs.PlaceBlockEvent;
+import com.hypixel.hytale.server.core.universe.world.World;
+import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+
+import javax.annotation.Nonnull;
+
+/**
+ * ECS listeners that forward block breaks and placements to the table's
+ * BlockChangeBus. Worlds without an open table are ignored.
+ *
+ * Only BreakBlockEvent and PlaceBlockEvent are hooked. Edits that do not raise
+ * them (explosions, fluid flow, block physics, command and tool edits) are not
+ * forwarded from here. During combat BattlefieldRaster re-reads its copy in the
+ * background and reports the cells it finds changed to the same bus; outside
+ * combat the grid caches keep the old blocks for those cells until something
+ * else invalidates them.
+ */
+public final class BlockChangeSystems {
+
+    private BlockChangeSystems() {}
+
+    private static void forward(TableRegistry tables, Store<EntityStore> store, Vector3i pos) {
+        if (pos == null) return;
+        World world = store.getExternalData().getWorld();
+        TableSession table = world != null ? tables.existing(world) : null;
+        if (table != null) table.getBlockChangeBus().blockChanged(pos.getX(), pos.getY(), pos.getZ());
+    }
+
+    public static class Break extends EntityEventSystem<EntityStore, BreakBlockEvent> {
+        private final TableRegistry tables;
+
+        public Break(TableRegistry tables) {
+            super(BreakBlockEvent.class);
+            this.tables = tables;
+        }
+
+        @Override
+        public void handle(int index, @Nonnull ArchetypeChunk<EntityStore> chunk, @Nonnull Store<EntityStore> store,
+                           @Nonnull CommandBuffer<EntityStore> buffer, @Nonnull BreakBlockEvent event) {
+            if (event.isCancelled()) return;
+            forward(tables, store, event.getTargetBlock());
+        }
+
+        @Override
+        public Query<EntityStore> getQuery() {
+            return Query.any();
+        }
+    }
+
+    public static class Place extends EntityEventSystem<EntityStore, PlaceBlockEvent> {
+        private final TableRegistry tables;
+
+        public Place(TableRegistry tables) {
+            super(PlaceBlockEvent.class);
+            this.tables = tables;
+        }
+
+        @Override
+        public void handle(int index, @Nonnull ArchetypeChunk<EntityStore> chunk, @Nonnull Store<EntityStore> store,
+                           @Nonnull CommandBuffer<EntityStore> buffer, @Nonnull PlaceBlockEvent event) {
+            if (event.isCancelled()) return;
+            forward(tables, store, event.getTargetBlock());
+        }
+
+        @Override
+        public Query<EntityStore> getQuery() {
+            return Query.any();
+        }
+    }
+}
@@ -0,0 +1,181 @@
+package com.gridifymydungeon.plugin.gridmove;
+
+import com.hypixel.hytale.math.shape.Box;
+import com.hypixel.hytale.protocol.BlockMaterial;
+import com.hypixel.hytale.server.core.asset.type.blockhitbox.BlockBoundingBoxes;
+import com.hypixel.hytale.server.core.asset.type.blocktype.config.BlockType;
+import com.hypixel.hytale.server.core.universe.world.World;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Dense per-block-type classification table shared by every grid scanner.
+ *
+ * Ground scans, barrier checks, line of sight and terrain costs used to read a
+ * BlockType and re-derive its properties each time (material compare, lowercase
+ * id + contains("barrier"), Set<String> lookups for mud and brambles). Block types
+ * have a stable numeric index, so the answers are computed once per type into a
+ * byte[] indexed by that number: a scanner reads the block index from the world
+ * and classifies it with one array load.
+ *
+ * The table is built from the block asset map at startup. Indices registered
+ * later (asset reload) are classified on first sight and the arrays grow.
+ *
+ * FLUID covers block types whose id names a fluid; the fluid layer itself
+ * (FluidSection) is separate from blocks and is still read directly.
+ */
+public final class BlockFlags {
+
+    public static final int SOLID             = 1;
+    public static final int BARRIER           = 1 << 1;
+    public static final int DIFFICULT_SURFACE = 1 << 2; // slows movement when stood ON
+    public static final int DIFFICULT_FLORA   = 1 << 3; // slows movement when stood IN
+    public static final int FLUID             = 1 << 4;
+    public static final int PARTIAL           = 1 << 5; // solid, but its hitbox is shorter than 1 block
+    private static final int KNOWN            = 1 << 7; // entry has been classified
+
+    // Standing ON top of these (surface block)
+    private static final Set<String> DIFFICULT_SURFACE_BLOCKS = Set.of(
+            "Soil_Mud",
+            "Rock_Ice",
+            "Rock_Ice_Permafrost"
+    );
+
+    // Standing IN/AMONG these (at-player-height block — flora, webs, vines)
+    private static final Set<String> DIFFICULT_FLORA_BLOCKS = Set.of(
+            "Plant_Bramble_Moss_Twisted",
+            "Plant_Bramble_Dry_Twisted",
+            "Plant_Bramble_Dead_Twisted",
+            "Deco_SpiderWeb_Flat",
+            "Plant_Vine_Rug",
+            "Deco_SpiderWeb",
+            "Deco_Scarak_Spit"
+    );
+
+    private static volatile byte[]  flags   = new byte[0];
+    private static volatile float[] heights = new float[0];
+
+    private BlockFlags() {}
+
+    /** Classify every registered block type. Safe to call again after an asset reload. */
+    public static synchronized void build() {
+        long start = System.nanoTime();
+        int count = 0;
+        try {
+            for (Map.Entry<String, BlockType> e : BlockType.getAssetMap().getAssetMap().entrySet()) {
+                int index = BlockType.getAssetMap().getIndex(e.getKey());
+                if (index < 0) continue;
+                store(index, e.getValue());
+                count++;
+            }
+        } catch (Exception e) {
+            System.err.println("[Griddify] [BLOCKS] Flag table build failed: " + e.getMessage());
+        }
+        long ms = (System.nanoTime() - start) / 1_000_000;
+        System.out.println("[Griddify] [BLOCKS] Classified " + count + " block types in " + ms + " ms");
+    }
+
+    // ========================================================
+    // LOOKUPS
+    // ========================================================
+
+    /** Flag bits of the block at world coordinates (0 for air / unreadable). Served from the battlefield raster when it covers the block. */
+    public static int at(World world, int x, int y, int z) {
+        int cached = BattlefieldRaster.flagsAt(world, x, y, z);
+        if (cached >= 0) return cached;
+        try {
+            return of(world.getBlock(x, y, z));
+        } catch (Exception e) {
+            return 0;
+        }
+    }
+
+    /** Collision height of the block at world coordinates (see heightOf). Served from the battlefield raster when it covers the block. */
+    public static float heightAt(World world, int x, int y, int z) {
+        float cached = BattlefieldRaster.heightAt(world, x, y, z);
+        if (cached >= 0f) return cached;
+        try {
+            return heightOf(world.getBlock(x, y, z));
+        } catch (Exception e) {
+            return 0.0f;
+        }
+    }
+
+    /** Flag bits of a block index. */
+    public static int of(int index) {
+        byte[] f = flags;
+        if (index >= 0 && index < f.length && (f[index] & KNOWN) != 0) return f[index];
+        return classifyLate(index);
+    }
+
+    /** Collision height of a block index: hitbox height for solids, 0 otherwise. */
+    public static float heightOf(int index) {
+        if ((of(index) & SOLID) == 0) return 0.0f;
+        float[] h = heights;
+        return index < h.length ? h[index] : 1.0f;
+    }
+
+    /** Solid, standable block (solid and not a barrier). */
+    public static boolean isGround(int flagBits) {
+        return (flagBits & (SOLID | BARRIER)) == SOLID;
+    }
+
+    // ========================================================
+    // CLASSIFICATION
+    // ========================================================
+
+    private static synchronized int classifyLate(int index) {
+        if (index < 0) return 0;
+        if (index < flags.length && (flags[index] & KNOWN) != 0) return flags[index];
+        BlockType block = null;
+        try { block = BlockType.getAssetMap().getAsset(index); } catch (Exception ignored) {}
+        store(index, block);
+        return flags[index];
+    }
+
+    /** Caller holds the class lock. Writes a fresh array when growing so readers never see a torn table. */
+    private static void store(int index, BlockType block) {
+        if (index >= flags.length) {
+            int size = Math.max(index + 1, flags.length * 2);
+            byte[] f = Arrays.copyOf(flags, size);
+            float[] h = Arrays.copyOf(heights, size);
+            heights = h;
+            flags = f;
+        }
+        heights[index] = block != null ? height(block) : 0.0f;
+        flags[index] = (byte) (classify(block) | KNOWN);
+    }
+
+    private static int classify(BlockType block) {
+        if (block == null) return 0;
+        int bits = 0;
+        String id = block.getId();
+        String lower = id != null ? id.toLowerCase() : "";
+        if (block.getMaterial() == BlockMaterial.Solid) bits |= SOLID;
+        if (lower.contains("barrier")) bits |= BARRIER;
+        if (id != null && DIFFICULT_SURFACE_BLOCKS.contains(id)) bits |= DIFFICULT_SURFACE;
+        if (id != null && DIFFICULT_FLORA_BLOCKS.contains(id)) bits |= DIFFICULT_FLORA;
+        if (lower.contains("water") || lower.contains("lava") || lower.contains("fluid")) bits |= FLUID;
+        if ((bits & SOLID) != 0 && height(block) < 1.0f) bits |= PARTIAL;
+        return bits;
+    }
+
+    /** Hitbox height, falling back to 0.5 for slabs and 1.0 otherwise. */
+    private static float height(BlockType block) {
+        if (block.getMaterial() != BlockMaterial.Solid) return 0.0f;
+        try {
+            BlockBoundingBoxes hitboxAsset = BlockBoundingBoxes.getAssetMap().getAsset(block.getHitboxTypeIndex());
+            if (hitboxAsset != null) {
+                BlockBoundingBoxes.RotatedVariantBoxes variant = hitboxAsset.get(0);
+                if (variant != null) {
+                    Box box = variant.getBoundingBox();
+                    return (float) (box.max.y - box.min.y);
+                }
+            }
+        } catch (Exception ignored) {}
+        String id = block.getId();
+        return id != null && id.toLowerCase().contains("slab") ? 0.5f : 1.0f;
+    }
+}
@@ -0,0 +1,196 @@
+package com.gridifymydungeon.plugin.gridmove;
+
+import com.hypixel.hytale.component.Ref;
+import com.hypixel.hytale.server.core.Message;
+import com.hypixel.hytale.server.core.universe.PlayerRef;
+import com.hypixel.hytale.server.core.universe.world.World;
+import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-player outbound chat aggregator.
+ *
+ * Lines queued for a player within one tick (FLUSH_MS) go out as ONE multi-line
+ * message instead of a packet each, so a turn-order block or a burst of movement
+ * feedback costs a single send.
+ *
+ *   send        — batched, always delivered (block content such as the turn order)
+ *   sendThrottled — batched, and dropped if the same text reached that player less
+ *                 than REPEAT_COOLDOWN_MS ago ("Not your turn!" on every packet)
+ *   counter     — ephemeral values ("Moves: 3/6"): refresh the HUD that already shows
+ *                 them; without a HUD, only the latest value per key is sent per batch
+ *
+ * Safe to call from any thread. The batcher has no thread of its own: flushes
+ * run on the scheduler of the table the player is in, and a player outside any
+ * table (or whose table closed before the flush) gets the batch sent immediately.
+ */
+public final class ChatBatcher {
+
+    public static final long FLUSH_MS = 50L;
+    public static final long REPEAT_COOLDOWN_MS = 1500L;
+    static final long LOST_FLUSH_MS = 1000L;
+
+    private static final Map<UUID, Outbox> outboxes = new ConcurrentHashMap<>();
+
+    static final class Line {
+        final String text, color, counterKey;
+        Line(String text, String color, String counterKey) {
+            this.text = text; this.color = color; this.counterKey = counterKey;
+        }
+    }
+
+    /** One player's pending batch. Guarded by itself. */
+    static final class Outbox {
+        final PlayerRef player;
+        final List<Line> lines = new ArrayList<>();
+        /** Throttled text → last time it was queued. */
+        final Map<String, Long> lastSent = new HashMap<>();
+        /** When the queued flush is due; 0 = none queued. */
+        long flushDueAt = 0L;
+        boolean dead = false;
+        Outbox(PlayerRef player) { this.player = player; }
+
+        /** Add a line to the batch. Returns true if the caller must schedule a flush for it. */
+        boolean offer(Line line, boolean throttled, long now) {
+            if (throttled) {
+                Long last = lastSent.get(line.text);
+                if (last != null && now - last < REPEAT_COOLDOWN_MS) return false;
+                lastSent.put(line.text, now);
+            }
+            if (line.counterKey != null) lines.removeIf(l -> line.counterKey.equals(l.counterKey));
+            lines.add(line);
+            // A flush long overdue was dropped with its table's scheduler; queue another
+            if (flushDueAt != 0L && now - flushDueAt < LOST_FLUSH_MS) return false;
+            flushDueAt = now + FLUSH_MS;
+            return true;
+        }
+
+        /**
+         * Take the batch and forget expired throttle entries. With nothing left to
+         * remember the outbox is marked dead, so idle players cost nothing.
+         */
+        List<Line> take(long now) {
+            flushDueAt = 0L;
+            List<Line> batch = new ArrayList<>(lines);
+            lines.clear();
+            Iterator<Long> it = lastSent.values().iterator();
+            while (it.hasNext()) if (now - it.next() >= REPEAT_COOLDOWN_MS) it.remove();
+            if (lastSent.isEmpty()) dead = true;
+            return batch;
+        }
+    }
+
+    private ChatBatcher() {}
+
+    // ========================================================
+    // PUBLIC API
+    // ========================================================
+
+    public static void send(PlayerRef player, String text) {
+        send(player, text, null);
+    }
+
+    /** Queue a line for this tick's batch. color may be null (default chat colour). */
+    public static void send(PlayerRef player, String text, @Nullable String color) {
+        queue(player, new Line(text, color, null), false);
+    }
+
+    /** Queue every line of a block, in order, into one batch. Each entry is {color, text}. */
+    public static void sendAll(PlayerRef player, List<String[]> lines) {
+        for (String[] l : lines) send(player, l[1], l[0]);
+    }
+
+    public static void sendThrottled(PlayerRef player, String text) {
+        sendThrottled(player, text, null);
+    }
+
+    /** Like send, but a repeat of the same text within REPEAT_COOLDOWN_MS is dropped. */
+    public static void sendThrottled(PlayerRef player, String text, @Nullable String color) {
+        queue(player, new Line(text, color, null), true);
+    }
+
+    /**
+     * An ephemeral counter. With a HUD refresh, runs it and sends nothing to chat;
+     * otherwise queues the line, replacing an earlier value of the same key still
+     * waiting in the batch.
+     */
+    public static void counter(PlayerRef player, String key, String text, @Nullable Runnable hudRefresh) {
+        if (hudRefresh != null) {
+            hudRefresh.run();
+            return;
+        }
+        queue(player, new Line(text, null, key), false);
+    }
+
+    /** Drop anything queued for the player (disconnect). */
+    public static void forget(UUID playerId) {
+        Outbox box = outboxes.remove(playerId);
+        if (box == null) return;
+        synchronized (box) {
+            box.dead = true;
+            box.lines.clear();
+        }
+    }
+
+    // ========================================================
+    // QUEUE / FLUSH
+    // ========================================================
+
+    private static void queue(PlayerRef player, Line line, boolean throttled) {
+        UUID id = player.getUuid();
+        while (true) {
+            Outbox box = outboxes.computeIfAbsent(id, k -> new Outbox(player));
+            synchronized (box) {
+                if (box.dead) continue; // flushed away between lookup and lock; take a fresh one
+                if (!box.offer(line, throttled, System.currentTimeMillis())) return;
+            }
+            if (!scheduleFlush(player, id, box)) flush(id, box);
+            return;
+        }
+    }
+
+    private static boolean scheduleFlush(PlayerRef player, UUID id, Outbox box) {
+        Ref<EntityStore> ref = player.getReference();
+        World world = ref != null && ref.isValid() ? ref.getStore().getExternalData().getWorld() : null;
+        ScheduledExecutorService scheduler = TableSession.schedulerOf(world);
+        if (scheduler == null) return false;
+        try {
+            scheduler.schedule(() -> flush(id, box), FLUSH_MS, TimeUnit.MILLISECONDS);
+            return true;
+        } catch (RejectedExecutionException e) {
+            return false;
+        }
+    }
+
+    private static void flush(UUID id, Outbox box) {
+        List<Line> batch;
+        synchronized (box) {
+            batch = box.take(System.currentTimeMillis());
+            if (box.dead) outboxes.remove(id, box);
+        }
+        if (batch.isEmpty()) return;
+
+        Message message = null;
+        for (Line l : batch) {
+            Message part = Message.raw(message == null ? l.text : "\n" + l.text);
+            if (l.color != null) part = part.color(l.color);
+            message = message == null ? part : message.insert(part);
+        }
+        try {
+            box.player.sendMessage(message);
+        } catch (Exception e) {
+            System.err.println("[Griddify] [CHAT] send failed: " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,260 @@
+package com.gridifymydungeon.plugin.gridmove;
+
+import com.hypixel.hytale.component.Ref;
+import com.hypixel.hytale.component.RemoveReason;
+import com.hypixel.hytale.component.Store;
+import com.hypixel.hytale.server.core.universe.world.World;
+import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Ledger of every entity Griddify spawns in a world, and the reaper that removes
+ * the ones nobody owns any more.
+ *
+ * Each spawn site tags its entity with a purpose ("grid-tile", "vfx", "monster"...)
+ * and an owner: the player state, monster, map window or pool that is responsible
+ * for removing it. Handing an entity over (a pool lending a tile, a tile going back
+ * to the pool) re-tags it. Teardown paths call release(owner) once the owner is done
+ * (player disconnect, monster despawn, map window closed, timeline played out,
+ * persistent effect ended): whatever is still tagged to it is stray and goes on the
+ * next step. Owners that can tell they are done implement Owner (a forgotten pool
+ * shard). Owners that live on after dropping an entity implement Holder: a player
+ * state keeps its tiles in maps and lists, and anything tagged to it that none of
+ * them references any more is stray. Transient entities also carry a deadline
+ * past which they are stray whatever their owner says, in case their teardown
+ * never runs (a spell effect without a persistent effect holding it). The ledger
+ * keeps owners reachable until their entities are gone, so every owner must end
+ * them by one of these routes.
+ *
+ * step() runs once a second on the world thread, from the table scheduler. It first
+ * checks entries of released owners, then walks a snapshot of the ledger taken at
+ * the start of each cycle, at most STEP_BATCH entries and STEP_BUDGET_NS per call,
+ * removing orphans and dropping entries whose entity is already gone. A Holder is
+ * asked for its entities once per cycle, the first time one of its entries is
+ * checked; entries tagged after that are left for the next cycle. A new cycle
+ * starts CYCLE_MS after the previous one began. stats() reports the counters for logs.
+ *
+ * World thread only.
+ */
+public final class EntityReaper {
+
+    /** Owners that know when they no longer hold their entities. */
+    public interface Owner {
+        boolean isLive();
+    }
+
+    /** Owners that can list every entity they still reference. World thread. */
+    public interface Holder {
+        void collectHeld(Set<Ref<EntityStore>> out);
+    }
+
+    private static final int STEP_BATCH = 128;
+    private static final long STEP_BUDGET_NS = 1_000_000L; // 1 ms per call
+    private static final long CYCLE_MS = 30_000L;
+
+    private static final class Tag {
+        final String purpose;
+        final Object owner;
+        final long expiresAt; // 0 = no deadline
+        final long seq;
+        boolean released = false;
+        Tag(String purpose, Object owner, long expiresAt, long seq) {
+            this.purpose = purpose;
+            this.owner = owner;
+            this.expiresAt = expiresAt;
+            this.seq = seq;
+        }
+    }
+
+    /** What a Holder referenced when its entries were first checked this cycle. */
+    private static final class Held {
+        final Set<Ref<EntityStore>> refs = Collections.newSetFromMap(new IdentityHashMap<>());
+        final long seq; // tags up to this one were taken before the snapshot
+        boolean complete = true;
+        Held(long seq) { this.seq = seq; }
+    }
+
+    private static final class Ledger {
+        final Map<Ref<EntityStore>, Tag> tags = new IdentityHashMap<>();
+        final Map<Object, Set<Ref<EntityStore>>> byOwner = new HashMap<>();
+        final Map<Object, Held> held = new HashMap<>();
+        long seq = 0L;
+        final ArrayDeque<Ref<EntityStore>> cursor = new ArrayDeque<>();
+        final ArrayDeque<Ref<EntityStore>> releasedRefs = new ArrayDeque<>();
+        long cycleStart = 0L;
+        int cycles = 0, scanned = 0, gone = 0;
+        int cycleReaped = 0;
+        final Map<String, Integer> reaped = new TreeMap<>();
+    }
+
+    private static final Map<World, Ledger> ledgers = new ConcurrentHashMap<>();
+
+    private EntityReaper() {}
+
+    private static Ledger ledger(World world) {
+        return ledgers.computeIfAbsent(world, w -> new Ledger());
+    }
+
+    // ========================================================
+    // TAGGING
+    // ========================================================
+
+    /** Record (or hand over) an entity: who is responsible for removing it, and what it is. */
+    public static void tag(World world, Ref<EntityStore> ref, String purpose, Object owner) {
+        tag(world, ref, purpose, owner, 0L);
+    }
+
+    /**
+     * Record a transient entity: as tag(), and stray once ttlMs has passed whatever its
+     * owner says. A ttlMs of 0 or less sets no deadline.
+     */
+    public static void tag(World world, Ref<EntityStore> ref, String purpose, Object owner, long ttlMs) {
+        if (ref == null || owner == null) return;
+        Ledger ledger = ledger(world);
+        long expiresAt = ttlMs > 0L ? System.currentTimeMillis() + ttlMs : 0L;
+        Tag old = ledger.tags.put(ref, new Tag(purpose, owner, expiresAt, ++ledger.seq));
+        if (old != null) unindex(ledger, ref, old);
+        ledger.byOwner.computeIfAbsent(owner, o -> Collections.newSetFromMap(new IdentityHashMap<>())).add(ref);
+    }
+
+    private static void unindex(Ledger ledger, Ref<EntityStore> ref, Tag tag) {
+        Set<Ref<EntityStore>> refs = ledger.byOwner.get(tag.owner);
+        if (refs == null) return;
+        refs.remove(ref);
+        if (refs.isEmpty()) ledger.byOwner.remove(tag.owner);
+    }
+
+    /**
+     * The owner is done: everything still tagged to it is stray and is removed on the
+     * next step. Entities handed back (to a pool) before this are not affected.
+     */
+    public static void release(World world, Object owner) {
+        Ledger ledger = ledgers.get(world);
+        if (ledger == null || owner == null) return;
+        Set<Ref<EntityStore>> refs = ledger.byOwner.get(owner);
+        if (refs == null) return;
+        for (Ref<EntityStore> ref : refs) {
+            Tag tag = ledger.tags.get(ref);
+            if (tag == null || tag.released) continue;
+            tag.released = true;
+            ledger.releasedRefs.addLast(ref);
+        }
+    }
+
+    // ========================================================
+    // REAPING
+    // ========================================================
+
+    /** One budgeted slice of the current cycle. World thread. */
+    public static void step(World world) {
+        Ledger ledger = ledgers.get(world);
+        if (ledger == null) return;
+        long now = System.currentTimeMillis();
+        if (ledger.cursor.isEmpty() && now - ledger.cycleStart >= CYCLE_MS) {
+            ledger.cycleStart = now;
+            ledger.cycles++;
+            ledger.held.clear();
+            ledger.cursor.addAll(ledger.tags.keySet());
+        }
+        if (ledger.cursor.isEmpty() && ledger.releasedRefs.isEmpty()) return;
+
+        Store<EntityStore> store = world.getEntityStore().getStore();
+        long deadline = System.nanoTime() + STEP_BUDGET_NS;
+        int i = 0;
+        for (; i < STEP_BATCH && !ledger.releasedRefs.isEmpty() && System.nanoTime() < deadline; i++) {
+            check(ledger, store, ledger.releasedRefs.pollFirst(), now);
+        }
+        for (; i < STEP_BATCH && !ledger.cursor.isEmpty() && System.nanoTime() < deadline; i++) {
+            check(ledger, store, ledger.cursor.pollFirst(), now);
+        }
+        if (ledger.cursor.isEmpty() && ledger.cycleReaped > 0) {
+            System.out.println("[Griddify] [REAPER] Cycle " + ledger.cycles + " removed "
+                    + ledger.cycleReaped + " orphaned entities (" + stats(world) + ")");
+            ledger.cycleReaped = 0;
+        }
+    }
+
+    private static void check(Ledger ledger, Store<EntityStore> store, Ref<EntityStore> ref, long now) {
+        Tag tag = ledger.tags.get(ref);
+        if (tag == null) return;
+        ledger.scanned++;
+        if (!ref.isValid()) {
+            ledger.tags.remove(ref);
+            unindex(ledger, ref, tag);
+            ledger.gone++;
+            return;
+        }
+        if (!isOrphan(ledger, ref, tag, now)) return;
+        ledger.tags.remove(ref);
+        unindex(ledger, ref, tag);
+        try { store.removeEntity(ref, RemoveReason.REMOVE); } catch (Exception ignored) {}
+        ledger.reaped.merge(tag.purpose, 1, Integer::sum);
+        ledger.cycleReaped++;
+    }
+
+    private static boolean isOrphan(Ledger ledger, Ref<EntityStore> ref, Tag tag, long now) {
+        if (tag.released) return true;
+        if (tag.expiresAt != 0L && now >= tag.expiresAt) return true;
+        if (tag.owner instanceof Owner && !((Owner) tag.owner).isLive()) return true;
+        return tag.owner instanceof Holder && !holds(ledger, (Holder) tag.owner, ref, tag);
+    }
+
+    /** Whether the Holder still references the entity, as of its snapshot this cycle. */
+    private static boolean holds(Ledger ledger, Holder holder, Ref<EntityStore> ref, Tag tag) {
+        Held held = ledger.held.get(holder);
+        if (held == null) {
+            held = new Held(ledger.seq);
+            try {
+                holder.collectHeld(held.refs);
+            } catch (Exception e) {
+                held.complete = false; // a partial list proves nothing
+            }
+            ledger.held.put(holder, held);
+        }
+        return !held.complete || tag.seq > held.seq || held.refs.contains(ref);
+    }
+
+    /**
+     * Drop the world's ledger now (table closed). Returns its final unbudgeted sweep,
+     * to run on the world thread if the world is still up. Run the sweep after the
+     * pools have been detached, so their parked entities count as orphans.
+     */
+    public static Runnable detach(World world) {
+        Ledger ledger = ledgers.remove(world);
+        if (ledger == null) return () -> {};
+        return () -> {
+            Store<EntityStore> store = world.getEntityStore().getStore();
+            long now = System.currentTimeMillis();
+            ledger.held.clear();
+            for (Ref<EntityStore> ref : new ArrayList<>(ledger.tags.keySet())) check(ledger, store, ref, now);
+            System.out.println("[Griddify] [REAPER] Final sweep: " + stats(ledger));
+        };
+    }
+
+    /** One-line summary for logs: tracked entities, cycle counters, removals per purpose. */
+    public static String stats(World world) {
+        Ledger l = ledgers.get(world);
+        return l != null ? stats(l) : "empty";
+    }
+
+    private static String stats(Ledger l) {
+        StringBuilder sb = new StringBuilder("tracked=" + l.tags.size() + " cycles=" + l.cycles
+                + " scanned=" + l.scanned + " gone=" + l.gone);
+        int total = 0;
+        for (int n : l.reaped.values()) total += n;
+        sb.append(" reaped=").append(total);
+        for (Map.Entry<String, Integer> e : l.reaped.entrySet()) {
+            sb.append(" | ").append(e.getKey()).append('=').append(e.getValue());
+        }
+        return sb.toString();
+    }
+}
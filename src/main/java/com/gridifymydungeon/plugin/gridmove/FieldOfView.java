@@ -0,0 +1,156 @@
+package com.gridifymydungeon.plugin.gridmove;
+
+import java.util.BitSet;
+
+/**
+ * Grid field of view using symmetric shadowcasting.
+ *
+ * Visible cells are stored in a BitSet covering a (2r+1)×(2r+1) window centred
+ * on the origin cell, so a 12-cell sight radius costs 625 bits per player.
+ * Symmetric: if A can see B then B can see A, which keeps fog fair for both
+ * sides of a doorway. Opaque cells themselves are visible (you see the wall).
+ *
+ * Slopes are kept as exact integer fractions — no floating-point edge cases
+ * on diagonal corridors.
+ */
+public class FieldOfView {
+
+    /** Answers whether a grid cell blocks sight. */
+    public interface OpacityTest {
+        boolean isOpaque(int gridX, int gridZ);
+    }
+
+    private final int radius;
+    private final int side;
+    private final BitSet visible;
+    private int originX = Integer.MIN_VALUE;
+    private int originZ = Integer.MIN_VALUE;
+
+    // Per-compute scratch (FOV is only ever computed on the world thread)
+    private OpacityTest test;
+    private int quadrant;
+
+    public FieldOfView(int radius) {
+        this.radius = radius;
+        this.side = radius * 2 + 1;
+        this.visible = new BitSet(side * side);
+    }
+
+    public int getRadius()  { return radius; }
+    public int getOriginX() { return originX; }
+    public int getOriginZ() { return originZ; }
+
+    public boolean hasOrigin(int gridX, int gridZ) {
+        return originX == gridX && originZ == gridZ;
+    }
+
+    /** Recompute the visible set around (originX, originZ). */
+    public void compute(int originX, int originZ, OpacityTest test) {
+        this.originX = originX;
+        this.originZ = originZ;
+        this.test = test;
+        visible.clear();
+        mark(0, 0);
+        for (quadrant = 0; quadrant < 4; quadrant++) {
+            scan(1, -1, 1, 1, 1);
+        }
+        this.test = null;
+    }
+
+    public boolean isVisible(int gridX, int gridZ) {
+        int dx = gridX - originX, dz = gridZ - originZ;
+        if (dx < -radius || dx > radius || dz < -radius || dz > radius) return false;
+        return visible.get(index(dx, dz));
+    }
+
+    public int visibleCount() {
+        return visible.cardinality();
+    }
+
+    public void clear() {
+        visible.clear();
+        originX = Integer.MIN_VALUE;
+        originZ = Integer.MIN_VALUE;
+    }
+
+    // ========================================================
+    // SHADOWCASTING
+    // ========================================================
+
+    /**
+     * Scan one row of the current quadrant. Slopes are startNum/startDen .. endNum/endDen,
+     * both denominators positive.
+     */
+    private void scan(int depth, long startNum, long startDen, long endNum, long endDen) {
+        if (depth > radius) return;
+
+        long minCol = roundTiesUp(depth * startNum, startDen);
+        long maxCol = roundTiesDown(depth * endNum, endDen);
+
+        int prev = -1; // -1 none, 0 floor, 1 wall
+        for (long c = minCol; c <= maxCol; c++) {
+            int col = (int) c;
+            boolean wall = opaque(depth, col);
+            boolean symmetric = col * startDen >= depth * startNum && col * endDen <= depth * endNum;
+            if (wall || symmetric) reveal(depth, col);
+
+            if (prev == 1 && !wall) {
+                // Leaving a wall — the row continues from this cell's left edge
+                startNum = 2L * col - 1;
+                startDen = 2L * depth;
+            }
+            if (prev == 0 && wall) {
+                // Entering a wall — scan the lit part of the next row up to here
+                scan(depth + 1, startNum, startDen, 2L * col - 1, 2L * depth);
+            }
+            prev = wall ? 1 : 0;
+        }
+        if (prev == 0) {
+            scan(depth + 1, startNum, startDen, endNum, endDen);
+        }
+    }
+
+    private boolean opaque(int depth, int col) {
+        int[] d = toOffset(depth, col);
+        return test.isOpaque(originX + d[0], originZ + d[1]);
+    }
+
+    private void reveal(int depth, int col) {
+        int[] d = toOffset(depth, col);
+        // Round the square window off to a circle so corners are not seen further away
+        if (d[0] * d[0] + d[1] * d[1] > radius * radius + radius) return;
+        mark(d[0], d[1]);
+    }
+
+    private final int[] offset = new int[2];
+
+    /** Map (row depth, column) in the current quadrant to (dx, dz). */
+    private int[] toOffset(int depth, int col) {
+        switch (quadrant) {
+            case 0:  offset[0] = col;    offset[1] = -depth; break; // north
+            case 1:  offset[0] = depth;  offset[1] = col;    break; // east
+            case 2:  offset[0] = col;    offset[1] = depth;  break; // south
+            default: offset[0] = -depth; offset[1] = col;    break; // west
+        }
+        return offset;
+    }
+
+    private void mark(int dx, int dz) {
+        if (dx < -radius || dx > radius || dz < -radius || dz > radius) return;
+        visible.set(index(dx, dz));
+    }
+
+    private int index(int dx, int dz) {
+        return (dz + radius) * side + (dx + radius);
+    }
+
+    /** floor(num/den + 1/2) */
+    private static long roundTiesUp(long num, long den) {
+        return Math.floorDiv(2 * num + den, 2 * den);
+    }
+
+    /** ceil(num/den - 1/2) */
+    private static long roundTiesDown(long num, long den) {
+        return -Math.floorDiv(-(2 * num - den), 2 * den);
+    }
+}
@@ -0,0 +1,220 @@
+package com.gridifymydungeon.plugin.gridmove;
+
+import com.hypixel.hytale.server.core.universe.world.World;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.UUID;
+import java.util.function.BiPredicate;
+
+/**
+ * Dijkstra flow field toward the party: every cell near the players stores its
+ * movement cost to the nearest player NPC and the neighbour to step to next.
+ *
+ * Computed once (a few thousand cells at most) and then shared by any number of
+ * monsters, each of which reads its next step in O(1) instead of being walked
+ * cell by cell. The cost model matches the movement BFS in GridOverlayManager:
+ * cardinal 1.0, diagonal 1.5, the entered cell's terrain multiplier (difficult
+ * terrain, weather), barrier cells excluded, and no climb of 3+ blocks or drop of
+ * more than 4. Player cells are the goals and are never entered; other monsters
+ * are dynamic, so occupancy is checked when a step is taken.
+ *
+ * World thread only (scans blocks).
+ */
+public class FlowField {
+
+    /** Cells farther than this (Chebyshev) from every player are not expanded. */
+    public static final int RADIUS = 24;
+    private static final int MAX_CELLS = 6000;
+
+    private static final int[][] NEIGHBORS = {
+            { 0, -1}, { 1, 0}, { 0, 1}, {-1, 0},
+            { 1, -1}, { 1, 1}, {-1, 1}, {-1, -1},
+    };
+
+    private final Map<Long, Double> dist = new HashMap<>();
+    private final Map<Long, Long>   next = new HashMap<>();
+    private final Map<Long, Float>  ground = new HashMap<>();
+    private final Map<Long, Double> multiplier = new HashMap<>();
+    private final long computedAt = System.currentTimeMillis();
+
+    /** Ground and movement cost of the cells the field expands into. */
+    interface Terrain {
+        /** Ground Y of the cell near refY, or null if it cannot be stood on (barrier, no floor). */
+        Float groundAt(int gridX, int gridZ, float refY);
+
+        /** Terrain cost multiplier for entering the cell. */
+        double multiplier(int gridX, int gridZ, float groundY);
+    }
+
+    private FlowField() {}
+
+    /**
+     * Build the field toward every player NPC on the grid. Returns an empty field
+     * (every lookup misses) when there are no player NPCs.
+     */
+    public static FlowField compute(World world, GridMoveManager players) {
+        Map<Long, Float> goals = new LinkedHashMap<>();
+        for (Map.Entry<UUID, GridPlayerState> e : players.getStateEntries()) {
+            GridPlayerState s = e.getValue();
+            if (s.npcEntity == null || !s.npcEntity.isValid()) continue;
+            goals.putIfAbsent(packKey(s.currentGridX, s.currentGridZ), s.npcY);
+        }
+
+        return compute(goals, new Terrain() {
+            @Override public Float groundAt(int gridX, int gridZ, float refY) {
+                return scanCell(world, gridX, gridZ, refY);
+            }
+            @Override public double multiplier(int gridX, int gridZ, float groundY) {
+                return TerrainManager.getMoveCostMultiplier(gridX, gridZ, groundY, world);
+            }
+        });
+    }
+
+    /** Build the field toward the goal cells (packed key → ground Y) over the given terrain. */
+    static FlowField compute(Map<Long, Float> goals, Terrain terrain) {
+        FlowField field = new FlowField();
+        List<int[]> goalCells = new ArrayList<>();
+        PriorityQueue<Node> open = new PriorityQueue<>();
+        for (Map.Entry<Long, Float> g : goals.entrySet()) {
+            int[] cell = unpack(g.getKey());
+            field.dist.put(g.getKey(), 0.0);
+            field.ground.put(g.getKey(), g.getValue());
+            goalCells.add(cell);
+            open.add(new Node(cell[0], cell[1], 0.0));
+        }
+
+        while (!open.isEmpty() && field.dist.size() < MAX_CELLS) {
+            Node cur = open.poll();
+            long curKey = packKey(cur.x, cur.z);
+            if (cur.cost > field.dist.get(curKey)) continue; // stale entry
+            float curY = field.ground.get(curKey);
+            double curMult = field.multiplier.getOrDefault(curKey, 1.0);
+
+            // Reverse search: a monster at (nx, nz) would step INTO cur
+            for (int[] nb : NEIGHBORS) {
+                int nx = cur.x + nb[0], nz = cur.z + nb[1];
+                if (!withinRadius(goalCells, nx, nz)) continue;
+                long nKey = packKey(nx, nz);
+
+                Float nY = field.ground.get(nKey);
+                if (nY == null) {
+                    if (field.ground.containsKey(nKey)) continue; // scanned before: no ground
+                    nY = terrain.groundAt(nx, nz, curY);
+                    field.ground.put(nKey, nY);
+                    if (nY == null) continue;
+                    field.multiplier.put(nKey, terrain.multiplier(nx, nz, nY));
+                }
+
+                float climb = curY - nY;
+                if (climb >= GridOverlayManager.MAX_HEIGHT_UP || climb < -GridOverlayManager.MAX_HEIGHT_DOWN) continue;
+
+                boolean diagonal = nb[0] != 0 && nb[1] != 0;
+                double cost = cur.cost + (diagonal ? 1.5 : 1.0) * curMult;
+                Double prev = field.dist.get(nKey);
+                if (prev != null && prev <= cost) continue;
+                field.dist.put(nKey, cost);
+                field.next.put(nKey, curKey);
+                open.add(new Node(nx, nz, cost));
+            }
+        }
+        return field;
+    }
+
+    // ========================================================
+    // LOOKUPS
+    // ========================================================
+
+    /** Cost to reach the party from this cell, or +Infinity if outside the field. */
+    public double distanceAt(int gridX, int gridZ) {
+        Double d = dist.get(packKey(gridX, gridZ));
+        return d != null ? d : Double.POSITIVE_INFINITY;
+    }
+
+    public boolean contains(int gridX, int gridZ) {
+        return dist.containsKey(packKey(gridX, gridZ));
+    }
+
+    /** Ground Y of a cell inside the field, or null. */
+    public Float groundAt(int gridX, int gridZ) {
+        return ground.get(packKey(gridX, gridZ));
+    }
+
+    /** Cost of one step between adjacent field cells (diagonal × entered cell's multiplier). */
+    public double stepCost(int fromX, int fromZ, int toX, int toZ) {
+        boolean diagonal = fromX != toX && fromZ != toZ;
+        return (diagonal ? 1.5 : 1.0) * multiplier.getOrDefault(packKey(toX, toZ), 1.0);
+    }
+
+    /** Best next cell {x, z} toward the party, or null at a goal / outside the field. O(1). */
+    public int[] nextStep(int gridX, int gridZ) {
+        Long n = next.get(packKey(gridX, gridZ));
+        return n != null ? unpack(n) : null;
+    }
+
+    /**
+     * Best next cell that {@code blocked} does not reject. Falls back from the
+     * precomputed step to any other downhill neighbour, so monsters queue around
+     * each other instead of stopping dead.
+     */
+    public int[] nextStep(int gridX, int gridZ, BiPredicate<Integer, Integer> blocked) {
+        int[] best = nextStep(gridX, gridZ);
+        if (best == null || !blocked.test(best[0], best[1])) return best;
+
+        Float fromY = groundAt(gridX, gridZ);
+        if (fromY == null) return null;
+        best = null;
+        double bestDist = distanceAt(gridX, gridZ);
+        for (int[] nb : NEIGHBORS) {
+            int nx = gridX + nb[0], nz = gridZ + nb[1];
+            double d = distanceAt(nx, nz);
+            // Goal cells (no next step) are player NPCs — never a place to stand
+            if (d >= bestDist || !next.containsKey(packKey(nx, nz)) || blocked.test(nx, nz)) continue;
+            // Only neighbours this cell could legally step into
+            Float toY = groundAt(nx, nz);
+            if (toY == null) continue;
+            float climb = toY - fromY;
+            if (climb >= GridOverlayManager.MAX_HEIGHT_UP || climb < -GridOverlayManager.MAX_HEIGHT_DOWN) continue;
+            best = new int[]{nx, nz};
+            bestDist = d;
+        }
+        return best;
+    }
+
+    public int size() { return dist.size(); }
+    public long getComputedAt() { return computedAt; }
+
+    // ========================================================
+    // INTERNALS
+    // ========================================================
+
+    private static Float scanCell(World world, int gridX, int gridZ, float refY) {
+        if (GridOverlayManager.isBarrierCell(world, gridX, gridZ, refY)) return null;
+        return GridOverlayManager.scanForGround(world, gridX, gridZ, refY + 6.0f);
+    }
+
+    private static boolean withinRadius(List<int[]> goals, int x, int z) {
+        for (int[] g : goals) {
+            if (Math.max(Math.abs(g[0] - x), Math.abs(g[1] - z)) <= RADIUS) return true;
+        }
+        return false;
+    }
+
+    private static long packKey(int gridX, int gridZ) {
+        return ((long) gridX << 32) | (gridZ & 0xFFFFFFFFL);
+    }
+
+    private static int[] unpack(long key) {
+        return new int[]{(int) (key >> 32), (int) (key & 0xFFFFFFFFL)};
+    }
+
+    private static final class Node implements Comparable<Node> {
+        final int x, z; final double cost;
+        Node(int x, int z, double cost) { this.x = x; this.z = z; this.cost = cost; }
+        @Override public int compareTo(Node o) { return Double.compare(cost, o.cost); }
+    }
+}
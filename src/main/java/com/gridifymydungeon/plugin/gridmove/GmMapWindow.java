@@ -0,0 +1,287 @@
+package com.gridifymydungeon.plugin.gridmove;
+
+import com.hypixel.hytale.component.Ref;
+import com.hypixel.hytale.server.core.universe.world.World;
+import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Streaming GM map (/gridfollow): a square window of cells kept centred on the GM,
+ * or on the monster the GM controls.
+ *
+ * The static /grid map scans every cell up front and must be torn down to move.
+ * Here, when the centre crosses a cell boundary only the entering row or column is
+ * queued for scanning and the leaving one is dropped from the ground cache. Just
+ * the TileMerger blocks those strips touch are re-merged, and their tiles are
+ * diffed by square: unchanged tiles stay where they are, dropped ones go back to
+ * the TilePool and are picked up by the next placement. A step costs one strip of
+ * scans plus a few blocks of tiles whatever the radius, so radii of 100+ work.
+ *
+ * Scanning runs off a queue under the same per-tick budget as the /grid build;
+ * GridOverlayManager drives it. The window subscribes to the table's
+ * BlockChangeBus while open, so a broken or placed block re-queues its cell.
+ * Tiles placed here are owned by the window, so once closed anything it failed
+ * to hand back is left to EntityReaper. World thread only.
+ */
+public final class GmMapWindow implements EntityReaper.Owner {
+
+    private static final class Tile {
+        final TileMerger.Square square;
+        final Ref<EntityStore> ref;
+        Tile(TileMerger.Square square, Ref<EntityStore> ref) { this.square = square; this.ref = ref; }
+    }
+
+    final int radius;
+    private final String modelId;
+    private int centerX, centerZ;
+    private float scanStart;
+
+    // Scanned cells inside the window: packed cell -> ground cell (null = no tile there)
+    private final Map<Long, TileMerger.Cell> ground = new HashMap<>();
+    // Cells still to scan, nearest first on a fresh fill; may hold cells that have since left
+    private final ArrayDeque<Long> queue = new ArrayDeque<>();
+    // Per merge block: queued cells not yet scanned. A block is re-merged only once this hits 0
+    private final Map<Long, Integer> blockPending = new HashMap<>();
+    private final Set<Long> dirty = new HashSet<>();
+    private final Map<Long, Map<String, Tile>> blockTiles = new HashMap<>();
+
+    boolean closed = false;
+    boolean stepScheduled = false;
+    /** True until the initial (or post-jump) fill has been scanned. */
+    boolean filling = true;
+    private int fillSize;
+    private int scanned = 0, placed = 0, kept = 0, recycled = 0, slides = 0;
+    private BlockChangeBus bus;
+    private BlockChangeBus.Listener listener;
+
+    GmMapWindow(int radius, int centerX, int centerZ, float scanStart, String modelId) {
+        this.radius = radius;
+        this.centerX = centerX;
+        this.centerZ = centerZ;
+        this.scanStart = scanStart;
+        this.modelId = modelId;
+        fill();
+    }
+
+    // ========================================================
+    // SLIDING
+    // ========================================================
+
+    /** Move the centre to (x, z). Returns true if this queued any work. */
+    boolean slideTo(int x, int z, float scanStart) {
+        if (closed || (x == centerX && z == centerZ)) return false;
+        this.scanStart = scanStart;
+        slides++;
+
+        if (Math.abs(x - centerX) > 2 * radius || Math.abs(z - centerZ) > 2 * radius) {
+            // Jumped clear of the old window: nothing carries over
+            dirty.addAll(blockTiles.keySet());
+            ground.clear();
+            centerX = x;
+            centerZ = z;
+            fill();
+            return true;
+        }
+
+        // Axis by axis, one column / row at a time
+        while (centerX < x) { dropColumn(centerX - radius); centerX++; addColumn(centerX + radius); }
+        while (centerX > x) { dropColumn(centerX + radius); centerX--; addColumn(centerX - radius); }
+        while (centerZ < z) { dropRow(centerZ - radius); centerZ++; addRow(centerZ + radius); }
+        while (centerZ > z) { dropRow(centerZ + radius); centerZ--; addRow(centerZ - radius); }
+        return true;
+    }
+
+    /** Block edits: forget and re-queue the changed cells inside the window. Returns true if any. */
+    boolean rescan(Set<Long> cellKeys) {
+        if (closed) return false;
+        boolean any = false;
+        for (long key : cellKeys) {
+            int gx = BlockChangeBus.cellX(key), gz = BlockChangeBus.cellZ(key);
+            if (!contains(gx, gz)) continue;
+            ground.remove(GridOverlayManager.packKey(gx, gz));
+            enqueue(gx, gz);
+            any = true;
+        }
+        return any;
+    }
+
+    /** Receive block edits until close(). */
+    void subscribe(BlockChangeBus bus, BlockChangeBus.Listener listener) {
+        this.bus = bus;
+        this.listener = listener;
+        bus.addListener(listener);
+    }
+
+    private void dropColumn(int gx) {
+        for (int gz = centerZ - radius; gz <= centerZ + radius; gz++) drop(gx, gz);
+    }
+
+    private void addColumn(int gx) {
+        for (int gz = centerZ - radius; gz <= centerZ + radius; gz++) enqueue(gx, gz);
+    }
+
+    private void dropRow(int gz) {
+        for (int gx = centerX - radius; gx <= centerX + radius; gx++) drop(gx, gz);
+    }
+
+    private void addRow(int gz) {
+        for (int gx = centerX - radius; gx <= centerX + radius; gx++) enqueue(gx, gz);
+    }
+
+    private void drop(int gx, int gz) {
+        ground.remove(GridOverlayManager.packKey(gx, gz));
+        dirty.add(blockKey(gx, gz));
+    }
+
+    /** Queue the whole window in square rings from the centre out. */
+    private void fill() {
+        int before = queue.size();
+        enqueue(centerX, centerZ);
+        for (int ring = 1; ring <= radius; ring++) {
+            for (int i = -ring; i <= ring; i++) {
+                enqueue(centerX + i, centerZ - ring);
+                enqueue(centerX + i, centerZ + ring);
+            }
+            for (int j = -ring + 1; j < ring; j++) {
+                enqueue(centerX - ring, centerZ + j);
+                enqueue(centerX + ring, centerZ + j);
+            }
+        }
+        filling = true;
+        fillSize = queue.size() - before;
+    }
+
+    private void enqueue(int gx, int gz) {
+        queue.addLast(GridOverlayManager.packKey(gx, gz));
+        blockPending.merge(blockKey(gx, gz), 1, Integer::sum);
+    }
+
+    // ========================================================
+    // STEPPING
+    // ========================================================
+
+    /**
+     * Scan queued cells until the deadline, then re-merge every dirty block whose
+     * cells are all scanned. Returns true while work remains.
+     */
+    boolean step(World world, long deadline) {
+        while (!queue.isEmpty() && System.nanoTime() < deadline) {
+            long key = queue.pollFirst();
+            int gx = (int) (key >> 32), gz = (int) key;
+            long block = blockKey(gx, gz);
+            if (blockPending.merge(block, -1, Integer::sum) <= 0) blockPending.remove(block);
+            // Left the window while queued, or queued twice by a back-and-forth move
+            if (!contains(gx, gz) || ground.containsKey(key)) continue;
+            ground.put(key, GridOverlayManager.scanMapCell(world, gx, gz, scanStart));
+            scanned++;
+            dirty.add(block);
+        }
+
+        Iterator<Long> it = dirty.iterator();
+        while (it.hasNext()) {
+            long block = it.next();
+            if (blockPending.containsKey(block)) continue;
+            remerge(world, block);
+            it.remove();
+        }
+        return !queue.isEmpty() || !dirty.isEmpty();
+    }
+
+    /** Re-tile one merge block from the ground cache, keeping tiles whose square is unchanged. */
+    private void remerge(World world, long block) {
+        int x0 = (int) (block >> 32) * TileMerger.MAX_SIZE;
+        int z0 = (int) block * TileMerger.MAX_SIZE;
+        List<TileMerger.Cell> cells = new ArrayList<>();
+        for (int gx = x0; gx < x0 + TileMerger.MAX_SIZE; gx++) {
+            for (int gz = z0; gz < z0 + TileMerger.MAX_SIZE; gz++) {
+                TileMerger.Cell c = ground.get(GridOverlayManager.packKey(gx, gz));
+                if (c != null) cells.add(c);
+            }
+        }
+
+        Map<String, Tile> old = blockTiles.remove(block);
+        Map<String, Tile> now = new HashMap<>();
+        List<TileMerger.Square> toPlace = new ArrayList<>();
+        for (TileMerger.Square sq : TileMerger.merge(cells)) {
+            Tile t = old != null ? old.remove(sq.key()) : null;
+            if (t != null && t.square.groundY == sq.groundY && t.ref.isValid()) {
+                now.put(sq.key(), t);
+                kept++;
+                continue;
+            }
+            if (t != null) old.put(sq.key(), t); // stale: recycled below
+            toPlace.add(sq);
+        }
+        // Release first so the placements below reuse these entities
+        if (old != null) {
+            for (Tile t : old.values()) {
+                TilePool.release(world, t.ref);
+                recycled++;
+            }
+        }
+        for (TileMerger.Square sq : toPlace) {
+            Ref<EntityStore> ref = TilePool.borrow(world, GridOverlayManager.tileModel(modelId, sq.size),
+                    sq.centerX(), sq.groundY + 0.01f, sq.centerZ(), // Grid_Basic: +0.01
+                    "map-tile", this);
+            if (ref == null) continue;
+            now.put(sq.key(), new Tile(sq, ref));
+            placed++;
+        }
+        if (!now.isEmpty()) blockTiles.put(block, now);
+    }
+
+    /** Tiles belong to the window until it is closed. */
+    @Override
+    public boolean isLive() { return !closed; }
+
+    /** Return every tile to the pool and stop. */
+    void close(World world) {
+        closed = true;
+        if (bus != null) bus.removeListener(listener);
+        bus = null;
+        listener = null;
+        for (Map<String, Tile> tiles : blockTiles.values()) {
+            for (Tile t : tiles.values()) TilePool.release(world, t.ref);
+        }
+        blockTiles.clear();
+        ground.clear();
+        queue.clear();
+        blockPending.clear();
+        dirty.clear();
+        EntityReaper.release(world, this);
+    }
+
+    // ========================================================
+    // HELPERS
+    // ========================================================
+
+    private boolean contains(int gx, int gz) {
+        return Math.abs(gx - centerX) <= radius && Math.abs(gz - centerZ) <= radius;
+    }
+
+    private static long blockKey(int gx, int gz) {
+        return GridOverlayManager.packKey(TileMerger.blockOf(gx), TileMerger.blockOf(gz));
+    }
+
+    int queued() { return queue.size(); }
+
+    int percent() {
+        return fillSize == 0 ? 100 : Math.min(100, (fillSize - queue.size()) * 100 / fillSize);
+    }
+
+    /** Counters for logs. */
+    String stats() {
+        int tiles = 0;
+        for (Map<String, Tile> t : blockTiles.values()) tiles += t.size();
+        return tiles + " tiles, scanned=" + scanned + " placed=" + placed + " kept=" + kept
+                + " recycled=" + recycled + " slides=" + slides;
+    }
+}
@@ -45,6 +45,11 @@ public class GridMoveManager {
         return state;
     }
 
+    /** State for a player if one exists; unlike getState, never creates one. */
+    public GridPlayerState peekState(UUID playerUuid) {
+        return playerStates.get(playerUuid);
+    }
+
     public PlayerRef getPlayerRefByState(GridPlayerState state) {
         return state.playerRef;
     }
@@ -13,43 +13,40 @@ import com.hypixel.hytale.server.core.event.events.player.PlayerDisconnectEvent;
 import com.hypixel.hytale.server.core.io.adapter.PacketAdapters;
 import com.hypixel.hytale.server.core.io.adapter.PacketFilter;
 import com.hypixel.hytale.server.core.io.adapter.PacketWatcher;
+import com.hypixel.hytale.server.core.io.adapter.PlayerPacketFilter;
 import com.hypixel.hytale.server.core.io.handlers.game.GamePacketHandler;
 import com.hypixel.hytale.server.core.plugin.JavaPlugin;
 import com.hypixel.hytale.server.core.plugin.JavaPluginInit;
+import com.hypixel.hytale.server.core.universe.PlayerRef;
+import com.hypixel.hytale.server.core.universe.world.events.RemoveWorldEvent;
 
 import com.gridifymydungeon.plugin.debug.GridDebugCommand;
 import com.gridifymydungeon.plugin.gridmove.commands.GridWeatherCommand;
 import javax.annotation.Nonnull;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import java.util.logging.Level;
 
-
 public class GridMovePlugin extends JavaPlugin {
 
     public static final String VERSION = "0.3.2";
 
-    // Managers
-    private GridMoveManager gridMoveManager;
-    private RoleManager roleManager;
-    private EncounterManager encounterManager;
-    private CombatManager combatManager;
+    // Per-world tables (managers, trackers, handlers)
+    private TableRegistry tables;
+
+    // Server-wide
     private CombatSettings combatSettings;
     private PlayerDataManager playerDataManager;
-    private CollisionDetector collisionDetector;
-
-    // Trackers
-    private PlayerPositionTracker positionTracker;
-    private GMPositionTracker gmPositionTracker;
+    private CatalogLoader catalogLoader;
 
     // Handlers
-    private ClientMovementHandler movementHandler;
-    private HotbarInputHandler hotbarInputHandler;
     private PacketFilter hotbarPacketFilter;
 
-    // Listeners
-    private PlayerDisconnectListener disconnectListener;
-
     // Event registrations
     private EventRegistration<Void, PlayerDisconnectEvent> disconnectRegistration;
+    private EventRegistration<String, RemoveWorldEvent> worldRemovedRegistration;
 
     public GridMovePlugin(@Nonnull JavaPluginInit init) {
         super(init);
@@ -59,34 +56,48 @@ public class GridMovePlugin extends JavaPlugin {
     public void setup() {
         getLogger().at(Level.INFO).log("Setting up GridMove v%s", VERSION);
 
-        // Initialize managers
-        this.gridMoveManager = new GridMoveManager();
-        this.roleManager = new RoleManager();
-        this.encounterManager = new EncounterManager(roleManager);
+        // Server-wide state; everything campaign-specific lives in a TableSession per world
+        this.tables = new TableRegistry();
         this.combatSettings = new CombatSettings();
-        this.combatManager = new CombatManager(gridMoveManager, encounterManager, roleManager);
         this.playerDataManager = new PlayerDataManager(this.getDataDirectory().toFile());
-        this.collisionDetector = new CollisionDetector(gridMoveManager, encounterManager);
-
-        // Initialize trackers
-        this.positionTracker = new PlayerPositionTracker(
-                gridMoveManager, roleManager, encounterManager, combatManager, collisionDetector);
-        this.gmPositionTracker = new GMPositionTracker(
-                encounterManager, roleManager, combatManager, collisionDetector, gridMoveManager);
 
-        // Initialize movement handler
-        this.movementHandler = new ClientMovementHandler(positionTracker, gmPositionTracker, roleManager, gridMoveManager);
+        // Spell/monster catalogs: parsed in the background so setup() stays fast
+        this.catalogLoader = new CatalogLoader(this.getDataDirectory().toFile());
+        catalogLoader.reloadAsync().whenComplete((summary, error) -> {
+            if (error != null) {
+                getLogger().at(Level.WARNING).log("Catalog load failed, using bundled defaults: " + error.getMessage());
+            }
+        });
 
-        // Initialize listeners
-        this.disconnectListener = new PlayerDisconnectListener(gridMoveManager, roleManager);
+        // Block classification table for the grid scanners (unknown indices are filled in lazily)
+        CompletableFuture.runAsync(BlockFlags::build);
 
         // Register event listeners
         this.disconnectRegistration = this.getEventRegistry().register(
                 EventPriority.NORMAL,
                 PlayerDisconnectEvent.class,
-                event -> this.disconnectListener.onPlayerDisconnect(event)
+                event -> {
+                    // The player may have visited several tables; each one they joined cleans up its own state
+                    UUID playerId = event.getPlayerRef().getUuid();
+                    for (TableSession table : tables.all()) {
+                        if (!table.hasPlayer(playerId)) continue;
+                        table.getDisconnectListener().onPlayerDisconnect(event);
+                    }
+                    ChatBatcher.forget(event.getPlayerRef().getUuid());
+                }
+        );
+
+        // A removed world takes its table with it (scheduler, pools, raster, queued work)
+        this.worldRemovedRegistration = this.getEventRegistry().registerGlobal(
+                EventPriority.NORMAL,
+                RemoveWorldEvent.class,
+                event -> tables.close(event.getWorld())
         );
 
+        // Block edits invalidate the grid caches of the table in that world
+        this.getEntityStoreRegistry().registerSystem(new BlockChangeSystems.Break(tables));
+        this.getEntityStoreRegistry().registerSystem(new BlockChangeSystems.Place(tables));
+
         // Register packet handlers
         registerPacketHandlers();
 
@@ -96,6 +107,14 @@ public class GridMovePlugin extends JavaPlugin {
         getLogger().at(Level.INFO).log("GridMove v%s setup complete!", VERSION);
     }
 
+    @Override
+    public void start() {
+        // Models: build every bundled model and projectile scale up front so the first
+        // cast of a spell does not pay for Model.createScaledModel. Assets are loaded
+        // by the time plugins start; setup() would race them.
+        CompletableFuture.runAsync(GridMovePlugin::preloadModels);
+    }
+
     @Override
     public void shutdown() {
         getLogger().at(Level.INFO).log("Shutting down GridMove v%s", VERSION);
@@ -103,9 +122,13 @@ public class GridMovePlugin extends JavaPlugin {
         if (this.disconnectRegistration != null) {
             this.disconnectRegistration.unregister();
         }
+        if (this.worldRemovedRegistration != null) {
+            this.worldRemovedRegistration.unregister();
+        }
         if (hotbarPacketFilter != null) {
             PacketAdapters.deregisterInbound(hotbarPacketFilter);
         }
+        tables.shutdown();
 
         getLogger().at(Level.INFO).log("GridMove v%s shutdown complete!", VERSION);
     }
@@ -115,10 +138,11 @@ public class GridMovePlugin extends JavaPlugin {
             if (packet instanceof ClientMovement && handler instanceof GamePacketHandler) {
                 try {
                     GamePacketHandler gameHandler = (GamePacketHandler) handler;
-                    movementHandler.handleMovement(
-                            gameHandler.getPlayerRef(),
-                            (ClientMovement) packet
-                    );
+                    PlayerRef playerRef = gameHandler.getPlayerRef();
+                    TableSession table = tables.forPlayer(playerRef);
+                    if (table != null) {
+                        table.getMovementHandler().handleMovement(playerRef, (ClientMovement) packet);
+                    }
                 } catch (Exception e) {
                     getLogger().at(Level.WARNING)
                             .log("Error handling ClientMovement: " + e.getMessage());
@@ -131,55 +155,51 @@ public class GridMovePlugin extends JavaPlugin {
 
     private void registerCommands() {
         // Role commands
-        GMCommand gmCmd = new GMCommand(roleManager);
-        GridPlayerCommand gridPlayerCmd = new GridPlayerCommand(roleManager);
-        getCommandRegistry().registerCommand(gmCmd);
-        getCommandRegistry().registerCommand(gridPlayerCmd);
-        getCommandRegistry().registerCommand(new GridNullCommand(roleManager));
-        getCommandRegistry().registerCommand(new GridRestartCommand(roleManager));
+        getCommandRegistry().registerCommand(new GMCommand(tables));
+        getCommandRegistry().registerCommand(new GridPlayerCommand(tables));
+        getCommandRegistry().registerCommand(new GridNullCommand(tables));
+        getCommandRegistry().registerCommand(new GridRestartCommand(tables));
+        getCommandRegistry().registerCommand(new GridReloadCommand(tables, catalogLoader));
 
         // Declared early — both needed before EndTurnCommand
-        CombatCommand combatCommand = new CombatCommand(roleManager, combatManager, gridMoveManager);
+        CombatCommand combatCommand = new CombatCommand(tables);
         com.gridifymydungeon.plugin.dnd.commands.FogOfWarCommand fogOfWarCommand =
-                new com.gridifymydungeon.plugin.dnd.commands.FogOfWarCommand(gridMoveManager, roleManager);
+                new com.gridifymydungeon.plugin.dnd.commands.FogOfWarCommand(tables);
         combatCommand.setFogOfWarCommand(fogOfWarCommand);
-        SpellVisualManager spellVisualManager = new SpellVisualManager(gridMoveManager);
-        positionTracker.setSpellVisualManager(spellVisualManager);
-        gmPositionTracker.setSpellVisualManager(spellVisualManager);
 
         // Player commands
-        getCommandRegistry().registerCommand(new GridMoveCommand(gridMoveManager, collisionDetector, roleManager));
-        getCommandRegistry().registerCommand(new com.gridifymydungeon.plugin.gridmove.commands.MaxTurnsCommand(gridMoveManager));
-        getCommandRegistry().registerCommand(new EndTurnCommand(
-                gridMoveManager, combatManager, combatCommand, collisionDetector,
-                encounterManager, spellVisualManager
-        ));
+        getCommandRegistry().registerCommand(new GridMoveCommand(tables));
+        getCommandRegistry().registerCommand(new com.gridifymydungeon.plugin.gridmove.commands.MaxTurnsCommand(tables));
+        getCommandRegistry().registerCommand(new EndTurnCommand(tables, combatCommand));
         getCommandRegistry().registerCommand(new GridCamCommand());
-        getCommandRegistry().registerCommand(new ClearHologramsCommand(gridMoveManager));
-        getCommandRegistry().registerCommand(new GridOnCommand(gridMoveManager, collisionDetector, encounterManager, roleManager));
-        getCommandRegistry().registerCommand(new GridOffCommand(gridMoveManager));
-        getCommandRegistry().registerCommand(new GridToggleCommand(gridMoveManager, collisionDetector, encounterManager, roleManager));
-
-        // GM commands (excluding CreatureCommand — registered after hotbarInputHandler is built)
-        getCommandRegistry().registerCommand(new ControlCommand(roleManager, encounterManager, gridMoveManager));
-        getCommandRegistry().registerCommand(new SlainCommand(encounterManager, roleManager));
+        getCommandRegistry().registerCommand(new ClearHologramsCommand(tables));
+        getCommandRegistry().registerCommand(new GridOnCommand(tables));
+        getCommandRegistry().registerCommand(new GridOffCommand(tables));
+        getCommandRegistry().registerCommand(new GridToggleCommand(tables));
+        getCommandRegistry().registerCommand(new GridFollowCommand(tables));
+
+        // GM commands
+        getCommandRegistry().registerCommand(new ControlCommand(tables));
+        getCommandRegistry().registerCommand(new SlainCommand(tables));
+        getCommandRegistry().registerCommand(new CreatureCommand(tables));
+        getCommandRegistry().registerCommand(new AdvanceCommand(tables));
 
         // Stat commands
-        getCommandRegistry().registerCommand(new STRCommand(gridMoveManager, roleManager, encounterManager));
-        getCommandRegistry().registerCommand(new DEXCommand(gridMoveManager, roleManager, encounterManager));
-        getCommandRegistry().registerCommand(new CONCommand(gridMoveManager, roleManager, encounterManager));
-        getCommandRegistry().registerCommand(new INTCommand(gridMoveManager, roleManager, encounterManager));
-        getCommandRegistry().registerCommand(new WISCommand(gridMoveManager, roleManager, encounterManager));
-        getCommandRegistry().registerCommand(new CHACommand(gridMoveManager, roleManager, encounterManager));
-        getCommandRegistry().registerCommand(new HPCommand(gridMoveManager, roleManager, encounterManager));
-        getCommandRegistry().registerCommand(new ArmorCommand(gridMoveManager, roleManager, encounterManager));
-        getCommandRegistry().registerCommand(new InitiativeCommand(gridMoveManager, roleManager, encounterManager));
-        getCommandRegistry().registerCommand(new FlyingCommand(gridMoveManager, roleManager, encounterManager));
+        getCommandRegistry().registerCommand(new STRCommand(tables));
+        getCommandRegistry().registerCommand(new DEXCommand(tables));
+        getCommandRegistry().registerCommand(new CONCommand(tables));
+        getCommandRegistry().registerCommand(new INTCommand(tables));
+        getCommandRegistry().registerCommand(new WISCommand(tables));
+        getCommandRegistry().registerCommand(new CHACommand(tables));
+        getCommandRegistry().registerCommand(new HPCommand(tables));
+        getCommandRegistry().registerCommand(new ArmorCommand(tables));
+        getCommandRegistry().registerCommand(new InitiativeCommand(tables));
+        getCommandRegistry().registerCommand(new FlyingCommand(tables));
 
         // Character code system
-        getCommandRegistry().registerCommand(new GridRegisterCommand(gridMoveManager, roleManager));
-        getCommandRegistry().registerCommand(new GridLoginCommand(gridMoveManager, roleManager));
-        getCommandRegistry().registerCommand(new GridProfileCommand(gridMoveManager, roleManager));
+        getCommandRegistry().registerCommand(new GridRegisterCommand(tables));
+        getCommandRegistry().registerCommand(new GridLoginCommand(tables));
+        getCommandRegistry().registerCommand(new GridProfileCommand(tables));
 
         // Dice commands
         getCommandRegistry().registerCommand(new DiceCommand(combatSettings));
@@ -187,62 +207,61 @@ public class GridMovePlugin extends JavaPlugin {
         getCommandRegistry().registerCommand(new DisDiceCommand(combatSettings));
 
         // Combat commands
-        getCommandRegistry().registerCommand(new InitivCommand(roleManager, combatManager));
+        getCommandRegistry().registerCommand(new InitivCommand(tables));
         getCommandRegistry().registerCommand(combatCommand);
-        getCommandRegistry().registerCommand(new CriticalCommand(roleManager, combatSettings));
+        getCommandRegistry().registerCommand(new CriticalCommand(tables, combatSettings));
 
         // Preset commands
         getCommandRegistry().registerCommand(new GridClassesCommand());
 
         // Level commands
-        getCommandRegistry().registerCommand(new LevelUpCommand(gridMoveManager, roleManager));
-        getCommandRegistry().registerCommand(new LevelDownCommand(gridMoveManager, roleManager));
+        getCommandRegistry().registerCommand(new LevelUpCommand(tables));
+        getCommandRegistry().registerCommand(new LevelDownCommand(tables));
 
         // Class selection commands
-        getCommandRegistry().registerCommand(new GridClassCommand(gridMoveManager, roleManager, encounterManager));
-        getCommandRegistry().registerCommand(new GridSubclassCommand(gridMoveManager));
-        getCommandRegistry().registerCommand(new com.gridifymydungeon.plugin.dnd.commands.GridSubclassesCommand(gridMoveManager));
+        getCommandRegistry().registerCommand(new GridClassCommand(tables));
+        getCommandRegistry().registerCommand(new GridSubclassCommand(tables));
+        getCommandRegistry().registerCommand(new com.gridifymydungeon.plugin.dnd.commands.GridSubclassesCommand(tables));
 
         // Spell casting commands
-        PersistentSpellManager persistentSpellManager = new PersistentSpellManager();
-        com.gridifymydungeon.plugin.spell.WildShapeManager wildShapeManager =
-                new com.gridifymydungeon.plugin.spell.WildShapeManager(gridMoveManager);
-        com.gridifymydungeon.plugin.spell.PolymorphManager polymorphManager =
-                new com.gridifymydungeon.plugin.spell.PolymorphManager(gridMoveManager, encounterManager);
-        getCommandRegistry().registerCommand(new ListSpellsCommand(gridMoveManager, roleManager, encounterManager));
-        getCommandRegistry().registerCommand(new CastCommand(gridMoveManager, encounterManager, spellVisualManager, roleManager, collisionDetector));
-        getCommandRegistry().registerCommand(new CastTargetCommand(gridMoveManager, spellVisualManager));
-        getCommandRegistry().registerCommand(new CastFinalCommand(gridMoveManager, encounterManager, spellVisualManager, combatSettings, roleManager));
-        getCommandRegistry().registerCommand(new CastCancelCommand(gridMoveManager, spellVisualManager, encounterManager, roleManager));
-        getCommandRegistry().registerCommand(new com.gridifymydungeon.plugin.spell.OrbCommand(gridMoveManager));
-        getCommandRegistry().registerCommand(new com.gridifymydungeon.plugin.spell.PolyformCommand(gridMoveManager, encounterManager, polymorphManager));
-        getCommandRegistry().registerCommand(new com.gridifymydungeon.plugin.spell.PolyrevertCommand(encounterManager, polymorphManager));
+        getCommandRegistry().registerCommand(new ListSpellsCommand(tables));
+        getCommandRegistry().registerCommand(new CastCommand(tables));
+        getCommandRegistry().registerCommand(new CastTargetCommand(tables));
+        getCommandRegistry().registerCommand(new CastFinalCommand(tables, combatSettings));
+        getCommandRegistry().registerCommand(new CastCancelCommand(tables));
+        getCommandRegistry().registerCommand(new com.gridifymydungeon.plugin.spell.OrbCommand(tables));
+        getCommandRegistry().registerCommand(new com.gridifymydungeon.plugin.spell.PolyformCommand(tables));
+        getCommandRegistry().registerCommand(new com.gridifymydungeon.plugin.spell.PolyrevertCommand(tables));
 
         // Help command
-        getCommandRegistry().registerCommand(new GridWeatherCommand(roleManager));
+        getCommandRegistry().registerCommand(new GridWeatherCommand(tables));
         getCommandRegistry().registerCommand(fogOfWarCommand);
-        getCommandRegistry().registerCommand(new GridHelpCommand(roleManager));
+        getCommandRegistry().registerCommand(new GridHelpCommand(tables));
 
-        // Build and register hotbar input handler (needs spellVisualManager, built above)
-        this.hotbarInputHandler = new HotbarInputHandler(
-                gridMoveManager, encounterManager, spellVisualManager, roleManager, collisionDetector);
-        hotbarPacketFilter = PacketAdapters.registerInbound(hotbarInputHandler);
-        disconnectListener.setHotbarInputHandler(hotbarInputHandler);
-        gmCmd.setHotbarInputHandler(hotbarInputHandler);
-        gridPlayerCmd.setHotbarInputHandler(hotbarInputHandler);
-
-        // CreatureCommand registered here so hotbarInputHandler is guaranteed non-null
-        getCommandRegistry().registerCommand(new CreatureCommand(
-                encounterManager, roleManager, collisionDetector, gridMoveManager, hotbarInputHandler));
+        // Hotbar input: one filter for the server, routed to the player's current table
+        hotbarPacketFilter = PacketAdapters.registerInbound((PlayerPacketFilter) (playerRef, packet) -> {
+            TableSession table = tables.forPlayer(playerRef);
+            return table != null && table.getHotbarInputHandler().test(playerRef, packet);
+        });
 
         getLogger().at(Level.INFO).log("Registered all commands successfully!");
     }
 
+    private static void preloadModels() {
+        List<String> ids = new ArrayList<>(ModelRegistry.bundledModelIds());
+        int bundled = ids.size();
+        ProjectileType[] projectiles = ProjectileType.values();
+        float[] scales = new float[bundled + projectiles.length];
+        java.util.Arrays.fill(scales, 0, bundled, 1.0f);
+        for (int i = 0; i < projectiles.length; i++) {
+            ids.add(projectiles[i].modelAssetId);
+            scales[bundled + i] = projectiles[i].entityScale;
+        }
+        ModelRegistry.preload(ids, scales);
+    }
+
     // Getters
-    public GridMoveManager getGridMoveManager() { return gridMoveManager; }
-    public RoleManager getRoleManager() { return roleManager; }
-    public EncounterManager getEncounterManager() { return encounterManager; }
-    public CombatManager getCombatManager() { return combatManager; }
+    public TableRegistry getTables() { return tables; }
     public CombatSettings getCombatSettings() { return combatSettings; }
     public PlayerDataManager getPlayerDataManager() { return playerDataManager; }
-}
\ No newline at end of file
+}
@@ -7,11 +7,7 @@ import com.hypixel.hytale.component.Store;
 import com.hypixel.hytale.math.util.ChunkUtil;
 import com.hypixel.hytale.math.vector.Vector3d;
 import com.hypixel.hytale.math.vector.Vector3f;
-import com.hypixel.hytale.math.vector.Vector3i;
-import com.hypixel.hytale.protocol.BlockMaterial;
-import com.hypixel.hytale.server.core.asset.type.blocktype.config.BlockType;
 import com.hypixel.hytale.server.core.asset.type.model.config.Model;
-import com.hypixel.hytale.server.core.asset.type.model.config.ModelAsset;
 import com.hypixel.hytale.server.core.entity.UUIDComponent;
 import com.hypixel.hytale.server.core.modules.entity.component.BoundingBox;
 import com.hypixel.hytale.server.core.modules.entity.component.ModelComponent;
@@ -59,14 +55,23 @@ public class GridOverlayManager {
     private static Model cachedDefaultModel = null;
     private static Model cachedDifficultModel = null; // BUG FIX
     private static boolean modelsAttempted  = false;
+    // Asset ids behind the cached models (after fallbacks), for scaled merged tiles
+    private static String playerModelId    = null;
+    private static String defaultModelId   = null;
+    private static String difficultModelId = null;
 
     private static final int MAX_OVERLAY_CELLS = 150;
 
     // FIX #2: was 15 (30×30). Now 30 → 61×61 ≈ 60×60
     private static final int GM_MAP_RADIUS = 30;
+    private static final int GM_MAP_CELLS  = (GM_MAP_RADIUS * 2 + 1) * (GM_MAP_RADIUS * 2 + 1);
 
-    private static final float MAX_HEIGHT_UP   = 3.0f;
-    private static final float MAX_HEIGHT_DOWN = 4.0f;
+    // Progressive /grid build: world-thread work per tick, and the tick spacing
+    private static final long BUILD_BUDGET_NANOS = 4_000_000L;
+    private static final long BUILD_STEP_MS      = 50L;
+
+    static final float MAX_HEIGHT_UP   = 3.0f;
+    static final float MAX_HEIGHT_DOWN = 4.0f;
 
     // Scheduler for hide-from-others delay
     private static final ScheduledExecutorService SCHED =
@@ -103,11 +108,10 @@ public class GridOverlayManager {
                                                  CollisionDetector collisionDetector,
                                                  UUID excludePlayer, PlayerRef owner) {
         ensureModels();
-        Model model = cachedPlayerModel != null ? cachedPlayerModel : cachedDefaultModel;
-        if (model == null) return false;
+        if (playerModelId == null) return false;
 
         BfsResult bfs = floodFillReachable(world, state, collisionDetector, excludePlayer);
-        updateCellsWithReuse(world, state, bfs.reachable, bfs.ledge, model, 0.02f, owner);
+        updateCellsWithReuse(world, state, bfs.reachable, bfs.ledge, playerModelId, 0.02f, owner);
         state.gridOverlayEnabled = true;
         state.gmMapOverlayActive = false;
         System.out.println("[GridMove] [GRID] Player overlay: " + bfs.reachable.size()
@@ -121,11 +125,10 @@ public class GridOverlayManager {
     public static boolean spawnGMBFSOverlay(World world, GridPlayerState state,
                                             CollisionDetector collisionDetector) {
         ensureModels();
-        Model model = cachedPlayerModel != null ? cachedPlayerModel : cachedDefaultModel;
-        if (model == null) return false;
+        if (playerModelId == null) return false;
         removeGridOverlayEntities(world, state);
         BfsResult bfs = floodFillReachable(world, state, collisionDetector, null);
-        spawnCells(world, state, bfs.reachable, model, 0.02f);
+        spawnCells(world, state, bfs.reachable, playerModelId, 0.02f);
         state.gridOverlayEnabled = true;
         state.gmMapOverlayActive = false;
         System.out.println("[GridMove] [GRID] GM BFS overlay (blue): " + bfs.reachable.size() + " cells");
@@ -136,11 +139,10 @@ public class GridOverlayManager {
     public static boolean spawnGridOverlay(World world, GridPlayerState state,
                                            CollisionDetector collisionDetector, UUID excludePlayer) {
         ensureModels();
-        Model model = cachedDefaultModel;
-        if (model == null) return false;
+        if (defaultModelId == null) return false;
         removeGridOverlayEntities(world, state);
         BfsResult bfs = floodFillReachable(world, state, collisionDetector, excludePlayer);
-        spawnCells(world, state, bfs.reachable, model, 0.01f); // Grid_Basic: +0.01
+        spawnCells(world, state, bfs.reachable, defaultModelId, 0.01f); // Grid_Basic: +0.01
         state.gridOverlayEnabled = true;
         state.gmMapOverlayActive = false;
         System.out.println("[GridMove] [GRID] Monster overlay: " + bfs.reachable.size() + " cells");
@@ -150,37 +152,131 @@ public class GridOverlayManager {
     /**
      * GM /grid toggle — FIX #2: flat 60×60 area map (was 30×30).
      * gmMapOverlayActive = TRUE → this is the static /grid map, not BFS range.
+     *
+     * Built progressively: cells are scanned and spawned in square rings spiralling
+     * out from the GM, at most BUILD_BUDGET_NANOS of work per world tick, so the
+     * nearest tiles appear first and the server never stalls on all 3,721 cells.
+     * Toggling off (or rebuilding) mid-way cancels the remaining rings.
+     * Must be called on the world thread.
      */
     public static boolean spawnGMMapOverlay(World world, GridPlayerState gmState) {
         ensureModels();
-        Model model = cachedDefaultModel;
-        if (model == null) return false;
+        if (defaultModelId == null) return false;
 
         removeGridOverlayEntities(world, gmState);
 
-        int centerX = gmState.currentGridX;
-        int centerZ = gmState.currentGridZ;
-        float scanStart = gmState.npcY - 3.0f;
-
-        List<ReachableCell> cells = new ArrayList<>();
-        for (int dx = -GM_MAP_RADIUS; dx <= GM_MAP_RADIUS; dx++) {
-            for (int dz = -GM_MAP_RADIUS; dz <= GM_MAP_RADIUS; dz++) {
-                int gx = centerX + dx;
-                int gz = centerZ + dz;
-                if (isBarrierCell(world, gx, gz, scanStart)) continue;
-                Float groundY = scanForGround(world, gx, gz, scanStart, 15);
-                if (groundY == null) continue;
-                if (hasFluidAbove(world, gx, gz, groundY)) continue;
-                cells.add(new ReachableCell(gx, gz, groundY));
+        GmMapBuild build = new GmMapBuild(gmState.currentGridX, gmState.currentGridZ,
+                gmState.npcY - 3.0f, defaultModelId);
+        gmState.gmMapBuild = build;
+        gmState.gridOverlayEnabled = true;
+        gmState.gmMapOverlayActive = true;
+        stepGMMapBuild(world, gmState, build);
+        return true;
+    }
+
+    /** Run one budgeted slice of a GM map build, then reschedule for the next tick. */
+    private static void stepGMMapBuild(World world, GridPlayerState gmState, GmMapBuild build) {
+        if (build.cancelled || gmState.gmMapBuild != build) return;
+
+        long deadline = System.nanoTime() + BUILD_BUDGET_NANOS;
+        do {
+            int gx = build.centerX + build.dx;
+            int gz = build.centerZ + build.dz;
+            TileMerger.Cell cell = scanMapCell(world, gx, gz, build.scanStart);
+            build.scanned++;
+            // Spawn an 8×8 block's merged tiles as soon as its last cell has been scanned
+            List<TileMerger.Cell> complete = build.record(gx, gz, cell);
+            if (complete != null) {
+                for (TileMerger.Square sq : withModels(TileMerger.merge(complete), build.modelId, build.modelId)) {
+                    Ref<EntityStore> ref = TilePool.borrow(world, tileModel(build.modelId, sq.size),
+                            sq.centerX(), sq.groundY + 0.01f, sq.centerZ(), // Grid_Basic: +0.01
+                            "map-tile", gmState);
+                    gmState.gridOverlay.add(ref);
+                    build.spawned++;
+                }
+                build.cells += complete.size();
             }
+        } while (build.advance() && System.nanoTime() < deadline);
+        build.steps++;
+
+        if (build.isDone()) {
+            gmState.gmMapBuild = null;
+            if (gmState.hud != null) gmState.hud.setProgressNote(null);
+            System.out.println("[GridMove] [GRID] GM map overlay: " + build.cells + " cells (60x60) as "
+                    + build.spawned + " tiles in " + build.steps + " ticks (pool " + TilePool.stats(world) + ")");
+            return;
         }
-        spawnCells(world, gmState, cells, model, 0.01f); // Grid_Basic: +0.01
+
+        if (gmState.hud != null) gmState.hud.setProgressNote("Building map... " + build.percent() + "%");
+        SCHED.schedule(() -> WorldWorkQueue.submit(world, WorldWorkQueue.Priority.OVERLAY,
+                () -> stepGMMapBuild(world, gmState, build)), BUILD_STEP_MS, TimeUnit.MILLISECONDS);
+    }
+
+    /** One GM map cell: its ground tile, or null for barriers, fluid and open air. */
+    static TileMerger.Cell scanMapCell(World world, int gx, int gz, float scanStart) {
+        if (isBarrierCell(world, gx, gz, scanStart)) return null;
+        Float groundY = scanForGround(world, gx, gz, scanStart, 15);
+        if (groundY == null || hasFluidAbove(world, gx, gz, groundY)) return null;
+        return new TileMerger.Cell(gx, gz, groundY, false);
+    }
+
+    /**
+     * GM /gridfollow — streaming map of the given radius that stays centred on the
+     * GM (or the controlled monster). See GmMapWindow. Must be called on the world thread.
+     */
+    public static boolean spawnGMFollowMap(World world, GridPlayerState gmState, int radius) {
+        ensureModels();
+        if (defaultModelId == null) return false;
+
+        removeGridOverlayEntities(world, gmState);
+
+        GmMapWindow window = new GmMapWindow(radius, gmState.currentGridX, gmState.currentGridZ,
+                gmState.npcY - 3.0f, defaultModelId);
+        gmState.gmMapWindow = window;
         gmState.gridOverlayEnabled = true;
         gmState.gmMapOverlayActive = true;
-        System.out.println("[GridMove] [GRID] GM map overlay: " + cells.size() + " cells (60x60)");
+        BlockChangeBus bus = TableSession.blockChangesOf(world);
+        if (bus != null) {
+            window.subscribe(bus, (w, cells) -> {
+                if (window.rescan(cells) && !window.stepScheduled) stepGMMapWindow(w, gmState, window);
+            });
+        }
+        stepGMMapWindow(world, gmState, window);
         return true;
     }
 
+    /** Re-centre the GM's streaming map on (gridX, gridZ). No-op without one. World thread. */
+    public static void followGMMap(World world, GridPlayerState gmState, int gridX, int gridZ, float y) {
+        GmMapWindow window = gmState.gmMapWindow;
+        if (window == null || window.closed) return;
+        if (window.slideTo(gridX, gridZ, y - 3.0f) && !window.stepScheduled) {
+            stepGMMapWindow(world, gmState, window);
+        }
+    }
+
+    /** Run one budgeted slice of streaming-map work, rescheduling while any remains. */
+    private static void stepGMMapWindow(World world, GridPlayerState gmState, GmMapWindow window) {
+        window.stepScheduled = false;
+        if (window.closed || gmState.gmMapWindow != window) return;
+
+        boolean more = window.step(world, System.nanoTime() + BUILD_BUDGET_NANOS);
+
+        if (window.filling) {
+            if (window.queued() > 0) {
+                if (gmState.hud != null) gmState.hud.setProgressNote("Building map... " + window.percent() + "%");
+            } else {
+                window.filling = false;
+                if (gmState.hud != null) gmState.hud.setProgressNote(null);
+                System.out.println("[GridMove] [GRID] GM follow map r=" + window.radius + ": " + window.stats()
+                        + " (pool " + TilePool.stats(world) + ")");
+            }
+        }
+        if (!more) return;
+        window.stepScheduled = true;
+        SCHED.schedule(() -> WorldWorkQueue.submit(world, WorldWorkQueue.Priority.OVERLAY,
+                () -> stepGMMapWindow(world, gmState, window)), BUILD_STEP_MS, TimeUnit.MILLISECONDS);
+    }
+
     /** GM /grid — same as spawnGMMapOverlay, kept for GridToggleCommand compatibility. */
     public static boolean spawnGMSmallMapOverlay(World world, GridPlayerState gmState) {
         return spawnGMMapOverlay(world, gmState);
@@ -195,6 +291,11 @@ public class GridOverlayManager {
                                           CollisionDetector collisionDetector,
                                           UUID excludePlayer, PlayerRef owner) {
         if (!state.gridOverlayEnabled) return;
+        // Streaming /gridfollow map — slide the window instead of rebuilding
+        if (state.gmMapWindow != null) {
+            followGMMap(world, state, state.currentGridX, state.currentGridZ, state.npcY);
+            return;
+        }
         // Static /grid map — do NOT auto-refresh on movement
         if (state.gmMapOverlayActive) return;
 
@@ -219,18 +320,18 @@ public class GridOverlayManager {
     // ========================================================
 
     private static void spawnCells(World world, GridPlayerState state,
-                                   List<ReachableCell> cells, Model model) {
-        spawnCells(world, state, cells, model, 0.01f);
+                                   List<ReachableCell> cells, String modelId) {
+        spawnCells(world, state, cells, modelId, 0.01f);
     }
 
+    /** Public tiles, merged into squares (one scaled entity per square). */
     private static void spawnCells(World world, GridPlayerState state,
-                                   List<ReachableCell> cells, Model model, float yOffset) {
-        Store<EntityStore> store = world.getEntityStore().getStore();
-        for (ReachableCell cell : cells) {
-            float cx = (cell.gridX * 2.0f) + 1.0f;
-            float cz = (cell.gridZ * 2.0f) + 1.0f;
-            float y  = cell.groundY + yOffset;
-            Ref<EntityStore> ref = spawnTile(store, model, cx, y, cz);
+                                   List<ReachableCell> cells, String modelId, float yOffset) {
+        List<TileMerger.Cell> merge = new ArrayList<>(cells.size());
+        for (ReachableCell cell : cells) merge.add(new TileMerger.Cell(cell.gridX, cell.gridZ, cell.groundY, false));
+        for (TileMerger.Square sq : withModels(TileMerger.merge(merge), modelId, modelId)) {
+            Ref<EntityStore> ref = TilePool.borrow(world, tileModel(modelId, sq.size),
+                    sq.centerX(), sq.groundY + yOffset, sq.centerZ(), "grid-tile", state);
             state.gridOverlay.add(ref);
         }
     }
@@ -258,6 +359,7 @@ public class GridOverlayManager {
 
             Ref<EntityStore> ref = spawnTile(store, model, cx, targetY, cz);
             if (ref == null) continue;
+            EntityReaper.tag(world, ref, "grid-tile", state);
             state.gridOverlay.add(ref);
 
             // Store netId for immediate-hide on future teleports (fog pattern)
@@ -269,7 +371,7 @@ public class GridOverlayManager {
 
         // New entities need one entity-tracker tick before we can hide them (200ms)
         final PlayerRef finalOwner = owner;
-        SCHED.schedule(() -> world.execute(() ->
+        SCHED.schedule(() -> WorldWorkQueue.submit(world, WorldWorkQueue.Priority.OVERLAY, () ->
                 com.gridifymydungeon.plugin.dnd.PlayerEntityController
                         .hideGridOverlayFromOthers(world, state, finalOwner)
         ), 200L, TimeUnit.MILLISECONDS);
@@ -320,30 +422,48 @@ public class GridOverlayManager {
      *   groundYCache persists between moves in GridPlayerState.
      *   floodFillReachable (below) reads from this cache for cells it already knows,
      *   so block-scanning only happens for truly-new cells entering the BFS frontier.
+     *
+     * Reachable cells are merged into aligned squares (TileMerger) and gridTileMap is
+     * keyed by square, so a one-cell move only re-splits the squares it touches. The
+     * rest keep their entity, and one whose model and height are unchanged (gridTileLook)
+     * gets no component write or teleport at all.
      */
     private static void updateCellsWithReuse(World world, GridPlayerState state,
                                              List<ReachableCell> newCells,
                                              List<ReachableCell> ledgeCells,
-                                             Model model, float yOffset, PlayerRef owner) {
+                                             String modelId, float yOffset, PlayerRef owner) {
         Store<EntityStore> store = world.getEntityStore().getStore();
         // Park 30 units below the player's current Y — always outside tracker range.
         final float PARKED_Y = state.npcY - 30f;
         final float PARKED_X = (state.currentGridX * 2.0f) + 1.0f;
         final float PARKED_Z = (state.currentGridZ * 2.0f) + 1.0f;
 
-        java.util.Map<String, ReachableCell> incoming = new java.util.HashMap<>();
-        for (ReachableCell c : newCells) incoming.put(c.gridX + "," + c.gridZ, c);
+        List<TileMerger.Cell> merge = new ArrayList<>(newCells.size());
+        for (ReachableCell c : newCells) {
+            merge.add(new TileMerger.Cell(c.gridX, c.gridZ, c.groundY,
+                    TerrainManager.isDifficult(c.gridX, c.gridZ, c.groundY, world)));
+        }
+        java.util.Map<String, TileMerger.Square> incoming = new java.util.HashMap<>();
+        for (TileMerger.Square sq : withModels(TileMerger.merge(merge), modelId, difficultModelId)) {
+            incoming.put(sq.key(), sq);
+        }
 
         // ── 1. Process currently-active tiles ────────────────────────────────
         for (String key : new java.util.HashSet<>(state.gridTileMap.keySet())) {
             Ref<EntityStore> ref = state.gridTileMap.get(key);
-            if (ref == null || !ref.isValid()) { state.gridTileMap.remove(key); continue; }
+            if (ref == null || !ref.isValid()) {
+                state.gridTileMap.remove(key);
+                state.gridTileLook.remove(key);
+                continue;
+            }
 
-            ReachableCell cell = incoming.remove(key);
-            if (cell != null) {
-                // Still reachable — update model first (difficult terrain may have changed).
-                boolean isDiff = TerrainManager.isDifficult(cell.gridX, cell.gridZ, cell.groundY, world);
-                Model correctModel = isDiff ? cachedDifficultModel : model;
+            TileMerger.Square sq = incoming.remove(key);
+            if (sq != null) {
+                String tileModelId = sq.difficult ? difficultModelId : modelId;
+                String look = tileModelId + "@" + (sq.groundY + yOffset);
+                if (look.equals(state.gridTileLook.put(key, look))) continue; // untouched
+                // Same square as last time, but terrain changed its model or height
+                Model correctModel = tileModel(tileModelId, sq.size);
                 try {
                     store.replaceComponent(ref, ModelComponent.getComponentType(),
                             new ModelComponent(correctModel));
@@ -352,12 +472,9 @@ public class GridOverlayManager {
                 } catch (Exception ignored) {}
                 // Hide BEFORE teleport so tracker finds non-owners at the old position.
                 if (owner != null) hideFromNonOwners(store, world, ref, owner);
-                float cx = (cell.gridX * 2.0f) + 1.0f;
-                float cz = (cell.gridZ * 2.0f) + 1.0f;
-                float y  = cell.groundY + yOffset;
                 try {
                     TransformComponent tc = store.getComponent(ref, TransformComponent.getComponentType());
-                    if (tc != null) tc.setPosition(new Vector3d(cx, y, cz));
+                    if (tc != null) tc.setPosition(new Vector3d(sq.centerX(), sq.groundY + yOffset, sq.centerZ()));
                 } catch (Exception ignored) {}
             } else {
                 // Leaving range — hide FIRST (tile still at real Y), then park below player.
@@ -367,6 +484,7 @@ public class GridOverlayManager {
                     if (tc != null) tc.setPosition(new Vector3d(PARKED_X, PARKED_Y, PARKED_Z));
                 } catch (Exception ignored) {}
                 state.gridTileMap.remove(key);
+                state.gridTileLook.remove(key);
                 state.gridTilePool.add(ref);
             }
         }
@@ -374,14 +492,15 @@ public class GridOverlayManager {
         // ── 2. Fill new cells — recycle pool first, fresh spawn if exhausted ─
         java.util.List<PendingTile> pending = new java.util.ArrayList<>();
 
-        for (java.util.Map.Entry<String, ReachableCell> e : incoming.entrySet()) {
+        for (java.util.Map.Entry<String, TileMerger.Square> e : incoming.entrySet()) {
             String key = e.getKey();
-            ReachableCell cell = e.getValue();
-            float cx = (cell.gridX * 2.0f) + 1.0f;
-            float cz = (cell.gridZ * 2.0f) + 1.0f;
-            float targetY = cell.groundY + yOffset;
-            boolean isDiff = TerrainManager.isDifficult(cell.gridX, cell.gridZ, cell.groundY, world);
-            Model correctModel = isDiff ? cachedDifficultModel : model;
+            TileMerger.Square sq = e.getValue();
+            float cx = sq.centerX();
+            float cz = sq.centerZ();
+            float targetY = sq.groundY + yOffset;
+            String tileModelId = sq.difficult ? difficultModelId : modelId;
+            Model correctModel = tileModel(tileModelId, sq.size);
+            state.gridTileLook.put(key, tileModelId + "@" + targetY);
 
             Ref<EntityStore> recycled = poolPop(state.gridTilePool);
             if (recycled != null) {
@@ -401,9 +520,13 @@ public class GridOverlayManager {
                 continue;
             }
 
-            // Fresh spawn — born below player (invisible underground), hide after 200ms, teleport up.
-            Ref<EntityStore> ref = spawnTile(store, correctModel, PARKED_X, PARKED_Y, PARKED_Z);
-            if (ref == null) continue;
+            // From the world pool — placed below player (invisible underground), hide after 200ms, teleport up.
+            Ref<EntityStore> ref = TilePool.borrow(world, correctModel, PARKED_X, PARKED_Y, PARKED_Z,
+                    "grid-tile", state);
+            if (ref == null) {
+                state.gridTileLook.remove(key);
+                continue;
+            }
             state.gridTileMap.put(key, ref);
             pending.add(new PendingTile(ref, cx, targetY, cz));
         }
@@ -434,7 +557,7 @@ public class GridOverlayManager {
             float cz = (cell.gridZ * 2.0f) + 1.0f;
             float targetY = cell.groundY + yOffset;
             boolean isDiff = TerrainManager.isDifficult(cell.gridX, cell.gridZ, cell.groundY, world);
-            Model correctModel = isDiff ? cachedDifficultModel : model;
+            Model correctModel = tileModel(isDiff ? difficultModelId : modelId, 1);
 
             if (state.ledgeTileMap.containsKey(key)) {
                 @SuppressWarnings("unchecked")
@@ -457,7 +580,8 @@ public class GridOverlayManager {
                 if (owner != null) hideFromNonOwners(store, world, ref, owner);
                 state.ledgeTileMap.put(key, new Object[]{ref, targetY});
             } else {
-                Ref<EntityStore> fresh = spawnTile(store, correctModel, PARKED_X, PARKED_Y, PARKED_Z);
+                Ref<EntityStore> fresh = TilePool.borrow(world, correctModel, PARKED_X, PARKED_Y, PARKED_Z,
+                        "ledge-tile", state);
                 if (fresh == null) continue;
                 state.ledgeTileMap.put(key, new Object[]{fresh, targetY});
                 pending.add(new PendingTile(fresh, cx, targetY, cz));
@@ -478,7 +602,7 @@ public class GridOverlayManager {
             final PlayerRef fOwner = owner;
             final java.util.List<PendingTile> fPending = pending;
             final Store<EntityStore> fStore = store;
-            SCHED.schedule(() -> world.execute(() -> {
+            SCHED.schedule(() -> WorldWorkQueue.submit(world, WorldWorkQueue.Priority.OVERLAY, () -> {
                 for (PendingTile pt : fPending) {
                     if (!pt.ref.isValid()) continue;
                     if (fOwner != null) hideFromNonOwners(fStore, world, pt.ref, fOwner);
@@ -490,19 +614,30 @@ public class GridOverlayManager {
             }), 200L, TimeUnit.MILLISECONDS);
         }
 
-        System.out.println("[GridMove][GRID] active=" + state.gridTileMap.size()
-                + " ledge=" + state.ledgeTileMap.size()
-                + " pool=" + state.gridTilePool.size()
-                + " freshSpawn=" + pending.size());
     }
 
 
     private static void removeGridOverlayEntities(World world, GridPlayerState state) {
         Store<EntityStore> store = world.getEntityStore().getStore();
-        // Remove active tiles
+        // Stop an unfinished /grid build; tiles it already spawned are in gridOverlay below
+        if (state.gmMapBuild != null) {
+            state.gmMapBuild.cancelled = true;
+            state.gmMapBuild = null;
+            if (state.hud != null) state.hud.setProgressNote(null);
+        }
+        if (state.gmMapWindow != null) {
+            if (state.gmMapWindow.filling && state.hud != null) state.hud.setProgressNote(null);
+            state.gmMapWindow.close(world);
+            state.gmMapWindow = null;
+        }
+        // Public overlays (GM map, GM/monster BFS) go back to the world pool; private
+        // player tiles were hidden from others and cannot be shared, so they are removed.
+        boolean privateTiles = !state.gridTileMap.isEmpty() || !state.ledgeTileMap.isEmpty()
+                || !state.gridTilePool.isEmpty();
         for (Ref<EntityStore> ref : state.gridOverlay) {
-            if (ref != null && ref.isValid())
-                try { store.removeEntity(ref, RemoveReason.REMOVE); } catch (Exception ignored) {}
+            if (ref == null || !ref.isValid()) continue;
+            if (!privateTiles) { TilePool.release(world, ref); continue; }
+            try { store.removeEntity(ref, RemoveReason.REMOVE); } catch (Exception ignored) {}
         }
         // Remove parked pool tiles (full teardown on /gridoff)
         for (Ref<EntityStore> ref : state.gridTilePool) {
@@ -517,6 +652,7 @@ public class GridOverlayManager {
         }
         state.gridOverlay.clear();
         state.gridTileMap.clear();
+        state.gridTileLook.clear();
         state.ledgeTileMap.clear();
         state.gridTilePool.clear();
         state.gridTileNetIds.clear();
@@ -542,6 +678,10 @@ public class GridOverlayManager {
      *
      * Cache is evicted for cells that are now more than (maxMoves+2) Chebyshev steps
      * from the player, keeping memory bounded.
+     *
+     * Steps are weighted by TerrainManager's multiplier for the entered cell (mud,
+     * webs, Entangle, weather), read from its cost raster, so the overlay shows the
+     * same reach the move itself will charge.
      */
     private static BfsResult floodFillReachable(World world, GridPlayerState state,
                                                 CollisionDetector collisionDetector,
@@ -559,6 +699,9 @@ public class GridOverlayManager {
         queue.add(new BfsNode(curX, curZ, state.remainingMoves, startY));
         bestMoves.put(startKey, state.remainingMoves);
         state.groundYCache.put(startKey, startY);
+        TerrainManager.WeatherMode weather = TerrainManager.getWeatherMode(world);
+        double minMult = weather == TerrainManager.WeatherMode.CHASE ? 0.0
+                : weather == TerrainManager.WeatherMode.SWIFT ? 0.5 : 1.0;
 
         while (!queue.isEmpty() && result.size() < MAX_OVERLAY_CELLS) {
             BfsNode cur = queue.poll();
@@ -566,13 +709,14 @@ public class GridOverlayManager {
                 int nx = cur.gridX + nb[0];
                 int nz = cur.gridZ + nb[1];
                 boolean diagonal = (nb[0] != 0 && nb[1] != 0);
-                double cost = diagonal ? 1.5 : 1.0;
-                double movesAfter = cur.movesLeft - cost;
-                if (movesAfter < 0) continue;
+                double baseCost = diagonal ? 1.5 : 1.0;
+                // Terrain can only raise the cost to 2x; a step unaffordable even at
+                // the cheapest multiplier is rejected before any block reads
+                if (cur.movesLeft - baseCost * minMult < 0) continue;
 
                 long nKey = packKey(nx, nz);
                 Double prev = bestMoves.get(nKey);
-                if (prev != null && prev >= movesAfter) continue;
+                if (prev != null && prev >= cur.movesLeft - baseCost * minMult) continue;
 
                 if (collisionDetector != null &&
                         collisionDetector.isPositionOccupied(nx, nz, -1, excludePlayer)) continue;
@@ -593,6 +737,11 @@ public class GridOverlayManager {
                     continue;
                 }
 
+                // Same price PlayerPositionTracker charges for the step (cached cost raster)
+                double movesAfter = cur.movesLeft
+                        - baseCost * TerrainManager.getMoveCostMultiplier(nx, nz, groundY, world);
+                if (movesAfter < 0 || (prev != null && prev >= movesAfter)) continue;
+
                 bestMoves.put(nKey, movesAfter);
                 if (nx != curX || nz != curZ) {
                     if (prev == null) result.add(new ReachableCell(nx, nz, groundY));
@@ -617,16 +766,15 @@ public class GridOverlayManager {
     // BARRIER DETECTION
     // ========================================================
 
-    private static boolean isBarrierCell(World world, int gridX, int gridZ, float refY) {
+    static boolean isBarrierCell(World world, int gridX, int gridZ, float refY) {
         try {
             int scanFrom = (int) Math.floor(refY) + 2;
             int scanTo   = (int) Math.floor(refY) - 4;
             for (int y = scanFrom; y >= scanTo; y--) {
                 for (int xOff = 0; xOff < 2; xOff++) {
                     for (int zOff = 0; zOff < 2; zOff++) {
-                        BlockType block = world.getBlockType(
-                                new Vector3i((gridX * 2) + xOff, y, (gridZ * 2) + zOff));
-                        if (isBarrier(block)) return true;
+                        int f = BlockFlags.at(world, (gridX * 2) + xOff, y, (gridZ * 2) + zOff);
+                        if ((f & BlockFlags.BARRIER) != 0) return true;
                     }
                 }
             }
@@ -638,7 +786,7 @@ public class GridOverlayManager {
     // GROUND SCANNING
     // ========================================================
 
-    private static Float scanForGround(World world, int gridX, int gridZ, float referenceY) {
+    static Float scanForGround(World world, int gridX, int gridZ, float referenceY) {
         return scanForGround(world, gridX, gridZ, referenceY, 12);
     }
 
@@ -650,12 +798,11 @@ public class GridOverlayManager {
             float maxHeight = 0;
             for (int xOff = 0; xOff < 2; xOff++) {
                 for (int zOff = 0; zOff < 2; zOff++) {
-                    BlockType block = world.getBlockType(
-                            new Vector3i((gridX * 2) + xOff, blockY, (gridZ * 2) + zOff));
-                    if (isSolid(block) && !isBarrier(block)) {
+                    int f = BlockFlags.at(world, (gridX * 2) + xOff, blockY, (gridZ * 2) + zOff);
+                    if (BlockFlags.isGround(f)) {
                         maxHeight = Math.max(maxHeight, 1.0f);
                         hasGround = true;
-                    } else if (isBarrier(block)) {
+                    } else if ((f & BlockFlags.BARRIER) != 0) {
                         hasGround = false;
                     }
                 }
@@ -709,19 +856,6 @@ public class GridOverlayManager {
         return null;
     }
 
-    // ========================================================
-    // BLOCK HELPERS
-    // ========================================================
-
-    private static boolean isSolid(BlockType block) {
-        return block != null && block.getMaterial() == BlockMaterial.Solid;
-    }
-
-    private static boolean isBarrier(BlockType block) {
-        return block != null && block.getId() != null &&
-                block.getId().toLowerCase().contains("barrier");
-    }
-
     // ========================================================
     // MODEL LOADING
     // ========================================================
@@ -732,26 +866,45 @@ public class GridOverlayManager {
         cachedPlayerModel  = loadModel(MODEL_PLAYER);
         cachedDefaultModel = loadModel(MODEL_DEFAULT);
         cachedDifficultModel = loadModel(MODEL_DIFFICULT); // BUG FIX
-        if (cachedPlayerModel  == null) cachedPlayerModel  = cachedDefaultModel;
+        playerModelId    = cachedPlayerModel    != null ? MODEL_PLAYER    : null;
+        defaultModelId   = cachedDefaultModel   != null ? MODEL_DEFAULT   : null;
+        difficultModelId = cachedDifficultModel != null ? MODEL_DIFFICULT : null;
+        if (cachedPlayerModel  == null) { cachedPlayerModel = cachedDefaultModel; playerModelId = defaultModelId; }
         if (cachedDefaultModel == null) {
             cachedDefaultModel = loadModel(FALLBACK_MODEL);
+            defaultModelId = cachedDefaultModel != null ? FALLBACK_MODEL : null;
             cachedPlayerModel  = cachedDefaultModel;
+            playerModelId  = defaultModelId;
+        }
+        if (cachedDifficultModel == null) { // BUG FIX: fallback
+            cachedDifficultModel = cachedPlayerModel;
+            difficultModelId = playerModelId;
         }
-        if (cachedDifficultModel == null) cachedDifficultModel = cachedPlayerModel; // BUG FIX: fallback
     }
 
-    private static Model loadModel(String id) {
-        try {
-            ModelAsset asset = ModelAsset.getAssetMap().getAsset(id);
-            if (asset != null) {
-                System.out.println("[GridMove] [GRID] Loaded model: " + id);
-                return Model.createScaledModel(asset, 1.0f);
-            }
-            System.out.println("[GridMove] [GRID] Model not found: " + id);
-        } catch (Exception e) {
-            System.err.println("[GridMove] [GRID] Error loading " + id + ": " + e.getMessage());
+    /** Tile model covering size×size cells (ModelRegistry caches each scale), or null if it cannot be loaded. */
+    static Model tileModel(String id, int size) {
+        return ModelRegistry.get(id, size);
+    }
+
+    /**
+     * Merged squares, with any square whose scaled model cannot be loaded split back
+     * into single-cell tiles (a 1× model on a merged square would leave holes).
+     */
+    private static List<TileMerger.Square> withModels(List<TileMerger.Square> squares,
+                                                      String modelId, String difficultId) {
+        List<TileMerger.Square> out = new ArrayList<>(squares.size());
+        for (TileMerger.Square sq : squares) {
+            if (sq.size == 1 || tileModel(sq.difficult ? difficultId : modelId, sq.size) != null) out.add(sq);
+            else out.addAll(sq.cells());
         }
-        return null;
+        return out;
+    }
+
+    private static Model loadModel(String id) {
+        Model model = ModelRegistry.get(id);
+        System.out.println("[GridMove] [GRID] " + (model != null ? "Loaded model: " : "Model not found: ") + id);
+        return model;
     }
 
     // ========================================================
@@ -771,7 +924,7 @@ public class GridOverlayManager {
         return store.addEntity(holder, com.hypixel.hytale.component.AddReason.SPAWN);
     }
 
-    private static long packKey(int gridX, int gridZ) {
+    static long packKey(int gridX, int gridZ) {
         return ((long) gridX << 32) | (gridZ & 0xFFFFFFFFL);
     }
 
@@ -790,6 +943,68 @@ public class GridOverlayManager {
         BfsNode(int x, int z, double m, float y) { gridX=x; gridZ=z; movesLeft=m; groundY=y; }
     }
 
+    /**
+     * Cursor over the GM map in square rings around the centre: ring 0 is the centre
+     * cell, ring r is the 8r cells at Chebyshev distance r, walked N, E, S, W edges.
+     */
+    public static final class GmMapBuild {
+        final int centerX, centerZ;
+        final float scanStart;
+        final String modelId;
+        int ring = 0, index = 0, dx = 0, dz = 0;
+        int scanned = 0, cells = 0, spawned = 0, steps = 0;
+        boolean cancelled = false;
+        // Per merge block (TileMerger.MAX_SIZE²): ground cells found so far, and cells still to scan
+        private final Map<Long, List<TileMerger.Cell>> blockCells = new HashMap<>();
+        private final Map<Long, Integer> blockPending = new HashMap<>();
+
+        GmMapBuild(int centerX, int centerZ, float scanStart, String modelId) {
+            this.centerX = centerX; this.centerZ = centerZ;
+            this.scanStart = scanStart; this.modelId = modelId;
+        }
+
+        /**
+         * Record one scanned cell (null = no tile there). Returns the block's ground
+         * cells once every map cell of that block has been scanned, else null.
+         */
+        List<TileMerger.Cell> record(int gx, int gz, TileMerger.Cell cell) {
+            int bx = TileMerger.blockOf(gx), bz = TileMerger.blockOf(gz);
+            long key = packKey(bx, bz);
+            List<TileMerger.Cell> list = blockCells.computeIfAbsent(key, k -> new ArrayList<>());
+            if (cell != null) list.add(cell);
+            int pending = blockPending.computeIfAbsent(key, k -> overlap(bx, centerX) * overlap(bz, centerZ)) - 1;
+            if (pending > 0) { blockPending.put(key, pending); return null; }
+            blockPending.remove(key);
+            return blockCells.remove(key);
+        }
+
+        /** Cells of block b (one axis) that fall inside the map square around c. */
+        private static int overlap(int b, int c) {
+            int lo = Math.max(b * TileMerger.MAX_SIZE, c - GM_MAP_RADIUS);
+            int hi = Math.min(b * TileMerger.MAX_SIZE + TileMerger.MAX_SIZE - 1, c + GM_MAP_RADIUS);
+            return hi - lo + 1;
+        }
+
+        /** Move to the next cell; false once every ring has been visited. */
+        boolean advance() {
+            index++;
+            if (ring == 0 || index >= 8 * ring) { ring++; index = 0; }
+            if (ring > GM_MAP_RADIUS) return false;
+            int side = index / (2 * ring), off = index % (2 * ring);
+            switch (side) {
+                case 0:  dx = -ring + off; dz = -ring;       break; // north edge, west → east
+                case 1:  dx = ring;        dz = -ring + off; break; // east edge, north → south
+                case 2:  dx = ring - off;  dz = ring;        break; // south edge, east → west
+                default: dx = -ring;       dz = ring - off;  break; // west edge, south → north
+            }
+            return true;
+        }
+
+        boolean isDone() { return ring > GM_MAP_RADIUS; }
+
+        public int percent() { return scanned * 100 / GM_MAP_CELLS; }
+    }
+
     private static class ReachableCell {
         final int gridX, gridZ; final float groundY;
         ReachableCell(int x, int z, float y) { gridX=x; gridZ=z; groundY=y; }
@@ -16,7 +16,7 @@ import java.util.List;
  * Tracks player grid movement state
  * FIXED v6: Added hotbarState, customCastState, hud fields
  */
-public class GridPlayerState {
+public class GridPlayerState implements EntityReaper.Holder {
 
     // ADDED: Reference to PlayerRef for easy access by commands
     public PlayerRef playerRef;
@@ -72,6 +72,10 @@ public class GridPlayerState {
     public boolean gridOverlayEnabled = false;
     /** True when the overlay is the GM 100x100 flat map (/grid), false when it's BFS range (/gridon). */
     public boolean gmMapOverlayActive = false;
+    /** In-progress /grid map build, null when finished or cancelled. World thread only. */
+    public GridOverlayManager.GmMapBuild gmMapBuild = null;
+    /** Streaming /gridfollow map window, null when the map is static or off. World thread only. */
+    public GmMapWindow gmMapWindow = null;
 
     // One-time "no moves" message — reset each turn
     public boolean noMovesMessageShown = false;
@@ -93,6 +97,8 @@ public class GridPlayerState {
 
     // ── Grid overlay tile pool / map (used by GridOverlayManager) ──
     public final java.util.Map<String, Ref<EntityStore>> gridTileMap = new java.util.LinkedHashMap<>();
+    /** Square key → model and height last applied to its tile ("modelId@y"). */
+    public final java.util.Map<String, String>           gridTileLook = new java.util.HashMap<>();
     public final java.util.Map<String, Object[]>         ledgeTileMap = new java.util.LinkedHashMap<>();
     public final java.util.List<Ref<EntityStore>>        gridTilePool = new java.util.ArrayList<>();
     public final java.util.Map<String, Integer>          gridTileNetIds = new java.util.HashMap<>();
@@ -123,6 +129,21 @@ public class GridPlayerState {
         this.stats = new CharacterStats();
     }
 
+    /** Entities this state still references; tiles it dropped without giving back are left to EntityReaper. */
+    @Override
+    @SuppressWarnings("unchecked")
+    public void collectHeld(java.util.Set<Ref<EntityStore>> out) {
+        if (npcEntity != null) out.add(npcEntity);
+        if (fogMarkerRef != null) out.add(fogMarkerRef);
+        if (fogMarkerRef2 != null) out.add(fogMarkerRef2);
+        out.addAll(gridOverlay);
+        out.addAll(gridTileMap.values());
+        out.addAll(gridTilePool);
+        for (Object[] entry : ledgeTileMap.values()) {
+            if (entry[0] != null) out.add((Ref<EntityStore>) entry[0]);
+        }
+    }
+
     public boolean hasMaxMovesSet() {
         return maxMoves >= 0;
     }
@@ -11,16 +11,43 @@ import com.hypixel.hytale.server.core.Message;
 import com.hypixel.hytale.server.core.entity.entities.player.hud.CustomUIHud;
 import com.hypixel.hytale.server.core.ui.builder.UICommandBuilder;
 import com.hypixel.hytale.server.core.universe.PlayerRef;
+import com.hypixel.hytale.server.core.universe.world.World;
 
 import javax.annotation.Nonnull;
 import java.util.ArrayList;
 import java.util.List;
-
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Side-panel HUD. Keeps a retained model of the last value sent for every
+ * label, so each update only carries the fields that actually changed, and
+ * coalesces refresh requests so a burst within one tick renders once.
+ */
 public class GriddifyHud extends CustomUIHud {
 
     private static final int MAX_LINES = 12;
+    private static final String[] LINE_IDS = new String[MAX_LINES];
+    static {
+        for (int i = 0; i < MAX_LINES; i++) LINE_IDS[i] = "#Line" + (i + 1) + ".TextSpans";
+    }
+
     private final PlayerRef playerRef;
 
+    /**
+     * Field id → last sent "color|text". Missing = unknown to us, always sent.
+     * Written on the world thread only (every render goes through world.execute);
+     * reset whenever the template is rebuilt.
+     */
+    private final Map<String, String> sent = new ConcurrentHashMap<>();
+    private final AtomicBoolean refreshQueued = new AtomicBoolean(false);
+
+    /** Subtitle of the current panel, restored when a progress note is cleared. */
+    private String lastSubtitle = "";
+    /** Transient status (e.g. "/grid" build progress) shown in place of the subtitle. */
+    private String progressNote = null;
+
     public GriddifyHud(@Nonnull PlayerRef playerRef) {
         super(playerRef);
         this.playerRef = playerRef;
@@ -28,6 +55,8 @@ public class GriddifyHud extends CustomUIHud {
 
     @Override
     public void build(@Nonnull UICommandBuilder uiCommandBuilder) {
+        // A fresh template shows its defaults, so nothing we sent before is on screen any more
+        sent.clear();
         uiCommandBuilder.append("GriddifyHud.ui");
     }
 
@@ -48,38 +77,70 @@ public class GriddifyHud extends CustomUIHud {
         }
     }
 
+    /**
+     * Coalesced refresh: the first request queues one render on the world thread,
+     * later requests before it runs are dropped. The render reads the state as it
+     * is at that point, so nothing is lost.
+     */
+    public void requestPanelUpdate(World world, GridPlayerState state, EncounterManager encounterManager,
+                                   RoleManager roleManager) {
+        if (!refreshQueued.compareAndSet(false, true)) return;
+        world.execute(() -> {
+            refreshQueued.set(false);
+            updatePanel(state, encounterManager, roleManager);
+        });
+    }
+
+    /** Role header and hotkey legend, rendered on the world thread. */
+    public void requestRolePanelUpdate(World world, boolean isGM) {
+        world.execute(() -> updateRolePanel(isGM));
+    }
+
+    /**
+     * Show a short progress line in the subtitle slot, or null to restore the
+     * panel's own subtitle. Only the subtitle label is resent.
+     */
+    public void setProgressNote(String note) {
+        this.progressNote = note;
+        UICommandBuilder cmd = new UICommandBuilder();
+        if (setIfChanged(cmd, "#PanelSub.TextSpans", null, note != null ? note : lastSubtitle) > 0) {
+            update(false, cmd);
+        }
+    }
+
     public void clearPanel() {
         sendPanel("", "", new ArrayList<>());
     }
 
     public void updateRolePanel(boolean isGM) {
         UICommandBuilder cmd = new UICommandBuilder();
+        int changed = 0;
         if (isGM) {
-            cmd.set("#HotkeyTitle.TextSpans", Message.raw("GM CONTROLS"));
-            cmd.set("#HK1.TextSpans",         Message.raw("[1]  Cancel / Release"));
-            cmd.set("#HK2.TextSpans",         Message.raw("[2]  Move + Grid"));
-            cmd.set("#HK3.TextSpans",         Message.raw("[3]  Select attack"));
-            cmd.set("#HK4.TextSpans",         Message.raw("[4]  Confirm + Target"));
-            cmd.set("#HK5.TextSpans",         Message.raw("[5]  Fire / Cast"));
-            cmd.set("#HK6.TextSpans",         Message.raw("[6]  —"));
-            cmd.set("#HK7.TextSpans",         Message.raw("[7]  Edit Stats"));
-            cmd.set("#HK8.TextSpans",         Message.raw("[8]  Monster info / Attacks"));
-            cmd.set("#HK9.TextSpans",         Message.raw("[9]  End turn"));
-            cmd.set("#HKCrouch.TextSpans",    Message.raw("Crouch = Confirm / Scroll / Save"));
+            changed += setIfChanged(cmd, "#HotkeyTitle.TextSpans", null, "GM CONTROLS");
+            changed += setIfChanged(cmd, "#HK1.TextSpans",         null, "[1]  Cancel / Release");
+            changed += setIfChanged(cmd, "#HK2.TextSpans",         null, "[2]  Move + Grid");
+            changed += setIfChanged(cmd, "#HK3.TextSpans",         null, "[3]  Select attack");
+            changed += setIfChanged(cmd, "#HK4.TextSpans",         null, "[4]  Confirm + Target");
+            changed += setIfChanged(cmd, "#HK5.TextSpans",         null, "[5]  Fire / Cast");
+            changed += setIfChanged(cmd, "#HK6.TextSpans",         null, "[6]  —");
+            changed += setIfChanged(cmd, "#HK7.TextSpans",         null, "[7]  Edit Stats");
+            changed += setIfChanged(cmd, "#HK8.TextSpans",         null, "[8]  Monster info / Attacks");
+            changed += setIfChanged(cmd, "#HK9.TextSpans",         null, "[9]  End turn");
+            changed += setIfChanged(cmd, "#HKCrouch.TextSpans",    null, "Crouch = Confirm / Scroll / Save");
         } else {
-            cmd.set("#HotkeyTitle.TextSpans", Message.raw("PLAYER CONTROLS"));
-            cmd.set("#HK1.TextSpans",         Message.raw("[1]  Cancel / Freeze NPC"));
-            cmd.set("#HK2.TextSpans",         Message.raw("[2]  Move + Grid"));
-            cmd.set("#HK3.TextSpans",         Message.raw("[3]  Select spell"));
-            cmd.set("#HK4.TextSpans",         Message.raw("[4]  Confirm + Target"));
-            cmd.set("#HK5.TextSpans",         Message.raw("[5]  Cast / Fire"));
-            cmd.set("#HK6.TextSpans",         Message.raw("[6]  —"));
-            cmd.set("#HK7.TextSpans",         Message.raw("[7]  Edit Stats"));
-            cmd.set("#HK8.TextSpans",         Message.raw("[8]  Profile / Spells"));
-            cmd.set("#HK9.TextSpans",         Message.raw("[9]  End turn"));
-            cmd.set("#HKCrouch.TextSpans",    Message.raw("Crouch = Confirm / Scroll / Save"));
+            changed += setIfChanged(cmd, "#HotkeyTitle.TextSpans", null, "PLAYER CONTROLS");
+            changed += setIfChanged(cmd, "#HK1.TextSpans",         null, "[1]  Cancel / Freeze NPC");
+            changed += setIfChanged(cmd, "#HK2.TextSpans",         null, "[2]  Move + Grid");
+            changed += setIfChanged(cmd, "#HK3.TextSpans",         null, "[3]  Select spell");
+            changed += setIfChanged(cmd, "#HK4.TextSpans",         null, "[4]  Confirm + Target");
+            changed += setIfChanged(cmd, "#HK5.TextSpans",         null, "[5]  Cast / Fire");
+            changed += setIfChanged(cmd, "#HK6.TextSpans",         null, "[6]  —");
+            changed += setIfChanged(cmd, "#HK7.TextSpans",         null, "[7]  Edit Stats");
+            changed += setIfChanged(cmd, "#HK8.TextSpans",         null, "[8]  Profile / Spells");
+            changed += setIfChanged(cmd, "#HK9.TextSpans",         null, "[9]  End turn");
+            changed += setIfChanged(cmd, "#HKCrouch.TextSpans",    null, "Crouch = Confirm / Scroll / Save");
         }
-        update(false, cmd);
+        if (changed > 0) update(false, cmd);
     }
 
     // ── Format range helper ────────────────────────────────────────────────────
@@ -373,18 +434,29 @@ public class GriddifyHud extends CustomUIHud {
 
     private void sendPanel(String title, String subtitle, List<String[]> lines) {
         UICommandBuilder cmd = new UICommandBuilder();
-        cmd.set("#PanelTitle.TextSpans", Message.raw(title != null ? title : ""));
-        cmd.set("#PanelSub.TextSpans",   Message.raw(subtitle != null ? subtitle : ""));
-        for (int i = 1; i <= MAX_LINES; i++) {
-            String id = "#Line" + i + ".TextSpans";
-            if (i - 1 < lines.size()) {
-                String[] e = lines.get(i - 1);
-                cmd.set(id, Message.raw(e[1]).color(e[0]));
+        int changed = 0;
+        changed += setIfChanged(cmd, "#PanelTitle.TextSpans", null, title);
+        lastSubtitle = subtitle;
+        changed += setIfChanged(cmd, "#PanelSub.TextSpans",   null, progressNote != null ? progressNote : subtitle);
+        for (int i = 0; i < MAX_LINES; i++) {
+            if (i < lines.size()) {
+                String[] e = lines.get(i);
+                changed += setIfChanged(cmd, LINE_IDS[i], e[0], e[1]);
             } else {
-                cmd.set(id, Message.raw(""));
+                changed += setIfChanged(cmd, LINE_IDS[i], null, "");
             }
         }
-        update(false, cmd);
+        if (changed > 0) update(false, cmd);
+    }
+
+    /** Adds the field to cmd only if it differs from what the client already shows. Returns 1 if added. */
+    private int setIfChanged(UICommandBuilder cmd, String id, String color, String text) {
+        String t = text != null ? text : "";
+        String key = color != null ? color + "|" + t : t;
+        if (key.equals(sent.get(id))) return 0;
+        sent.put(id, key);
+        cmd.set(id, color != null ? Message.raw(t).color(color) : Message.raw(t));
+        return 1;
     }
 
     // ── Static helpers ────────────────────────────────────────────────────────
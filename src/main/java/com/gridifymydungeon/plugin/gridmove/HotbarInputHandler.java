@@ -28,10 +28,11 @@ import com.hypixel.hytale.server.core.universe.world.World;
 import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
 
 import javax.annotation.Nonnull;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Hotbar key bindings:
@@ -66,7 +67,8 @@ public class HotbarInputHandler implements PlayerPacketFilter {
     private final RoleManager        roleManager;
     private final CollisionDetector  collisionDetector;
 
-    private final Map<UUID, Boolean> wasSneaking = new HashMap<>();
+    // Written from the packet filter thread, released on disconnect
+    private final Map<UUID, Boolean> wasSneaking = new ConcurrentHashMap<>();
 
     public HotbarInputHandler(GridMoveManager gridManager, EncounterManager encounterManager,
                               SpellVisualManager spellVisualManager, RoleManager roleManager,
@@ -123,9 +125,23 @@ public class HotbarInputHandler implements PlayerPacketFilter {
         return state.hud;
     }
 
+    /**
+     * Coalesced: several refreshes in the same tick become one diffed HUD update on
+     * the world thread. Without a live entity there is no world to render on; the
+     * next refresh after the player is back redraws the whole panel from state.
+     */
     private void refreshHud(PlayerRef playerRef, GridPlayerState state) {
         GriddifyHud hud = ensureHud(playerRef, state);
-        if (hud != null) hud.updatePanel(state, encounterManager, roleManager);
+        if (hud == null) return;
+        World world = worldOf(playerRef);
+        if (world == null) return;
+        hud.requestPanelUpdate(world, state, encounterManager, roleManager);
+    }
+
+    private static World worldOf(PlayerRef playerRef) {
+        Ref<EntityStore> entityRef = playerRef.getReference();
+        if (entityRef == null || !entityRef.isValid()) return null;
+        return entityRef.getStore().getExternalData().getWorld();
     }
 
     // ── Public accessor for external classes (e.g. CreatureCommand) ───────────
@@ -543,11 +559,10 @@ public class HotbarInputHandler implements PlayerPacketFilter {
     public void initHudForPlayer(PlayerRef playerRef) {
         GridPlayerState state = gridManager.getState(playerRef);
         GriddifyHud hud = ensureHud(playerRef, state);
-        if (hud != null) {
-            boolean isGM = roleManager.isGM(playerRef);
-            hud.updateRolePanel(isGM);
-            hud.updatePanel(state, encounterManager, roleManager);
-        }
+        World world = worldOf(playerRef);
+        if (hud == null || world == null) return;
+        hud.requestRolePanelUpdate(world, roleManager.isGM(playerRef));
+        hud.requestPanelUpdate(world, state, encounterManager, roleManager);
     }
 
     // ── Helpers ───────────────────────────────────────────────────────────────
@@ -556,8 +571,14 @@ public class HotbarInputHandler implements PlayerPacketFilter {
         playerRef.sendMessage(Message.raw(text).color(hexColor));
     }
 
-    public void onPlayerDisconnect(PlayerRef playerRef) {
-        wasSneaking.remove(playerRef.getUuid());
+    /** Players with crouch-edge state (session audit). */
+    public Set<UUID> trackedPlayers() {
+        return wasSneaking.keySet();
+    }
+
+    /** Drop the player's crouch-edge state (disconnect). */
+    public void forgetPlayer(UUID playerId) {
+        wasSneaking.remove(playerId);
     }
 
     private static void resyncSlot(PlayerRef playerRef, int slot) {
@@ -0,0 +1,216 @@
+package com.gridifymydungeon.plugin.gridmove;
+
+import com.gridifymydungeon.plugin.dnd.EncounterManager;
+import com.gridifymydungeon.plugin.dnd.MonsterState;
+import com.gridifymydungeon.plugin.spell.SpellPatternCalculator;
+import com.hypixel.hytale.server.core.universe.world.World;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Grid line-of-sight and cover between two cells.
+ *
+ * Traces a supercover line (every cell the centre-to-centre segment touches) over
+ * a cached raster of per-cell cover at the caster's eye level:
+ *   head-height wall (≥2 of 4 columns solid at eyeY)  → BLOCKED
+ *   waist-height wall (solid one block lower)          → HALF
+ *   creature standing in between                       → HALF
+ * A line passing exactly through a corner uses the lesser cover of the two
+ * side cells, so peeking diagonally past a pillar is allowed.
+ *
+ * Results are memoized per (origin, target, eye level). The memo is dropped
+ * automatically whenever the set of occupied cells changes, and explicitly via
+ * invalidateBlocks() when the world is edited. World thread only.
+ */
+public class LineOfSightService {
+
+    public enum Cover { CLEAR, HALF, BLOCKED }
+
+    /** Cover one cell gives a line passing through it. */
+    interface CellCover {
+        Cover at(int gridX, int gridZ);
+    }
+
+    private static final int MAX_MEMO   = 50_000;
+    private static final int MAX_RASTER = 40_000;
+
+    private final GridMoveManager gridMoveManager;
+    private final EncounterManager encounterManager;
+
+    // eye block Y → (cell key → cover ordinal)
+    private final Map<Integer, Map<Long, Byte>> raster = new HashMap<>();
+    private final Map<Key, Cover> memo = new HashMap<>();
+
+    private Set<Long> occupied = new HashSet<>();
+
+    public LineOfSightService(GridMoveManager gridMoveManager, EncounterManager encounterManager) {
+        this.gridMoveManager = gridMoveManager;
+        this.encounterManager = encounterManager;
+    }
+
+    // ========================================================
+    // PUBLIC API
+    // ========================================================
+
+    /** Cover between two cells for an observer standing at fromY. */
+    public Cover cover(World world, int fromX, int fromZ, float fromY, int toX, int toZ) {
+        refreshOccupancy();
+        return coverCached(world, fromX, fromZ, eyeBlockY(fromY), toX, toZ);
+    }
+
+    /** Remove every cell that is BLOCKED from (fromX, fromZ). Occupancy is snapshotted once. */
+    public int removeBlocked(World world, int fromX, int fromZ, float fromY,
+                             Set<SpellPatternCalculator.GridCell> cells) {
+        refreshOccupancy();
+        int eye = eyeBlockY(fromY);
+        int before = cells.size();
+        cells.removeIf(c -> coverCached(world, fromX, fromZ, eye, c.x, c.z) == Cover.BLOCKED);
+        return before - cells.size();
+    }
+
+    /** Blocks changed: drop both the raster and every memoized trace. */
+    public void invalidateBlocks() {
+        raster.clear();
+        memo.clear();
+    }
+
+    /** Blocks changed in one cell column: drop its raster entries and every memoized trace. */
+    public void invalidateCell(int gridX, int gridZ) {
+        long k = cellKey(gridX, gridZ);
+        for (Map<Long, Byte> layer : raster.values()) layer.remove(k);
+        memo.clear();
+    }
+
+    // ========================================================
+    // TRACE
+    // ========================================================
+
+    private Cover coverCached(World world, int fx, int fz, int eye, int tx, int tz) {
+        if (fx == tx && fz == tz) return Cover.CLEAR;
+        Key key = new Key(fx, fz, tx, tz, eye);
+        Cover c = memo.get(key);
+        if (c == null) {
+            c = trace(fx, fz, tx, tz, (gx, gz) -> cellCover(world, gx, gz, eye, tx, tz));
+            if (memo.size() >= MAX_MEMO) memo.clear();
+            memo.put(key, c);
+        }
+        return c;
+    }
+
+    /**
+     * Worst cover along the supercover line from (fx, fz) to (tx, tz). The end cells
+     * are not tested; at an exact corner the lesser of the two side cells counts.
+     */
+    static Cover trace(int fx, int fz, int tx, int tz, CellCover cells) {
+        int dx = tx - fx, dz = tz - fz;
+        int nx = Math.abs(dx), nz = Math.abs(dz);
+        int sx = Integer.signum(dx), sz = Integer.signum(dz);
+        int x = fx, z = fz;
+        Cover worst = Cover.CLEAR;
+
+        for (int ix = 0, iz = 0; ix < nx || iz < nz; ) {
+            long decision = (1L + 2L * ix) * nz - (1L + 2L * iz) * nx;
+            if (decision == 0) {
+                // Exact corner: the line squeezes between two cells — take the lesser cover
+                Cover a = cells.at(x + sx, z);
+                Cover b = cells.at(x, z + sz);
+                worst = max(worst, a.ordinal() < b.ordinal() ? a : b);
+                x += sx; z += sz; ix++; iz++;
+            } else if (decision < 0) {
+                x += sx; ix++;
+            } else {
+                z += sz; iz++;
+            }
+            if (x == tx && z == tz) break;
+            worst = max(worst, cells.at(x, z));
+            if (worst == Cover.BLOCKED) break;
+        }
+        return worst;
+    }
+
+    private Cover cellCover(World world, int gx, int gz, int eye, int tx, int tz) {
+        if (gx == tx && gz == tz) return Cover.CLEAR;
+        Cover terrain = terrainCover(world, gx, gz, eye);
+        if (terrain == Cover.CLEAR && occupied.contains(cellKey(gx, gz))) return Cover.HALF;
+        return terrain;
+    }
+
+    private static Cover max(Cover a, Cover b) {
+        return a.ordinal() >= b.ordinal() ? a : b;
+    }
+
+    // ========================================================
+    // RASTER
+    // ========================================================
+
+    private Cover terrainCover(World world, int gx, int gz, int eye) {
+        Map<Long, Byte> layer = raster.computeIfAbsent(eye, k -> new HashMap<>());
+        long k = cellKey(gx, gz);
+        Byte cached = layer.get(k);
+        if (cached != null) return Cover.values()[cached];
+
+        Cover c;
+        if (isWallAt(world, gx, gz, eye)) c = Cover.BLOCKED;
+        else if (isWallAt(world, gx, gz, eye - 1)) c = Cover.HALF;
+        else c = Cover.CLEAR;
+
+        if (layer.size() >= MAX_RASTER) layer.clear();
+        layer.put(k, (byte) c.ordinal());
+        return c;
+    }
+
+    private static boolean isWallAt(World world, int gx, int gz, int blockY) {
+        int solid = 0;
+        for (int xOff = 0; xOff < 2; xOff++) {
+            for (int zOff = 0; zOff < 2; zOff++) {
+                try {
+                    if (BlockFlags.isGround(BlockFlags.at(world, (gx * 2) + xOff, blockY, (gz * 2) + zOff))) {
+                        solid++;
+                    }
+                } catch (Exception ignored) {}
+            }
+        }
+        return solid >= 2;
+    }
+
+    // ========================================================
+    // OCCUPANCY
+    // ========================================================
+
+    /** Rebuild the occupied-cell set; clear the memo if anyone moved, spawned or died. */
+    private void refreshOccupancy() {
+        Set<Long> now = new HashSet<>();
+        for (MonsterState m : encounterManager.getMonsters()) {
+            if (m.isAlive()) now.add(cellKey(m.currentGridX, m.currentGridZ));
+        }
+        for (GridPlayerState s : gridMoveManager.getAllStates()) {
+            if (s.npcEntity != null && s.npcEntity.isValid()) now.add(cellKey(s.currentGridX, s.currentGridZ));
+        }
+        if (!now.equals(occupied)) memo.clear();
+        occupied = now;
+    }
+
+    private static int eyeBlockY(float standY) {
+        return (int) Math.floor(standY) + 1;
+    }
+
+    private static long cellKey(int x, int z) { return ((long) x << 32) | (z & 0xFFFFFFFFL); }
+
+    private static final class Key {
+        final int fx, fz, tx, tz, eye;
+        Key(int fx, int fz, int tx, int tz, int eye) { this.fx = fx; this.fz = fz; this.tx = tx; this.tz = tz; this.eye = eye; }
+        @Override public boolean equals(Object o) {
+            if (!(o instanceof Key)) return false;
+            Key k = (Key) o;
+            return fx == k.fx && fz == k.fz && tx == k.tx && tz == k.tz && eye == k.eye;
+        }
+        @Override public int hashCode() {
+            int h = fx;
+            h = h * 31 + fz; h = h * 31 + tx; h = h * 31 + tz; h = h * 31 + eye;
+            return h;
+        }
+    }
+}
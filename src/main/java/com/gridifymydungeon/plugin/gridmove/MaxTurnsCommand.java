@@ -2,6 +2,8 @@ package com.gridifymydungeon.plugin.gridmove.commands;
 
 import com.gridifymydungeon.plugin.gridmove.GridMoveManager;
 import com.gridifymydungeon.plugin.gridmove.GridPlayerState;
+import com.gridifymydungeon.plugin.gridmove.TableRegistry;
+import com.gridifymydungeon.plugin.gridmove.TableSession;
 import com.hypixel.hytale.component.Ref;
 import com.hypixel.hytale.component.Store;
 import com.hypixel.hytale.protocol.ItemWithAllMetadata;
@@ -25,12 +27,13 @@ import javax.annotation.Nonnull;
  */
 public class MaxTurnsCommand extends AbstractPlayerCommand {
 
-    private final GridMoveManager manager;
+    private final TableRegistry tables;
+
     private final RequiredArg<Double> maxMovesArg;
 
-    public MaxTurnsCommand(GridMoveManager manager) {
+    public MaxTurnsCommand(TableRegistry tables) {
         super("maxmoves", "Set maximum moves (can be changed anytime)");
-        this.manager = manager;
+        this.tables = tables;
         this.maxMovesArg = this.withRequiredArg("moves", "Maximum number of moves", ArgTypes.DOUBLE);
     }
 
@@ -42,6 +45,9 @@ public class MaxTurnsCommand extends AbstractPlayerCommand {
             @Nonnull PlayerRef playerRef,
             @Nonnull World world
     ) {
+        TableSession table = tables.forWorld(world);
+        GridMoveManager manager = table.getGridMoveManager();
+
         GridPlayerState state = manager.getState(playerRef);
 
         // Check if GridMove is active
@@ -0,0 +1,150 @@
+package com.gridifymydungeon.plugin.gridmove;
+
+import com.hypixel.hytale.server.core.asset.type.model.config.Model;
+import com.hypixel.hytale.server.core.asset.type.model.config.ModelAsset;
+
+import javax.annotation.Nullable;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.stream.Stream;
+
+/**
+ * One cache for every Model the plugin spawns, keyed by (asset id, scale).
+ *
+ * Model.createScaledModel is not free, and several managers used to call it on
+ * every spawn. Everything now goes through get(id, scale): the first call per key
+ * builds the model, later calls are a map lookup. Asset ids that do not exist are
+ * remembered too, but only once preload() has run: before that the asset map may
+ * not be loaded yet, so a miss simply retries next time. forgetMissing() clears
+ * them (catalog reload, which may name new models).
+ *
+ * preload() is run in the background once the server has started (assets loaded)
+ * for every model bundled in the jar (Server/Models/**.json) plus the projectile
+ * scales, so the first cast of a spell does not hitch on model creation.
+ */
+public final class ModelRegistry {
+
+    private static final String MODELS_DIR = "Server/Models/";
+
+    private static final Map<String, Model> models = new ConcurrentHashMap<>();
+    /** Asset ids known not to exist. */
+    private static final Set<String> missing = ConcurrentHashMap.newKeySet();
+    private static volatile boolean assetsLoaded = false;
+    private static final AtomicLong hits     = new AtomicLong();
+    private static final AtomicLong misses   = new AtomicLong();
+    private static final AtomicLong notFound = new AtomicLong();
+
+    private ModelRegistry() {}
+
+    /** Unscaled model, or null if the asset does not exist. */
+    @Nullable
+    public static Model get(String assetId) {
+        return get(assetId, 1.0f);
+    }
+
+    /** Model scaled by {@code scale}, or null if the asset does not exist. */
+    @Nullable
+    public static Model get(String assetId, float scale) {
+        if (assetId == null) return null;
+        String key = assetId + "@" + scale;
+        Model model = models.get(key);
+        if (model != null) {
+            hits.incrementAndGet();
+            return model;
+        }
+        if (missing.contains(assetId)) {
+            notFound.incrementAndGet();
+            return null;
+        }
+        misses.incrementAndGet();
+        try {
+            ModelAsset asset = ModelAsset.getAssetMap().getAsset(assetId);
+            if (asset == null) {
+                notFound.incrementAndGet();
+                if (assetsLoaded) missing.add(assetId);
+                return null;
+            }
+            model = Model.createScaledModel(asset, scale);
+        } catch (Exception e) {
+            System.err.println("[Griddify] [MODELS] Load failed '" + assetId + "' x" + scale + ": " + e.getMessage());
+            return null;
+        }
+        Model prev = models.putIfAbsent(key, model);
+        return prev != null ? prev : model;
+    }
+
+    /**
+     * Build and cache each (id, scale) pair. {@code scales[i]} applies to {@code ids.get(i)};
+     * pass null to load every id at scale 1. Returns the number of models now cached.
+     */
+    public static int preload(List<String> ids, @Nullable float[] scales) {
+        assetsLoaded = true;
+        long start = System.nanoTime();
+        int loaded = 0;
+        for (int i = 0; i < ids.size(); i++) {
+            if (get(ids.get(i), scales != null ? scales[i] : 1.0f) != null) loaded++;
+        }
+        long ms = (System.nanoTime() - start) / 1_000_000;
+        System.out.println("[Griddify] [MODELS] Preloaded " + loaded + "/" + ids.size() + " models in " + ms + " ms");
+        return loaded;
+    }
+
+    /** Asset ids of every model JSON bundled with the plugin. Empty if the jar cannot be read. */
+    public static List<String> bundledModelIds() {
+        List<String> ids = new ArrayList<>();
+        try {
+            Path location = Paths.get(ModelRegistry.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+            if (Files.isDirectory(location)) {
+                Path dir = location.resolve(MODELS_DIR);
+                if (Files.isDirectory(dir)) {
+                    try (Stream<Path> files = Files.walk(dir)) {
+                        files.map(p -> p.getFileName().toString())
+                                .filter(n -> n.endsWith(".json"))
+                                .forEach(n -> ids.add(n.substring(0, n.length() - 5)));
+                    }
+                }
+            } else {
+                try (JarFile jar = new JarFile(location.toFile())) {
+                    Enumeration<JarEntry> entries = jar.entries();
+                    while (entries.hasMoreElements()) {
+                        String name = entries.nextElement().getName();
+                        if (!name.startsWith(MODELS_DIR) || !name.endsWith(".json")) continue;
+                        String file = name.substring(name.lastIndexOf('/') + 1);
+                        ids.add(file.substring(0, file.length() - 5));
+                    }
+                }
+            }
+        } catch (Exception e) {
+            System.err.println("[Griddify] [MODELS] Could not list bundled models: " + e.getMessage());
+        }
+        return ids;
+    }
+
+    /** Retry every asset id remembered as missing. */
+    public static void forgetMissing() {
+        missing.clear();
+    }
+
+    public static long getHits()     { return hits.get(); }
+    public static long getMisses()   { return misses.get(); }
+    public static long getNotFound() { return notFound.get(); }
+    public static int  size()        { return models.size(); }
+
+    /** One-line cache summary for logs and /gridreload. */
+    public static String stats() {
+        long h = hits.get(), m = misses.get();
+        long pct = (h + m) > 0 ? (h * 100) / (h + m) : 0;
+        return size() + " models, " + h + " hits / " + m + " misses (" + pct + "% hit), "
+                + notFound.get() + " not found";
+    }
+}
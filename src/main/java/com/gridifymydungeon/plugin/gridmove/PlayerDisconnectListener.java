@@ -1,58 +1,34 @@
 package com.gridifymydungeon.plugin.gridmove;
 
 import com.gridifymydungeon.plugin.dnd.RoleManager;
-import com.gridifymydungeon.plugin.gridmove.commands.GridMoveCommand;
-import com.hypixel.hytale.component.RemoveReason;
 import com.hypixel.hytale.server.core.event.events.player.PlayerDisconnectEvent;
 import com.hypixel.hytale.server.core.universe.PlayerRef;
 
 /**
- * Listens for player disconnects and cleans up holograms + NPCs
- * FIXED: Includes direction holograms
+ * Listens for player disconnects: releases everything the table's session
+ * registry holds for the player (NPC, overlays, spell visuals, trackers...) and
+ * frees their role.
  */
 public class PlayerDisconnectListener {
 
-    private final GridMoveManager manager;
+    private final PlayerSessionRegistry sessions;
     private final RoleManager roleManager;
-    private HotbarInputHandler hotbarInputHandler = null;
 
-    public PlayerDisconnectListener(GridMoveManager manager, RoleManager roleManager) {
-        this.manager = manager;
+    public PlayerDisconnectListener(PlayerSessionRegistry sessions, RoleManager roleManager) {
+        this.sessions = sessions;
         this.roleManager = roleManager;
     }
 
-    public void setHotbarInputHandler(HotbarInputHandler h) {
-        this.hotbarInputHandler = h;
-    }
-
     public void onPlayerDisconnect(PlayerDisconnectEvent event) {
         PlayerRef playerRef = event.getPlayerRef();
 
         System.out.println("[GridMove] [INFO] Player " + playerRef.getUsername() + " disconnected, cleaning up...");
 
-        GridPlayerState state = manager.getState(playerRef);
-
-        if (state != null) {
-            // Remove NPC if exists
-            if (state.npcEntity != null && state.npcEntity.isValid()) {
-                try {
-                    state.npcEntity.getStore().removeEntity(state.npcEntity, RemoveReason.REMOVE);
-                    System.out.println("[GridMove] [INFO] Removed NPC for " + playerRef.getUsername());
-                } catch (Exception e) {
-                    System.err.println("[GridMove] [ERROR] Error removing NPC: " + e.getMessage());
-                }
-            }
-        }
+        // Per-player entities and maps, released on the world thread
+        sessions.close(playerRef);
 
         // Notify role manager
         roleManager.handlePlayerDisconnect(playerRef.getUuid());
-
-        // Clean up hotbar HUD state
-        if (hotbarInputHandler != null) {
-            hotbarInputHandler.onPlayerDisconnect(playerRef);
-        }
-
-        System.out.println("[GridMove] [INFO] Cleanup complete for " + playerRef.getUsername());
     }
 
-}
\ No newline at end of file
+}
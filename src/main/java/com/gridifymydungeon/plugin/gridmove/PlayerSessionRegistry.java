@@ -0,0 +1,159 @@
+package com.gridifymydungeon.plugin.gridmove;
+
+import com.hypixel.hytale.component.Ref;
+import com.hypixel.hytale.server.core.universe.PlayerRef;
+import com.hypixel.hytale.server.core.universe.world.World;
+import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+
+/**
+ * Every per-player resource of one table, released together on disconnect.
+ *
+ * Managers that keep state keyed by player (throttle maps, overlay tiles, spell
+ * visuals, fog viewers, transformations, the NPC itself) register it here with a
+ * name, a view of the players they hold state for, and a release function.
+ * A disconnect runs every release for that player in registration order in a
+ * single world-thread pass, so nothing depends on which handler happens to
+ * remember which map.
+ *
+ * The audit compares each resource's owners with the players actually connected
+ * and reports anything held for someone who is not. Owners that already
+ * disconnected from this table are reclaimed. Other offline owners are only
+ * reported, since a player moving between worlds keeps their state.
+ *
+ * The GridPlayerState itself (stats, role number, moves) is deliberately kept so
+ * a reconnecting player resumes where they were.
+ */
+public class PlayerSessionRegistry {
+
+    /** Departed players are remembered this long for the audit to reclaim leftovers. */
+    private static final long DEPARTED_TTL_MS = 60L * 60L * 1000L;
+
+    private static final class Resource {
+        final Supplier<? extends Collection<UUID>> owners;
+        final BiConsumer<UUID, World> release;
+        Resource(Supplier<? extends Collection<UUID>> owners, BiConsumer<UUID, World> release) {
+            this.owners = owners; this.release = release;
+        }
+    }
+
+    private final World world;
+    private final GridMoveManager gridMoveManager;
+    private final Map<String, Resource> resources = new LinkedHashMap<>();
+    /** Player → disconnect time. */
+    private final Map<UUID, Long> departed = new ConcurrentHashMap<>();
+
+    public PlayerSessionRegistry(World world, GridMoveManager gridMoveManager) {
+        this.world = world;
+        this.gridMoveManager = gridMoveManager;
+    }
+
+    /**
+     * Register a per-player resource. Releases run in registration order.
+     *
+     * @param owners  players the resource holds state for; read on the world thread
+     * @param release frees everything held for one player; runs on the world thread
+     */
+    public void register(String name, Supplier<? extends Collection<UUID>> owners, BiConsumer<UUID, World> release) {
+        resources.put(name, new Resource(owners, release));
+    }
+
+    // ========================================================
+    // DISCONNECT
+    // ========================================================
+
+    /** The player left: release everything they own here on the world thread. */
+    public void close(PlayerRef playerRef) {
+        UUID id = playerRef.getUuid();
+        String name = playerRef.getUsername();
+        departed.put(id, System.currentTimeMillis());
+        world.execute(() -> {
+            List<String> released = releaseAll(id);
+            if (!released.isEmpty()) {
+                System.out.println("[Griddify] [SESSION] Released " + name + ": " + String.join(", ", released));
+            }
+        });
+    }
+
+    /**
+     * World thread. Returns the names of the resources that held something for the
+     * player. Whatever the player's state still owns after that is left to EntityReaper.
+     */
+    private List<String> releaseAll(UUID id) {
+        List<String> released = new ArrayList<>();
+        for (Map.Entry<String, Resource> e : resources.entrySet()) {
+            try {
+                if (!e.getValue().owners.get().contains(id)) continue;
+                e.getValue().release.accept(id, world);
+                released.add(e.getKey());
+            } catch (Exception ex) {
+                System.err.println("[Griddify] [SESSION] Releasing " + e.getKey() + " failed: " + ex.getMessage());
+            }
+        }
+        GridPlayerState state = gridMoveManager.peekState(id);
+        if (state != null) EntityReaper.release(world, state);
+        return released;
+    }
+
+    // ========================================================
+    // AUDIT
+    // ========================================================
+
+    /** Report resources held for players who are not connected; reclaim departed ones. World thread. */
+    public void audit() {
+        long now = System.currentTimeMillis();
+        departed.entrySet().removeIf(e -> isConnected(e.getKey()) || now - e.getValue() > DEPARTED_TTL_MS);
+
+        Map<String, Integer> orphans = new LinkedHashMap<>();
+        int reclaimed = 0;
+        for (Map.Entry<String, Resource> e : resources.entrySet()) {
+            Resource r = e.getValue();
+            List<UUID> owners;
+            try {
+                owners = new ArrayList<>(r.owners.get());
+            } catch (Exception ex) {
+                continue;
+            }
+            for (UUID id : owners) {
+                if (isConnected(id)) continue;
+                orphans.merge(e.getKey(), 1, Integer::sum);
+                if (!departed.containsKey(id)) continue;
+                try {
+                    r.release.accept(id, world);
+                    reclaimed++;
+                } catch (Exception ex) {
+                    System.err.println("[Griddify] [SESSION] Reclaiming " + e.getKey() + " failed: " + ex.getMessage());
+                }
+            }
+        }
+        if (orphans.isEmpty()) return;
+
+        StringBuilder sb = new StringBuilder();
+        int total = 0;
+        for (Map.Entry<String, Integer> e : orphans.entrySet()) {
+            if (sb.length() > 0) sb.append(", ");
+            sb.append(e.getKey()).append('=').append(e.getValue());
+            total += e.getValue();
+        }
+        System.out.println("[Griddify] [SESSION] Audit: " + total + " orphaned resource(s) (" + sb
+                + "), " + reclaimed + " reclaimed");
+    }
+
+    /** Connected = we have their PlayerRef and it still points at a live entity. */
+    private boolean isConnected(UUID id) {
+        GridPlayerState state = gridMoveManager.peekState(id);
+        PlayerRef playerRef = state != null ? state.playerRef : null;
+        if (playerRef == null) return false;
+        Ref<EntityStore> ref = playerRef.getReference();
+        return ref != null && ref.isValid();
+    }
+}
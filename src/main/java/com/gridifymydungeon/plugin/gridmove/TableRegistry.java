@@ -0,0 +1,65 @@
+package com.gridifymydungeon.plugin.gridmove;
+
+import com.hypixel.hytale.component.Ref;
+import com.hypixel.hytale.server.core.universe.PlayerRef;
+import com.hypixel.hytale.server.core.universe.world.World;
+import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * All open tables, one TableSession per World.
+ *
+ * Sessions are created lazily the first time a command, packet or event touches
+ * a world, so a fresh server with a single world behaves exactly as before.
+ * Lookups are lock-free; each session's own state is only ever mutated from its
+ * world thread. A session is closed and dropped when its world is removed.
+ */
+public class TableRegistry {
+
+    private final Map<World, TableSession> tables = new ConcurrentHashMap<>();
+    private final AtomicInteger nextId = new AtomicInteger(1);
+
+    /** The table for this world, opened on first use. */
+    public TableSession forWorld(World world) {
+        return tables.computeIfAbsent(world, w -> new TableSession(w, String.valueOf(nextId.getAndIncrement())));
+    }
+
+    /** The table for this world if one is open, otherwise null (never opens one). */
+    public TableSession existing(World world) {
+        return tables.get(world);
+    }
+
+    /** The table for the world the player is currently in, or null if they are not in a world yet. */
+    public TableSession forPlayer(PlayerRef playerRef) {
+        Ref<EntityStore> ref = playerRef.getReference();
+        if (ref == null || !ref.isValid()) return null;
+        World world = ref.getStore().getExternalData().getWorld();
+        return world != null ? forWorld(world) : null;
+    }
+
+    /** Snapshot of every open table. */
+    public List<TableSession> all() {
+        return new ArrayList<>(tables.values());
+    }
+
+    public int size() {
+        return tables.size();
+    }
+
+    /** Close and drop the world's table, if one is open (world removed). */
+    public void close(World world) {
+        TableSession table = tables.remove(world);
+        if (table != null) table.close();
+    }
+
+    /** Close every table (plugin shutdown). */
+    public void shutdown() {
+        for (TableSession table : all()) table.close();
+        tables.clear();
+    }
+}
@@ -0,0 +1,384 @@
+package com.gridifymydungeon.plugin.gridmove;
+
+import com.gridifymydungeon.plugin.dnd.CombatManager;
+import com.gridifymydungeon.plugin.dnd.EncounterManager;
+import com.gridifymydungeon.plugin.dnd.FogOfWarManager;
+import com.gridifymydungeon.plugin.dnd.GMPositionTracker;
+import com.gridifymydungeon.plugin.dnd.RoleManager;
+import com.gridifymydungeon.plugin.gridmove.packet.PlayerPositionTracker;
+import com.gridifymydungeon.plugin.spell.PersistentSpellManager;
+import com.gridifymydungeon.plugin.spell.PolymorphManager;
+import com.gridifymydungeon.plugin.spell.SpellVisualManager;
+import com.gridifymydungeon.plugin.spell.VfxPool;
+import com.gridifymydungeon.plugin.spell.VfxSequencer;
+import com.gridifymydungeon.plugin.spell.WildShapeManager;
+import com.hypixel.hytale.component.Ref;
+import com.hypixel.hytale.component.RemoveReason;
+import com.hypixel.hytale.server.core.universe.world.World;
+import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One game table = one World.
+ *
+ * Owns the complete manager graph for the campaign running in that world: roles
+ * (one GM per table), player grid states, encounter, combat, fog, line of sight,
+ * spell effects and the movement/hotbar handlers wired to them. Nothing here is
+ * shared with other tables, so two campaigns never touch the same maps.
+ *
+ * Each table also owns a single daemon scheduler for its delayed work. Scheduled
+ * tasks hop back onto the table's world thread through world.execute, so they
+ * never race with commands or movement for the same table. World-level services
+ * that only hold a World (raster fill, tile warm-up, VFX ticker, work queue
+ * retries, chat flushes) reach it through schedulerOf/scheduleOn, so closing the
+ * table stops all of them.
+ *
+ * Per-player resources are registered with the table's PlayerSessionRegistry,
+ * which releases them on disconnect and audits for orphans every AUDIT_MINUTES.
+ */
+public class TableSession {
+
+    private static final long AUDIT_MINUTES = 5;
+
+    /** Open tables by world, for the world-level services. */
+    private static final Map<World, TableSession> open = new ConcurrentHashMap<>();
+
+    private final World world;
+    private final String name;
+    private final ScheduledExecutorService scheduler;
+
+    private final RoleManager roleManager;
+    private final GridMoveManager gridMoveManager;
+    private final EncounterManager encounterManager;
+    private final CombatManager combatManager;
+    private final CollisionDetector collisionDetector;
+    private final FogOfWarManager fogOfWarManager;
+    private final LineOfSightService lineOfSight;
+    private final PersistentSpellManager persistentSpellManager;
+    private final SpellVisualManager spellVisualManager;
+    private final WildShapeManager wildShapeManager;
+    private final PolymorphManager polymorphManager;
+
+    private final PlayerPositionTracker positionTracker;
+    private final GMPositionTracker gmPositionTracker;
+    private final ClientMovementHandler movementHandler;
+    private final HotbarInputHandler hotbarInputHandler;
+    private final PlayerSessionRegistry sessions;
+    private final PlayerDisconnectListener disconnectListener;
+    private final BlockChangeBus blockChangeBus;
+
+    private FlowField flowField;
+    private long flowFieldTurn = -1;
+    private long flowFieldGoals;
+
+    public TableSession(World world, String name) {
+        this.world = world;
+        this.name = name;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "griddify-table-" + name);
+            t.setDaemon(true);
+            return t;
+        });
+
+        // Managers
+        this.gridMoveManager = new GridMoveManager();
+        this.roleManager = new RoleManager();
+        this.encounterManager = new EncounterManager(roleManager);
+        this.combatManager = new CombatManager(gridMoveManager, encounterManager, roleManager);
+        this.collisionDetector = new CollisionDetector(gridMoveManager, encounterManager);
+        this.fogOfWarManager = new FogOfWarManager(gridMoveManager, encounterManager, roleManager);
+        this.lineOfSight = new LineOfSightService(gridMoveManager, encounterManager);
+        this.persistentSpellManager = new PersistentSpellManager();
+        this.spellVisualManager = new SpellVisualManager(gridMoveManager);
+        this.wildShapeManager = new WildShapeManager(gridMoveManager);
+        this.polymorphManager = new PolymorphManager(gridMoveManager, encounterManager);
+
+        // Trackers
+        this.positionTracker = new PlayerPositionTracker(
+                gridMoveManager, roleManager, encounterManager, combatManager, collisionDetector);
+        this.gmPositionTracker = new GMPositionTracker(
+                encounterManager, roleManager, combatManager, collisionDetector, gridMoveManager);
+        positionTracker.setFogOfWarManager(fogOfWarManager);
+        gmPositionTracker.setFogOfWarManager(fogOfWarManager);
+        positionTracker.setLineOfSight(lineOfSight);
+        gmPositionTracker.setLineOfSight(lineOfSight);
+        positionTracker.setSpellVisualManager(spellVisualManager);
+        gmPositionTracker.setSpellVisualManager(spellVisualManager);
+        positionTracker.setPersistentSpellManager(persistentSpellManager);
+        gmPositionTracker.setPersistentSpellManager(persistentSpellManager);
+
+        // Handlers
+        this.movementHandler = new ClientMovementHandler(positionTracker, gmPositionTracker, roleManager, gridMoveManager);
+        this.hotbarInputHandler = new HotbarInputHandler(
+                gridMoveManager, encounterManager, spellVisualManager, roleManager, collisionDetector);
+
+        // Per-player resources, released in this order on disconnect
+        this.sessions = new PlayerSessionRegistry(world, gridMoveManager);
+        registerPlayerResources();
+        this.disconnectListener = new PlayerDisconnectListener(sessions, roleManager);
+        scheduler.scheduleAtFixedRate(() -> world.execute(sessions::audit),
+                AUDIT_MINUTES, AUDIT_MINUTES, TimeUnit.MINUTES);
+
+        // Stray-entity sweep: one budgeted slice per second
+        scheduler.scheduleAtFixedRate(() -> world.execute(() -> EntityReaper.step(world)),
+                1, 1, TimeUnit.SECONDS);
+
+        // Block edits: drop every per-cell cache that covers a changed cell
+        this.blockChangeBus = new BlockChangeBus(world);
+        blockChangeBus.addListener(this::onCellsChanged);
+
+        open.put(world, this);
+        System.out.println("[Griddify] [TABLE] Opened table " + name);
+    }
+
+    // ========================================================
+    // DISPATCH
+    // ========================================================
+
+    /** Run a task on this table's world thread. */
+    public void execute(Runnable task) {
+        world.execute(task);
+    }
+
+    /** Run a task on this table's world thread after a delay. */
+    public ScheduledFuture<?> schedule(Runnable task, long delay, TimeUnit unit) {
+        return scheduler.schedule(() -> world.execute(task), delay, unit);
+    }
+
+    /** Whether the player ever joined this table: grid state or a role here. */
+    public boolean hasPlayer(UUID playerId) {
+        return gridMoveManager.peekState(playerId) != null || roleManager.hasRole(playerId);
+    }
+
+    /** Scheduler of the table open on this world, or null if there is none (or it closed). */
+    public static ScheduledExecutorService schedulerOf(World world) {
+        TableSession table = world != null ? open.get(world) : null;
+        return table != null ? table.scheduler : null;
+    }
+
+    /** Block-edit bus of the table open on this world, or null. */
+    public static BlockChangeBus blockChangesOf(World world) {
+        TableSession table = open.get(world);
+        return table != null ? table.blockChangeBus : null;
+    }
+
+    /**
+     * schedule() on the table open on this world. Returns null, and drops the task,
+     * when no table is open there: its world-level state went with the table.
+     */
+    public static ScheduledFuture<?> scheduleOn(World world, Runnable task, long delay, TimeUnit unit) {
+        TableSession table = open.get(world);
+        if (table == null) return null;
+        try {
+            return table.schedule(task, delay, unit);
+        } catch (RejectedExecutionException e) {
+            return null; // closing
+        }
+    }
+
+    /**
+     * Stop the scheduler and drop every per-world service entry (terrain, tile and VFX
+     * pools, raster, timelines, work queue, reaper ledger) right away: a world being
+     * removed may never run another task. Removing the entities they held is posted
+     * to the world thread and only happens if the world still runs it. Pending
+     * delayed tasks are discarded.
+     */
+    public void close() {
+        open.remove(world, this);
+        scheduler.shutdownNow();
+        TerrainManager.forget(world);
+        TilePool.forget(world);
+        BattlefieldRaster.release(world);
+        VfxSequencer.release(world);
+        Runnable queuedWork = WorldWorkQueue.detach(world);
+        Runnable parkedVfx = VfxPool.detach(world);
+        Runnable finalSweep = EntityReaper.detach(world);
+
+        // Runs the cancelled timelines' queued cleanup first, so their entities are gone too.
+        // The reaper's final sweep then removes the tiles parked in the forgotten TilePool.
+        try {
+            world.execute(() -> {
+                queuedWork.run();
+                parkedVfx.run();
+                finalSweep.run();
+                // That cleanup may have handed entities back to a pool: drop what it re-created
+                TilePool.forget(world);
+                WorldWorkQueue.detach(world).run();
+                VfxPool.detach(world).run();
+                EntityReaper.detach(world).run();
+            });
+        } catch (Exception e) {
+            // World already stopped: its entities went with it
+        }
+        System.out.println("[Griddify] [TABLE] Closed table " + name);
+    }
+
+    // ========================================================
+    // PLAYER RESOURCES
+    // ========================================================
+
+    private void registerPlayerResources() {
+        sessions.register("position-tracker", positionTracker::trackedPlayers, (id, w) -> positionTracker.forgetPlayer(id));
+        sessions.register("gm-tracker", gmPositionTracker::trackedPlayers, (id, w) -> gmPositionTracker.forgetPlayer(id));
+        sessions.register("hotbar", hotbarInputHandler::trackedPlayers, (id, w) -> hotbarInputHandler.forgetPlayer(id));
+        sessions.register("spell-visuals", spellVisualManager::trackedPlayers, spellVisualManager::releasePlayer);
+        sessions.register("fog-viewer", fogOfWarManager::trackedViewers, (id, w) -> fogOfWarManager.forgetViewer(id));
+        sessions.register("grid-entities", this::playersWithGridEntities, (id, w) -> {
+            GridPlayerState state = gridMoveManager.peekState(id);
+            if (state != null) releaseGridEntities(w, state);
+        });
+        sessions.register("wild-shape", wildShapeManager::transformedPlayers, (id, w) -> wildShapeManager.forget(id));
+        sessions.register("polymorph", polymorphManager::polymorphedPlayers,
+                (id, w) -> polymorphManager.forgetPlayer(id, gridMoveManager.peekState(id)));
+        // Last: earlier releases may still read the NPC's position
+        sessions.register("npc", this::playersWithNpc, (id, w) -> {
+            GridPlayerState state = gridMoveManager.peekState(id);
+            if (state == null) return;
+            removeEntity(w, state.npcEntity);
+            state.npcEntity = null;
+        });
+    }
+
+    /** Players whose state still holds overlay tiles, a map build/window, fog markers or a cast in progress. */
+    private Set<UUID> playersWithGridEntities() {
+        Set<UUID> ids = new HashSet<>();
+        for (GridPlayerState s : gridMoveManager.getAllStates()) {
+            if (s.playerRef == null) continue;
+            if (!s.gridOverlay.isEmpty() || !s.gridTileMap.isEmpty() || !s.ledgeTileMap.isEmpty()
+                    || !s.gridTilePool.isEmpty() || s.gmMapBuild != null || s.gmMapWindow != null
+                    || s.fogMarkerRef != null || s.fogMarkerRef2 != null
+                    || s.getSpellCastingState() != null || s.hasActiveCustomCast()) {
+                ids.add(s.playerRef.getUuid());
+            }
+        }
+        return ids;
+    }
+
+    private Set<UUID> playersWithNpc() {
+        Set<UUID> ids = new HashSet<>();
+        for (GridPlayerState s : gridMoveManager.getAllStates()) {
+            if (s.playerRef != null && s.npcEntity != null) ids.add(s.playerRef.getUuid());
+        }
+        return ids;
+    }
+
+    /** World thread. Overlay tiles, map build/window and fog markers; a half-finished cast is dropped. */
+    private static void releaseGridEntities(World world, GridPlayerState state) {
+        GridOverlayManager.removeGridOverlay(world, state);
+        removeEntity(world, state.fogMarkerRef);
+        removeEntity(world, state.fogMarkerRef2);
+        state.fogMarkerRef = null;
+        state.fogMarkerNetId = -1;
+        state.fogMarkerRef2 = null;
+        state.fogMarkerNetId2 = -1;
+        state.clearSpellCastingState();
+        state.clearCustomCastState();
+    }
+
+    private static void removeEntity(World world, Ref<EntityStore> ref) {
+        if (ref == null || !ref.isValid()) return;
+        try { world.getEntityStore().getStore().removeEntity(ref, RemoveReason.REMOVE); } catch (Exception ignored) {}
+    }
+
+    // ========================================================
+    // BLOCK CHANGES
+    // ========================================================
+
+    private void onCellsChanged(World world, Set<Long> cells) {
+        BattlefieldRaster raster = BattlefieldRaster.get(world);
+        for (long key : cells) {
+            int gx = BlockChangeBus.cellX(key), gz = BlockChangeBus.cellZ(key);
+            if (raster != null) raster.refreshCell(gx, gz); // first, so rescans below read the new blocks
+            TerrainManager.invalidateCell(world, gx, gz);
+        }
+        // Every memoized trace may cross a changed cell, so LOS drops its memo once
+        if (cells.size() > 64) {
+            lineOfSight.invalidateBlocks();
+        } else {
+            for (long key : cells) lineOfSight.invalidateCell(BlockChangeBus.cellX(key), BlockChangeBus.cellZ(key));
+        }
+        for (GridPlayerState state : gridMoveManager.getAllStates()) {
+            state.groundYCache.keySet().removeAll(cells);
+        }
+        invalidateFlowField();
+        fogOfWarManager.invalidateOpacity(world, cells);
+    }
+
+    // ========================================================
+    // MONSTER PATHING
+    // ========================================================
+
+    /**
+     * Flow field toward the party, shared by every monster on the table. During
+     * combat it is built once per turn and kept while every player NPC stays where
+     * it was built from, so moves outside the turn flow (GM /control, teleports,
+     * /gridrestart) still rebuild it. Outside combat it is rebuilt per call.
+     * World thread only.
+     */
+    public FlowField getFlowField() {
+        long turn = combatManager.isCombatActive()
+                ? (long) combatManager.getRoundNumber() * 10000 + combatManager.getCurrentTurnIndex()
+                : -1;
+        long goals = goalPositions();
+        if (flowField == null || turn < 0 || turn != flowFieldTurn || goals != flowFieldGoals) {
+            flowField = FlowField.compute(world, gridMoveManager);
+            flowFieldTurn = turn;
+            flowFieldGoals = goals;
+        }
+        return flowField;
+    }
+
+    /** Drop the cached flow field (blocks changed under it). */
+    public void invalidateFlowField() {
+        flowField = null;
+    }
+
+    /** Order-independent hash of every player NPC's cell and height: the field's goals. */
+    private long goalPositions() {
+        long h = 0;
+        for (GridPlayerState s : gridMoveManager.getAllStates()) {
+            if (s.npcEntity == null || !s.npcEntity.isValid()) continue;
+            long cell = GridOverlayManager.packKey(s.currentGridX, s.currentGridZ) * 31 + Float.floatToIntBits(s.npcY);
+            h += cell * 0x9E3779B97F4A7C15L;
+        }
+        return h;
+    }
+
+    // ========================================================
+    // GETTERS
+    // ========================================================
+
+    public World getWorld() { return world; }
+    public String getName() { return name; }
+    public ScheduledExecutorService getScheduler() { return scheduler; }
+
+    public RoleManager getRoleManager() { return roleManager; }
+    public GridMoveManager getGridMoveManager() { return gridMoveManager; }
+    public EncounterManager getEncounterManager() { return encounterManager; }
+    public CombatManager getCombatManager() { return combatManager; }
+    public CollisionDetector getCollisionDetector() { return collisionDetector; }
+    public FogOfWarManager getFogOfWarManager() { return fogOfWarManager; }
+    public LineOfSightService getLineOfSight() { return lineOfSight; }
+    public PersistentSpellManager getPersistentSpellManager() { return persistentSpellManager; }
+    public SpellVisualManager getSpellVisualManager() { return spellVisualManager; }
+    public WildShapeManager getWildShapeManager() { return wildShapeManager; }
+    public PolymorphManager getPolymorphManager() { return polymorphManager; }
+
+    public PlayerPositionTracker getPositionTracker() { return positionTracker; }
+    public GMPositionTracker getGmPositionTracker() { return gmPositionTracker; }
+    public ClientMovementHandler getMovementHandler() { return movementHandler; }
+    public HotbarInputHandler getHotbarInputHandler() { return hotbarInputHandler; }
+    public PlayerSessionRegistry getSessions() { return sessions; }
+    public PlayerDisconnectListener getDisconnectListener() { return disconnectListener; }
+    public BlockChangeBus getBlockChangeBus() { return blockChangeBus; }
+}
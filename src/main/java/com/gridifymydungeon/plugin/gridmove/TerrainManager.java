@@ -1,9 +1,8 @@
 package com.gridifymydungeon.plugin.gridmove;
 
-import com.hypixel.hytale.math.vector.Vector3i;
-import com.hypixel.hytale.server.core.asset.type.blocktype.config.BlockType;
 import com.hypixel.hytale.server.core.universe.world.World;
 
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
@@ -19,11 +18,37 @@ import java.util.concurrent.ConcurrentHashMap;
  *   - Weather mode: DIFFICULT (every cell is difficult)
  *
  * Grid overlay: cells with difficult terrain show Grid_Difficult instead of Grid_Player.
+ *
+ * Spell-placed cells and weather are per table: each World has its own shard, so
+ * a storm at one table never slows movement at another.
+ *
+ * Cost raster: the natural-terrain block scan (four columns, two blocks each) is
+ * the only expensive part of a lookup, so its result is cached per cell together
+ * with the block Y it was scanned at. Spell cells and weather are read live on
+ * top of it, so adding/removing a spell cell or changing the weather needs no
+ * invalidation; a block change must call invalidateBlock. The BFS can then price
+ * every step with the real multiplier without extra block reads.
  */
 public class TerrainManager {
 
-    // ── Spell-placed difficult cells (Entangle, etc.) ─────────────────────────
-    private static final Set<Long> spellDifficultCells = ConcurrentHashMap.newKeySet();
+    // ── Per-world state (spell-placed cells + weather) ────────────────────────
+    private static final class Shard {
+        final Set<Long> spellDifficultCells = ConcurrentHashMap.newKeySet();
+        volatile WeatherMode weatherMode = WeatherMode.NORMAL;
+        /** cellKey → (blockY << 1) | difficultBit for the last natural scan of that cell. */
+        final Map<Long, Integer> naturalRaster = new ConcurrentHashMap<>();
+    }
+    private static final int RASTER_MAX_CELLS = 16384;
+    private static final Map<World, Shard> shards = new ConcurrentHashMap<>();
+
+    private static Shard shard(World world) {
+        return shards.computeIfAbsent(world, w -> new Shard());
+    }
+
+    /** Drop a world's terrain state (its table closed). */
+    public static void forget(World world) {
+        shards.remove(world);
+    }
 
     // ── Weather mode ──────────────────────────────────────────────────────────
     public enum WeatherMode {
@@ -32,60 +57,64 @@ public class TerrainManager {
         SWIFT,      // every move costs 0.5×
         CHASE       // movement is free (no cost)
     }
-    private static volatile WeatherMode weatherMode = WeatherMode.NORMAL;
-
-    // ── Block IDs that create difficult terrain ───────────────────────────────
-    // Standing ON top of these (surface block)
-    private static final Set<String> DIFFICULT_SURFACE_BLOCKS = Set.of(
-            "Soil_Mud",
-            "Rock_Ice",
-            "Rock_Ice_Permafrost"
-    );
-
-    // Standing IN/AMONG these (at-player-height block — flora, webs, vines)
-    private static final Set<String> DIFFICULT_FLORA_BLOCKS = Set.of(
-            "Plant_Bramble_Moss_Twisted",
-            "Plant_Bramble_Dry_Twisted",
-            "Plant_Bramble_Dead_Twisted",
-            "Deco_SpiderWeb_Flat",
-            "Plant_Vine_Rug",
-            "Deco_SpiderWeb",
-            "Deco_Scarak_Spit"
-    );
+
+    // Block IDs that create difficult terrain live in BlockFlags
+    // (DIFFICULT_SURFACE / DIFFICULT_FLORA bits).
 
     // ── Key encoding ──────────────────────────────────────────────────────────
     private static long cellKey(int x, int z) { return ((long) x << 32) | (z & 0xFFFFFFFFL); }
 
     // ── Spell-placed difficult cells ──────────────────────────────────────────
-    public static void addDifficultCell(int gridX, int gridZ) {
-        spellDifficultCells.add(cellKey(gridX, gridZ));
+    public static void addDifficultCell(World world, int gridX, int gridZ) {
+        shard(world).spellDifficultCells.add(cellKey(gridX, gridZ));
+    }
+    public static void removeDifficultCell(World world, int gridX, int gridZ) {
+        shard(world).spellDifficultCells.remove(cellKey(gridX, gridZ));
+    }
+    public static void clearDifficultCells(World world) { shard(world).spellDifficultCells.clear(); }
+
+    // ── Cost raster invalidation ──────────────────────────────────────────────
+    /** A block changed at world coordinates (x, y, z): rescan its cell next time. */
+    public static void invalidateBlock(World world, int x, int y, int z) {
+        invalidateCell(world, Math.floorDiv(x, 2), Math.floorDiv(z, 2));
     }
-    public static void removeDifficultCell(int gridX, int gridZ) {
-        spellDifficultCells.remove(cellKey(gridX, gridZ));
+    public static void invalidateCell(World world, int gridX, int gridZ) {
+        Shard shard = shards.get(world);
+        if (shard != null) shard.naturalRaster.remove(cellKey(gridX, gridZ));
+    }
+    /** Forget every cached block scan (new encounter, bulk terrain edit). */
+    public static void clearCostRaster(World world) {
+        Shard shard = shards.get(world);
+        if (shard != null) shard.naturalRaster.clear();
+    }
+    public static int costRasterSize(World world) {
+        Shard shard = shards.get(world);
+        return shard != null ? shard.naturalRaster.size() : 0;
     }
-    public static void clearDifficultCells() { spellDifficultCells.clear(); }
 
     // ── Weather ───────────────────────────────────────────────────────────────
-    public static WeatherMode getWeatherMode() { return weatherMode; }
-    public static void setWeatherMode(WeatherMode mode) { weatherMode = mode; }
+    public static WeatherMode getWeatherMode(World world) {
+        return world != null ? shard(world).weatherMode : WeatherMode.NORMAL;
+    }
+    public static void setWeatherMode(World world, WeatherMode mode) { shard(world).weatherMode = mode; }
 
     // ── Main check: is a grid cell difficult for movement? ────────────────────
     /**
      * Returns true if the cell at (gridX, gridZ) counts as difficult terrain.
-     * world may be null (skips block scan, only checks spell-placed cells + weather).
+     * world may be null (no table to consult: always false).
      */
     public static boolean isDifficult(int gridX, int gridZ, float playerY, World world) {
+        if (world == null) return false;
+        Shard shard = shard(world);
+
         // Weather overrides
-        if (weatherMode == WeatherMode.DIFFICULT) return true;
+        if (shard.weatherMode == WeatherMode.DIFFICULT) return true;
 
         // Spell-placed cells (Entangle etc.)
-        if (spellDifficultCells.contains(cellKey(gridX, gridZ))) return true;
+        if (shard.spellDifficultCells.contains(cellKey(gridX, gridZ))) return true;
 
-        // Block scan (only when world is available)
-        if (world != null) {
-            return hasNaturalDifficultTerrain(world, gridX, gridZ, playerY);
-        }
-        return false;
+        // Block scan, cached per cell at the Y it was scanned from
+        return naturalDifficult(shard, world, gridX, gridZ, playerY);
     }
 
     /**
@@ -95,7 +124,7 @@ public class TerrainManager {
      *   normal  → 1.0 or 2.0 (difficult)
      */
     public static double getMoveCostMultiplier(int gridX, int gridZ, float playerY, World world) {
-        switch (weatherMode) {
+        switch (getWeatherMode(world)) {
             case CHASE:     return 0.0;
             case SWIFT:     return 0.5;
             case DIFFICULT: return 2.0;
@@ -105,6 +134,18 @@ public class TerrainManager {
     }
 
     // ── Block scan ────────────────────────────────────────────────────────────
+    private static boolean naturalDifficult(Shard shard, World world, int gridX, int gridZ, float playerY) {
+        int blockY = (int) Math.floor(playerY);
+        long key = cellKey(gridX, gridZ);
+        Integer cached = shard.naturalRaster.get(key);
+        if (cached != null && (cached >> 1) == blockY) return (cached & 1) != 0;
+
+        boolean difficult = hasNaturalDifficultTerrain(world, gridX, gridZ, playerY);
+        if (shard.naturalRaster.size() >= RASTER_MAX_CELLS) shard.naturalRaster.clear();
+        shard.naturalRaster.put(key, (blockY << 1) | (difficult ? 1 : 0));
+        return difficult;
+    }
+
     private static boolean hasNaturalDifficultTerrain(World world, int gridX, int gridZ, float playerY) {
         try {
             int blockY = (int) Math.floor(playerY);
@@ -114,24 +155,15 @@ public class TerrainManager {
             for (int wx : xs) {
                 for (int wz : zs) {
                     // Block the player stands ON (surface)
-                    String surfaceId = getBlockId(world, wx, blockY - 1, wz);
-                    if (surfaceId != null && DIFFICULT_SURFACE_BLOCKS.contains(surfaceId)) return true;
+                    if ((BlockFlags.at(world, wx, blockY - 1, wz) & BlockFlags.DIFFICULT_SURFACE) != 0) return true;
                     // Block at feet level (flora, webs, vines)
-                    String feetId = getBlockId(world, wx, blockY, wz);
-                    if (feetId != null && DIFFICULT_FLORA_BLOCKS.contains(feetId)) return true;
+                    if ((BlockFlags.at(world, wx, blockY, wz) & BlockFlags.DIFFICULT_FLORA) != 0) return true;
                 }
             }
         } catch (Exception ignored) {}
         return false;
     }
 
-    private static String getBlockId(World world, int worldX, int blockY, int worldZ) {
-        try {
-            BlockType bt = world.getBlockType(new Vector3i(worldX, blockY, worldZ));
-            return bt != null ? bt.getId() : null;
-        } catch (Exception e) { return null; }
-    }
-
     // ── Grid overlay helper: should this cell show Grid_Difficult? ────────────
     public static boolean shouldShowDifficultOverlay(int gridX, int gridZ, float npcY, World world) {
         return isDifficult(gridX, gridZ, npcY, world);
@@ -0,0 +1,107 @@
+package com.gridifymydungeon.plugin.gridmove;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Merges overlay cells into larger square tiles so a flat area renders as a few
+ * scaled entities instead of one entity per cell.
+ *
+ * Model.createScaledModel only scales uniformly, so tiles are squares rather than
+ * free rectangles. Squares are aligned power-of-two blocks (8×8, 4×4, 2×2, 1×1):
+ * a block is merged when every cell in it is present, unclaimed, at the same
+ * ground height and of the same kind (normal / difficult). Larger blocks win.
+ *
+ * Because blocks are aligned, the result depends only on the cell set, not on the
+ * order cells were found. A one-cell change can only alter the blocks containing
+ * that cell, so diffing two results by {@link Square#key()} re-splits just those.
+ */
+final class TileMerger {
+
+    /** Largest square edge, in cells. Must be a power of two. */
+    static final int MAX_SIZE = 8;
+
+    private TileMerger() {}
+
+    static final class Cell {
+        final int gridX, gridZ;
+        final float groundY;
+        final boolean difficult;
+        Cell(int gridX, int gridZ, float groundY, boolean difficult) {
+            this.gridX = gridX; this.gridZ = gridZ; this.groundY = groundY; this.difficult = difficult;
+        }
+    }
+
+    static final class Square {
+        final int gridX, gridZ, size;
+        final float groundY;
+        final boolean difficult;
+        Square(int gridX, int gridZ, int size, float groundY, boolean difficult) {
+            this.gridX = gridX; this.gridZ = gridZ; this.size = size;
+            this.groundY = groundY; this.difficult = difficult;
+        }
+
+        /** Stable identity for tile reuse: origin cell plus edge length. */
+        String key() { return gridX + "," + gridZ + "," + size; }
+
+        /** The square as size² single-cell squares. */
+        List<Square> cells() {
+            List<Square> out = new ArrayList<>(size * size);
+            for (int dx = 0; dx < size; dx++)
+                for (int dz = 0; dz < size; dz++)
+                    out.add(new Square(gridX + dx, gridZ + dz, 1, groundY, difficult));
+            return out;
+        }
+
+        /** World-space centre; one cell is 2×2 blocks. */
+        float centerX() { return (gridX * 2.0f) + size; }
+        float centerZ() { return (gridZ * 2.0f) + size; }
+    }
+
+    /** Block index of a cell at MAX_SIZE granularity (callers batch work per block). */
+    static int blockOf(int grid) {
+        return Math.floorDiv(grid, MAX_SIZE);
+    }
+
+    static List<Square> merge(Collection<Cell> cells) {
+        Map<Long, Cell> byKey = new HashMap<>(cells.size() * 2);
+        for (Cell c : cells) byKey.put(packKey(c.gridX, c.gridZ), c);
+
+        List<Square> out = new ArrayList<>();
+        Set<Long> claimed = new HashSet<>(cells.size() * 2);
+        for (int size = MAX_SIZE; size >= 1; size >>= 1) {
+            for (Cell c : cells) {
+                // Each aligned block is tried once, from its origin cell
+                if (Math.floorMod(c.gridX, size) != 0 || Math.floorMod(c.gridZ, size) != 0) continue;
+                if (claimed.contains(packKey(c.gridX, c.gridZ))) continue;
+                if (size > 1 && !uniform(byKey, claimed, c, size)) continue;
+                for (int dx = 0; dx < size; dx++)
+                    for (int dz = 0; dz < size; dz++)
+                        claimed.add(packKey(c.gridX + dx, c.gridZ + dz));
+                out.add(new Square(c.gridX, c.gridZ, size, c.groundY, c.difficult));
+            }
+        }
+        return out;
+    }
+
+    private static boolean uniform(Map<Long, Cell> byKey, Set<Long> claimed, Cell origin, int size) {
+        for (int dx = 0; dx < size; dx++) {
+            for (int dz = 0; dz < size; dz++) {
+                long k = packKey(origin.gridX + dx, origin.gridZ + dz);
+                Cell c = byKey.get(k);
+                if (c == null || claimed.contains(k)) return false;
+                if (c.groundY != origin.groundY || c.difficult != origin.difficult) return false;
+            }
+        }
+        return true;
+    }
+
+    private static long packKey(int gridX, int gridZ) {
+        return ((long) gridX << 32) | (gridZ & 0xFFFFFFFFL);
+    }
+}
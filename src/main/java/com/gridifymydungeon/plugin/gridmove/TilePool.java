@@ -0,0 +1,208 @@
+package com.gridifymydungeon.plugin.gridmove;
+
+import com.hypixel.hytale.component.AddReason;
+import com.hypixel.hytale.component.Holder;
+import com.hypixel.hytale.component.Ref;
+import com.hypixel.hytale.component.RemoveReason;
+import com.hypixel.hytale.component.Store;
+import com.hypixel.hytale.math.vector.Vector3d;
+import com.hypixel.hytale.math.vector.Vector3f;
+import com.hypixel.hytale.server.core.asset.type.model.config.Model;
+import com.hypixel.hytale.server.core.entity.UUIDComponent;
+import com.hypixel.hytale.server.core.modules.entity.component.BoundingBox;
+import com.hypixel.hytale.server.core.modules.entity.component.ModelComponent;
+import com.hypixel.hytale.server.core.modules.entity.component.TransformComponent;
+import com.hypixel.hytale.server.core.modules.entity.tracker.NetworkId;
+import com.hypixel.hytale.server.core.universe.world.World;
+import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * World-wide pool of parked tile entities shared by every overlay: grid tiles,
+ * range rings and spell areas borrow from it with a model swap instead of each
+ * paying fresh spawns on first use.
+ *
+ * Only tiles every client can still see are returned here. A private tile has had
+ * remove packets sent to non-owners, and the tracker will not re-send it to them,
+ * so private overlays keep their own per-owner pools and remove their tiles on
+ * teardown; public overlays (GM map, monster range) release into this pool.
+ *
+ * Parked tiles sit PARK_DEPTH blocks under the spot they were released at, so they
+ * stay in loaded chunks near the table. Idle tiles above the high-water mark are
+ * destroyed on release. The pool is warmed in small per-tick batches the first
+ * time a player joins the grid in a world.
+ *
+ * Every tile is tagged with EntityReaper: parked tiles belong to the world's pool,
+ * borrowed ones to the borrower, so a forgotten pool or a dropped overlay leaves
+ * nothing behind.
+ *
+ * Sizes are read once from system properties:
+ *   griddify.tilePool.warm       (default 256) tiles spawned by warm-up
+ *   griddify.tilePool.highWater  (default 768) idle tiles kept, the rest are removed
+ *
+ * World thread only, except the scheduler hop used for warm-up batches.
+ */
+public class TilePool {
+
+    private static final int WARM_SIZE   = Integer.getInteger("griddify.tilePool.warm", 256);
+    private static final int HIGH_WATER  = Integer.getInteger("griddify.tilePool.highWater", 768);
+    private static final int WARM_BATCH  = 32;    // tiles spawned per warm-up tick
+    private static final long WARM_STEP_MS = 50L; // one tick
+    private static final float PARK_DEPTH = 30f;
+    private static final String WARM_MODEL = "Grid_Basic";
+
+    private static final class Shard implements EntityReaper.Owner {
+        final World world;
+        final Deque<Ref<EntityStore>> idle = new ArrayDeque<>();
+        boolean warmed = false;
+        int borrowed = 0, reused = 0, spawned = 0, trimmed = 0;
+        Shard(World world) { this.world = world; }
+
+        /** Parked tiles are owned until the table forgets the pool. */
+        @Override
+        public boolean isLive() { return shards.get(world) == this; }
+    }
+    private static final Map<World, Shard> shards = new ConcurrentHashMap<>();
+
+    private static Shard shard(World world) {
+        return shards.computeIfAbsent(world, Shard::new);
+    }
+
+    /** Drop a world's pool bookkeeping (its table closed). */
+    public static void forget(World world) {
+        shards.remove(world);
+    }
+
+    // ========================================================
+    // BORROW / RELEASE
+    // ========================================================
+
+    /**
+     * Take a tile with the given model at (x, y, z). Reuses a parked tile when one
+     * is available, otherwise spawns a new one. Returns null only if spawning fails.
+     *
+     * @param purpose what the tile is used for, for the reaper's counters
+     * @param owner   who will give the tile back or remove it (see EntityReaper)
+     */
+    public static Ref<EntityStore> borrow(World world, Model model, float x, float y, float z,
+                                          String purpose, Object owner) {
+        Shard shard = shard(world);
+        Store<EntityStore> store = world.getEntityStore().getStore();
+        shard.borrowed++;
+        while (!shard.idle.isEmpty()) {
+            Ref<EntityStore> ref = shard.idle.pollLast();
+            if (ref == null || !ref.isValid()) continue;
+            try {
+                store.replaceComponent(ref, ModelComponent.getComponentType(), new ModelComponent(model));
+                store.replaceComponent(ref, BoundingBox.getComponentType(), new BoundingBox(model.getBoundingBox()));
+                TransformComponent tc = store.getComponent(ref, TransformComponent.getComponentType());
+                if (tc != null) tc.setPosition(new Vector3d(x, y, z));
+                shard.reused++;
+                EntityReaper.tag(world, ref, purpose, owner);
+                return ref;
+            } catch (Exception ignored) {}
+        }
+        Ref<EntityStore> ref = spawn(store, model, x, y, z);
+        if (ref != null) {
+            shard.spawned++;
+            EntityReaper.tag(world, ref, purpose, owner);
+        }
+        return ref;
+    }
+
+    /**
+     * Give a tile back: it is parked under its current position, or removed if the
+     * pool is already at its high-water mark.
+     */
+    public static void release(World world, Ref<EntityStore> ref) {
+        if (ref == null || !ref.isValid()) return;
+        Shard shard = shard(world);
+        Store<EntityStore> store = world.getEntityStore().getStore();
+        if (shard.idle.size() >= HIGH_WATER) {
+            try { store.removeEntity(ref, RemoveReason.REMOVE); } catch (Exception ignored) {}
+            shard.trimmed++;
+            return;
+        }
+        try {
+            TransformComponent tc = store.getComponent(ref, TransformComponent.getComponentType());
+            if (tc != null) {
+                Vector3d p = tc.getPosition();
+                tc.setPosition(new Vector3d(p.getX(), p.getY() - PARK_DEPTH, p.getZ()));
+            }
+        } catch (Exception ignored) {}
+        shard.idle.addLast(ref);
+        EntityReaper.tag(world, ref, "pool-tile", shard);
+    }
+
+    // ========================================================
+    // WARM-UP
+    // ========================================================
+
+    /**
+     * Pre-spawn the pool around (x, y, z) — pass a parking spot under the player.
+     * Runs once per world, WARM_BATCH tiles per tick. Must be called on the world thread.
+     */
+    public static void warmUp(World world, float x, float y, float z) {
+        Shard shard = shard(world);
+        if (shard.warmed) return;
+        shard.warmed = true;
+        Model model = ModelRegistry.get(WARM_MODEL);
+        if (model == null) {
+            System.err.println("[Griddify] [POOL] Warm-up skipped: model " + WARM_MODEL + " not found");
+            return;
+        }
+        warmStep(world, shard, model, x, y, z);
+    }
+
+    private static void warmStep(World world, Shard shard, Model model, float x, float y, float z) {
+        if (shards.get(world) != shard) return; // table closed meanwhile
+        Store<EntityStore> store = world.getEntityStore().getStore();
+        int batch = Math.min(WARM_BATCH, WARM_SIZE - shard.idle.size());
+        for (int i = 0; i < batch; i++) {
+            Ref<EntityStore> ref = spawn(store, model, x, y, z);
+            if (ref == null) break;
+            shard.idle.addLast(ref);
+            shard.spawned++;
+            EntityReaper.tag(world, ref, "pool-tile", shard);
+        }
+        if (batch > 0 && shard.idle.size() < WARM_SIZE) {
+            TableSession.scheduleOn(world, () -> warmStep(world, shard, model, x, y, z),
+                    WARM_STEP_MS, TimeUnit.MILLISECONDS);
+        } else {
+            System.out.println("[Griddify] [POOL] Warm-up done: " + shard.idle.size() + " idle tiles");
+        }
+    }
+
+    /** One-line pool summary for logs. */
+    public static String stats(World world) {
+        Shard s = shard(world);
+        return "idle=" + s.idle.size() + " borrowed=" + s.borrowed + " reused=" + s.reused
+                + " spawned=" + s.spawned + " trimmed=" + s.trimmed;
+    }
+
+    // ========================================================
+    // ENTITY SPAWNING
+    // ========================================================
+
+    private static Ref<EntityStore> spawn(Store<EntityStore> store, Model model, float x, float y, float z) {
+        try {
+            Holder<EntityStore> holder = EntityStore.REGISTRY.newHolder();
+            holder.addComponent(TransformComponent.getComponentType(),
+                    new TransformComponent(new Vector3d(x, y, z), new Vector3f(0, 0, 0)));
+            holder.addComponent(ModelComponent.getComponentType(), new ModelComponent(model));
+            holder.addComponent(BoundingBox.getComponentType(), new BoundingBox(model.getBoundingBox()));
+            holder.addComponent(NetworkId.getComponentType(),
+                    new NetworkId(store.getExternalData().takeNextNetworkId()));
+            holder.ensureComponent(UUIDComponent.getComponentType());
+            return store.addEntity(holder, AddReason.SPAWN);
+        } catch (Exception e) {
+            System.err.println("[Griddify] [POOL] Failed to spawn tile: " + e.getMessage());
+            return null;
+        }
+    }
+}
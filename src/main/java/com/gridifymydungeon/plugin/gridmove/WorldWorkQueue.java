@@ -0,0 +1,310 @@
+package com.gridifymydungeon.plugin.gridmove;
+
+import com.hypixel.hytale.server.core.universe.world.World;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Griddify's share of the world thread, one queue per world.
+ *
+ * Packet handlers, schedulers and projectile threads submit here instead of calling
+ * world.execute directly. Queued work runs in world.execute drains, highest priority
+ * first:
+ *
+ *   MOVEMENT — NPC and monster steps; never deferred
+ *   OVERLAY  — grid, spell-area and map overlay refreshes
+ *   VFX      — cosmetic effects (timeline keyframes, projectile flight)
+ *
+ * Each drain has a time budget for OVERLAY and VFX work. Time a drain spends past
+ * its budget (movement, overdue work, one long task) is carried over and taken off
+ * the next drain's budget, so back-to-back drains cannot add up to more than their
+ * share; a drain starting a tick or more after the last one starts clear. When the
+ * budget is spent, the rest waits for a drain TICK_MS later, lower priorities first
+ * to go. A task deferred for MAX_WAIT_NS runs anyway so cosmetic work cannot starve.
+ * Work submitted with a key replaces a still-queued task with the same key (only
+ * the latest overlay refresh for a player matters); the replaced task no longer
+ * counts towards the queue depth.
+ *
+ * Read once from system properties:
+ *   griddify.work.budgetMicros  (default 5000) OVERLAY + VFX time per drain
+ *
+ * stats() reports queue depth and per-drain usage; over-budget drains are also
+ * logged at most every REPORT_NS. Commands and other one-off work keep using
+ * world.execute.
+ */
+public final class WorldWorkQueue {
+
+    public enum Priority { MOVEMENT, OVERLAY, VFX }
+
+    private static final long BUDGET_NS = Long.getLong("griddify.work.budgetMicros", 5000L) * 1000L;
+    static final long TICK_MS = 50L;
+    private static final long TICK_NS = TimeUnit.MILLISECONDS.toNanos(TICK_MS);
+    static final long MAX_WAIT_NS = TimeUnit.MILLISECONDS.toNanos(1000L);
+    private static final long REPORT_NS = TimeUnit.MILLISECONDS.toNanos(30_000L);
+
+    private static final Priority[] PRIORITIES = Priority.values();
+
+    private static final Map<World, WorldWorkQueue> queues = new ConcurrentHashMap<>();
+
+    private static final class Task {
+        final Runnable run;
+        final Object key;
+        final int lane;
+        final long queuedAt;
+        boolean superseded = false;
+        Task(Runnable run, Object key, int lane, long queuedAt) {
+            this.run = run; this.key = key; this.lane = lane; this.queuedAt = queuedAt;
+        }
+    }
+
+    private final Executor worldThread;       // runs a drain on the world thread
+    private final Executor nextTick;          // runs a drain on the world thread, TICK_MS from now
+    private final LongSupplier clock;         // nanoseconds
+    private final long budgetNs;
+    @SuppressWarnings("unchecked")
+    private final ArrayDeque<Task>[] lanes = new ArrayDeque[PRIORITIES.length]; // guarded by this
+    private final int[] live = new int[PRIORITIES.length];  // queued and not superseded; guarded by this
+    private final Map<Object, Task> keyed = new HashMap<>(); // guarded by this
+    private boolean drainPosted = false;    // a world.execute drain is pending; guarded by this
+    private boolean retryScheduled = false; // leftovers wait for the next tick; guarded by this
+    private volatile boolean released = false;
+
+    // Budget carried between drains: time spent past the budget, repaid by the next
+    // drain unless that one starts a tick or more later. World thread.
+    private long debtNs = 0, lastDrainEnd = 0;
+
+    // Metrics: written on the world thread, read unsynchronized for logs
+    private long lastDrainNs = 0, peakDrainNs = 0;
+    private int overBudgetDrains = 0, reportedOverBudget = 0, peakDepth = 0;
+    private long lastReport;
+    private final long[] ran = new long[PRIORITIES.length];
+    private final long[] ranNs = new long[PRIORITIES.length];
+    private final long[] deferred = new long[PRIORITIES.length];
+    private long coalesced = 0, failed = 0;
+
+    private WorldWorkQueue(World world) {
+        this(world::execute, task -> {
+            if (TableSession.scheduleOn(world, task, TICK_MS, TimeUnit.MILLISECONDS) == null) {
+                world.execute(task); // no table scheduler: next world tick
+            }
+        }, System::nanoTime, BUDGET_NS);
+    }
+
+    /** Tests drive the world thread, the retry delay and the clock themselves. */
+    WorldWorkQueue(Executor worldThread, Executor nextTick, LongSupplier clock, long budgetNs) {
+        this.worldThread = worldThread;
+        this.nextTick = nextTick;
+        this.clock = clock;
+        this.budgetNs = budgetNs;
+        this.lastReport = clock.getAsLong();
+        for (int i = 0; i < lanes.length; i++) lanes[i] = new ArrayDeque<>();
+    }
+
+    // ========================================================
+    // PUBLIC API
+    // ========================================================
+
+    /** Queue work for the world thread. Safe from any thread. */
+    public static void submit(World world, Priority priority, Runnable task) {
+        submit(world, priority, null, task);
+    }
+
+    /**
+     * Queue work for the world thread, replacing any still-queued task with the same
+     * key. key may be null. Safe from any thread.
+     */
+    public static void submit(World world, Priority priority, Object key, Runnable task) {
+        queues.computeIfAbsent(world, WorldWorkQueue::new).enqueue(priority, key, task);
+    }
+
+    /**
+     * Drop the world's queue now and stop its drains (table closed). Returns a task
+     * that runs whatever is still queued, ignoring the budget, to run on the world
+     * thread if the world is still up. Cancelled effects get their cleanup this way.
+     */
+    public static Runnable detach(World world) {
+        WorldWorkQueue q = queues.remove(world);
+        if (q == null) return () -> {};
+        q.released = true;
+        return q::runAllAndStop;
+    }
+
+    /** Tasks waiting in the world's queue, all priorities; replaced tasks are not counted. */
+    public static int depth(World world) {
+        WorldWorkQueue q = queues.get(world);
+        return q != null ? q.depth() : 0;
+    }
+
+    /** One-line summary for logs: depth, per-drain usage, then ran/deferred/time per priority. */
+    public static String stats(World world) {
+        WorldWorkQueue q = queues.get(world);
+        return q != null ? q.stats() : "empty";
+    }
+
+    // ========================================================
+    // QUEUE / DRAIN
+    // ========================================================
+
+    void enqueue(Priority priority, Object key, Runnable run) {
+        Task task = new Task(run, key, priority.ordinal(), clock.getAsLong());
+        synchronized (this) {
+            if (key != null) {
+                Task old = keyed.put(key, task);
+                if (old != null) {
+                    old.superseded = true;
+                    live[old.lane]--;
+                    coalesced++;
+                }
+            }
+            lanes[priority.ordinal()].addLast(task);
+            live[priority.ordinal()]++;
+            peakDepth = Math.max(peakDepth, depthLocked());
+            // Lower priorities join the leftovers' next-tick drain; movement never waits for it
+            if (drainPosted || (retryScheduled && priority != Priority.MOVEMENT)) return;
+            drainPosted = true;
+        }
+        worldThread.execute(this::drain);
+    }
+
+    private void retry() {
+        synchronized (this) {
+            retryScheduled = false;
+        }
+        drain();
+    }
+
+    /** World thread. Runs what fits in this drain's budget and re-posts the rest for the next tick. */
+    void drain() {
+        synchronized (this) {
+            drainPosted = false;
+        }
+        if (released) return;
+        long start = clock.getAsLong();
+        if (debtNs > 0 && start - lastDrainEnd >= TICK_NS) debtNs = 0;
+        long budget = nextBudgetNs();
+        long used = 0;
+
+        boolean overBudget = false;
+        for (Priority p : PRIORITIES) {
+            int i = p.ordinal();
+            while (true) {
+                Task task;
+                synchronized (this) {
+                    task = lanes[i].peekFirst();
+                    if (task == null) break;
+                    if (!task.superseded) {
+                        boolean overdue = start - task.queuedAt >= MAX_WAIT_NS;
+                        if (p != Priority.MOVEMENT && used >= budget && !overdue) {
+                            overBudget = true;
+                            break;
+                        }
+                        live[i]--;
+                    }
+                    lanes[i].pollFirst();
+                    if (task.key != null) keyed.remove(task.key, task);
+                }
+                if (task.superseded) continue;
+                long t0 = clock.getAsLong();
+                try {
+                    task.run.run();
+                } catch (Exception e) {
+                    failed++;
+                    System.err.println("[Griddify] [WORK] " + p + " task failed: " + e.getMessage());
+                }
+                long spent = clock.getAsLong() - t0;
+                used += spent;
+                ranNs[i] += spent;
+                ran[i]++;
+            }
+        }
+        debtNs = Math.max(0, used - budget);
+        lastDrainEnd = clock.getAsLong();
+        lastDrainNs = used;
+        peakDrainNs = Math.max(peakDrainNs, used);
+        if (used > budget) overBudgetDrains++;
+
+        boolean retry;
+        synchronized (this) {
+            if (overBudget) {
+                for (Priority p : PRIORITIES) deferred[p.ordinal()] += live[p.ordinal()];
+            }
+            retry = depthLocked() > 0 && !retryScheduled && !drainPosted;
+            if (retry) retryScheduled = true;
+        }
+        if (overBudget) report(start);
+        if (retry) nextTick.execute(this::retry);
+    }
+
+    /** Run everything still queued, ignoring the budget, and refuse further drains. */
+    void runAllAndStop() {
+        released = true;
+        while (true) {
+            Task task = null;
+            synchronized (this) {
+                for (ArrayDeque<Task> lane : lanes) {
+                    if (!lane.isEmpty()) { task = lane.pollFirst(); break; }
+                }
+                if (task == null) {
+                    keyed.clear();
+                    Arrays.fill(live, 0);
+                    return;
+                }
+            }
+            if (task.superseded) continue;
+            try { task.run.run(); } catch (Exception ignored) {}
+        }
+    }
+
+    private void report(long now) {
+        if (now - lastReport < REPORT_NS || overBudgetDrains == reportedOverBudget) return;
+        System.out.println("[Griddify] [WORK] " + (overBudgetDrains - reportedOverBudget)
+                + " drain(s) over budget since last report (" + stats() + ")");
+        reportedOverBudget = overBudgetDrains;
+        lastReport = now;
+    }
+
+    int depth() {
+        synchronized (this) {
+            return depthLocked();
+        }
+    }
+
+    /** Guarded by this. */
+    private int depthLocked() {
+        int n = 0;
+        for (int c : live) n += c;
+        return n;
+    }
+
+    /** Budget the next drain starts with, after repaying the last one's overrun. */
+    long nextBudgetNs() {
+        return Math.max(0, budgetNs - debtNs);
+    }
+
+    String stats() {
+        StringBuilder sb = new StringBuilder();
+        synchronized (this) {
+            sb.append("depth=").append(depthLocked()).append(" peakDepth=").append(peakDepth);
+        }
+        sb.append(" lastDrain=").append(ms(lastDrainNs)).append("ms peakDrain=").append(ms(peakDrainNs))
+                .append("ms budget=").append(ms(budgetNs)).append("ms overBudgetDrains=").append(overBudgetDrains)
+                .append(" coalesced=").append(coalesced).append(" failed=").append(failed);
+        for (Priority p : PRIORITIES) {
+            int i = p.ordinal();
+            sb.append(" | ").append(p.name().toLowerCase()).append(" ran=").append(ran[i])
+                    .append(" deferred=").append(deferred[i]).append(" time=").append(ms(ranNs[i])).append("ms");
+        }
+        return sb.toString();
+    }
+
+    private static String ms(long ns) {
+        return String.format("%.2f", ns / 1_000_000.0);
+    }
+}
@@ -1,6 +1,8 @@
 package com.gridifymydungeon.plugin.gridmove.commands;
 
 import com.gridifymydungeon.plugin.gridmove.GridMoveManager;
+import com.gridifymydungeon.plugin.gridmove.TableRegistry;
+import com.gridifymydungeon.plugin.gridmove.TableSession;
 import com.hypixel.hytale.component.Ref;
 import com.hypixel.hytale.component.RemoveReason;
 import com.hypixel.hytale.component.Store;
@@ -19,11 +21,11 @@ import java.util.ArrayList;
  */
 public class ClearHologramsCommand extends AbstractPlayerCommand {
 
-    private final GridMoveManager manager;
+    private final TableRegistry tables;
 
-    public ClearHologramsCommand(GridMoveManager manager) {
+    public ClearHologramsCommand(TableRegistry tables) {
         super("clearholograms", "Remove all holograms from the world");
-        this.manager = manager;
+        this.tables = tables;
     }
 
     @Override
@@ -32,6 +34,8 @@ public class ClearHologramsCommand extends AbstractPlayerCommand {
                            @Nonnull Ref<EntityStore> ref,
                            @Nonnull PlayerRef playerRef,
                            @Nonnull World world) {
+        TableSession table = tables.forWorld(world);
+        GridMoveManager manager = table.getGridMoveManager();
 
         System.out.println("[ClearHolograms] [DEBUG] Player " + playerRef.getUsername() + " executing clear holograms");
 
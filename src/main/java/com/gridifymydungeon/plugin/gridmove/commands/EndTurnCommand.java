@@ -8,6 +8,9 @@ import com.gridifymydungeon.plugin.gridmove.CollisionDetector;
 import com.gridifymydungeon.plugin.gridmove.GridMoveManager;
 import com.gridifymydungeon.plugin.gridmove.GridOverlayManager;
 import com.gridifymydungeon.plugin.gridmove.GridPlayerState;
+import com.gridifymydungeon.plugin.gridmove.TableRegistry;
+import com.gridifymydungeon.plugin.gridmove.TableSession;
+import com.gridifymydungeon.plugin.spell.PersistentSpellManager;
 import com.gridifymydungeon.plugin.spell.SpellVisualManager;
 import com.hypixel.hytale.component.Ref;
 import com.hypixel.hytale.component.Store;
@@ -39,28 +42,25 @@ import java.util.List;
  */
 public class EndTurnCommand extends AbstractPlayerCommand {
 
-    private final GridMoveManager    manager;
-    private final CombatManager      combatManager;
+    private final TableRegistry tables;
+
     private final CombatCommand      combatCommand;
-    private final CollisionDetector  collisionDetector;
-    private final EncounterManager   encounterManager;
-    private final SpellVisualManager spellVisualManager;
 
-    public EndTurnCommand(GridMoveManager manager, CombatManager combatManager,
-                          CombatCommand combatCommand, CollisionDetector collisionDetector,
-                          EncounterManager encounterManager, SpellVisualManager spellVisualManager) {
+    public EndTurnCommand(TableRegistry tables, CombatCommand combatCommand) {
         super("endturn", "End your turn and reset moves");
-        this.manager            = manager;
-        this.combatManager      = combatManager;
+        this.tables = tables;
         this.combatCommand      = combatCommand;
-        this.collisionDetector  = collisionDetector;
-        this.encounterManager   = encounterManager;
-        this.spellVisualManager = spellVisualManager;
     }
 
     @Override
     protected void execute(@Nonnull CommandContext context, @Nonnull Store<EntityStore> store,
                            @Nonnull Ref<EntityStore> ref, @Nonnull PlayerRef playerRef, @Nonnull World world) {
+        TableSession table = tables.forWorld(world);
+        GridMoveManager manager = table.getGridMoveManager();
+        CombatManager combatManager = table.getCombatManager();
+        CollisionDetector collisionDetector = table.getCollisionDetector();
+        EncounterManager encounterManager = table.getEncounterManager();
+        SpellVisualManager spellVisualManager = table.getSpellVisualManager();
 
         GridPlayerState state = manager.getState(playerRef);
 
@@ -75,10 +75,26 @@ public class EndTurnCommand extends AbstractPlayerCommand {
             ItemWithAllMetadata icon = new ItemStack("Ingredient_Crystal_Green", 1).toPacket();
             NotificationUtil.sendNotification(playerRef.getPacketHandler(), primary, secondary, icon, NotificationStyle.Default);
 
+            // Persistent zones: durations tick per round, then the new participant's cell triggers
+            PersistentSpellManager persistent = table.getPersistentSpellManager();
+            if (next != null) {
+                if (combatManager.getCurrentTurnIndex() == 0) persistent.advanceRound();
+                if (next.isPlayer) {
+                    for (GridPlayerState ps : manager.getAllStates()) {
+                        if (ps.playerRef != null && ps.playerRef.getUuid().equals(next.playerUUID)) {
+                            persistent.onTurnStart(ps);
+                        }
+                    }
+                } else {
+                    MonsterState m = encounterManager.getMonster(next.monsterNumber);
+                    if (m != null) persistent.onTurnStart(m);
+                }
+            }
+
             // Broadcast updated turn order to everyone
             List<CombatManager.CombatParticipant> order = combatManager.getTurnOrder();
             int currentIndex = combatManager.getCurrentTurnIndex();
-            combatCommand.broadcastTurnOrder(order, currentIndex, "TURN CHANGE");
+            combatCommand.broadcastTurnOrder(table, order, currentIndex, "TURN CHANGE");
 
             world.execute(() -> {
                 // ── Step 1: Remove ALL BFS movement overlays and range overlays ──────
@@ -118,7 +134,7 @@ public class EndTurnCommand extends AbstractPlayerCommand {
                 } else {
                     // ── Monster turn: spawn BFS overlay on the GM's GridPlayerState ──
                     // Find the monster that matches the turn participant.
-                    MonsterState monster = findMonsterByNumber(next.monsterNumber);
+                    MonsterState monster = findMonsterByNumber(encounterManager, next.monsterNumber);
                     if (monster == null) {
                         System.out.println("[Griddify] [ENDTURN] Monster #" + next.monsterNumber
                                 + " not found — skipping overlay.");
@@ -132,7 +148,7 @@ public class EndTurnCommand extends AbstractPlayerCommand {
                     // associates with the controlled monster — the GM is whoever called /control.
                     // We expose it via EncounterManager.getGMPlayerRef() if available, otherwise
                     // fall back to finding the first state with a null npcEntity (GM never /gridmoves).
-                    GridPlayerState gmState = findGMState();
+                    GridPlayerState gmState = findGMState(manager);
                     if (gmState == null) {
                         System.out.println("[Griddify] [ENDTURN] No GM state found — skipping monster overlay.");
                         return;
@@ -187,7 +203,7 @@ public class EndTurnCommand extends AbstractPlayerCommand {
     /**
      * Find a MonsterState by its monsterNumber from the EncounterManager.
      */
-    private MonsterState findMonsterByNumber(int monsterNumber) {
+    private MonsterState findMonsterByNumber(EncounterManager encounterManager, int monsterNumber) {
         for (MonsterState ms : encounterManager.getAllMonsters().values()) {
             if (ms.monsterNumber == monsterNumber) return ms;
         }
@@ -201,7 +217,7 @@ public class EndTurnCommand extends AbstractPlayerCommand {
      * Falls back to the state whose playerRef matches the encounter's controlled context
      * if EncounterManager exposes a GM ref.
      */
-    private GridPlayerState findGMState() {
+    private GridPlayerState findGMState(GridMoveManager manager) {
         // GM has no npcEntity (they don't /gridmove, only players do)
         for (GridPlayerState ps : manager.getAllStates()) {
             if (ps.npcEntity == null || !ps.npcEntity.isValid()) return ps;
@@ -0,0 +1,110 @@
+package com.gridifymydungeon.plugin.gridmove.commands;
+
+import com.gridifymydungeon.plugin.dnd.EncounterManager;
+import com.gridifymydungeon.plugin.dnd.MonsterState;
+import com.gridifymydungeon.plugin.dnd.RoleManager;
+import com.gridifymydungeon.plugin.gridmove.GridMoveManager;
+import com.gridifymydungeon.plugin.gridmove.GridOverlayManager;
+import com.gridifymydungeon.plugin.gridmove.GridPlayerState;
+import com.gridifymydungeon.plugin.gridmove.TableRegistry;
+import com.gridifymydungeon.plugin.gridmove.TableSession;
+import com.hypixel.hytale.component.Ref;
+import com.hypixel.hytale.component.Store;
+import com.hypixel.hytale.math.vector.Vector3d;
+import com.hypixel.hytale.protocol.ItemWithAllMetadata;
+import com.hypixel.hytale.protocol.packets.interface_.NotificationStyle;
+import com.hypixel.hytale.server.core.Message;
+import com.hypixel.hytale.server.core.command.system.CommandContext;
+import com.hypixel.hytale.server.core.command.system.arguments.system.RequiredArg;
+import com.hypixel.hytale.server.core.command.system.arguments.types.ArgTypes;
+import com.hypixel.hytale.server.core.command.system.basecommands.AbstractPlayerCommand;
+import com.hypixel.hytale.server.core.inventory.ItemStack;
+import com.hypixel.hytale.server.core.modules.entity.component.TransformComponent;
+import com.hypixel.hytale.server.core.universe.PlayerRef;
+import com.hypixel.hytale.server.core.universe.world.World;
+import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+import com.hypixel.hytale.server.core.util.NotificationUtil;
+
+import javax.annotation.Nonnull;
+
+/**
+ * /gridfollow <radius> — GM streaming map that stays centred on the GM.
+ *
+ * Unlike /grid, the map is not rebuilt when the centre moves: crossing a cell
+ * boundary scans only the entering row or column and recycles the leaving one
+ * (see GmMapWindow), so large radii stay cheap. While a monster is controlled the
+ * window follows the monster instead. Remove it with /gridoff or /grid.
+ * Only available to GMs.
+ */
+public class GridFollowCommand extends AbstractPlayerCommand {
+
+    private static final int MAX_RADIUS = 160;
+
+    private final TableRegistry tables;
+
+    private final RequiredArg<Integer> radiusArg;
+
+    public GridFollowCommand(TableRegistry tables) {
+        super("gridfollow", "GM map that follows you (radius in cells, /gridoff to remove)");
+        this.tables = tables;
+        this.radiusArg = this.withRequiredArg("radius", "Map radius in cells (1-" + MAX_RADIUS + ")", ArgTypes.INTEGER);
+    }
+
+    @Override
+    protected void execute(@Nonnull CommandContext context, @Nonnull Store<EntityStore> store,
+                           @Nonnull Ref<EntityStore> ref, @Nonnull PlayerRef playerRef, @Nonnull World world) {
+        TableSession table = tables.forWorld(world);
+        GridMoveManager gridMoveManager = table.getGridMoveManager();
+        EncounterManager encounterManager = table.getEncounterManager();
+        RoleManager roleManager = table.getRoleManager();
+
+        if (!roleManager.isGM(playerRef)) {
+            notify(playerRef, "GM only command!", "Only the GM can use the follow map",
+                    "#FF0000", "Ingredient_Crystal_Red");
+            return;
+        }
+
+        int radius = radiusArg.get(context);
+        if (radius < 1 || radius > MAX_RADIUS) {
+            playerRef.sendMessage(Message.raw("[Griddify] Radius must be between 1 and " + MAX_RADIUS + ".").color("#FF0000"));
+            return;
+        }
+
+        GridPlayerState gmState = gridMoveManager.getState(playerRef);
+        MonsterState monster = encounterManager.getControlledMonster();
+
+        world.execute(() -> {
+            if (monster != null) {
+                gmState.currentGridX = monster.currentGridX;
+                gmState.currentGridZ = monster.currentGridZ;
+                gmState.npcY         = monster.spawnY;
+            } else {
+                try {
+                    TransformComponent transform = store.getComponent(ref, TransformComponent.getComponentType());
+                    if (transform != null) {
+                        Vector3d pos = transform.getPosition();
+                        gmState.currentGridX = (int) Math.floor(pos.getX() / 2.0);
+                        gmState.currentGridZ = (int) Math.floor(pos.getZ() / 2.0);
+                        gmState.npcY         = (float) pos.getY();
+                    }
+                } catch (Exception ignored) {}
+            }
+
+            if (!GridOverlayManager.spawnGMFollowMap(world, gmState, radius)) {
+                notify(playerRef, "Grid model not found!", null, "#FF0000", "Ingredient_Crystal_Red");
+                return;
+            }
+            int side = radius * 2 + 1;
+            notify(playerRef, side + "x" + side + " follow map enabled!",
+                    monster != null ? "Follows " + monster.getDisplayName() + " as it moves" : "Follows you as you move",
+                    "#90EE90", "Ingredient_Crystal_Green");
+        });
+    }
+
+    private void notify(PlayerRef p, String primary, String secondary, String color, String item) {
+        Message pMsg = Message.raw(primary).color(color);
+        Message sMsg = secondary != null ? Message.raw(secondary).color("#FFFFFF") : null;
+        ItemWithAllMetadata icon = new ItemStack(item, 1).toPacket();
+        NotificationUtil.sendNotification(p.getPacketHandler(), pMsg, sMsg, icon, NotificationStyle.Default);
+    }
+}
@@ -7,6 +7,9 @@ import com.gridifymydungeon.plugin.gridmove.CollisionDetector;
 import com.gridifymydungeon.plugin.gridmove.GridMoveManager;
 import com.gridifymydungeon.plugin.gridmove.GridOverlayManager;
 import com.gridifymydungeon.plugin.gridmove.GridPlayerState;
+import com.gridifymydungeon.plugin.gridmove.TableRegistry;
+import com.gridifymydungeon.plugin.gridmove.TableSession;
+import com.gridifymydungeon.plugin.gridmove.TilePool;
 import com.hypixel.hytale.component.Ref;
 import com.hypixel.hytale.component.Store;
 import com.hypixel.hytale.math.vector.Vector3d;
@@ -35,21 +38,22 @@ import java.util.Set;
  */
 public class GridMoveCommand extends AbstractPlayerCommand {
 
-    private final GridMoveManager manager;
-    private final CollisionDetector collisionDetector;
-    private final RoleManager roleManager;
+    private final TableRegistry tables;
+
     public static final Set<Ref<EntityStore>> ALL_HOLOGRAMS = new HashSet<>();
 
-    public GridMoveCommand(GridMoveManager manager, CollisionDetector collisionDetector, RoleManager roleManager) {
+    public GridMoveCommand(TableRegistry tables) {
         super("gridmove", "Enable grid movement mode");
-        this.manager = manager;
-        this.collisionDetector = collisionDetector;
-        this.roleManager = roleManager;
+        this.tables = tables;
     }
 
     @Override
     protected void execute(@Nonnull CommandContext context, @Nonnull Store<EntityStore> store,
                            @Nonnull Ref<EntityStore> ref, @Nonnull PlayerRef playerRef, @Nonnull World world) {
+        TableSession table = tables.forWorld(world);
+        GridMoveManager manager = table.getGridMoveManager();
+        CollisionDetector collisionDetector = table.getCollisionDetector();
+        RoleManager roleManager = table.getRoleManager();
 
         // BLOCK GM FROM USING THIS COMMAND
         if (DebugRoleWrapper.isGM(roleManager, playerRef)) {
@@ -167,12 +171,13 @@ public class GridMoveCommand extends AbstractPlayerCommand {
 
             if (success) {
                 final GridPlayerState finalState = state;
-                java.util.concurrent.Executors.newSingleThreadScheduledExecutor().schedule(() ->
-                                world.execute(() -> PlayerEntityController.broadcastAndStoreEquipment(
-                                        world, world.getEntityStore().getStore(), playerEntityRef, finalState)),
+                table.schedule(() -> PlayerEntityController.broadcastAndStoreEquipment(
+                        world, world.getEntityStore().getStore(), playerEntityRef, finalState),
                         500L, java.util.concurrent.TimeUnit.MILLISECONDS);
 
                 manager.spawnDirectionHolograms(world, state);
+                // First player on the grid in this world: pre-spawn shared overlay tiles under them
+                TilePool.warmUp(world, (finalGridX * 2.0f) + 1.0f, state.npcY - 30f, (finalGridZ * 2.0f) + 1.0f);
 
                 String movesInfo;
                 if (state.hasMaxMovesSet()) {
@@ -3,6 +3,8 @@ package com.gridifymydungeon.plugin.gridmove.commands;
 import com.gridifymydungeon.plugin.gridmove.GridMoveManager;
 import com.gridifymydungeon.plugin.gridmove.GridOverlayManager;
 import com.gridifymydungeon.plugin.gridmove.GridPlayerState;
+import com.gridifymydungeon.plugin.gridmove.TableRegistry;
+import com.gridifymydungeon.plugin.gridmove.TableSession;
 import com.hypixel.hytale.component.Ref;
 import com.hypixel.hytale.component.Store;
 import com.hypixel.hytale.protocol.ItemWithAllMetadata;
@@ -24,16 +26,18 @@ import javax.annotation.Nonnull;
  */
 public class GridOffCommand extends AbstractPlayerCommand {
 
-    private final GridMoveManager gridMoveManager;
+    private final TableRegistry tables;
 
-    public GridOffCommand(GridMoveManager gridMoveManager) {
+    public GridOffCommand(TableRegistry tables) {
         super("gridoff", "Hide grid overlay");
-        this.gridMoveManager = gridMoveManager;
+        this.tables = tables;
     }
 
     @Override
     protected void execute(@Nonnull CommandContext context, @Nonnull Store<EntityStore> store,
                            @Nonnull Ref<EntityStore> ref, @Nonnull PlayerRef playerRef, @Nonnull World world) {
+        TableSession table = tables.forWorld(world);
+        GridMoveManager gridMoveManager = table.getGridMoveManager();
 
         GridPlayerState state = gridMoveManager.getState(playerRef);
 
@@ -7,6 +7,8 @@ import com.gridifymydungeon.plugin.gridmove.CollisionDetector;
 import com.gridifymydungeon.plugin.gridmove.GridMoveManager;
 import com.gridifymydungeon.plugin.gridmove.GridOverlayManager;
 import com.gridifymydungeon.plugin.gridmove.GridPlayerState;
+import com.gridifymydungeon.plugin.gridmove.TableRegistry;
+import com.gridifymydungeon.plugin.gridmove.TableSession;
 import com.hypixel.hytale.component.Ref;
 import com.hypixel.hytale.component.Store;
 import com.hypixel.hytale.protocol.ItemWithAllMetadata;
@@ -35,23 +37,21 @@ import javax.annotation.Nonnull;
  */
 public class GridOnCommand extends AbstractPlayerCommand {
 
-    private final GridMoveManager gridMoveManager;
-    private final CollisionDetector collisionDetector;
-    private final EncounterManager encounterManager;
-    private final RoleManager roleManager;
+    private final TableRegistry tables;
 
-    public GridOnCommand(GridMoveManager gridMoveManager, CollisionDetector collisionDetector,
-                         EncounterManager encounterManager, RoleManager roleManager) {
+    public GridOnCommand(TableRegistry tables) {
         super("gridon", "Show grid overlay");
-        this.gridMoveManager = gridMoveManager;
-        this.collisionDetector = collisionDetector;
-        this.encounterManager = encounterManager;
-        this.roleManager = roleManager;
+        this.tables = tables;
     }
 
     @Override
     protected void execute(@Nonnull CommandContext context, @Nonnull Store<EntityStore> store,
                            @Nonnull Ref<EntityStore> ref, @Nonnull PlayerRef playerRef, @Nonnull World world) {
+        TableSession table = tables.forWorld(world);
+        GridMoveManager gridMoveManager = table.getGridMoveManager();
+        CollisionDetector collisionDetector = table.getCollisionDetector();
+        EncounterManager encounterManager = table.getEncounterManager();
+        RoleManager roleManager = table.getRoleManager();
 
         // ---- GM path ----
         if (roleManager.isGM(playerRef)) {
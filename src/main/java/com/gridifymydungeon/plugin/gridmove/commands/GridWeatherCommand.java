@@ -1,6 +1,8 @@
 package com.gridifymydungeon.plugin.gridmove.commands;
 
 import com.gridifymydungeon.plugin.dnd.RoleManager;
+import com.gridifymydungeon.plugin.gridmove.TableRegistry;
+import com.gridifymydungeon.plugin.gridmove.TableSession;
 import com.gridifymydungeon.plugin.gridmove.TerrainManager;
 import com.hypixel.hytale.component.Ref;
 import com.hypixel.hytale.component.Store;
@@ -27,12 +29,13 @@ import javax.annotation.Nonnull;
  */
 public class GridWeatherCommand extends AbstractPlayerCommand {
 
-    private final RoleManager roleManager;
+    private final TableRegistry tables;
+
     private final RequiredArg<String> modeArg;
 
-    public GridWeatherCommand(RoleManager roleManager) {
+    public GridWeatherCommand(TableRegistry tables) {
         super("gridweather", "Set movement weather: /gridweather {normal|difficult|swift|chase}");
-        this.roleManager = roleManager;
+        this.tables = tables;
         this.modeArg = this.withRequiredArg("mode", "normal | difficult | swift | chase", ArgTypes.STRING);
     }
 
@@ -40,6 +43,8 @@ public class GridWeatherCommand extends AbstractPlayerCommand {
     protected void execute(@Nonnull CommandContext context, @Nonnull Store<EntityStore> store,
                            @Nonnull Ref<EntityStore> ref, @Nonnull PlayerRef playerRef,
                            @Nonnull World world) {
+        TableSession table = tables.forWorld(world);
+        RoleManager roleManager = table.getRoleManager();
 
         if (!roleManager.isGM(playerRef)) {
             playerRef.sendMessage(Message.raw("[Griddify] GM only.").color("#FF0000"));
@@ -61,7 +66,7 @@ public class GridWeatherCommand extends AbstractPlayerCommand {
                 return;
         }
 
-        TerrainManager.setWeatherMode(mode);
+        TerrainManager.setWeatherMode(world, mode);
         playerRef.sendMessage(Message.raw("[Griddify] Weather → " + label).color(color));
         System.out.println("[Griddify] [WEATHER] " + playerRef.getUsername() + " set " + mode.name());
     }
@@ -3,13 +3,19 @@ import com.gridifymydungeon.plugin.debug.DebugRoleWrapper;
 
 import com.gridifymydungeon.plugin.dnd.CombatManager;
 import com.gridifymydungeon.plugin.dnd.EncounterManager;
+import com.gridifymydungeon.plugin.dnd.FogOfWarManager;
 import com.gridifymydungeon.plugin.dnd.PlayerEntityController;
 import com.gridifymydungeon.plugin.dnd.RoleManager;
+import com.gridifymydungeon.plugin.gridmove.ChatBatcher;
 import com.gridifymydungeon.plugin.gridmove.CollisionDetector;
 import com.gridifymydungeon.plugin.gridmove.GridMoveManager;
 import com.gridifymydungeon.plugin.gridmove.GridOverlayManager;
 import com.gridifymydungeon.plugin.gridmove.GridPlayerState;
+import com.gridifymydungeon.plugin.gridmove.GriddifyHud;
+import com.gridifymydungeon.plugin.gridmove.LineOfSightService;
 import com.gridifymydungeon.plugin.gridmove.TerrainManager;
+import com.gridifymydungeon.plugin.gridmove.WorldWorkQueue;
+import com.gridifymydungeon.plugin.spell.PersistentSpellManager;
 import com.gridifymydungeon.plugin.spell.SpellCastingState;
 import com.gridifymydungeon.plugin.spell.SpellPatternCalculator;
 import com.gridifymydungeon.plugin.spell.SpellVisualManager;
@@ -17,8 +23,10 @@ import com.hypixel.hytale.math.vector.Vector3d;
 import com.hypixel.hytale.server.core.universe.PlayerRef;
 import com.hypixel.hytale.server.core.universe.world.World;
 
-import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
@@ -38,7 +46,8 @@ public class PlayerPositionTracker {
     private final CombatManager combatManager;
     private final CollisionDetector collisionDetector;
 
-    private final Map<PlayerRef, Long> lastMoveTime = new HashMap<>();
+    // Keyed by UUID: a reconnect brings a new PlayerRef. Released by forgetPlayer on disconnect.
+    private final Map<UUID, Long> lastMoveTime = new ConcurrentHashMap<>();
     private final AtomicBoolean movePending = new AtomicBoolean(false);
 
     // Injected after construction (to avoid circular dependency)
@@ -48,6 +57,24 @@ public class PlayerPositionTracker {
         this.spellVisualManager = svm;
     }
 
+    private FogOfWarManager fogOfWarManager = null;
+
+    public void setFogOfWarManager(FogOfWarManager fog) {
+        this.fogOfWarManager = fog;
+    }
+
+    private PersistentSpellManager persistentSpellManager = null;
+
+    public void setPersistentSpellManager(PersistentSpellManager psm) {
+        this.persistentSpellManager = psm;
+    }
+
+    private LineOfSightService lineOfSight = null;
+
+    public void setLineOfSight(LineOfSightService los) {
+        this.lineOfSight = los;
+    }
+
     public PlayerPositionTracker(GridMoveManager gridMoveManager, RoleManager roleManager,
                                  EncounterManager encounterManager, CombatManager combatManager,
                                  CollisionDetector collisionDetector) {
@@ -58,6 +85,16 @@ public class PlayerPositionTracker {
         this.collisionDetector = collisionDetector;
     }
 
+    /** Players with movement-throttle state (session audit). */
+    public Set<UUID> trackedPlayers() {
+        return lastMoveTime.keySet();
+    }
+
+    /** Drop the player's movement-throttle state (disconnect). */
+    public void forgetPlayer(UUID playerId) {
+        lastMoveTime.remove(playerId);
+    }
+
     public void onPlayerMove(PlayerRef playerRef, World world, Vector3d newPosition) {
         if (DebugRoleWrapper.isGM(roleManager, playerRef)) {
             return;
@@ -69,7 +106,7 @@ public class PlayerPositionTracker {
         }
 
         long now = System.currentTimeMillis();
-        Long lastMove = lastMoveTime.get(playerRef);
+        Long lastMove = lastMoveTime.get(playerRef.getUuid());
         if (lastMove != null && (now - lastMove) < MOVE_COOLDOWN_MS) {
             return;
         }
@@ -106,8 +143,9 @@ public class PlayerPositionTracker {
                     // Re-spawn movement grid overlay (was removed at /castfinal)
                     System.out.println("[GridMove] [GRID] post_cast unfreeze: re-spawning overlay for "
                             + playerRef.getUsername());
-                    world.execute(() -> GridOverlayManager.spawnPlayerGridOverlay(
-                            world, state, collisionDetector, playerRef.getUuid(), playerRef));
+                    WorldWorkQueue.submit(world, WorldWorkQueue.Priority.OVERLAY, "overlay:" + playerRef.getUuid(),
+                            () -> GridOverlayManager.spawnPlayerGridOverlay(
+                                    world, state, collisionDetector, playerRef.getUuid(), playerRef));
                 }
             } else if (newGridX == state.currentGridX && newGridZ == state.currentGridZ) {
                 // Collision-freeze: player walked back to NPC cell — unfreeze
@@ -177,12 +215,16 @@ public class PlayerPositionTracker {
                     final com.gridifymydungeon.plugin.spell.Direction8 dir = castState.getDirection();
                     final com.gridifymydungeon.plugin.spell.SpellData spellData = castState.getSpell();
                     final int cx = castState.getCasterGridX(), cz = castState.getCasterGridZ();
+                    final float casterY = castState.getCasterY();
                     // Capture confirmed targets so we can keep them visible for multi-target spells
                     final java.util.List<SpellCastingState.GridCell> confirmed =
                             new java.util.ArrayList<>(castState.getConfirmedTargets());
-                    world.execute(() -> {
-                        java.util.Set<SpellPatternCalculator.GridCell> cells =
-                                com.gridifymydungeon.plugin.spell.CastCommand.computeOverlay(
+                    final SpellCastingState fCast = castState;
+                    WorldWorkQueue.submit(world, WorldWorkQueue.Priority.OVERLAY, "aim:" + playerRef.getUuid(), () -> {
+                        // Directional spells: facing precomputed at /cast (already wall-filtered)
+                        java.util.Set<SpellPatternCalculator.GridCell> precomputed = fCast.getDirectionalCells(dir);
+                        java.util.Set<SpellPatternCalculator.GridCell> cells = precomputed != null ? precomputed
+                                : com.gridifymydungeon.plugin.spell.CastCommand.computeOverlay(
                                         pattern, dir, cx, cz, spellData, px, pz);
 
                         // FIX: Filter cells to only include those within spell range from caster
@@ -195,6 +237,12 @@ public class PlayerPositionTracker {
                             });
                         }
 
+                        // Hide cells the spell can't reach through walls
+                        if (precomputed == null) {
+                            com.gridifymydungeon.plugin.spell.CastCommand.filterByLineOfSight(
+                                    lineOfSight, world, pattern, cx, cz, casterY, px, pz, cells);
+                        }
+
                         // Also keep previously confirmed target cells visible
                         for (SpellCastingState.GridCell c : confirmed) {
                             // Only add if within range
@@ -216,7 +264,7 @@ public class PlayerPositionTracker {
         }
 
         if (newGridX != state.currentGridX || newGridZ != state.currentGridZ) {
-            lastMoveTime.put(playerRef, now);
+            lastMoveTime.put(playerRef.getUuid(), now);
             handleGridMovement(playerRef, state, newGridX, newGridZ, newPosition.getY(), world);
         }
 
@@ -281,7 +329,7 @@ public class PlayerPositionTracker {
         }
 
         if (combatManager.isCombatActive() && !combatManager.isPlayerTurn(playerRef)) {
-            playerRef.sendMessage(com.hypixel.hytale.server.core.Message.raw("[Griddify] Not your turn!"));
+            ChatBatcher.sendThrottled(playerRef, "[Griddify] Not your turn!");
             return;
         }
 
@@ -289,8 +337,8 @@ public class PlayerPositionTracker {
         if (collisionDetector.isPositionOccupied(newGridX, newGridZ, -1, playerRef.getUuid())) {
             String occupant = collisionDetector.getEntityNameAtPosition(newGridX, newGridZ);
             state.freeze("Blocked by " + (occupant != null ? occupant : "entity"));
-            playerRef.sendMessage(com.hypixel.hytale.server.core.Message.raw(
-                    "[GridMove] Blocked! Position occupied by: " + (occupant != null ? occupant : "entity")));
+            ChatBatcher.sendThrottled(playerRef,
+                    "[GridMove] Blocked! Position occupied by: " + (occupant != null ? occupant : "entity"));
             return;
         }
 
@@ -312,8 +360,10 @@ public class PlayerPositionTracker {
                 return;
             }
             state.consumeMoves(moveCost);
-            playerRef.sendMessage(com.hypixel.hytale.server.core.Message.raw(
-                    "[Griddify] Moves: " + formatMoves(state.remainingMoves) + "/" + formatMoves(state.maxMoves)));
+            GriddifyHud hud = state.hud;
+            ChatBatcher.counter(playerRef, "moves",
+                    "[Griddify] Moves: " + formatMoves(state.remainingMoves) + "/" + formatMoves(state.maxMoves),
+                    hud != null ? () -> hud.requestPanelUpdate(world, state, encounterManager, roleManager) : null);
         }
 
         if (!movePending.compareAndSet(false, true)) {
@@ -326,7 +376,7 @@ public class PlayerPositionTracker {
         final int oldGridX = state.currentGridX;
         final int oldGridZ = state.currentGridZ;
 
-        world.execute(() -> {
+        WorldWorkQueue.submit(world, WorldWorkQueue.Priority.MOVEMENT, () -> {
             try {
                 boolean success = PlayerEntityController.checkHeightAndTeleport(
                         world, state, newGridX, newGridZ, playerY, playerRef);
@@ -338,6 +388,11 @@ public class PlayerPositionTracker {
                     float yaw = calculateFacingYaw(oldGridX, oldGridZ, newGridX, newGridZ);
                     PlayerEntityController.setNpcYaw(world, state, yaw);
 
+                    // Stepping into a persistent zone (Wall of Fire, Moonbeam...)
+                    if (inCombat && persistentSpellManager != null) {
+                        persistentSpellManager.onEnter(state, oldGridX, oldGridZ);
+                    }
+
                     // Re-broadcast stored equipment to any newly-visible viewers
                     if (state.storedArmorIds != null) {
                         PlayerEntityController.rebroadcastStoredEquipment(
@@ -347,13 +402,20 @@ public class PlayerPositionTracker {
                     if (state.fogMarkerRef != null) {
                         PlayerEntityController.moveFogMarker(world, state);
                     }
+                    // Line-of-sight fog: recompute this player's view, re-hide what others lost
+                    if (fogOfWarManager != null) {
+                        fogOfWarManager.onNpcMoved(world, state);
+                    }
 
                     gridMoveManager.moveDirectionHolograms(world, state);
 
-                    // Refresh grid overlay (only meaningful in combat when moves are consumed)
+                    // Refresh grid overlay (only meaningful in combat when moves are consumed).
+                    // Queued as overlay work: if steps outpace it, only the latest rebuild runs.
                     if (state.gridOverlayEnabled) {
-                        GridOverlayManager.refreshGridOverlay(
-                                world, state, collisionDetector, playerRef.getUuid(), playerRef);
+                        WorldWorkQueue.submit(world, WorldWorkQueue.Priority.OVERLAY, "overlay:" + playerRef.getUuid(), () -> {
+                            if (state.gridOverlayEnabled) GridOverlayManager.refreshGridOverlay(
+                                    world, state, collisionDetector, playerRef.getUuid(), playerRef);
+                        });
                     }
                 } else {
                     // Refund moves on failed teleport (only in combat)
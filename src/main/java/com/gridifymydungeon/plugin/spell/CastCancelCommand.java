@@ -6,6 +6,8 @@ import com.gridifymydungeon.plugin.dnd.PlayerEntityController;
 import com.gridifymydungeon.plugin.dnd.RoleManager;
 import com.gridifymydungeon.plugin.gridmove.GridMoveManager;
 import com.gridifymydungeon.plugin.gridmove.GridPlayerState;
+import com.gridifymydungeon.plugin.gridmove.TableRegistry;
+import com.gridifymydungeon.plugin.gridmove.TableSession;
 import com.hypixel.hytale.component.Ref;
 import com.hypixel.hytale.component.Store;
 import com.hypixel.hytale.server.core.Message;
@@ -24,23 +26,22 @@ import javax.annotation.Nonnull;
  * FIX #4: Stops any looping NPC animation (e.g. staff loop) on cancel.
  */
 public class CastCancelCommand extends AbstractPlayerCommand {
-    private final GridMoveManager playerManager;
-    private final SpellVisualManager visualManager;
-    private final EncounterManager encounterManager;
-    private final RoleManager roleManager;
 
-    public CastCancelCommand(GridMoveManager playerManager, SpellVisualManager visualManager,
-                             EncounterManager encounterManager, RoleManager roleManager) {
+    private final TableRegistry tables;
+
+    public CastCancelCommand(TableRegistry tables) {
         super("CastCancel", "Cancel a prepared spell");
-        this.playerManager = playerManager;
-        this.visualManager = visualManager;
-        this.encounterManager = encounterManager;
-        this.roleManager = roleManager;
+        this.tables = tables;
     }
 
     @Override
     protected void execute(@Nonnull CommandContext context, @Nonnull Store<EntityStore> store,
                            @Nonnull Ref<EntityStore> ref, @Nonnull PlayerRef playerRef, @Nonnull World world) {
+        TableSession table = tables.forWorld(world);
+        GridMoveManager playerManager = table.getGridMoveManager();
+        SpellVisualManager visualManager = table.getSpellVisualManager();
+        EncounterManager encounterManager = table.getEncounterManager();
+        RoleManager roleManager = table.getRoleManager();
 
         GridPlayerState state = playerManager.getState(playerRef);
 
@@ -2,10 +2,14 @@ package com.gridifymydungeon.plugin.spell;
 import com.gridifymydungeon.plugin.debug.DebugRoleWrapper;
 
 import com.gridifymydungeon.plugin.dnd.EncounterManager;
+import com.gridifymydungeon.plugin.dnd.commands.MonsterEntityController;
 import com.gridifymydungeon.plugin.gridmove.CollisionDetector;
 import com.gridifymydungeon.plugin.gridmove.GridMoveManager;
 import com.gridifymydungeon.plugin.gridmove.GridOverlayManager;
 import com.gridifymydungeon.plugin.gridmove.GridPlayerState;
+import com.gridifymydungeon.plugin.gridmove.LineOfSightService;
+import com.gridifymydungeon.plugin.gridmove.TableRegistry;
+import com.gridifymydungeon.plugin.gridmove.TableSession;
 import com.hypixel.hytale.component.Ref;
 import com.hypixel.hytale.component.Store;
 import com.hypixel.hytale.server.core.Message;
@@ -19,6 +23,7 @@ import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
 
 import javax.annotation.Nonnull;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
 /**
@@ -28,28 +33,27 @@ import java.util.Set;
  * spawned at y=-30, teleported to real Y, and hidden from non-owners.
  */
 public class CastCommand extends AbstractPlayerCommand {
-    private final GridMoveManager playerManager;
-    private final EncounterManager encounterManager;
-    private final SpellVisualManager visualManager;
-    private final com.gridifymydungeon.plugin.dnd.RoleManager roleManager;
-    private final CollisionDetector collisionDetector;
+
+    private final TableRegistry tables;
+    private static final int SUGGESTION_LIMIT = 6;
+
     private final RequiredArg<String> spellNameArg;
 
-    public CastCommand(GridMoveManager playerManager, EncounterManager encounterManager,
-                       SpellVisualManager visualManager, com.gridifymydungeon.plugin.dnd.RoleManager roleManager,
-                       CollisionDetector collisionDetector) {
+    public CastCommand(TableRegistry tables) {
         super("Cast", "Prepare to cast a spell");
-        this.playerManager = playerManager;
-        this.encounterManager = encounterManager;
-        this.visualManager = visualManager;
-        this.roleManager = roleManager;
-        this.collisionDetector = collisionDetector;
+        this.tables = tables;
         this.spellNameArg = this.withRequiredArg("spell", "Spell name", ArgTypes.STRING);
     }
 
     @Override
     protected void execute(@Nonnull CommandContext context, @Nonnull Store<EntityStore> store,
                            @Nonnull Ref<EntityStore> ref, @Nonnull PlayerRef playerRef, @Nonnull World world) {
+        TableSession table = tables.forWorld(world);
+        GridMoveManager playerManager = table.getGridMoveManager();
+        EncounterManager encounterManager = table.getEncounterManager();
+        SpellVisualManager visualManager = table.getSpellVisualManager();
+        com.gridifymydungeon.plugin.dnd.RoleManager roleManager = table.getRoleManager();
+        CollisionDetector collisionDetector = table.getCollisionDetector();
 
         GridPlayerState state = playerManager.getState(playerRef);
 
@@ -70,10 +74,25 @@ public class CastCommand extends AbstractPlayerCommand {
         String spellName = spellNameArg.get(context);
         SpellData spell = SpellDatabase.getSpell(spellName);
         if (spell == null) {
-            playerRef.sendMessage(Message.raw("[Griddify] Unknown spell: " + spellName).color("#FF0000"));
-            return;
+            // Autocomplete: a unique prefix resolves directly, otherwise suggest candidates
+            List<SpellData> matches = SpellDatabase.findSpellsByPrefix(spellName, SUGGESTION_LIMIT + 1);
+            if (matches.size() == 1) {
+                spell = matches.get(0);
+            } else {
+                playerRef.sendMessage(Message.raw("[Griddify] Unknown spell: " + spellName).color("#FF0000"));
+                if (!matches.isEmpty()) {
+                    StringBuilder sb = new StringBuilder("[Griddify] Did you mean: ");
+                    for (int i = 0; i < matches.size() && i < SUGGESTION_LIMIT; i++) {
+                        if (i > 0) sb.append(", ");
+                        sb.append(matches.get(i).getName());
+                    }
+                    if (matches.size() > SUGGESTION_LIMIT) sb.append(", ...");
+                    playerRef.sendMessage(Message.raw(sb.toString()).color("#FFA500"));
+                }
+                return;
+            }
         }
-        if (!canAccessSpell(state, spell, playerRef)) {
+        if (!canAccessSpell(table, state, spell, playerRef)) {
             if (spell.isMonsterAttack()) {
                 com.gridifymydungeon.plugin.dnd.MonsterState controlled = encounterManager.getControlledMonster();
                 String required = spell.getRequiredMonsterType() != null ? spell.getRequiredMonsterType().name() : "?";
@@ -128,19 +147,22 @@ public class CastCommand extends AbstractPlayerCommand {
         Direction8 initialDirection = Direction8.fromYaw(yawDeg);
 
         float playerY = casterY;
+        SpellCastingState castState = new SpellCastingState(spell, null, initialDirection, casterGridX, casterGridZ, casterY);
 
         // FIX #1: pass playerRef so range overlay is private to the caster
+        // Range ring and directional variants are computed once here; aiming then only looks them up
         final int fCasterGridX = casterGridX, fCasterGridZ = casterGridZ;
-        final int fRange = spell.getRangeGrids();
         final float fCasterY = casterY;
         final GridPlayerState fState = state;
         final PlayerRef fPlayerRef = playerRef;
+        final LineOfSightService lineOfSight = table.getLineOfSight();
         world.execute(() -> {
             if (fState.gridOverlayEnabled && !fState.gmMapOverlayActive) {
                 GridOverlayManager.removeGridOverlay(world, fState);
             }
-            visualManager.showRangeOverlay(
-                    fPlayerRef.getUuid(), fCasterGridX, fCasterGridZ, fRange, world, fCasterY, fPlayerRef);
+            castState.precompute(lineOfSight, world);
+            visualManager.showRangeOverlay(fPlayerRef.getUuid(), fCasterGridX, fCasterGridZ,
+                    castState.getRangeCells(), world, fCasterY, fPlayerRef);
         });
 
         // -----------------------------------------------------------------------
@@ -151,7 +173,7 @@ public class CastCommand extends AbstractPlayerCommand {
                     pattern, initialDirection, casterGridX, casterGridZ,
                     spell.getRangeGrids(), spell.getAreaGrids());
             visualManager.showSpellArea(playerRef.getUuid(), cells, world, playerY, playerRef);
-            state.setSpellCastingState(new SpellCastingState(spell, null, initialDirection, casterGridX, casterGridZ, casterY));
+            state.setSpellCastingState(castState);
 
             playerRef.sendMessage(Message.raw("[Griddify] " + spellLabel(spell) + " ready!").color("#FFD700"));
             playerRef.sendMessage(Message.raw("[Griddify] Pattern fires on NPC. Use /CastFinal.").color("#87CEEB"));
@@ -165,7 +187,7 @@ public class CastCommand extends AbstractPlayerCommand {
                     pattern, initialDirection, casterGridX, casterGridZ,
                     spell.getRangeGrids(), spell.getAreaGrids());
             visualManager.showSpellArea(playerRef.getUuid(), cells, world, playerY, playerRef);
-            state.setSpellCastingState(new SpellCastingState(spell, null, initialDirection, casterGridX, casterGridZ, casterY));
+            state.setSpellCastingState(castState);
             playerRef.sendMessage(Message.raw("[Griddify] Chromatic Orb prepared!").color("#DA70D6"));
             playerRef.sendMessage(Message.raw("[Griddify] Choose element: /orb {acid | fire | cold | lightning | poison | thunder}").color("#DA70D6"));
             System.out.println("[Griddify] [CAST] " + playerRef.getUsername() + " preparing Chromatic_Orb — awaiting /orb");
@@ -190,7 +212,7 @@ public class CastCommand extends AbstractPlayerCommand {
             });
         }
         state.freeze("casting");
-        state.setSpellCastingState(new SpellCastingState(spell, null, initialDirection, casterGridX, casterGridZ, casterY));
+        state.setSpellCastingState(castState);
 
         Set<SpellPatternCalculator.GridCell> initialCells = computeOverlay(
                 pattern, initialDirection, casterGridX, casterGridZ, spell, casterGridX, casterGridZ);
@@ -255,13 +277,45 @@ public class CastCommand extends AbstractPlayerCommand {
         }
     }
 
+    /** True for patterns that spread out from the caster rather than from the aimed cell. */
+    public static boolean isCasterCentered(SpellPattern pattern) {
+        return pattern == SpellPattern.CONE || pattern == SpellPattern.LINE || pattern == SpellPattern.WALL
+                || pattern == SpellPattern.SELF || pattern == SpellPattern.AURA;
+    }
+
+    /**
+     * Remove cells a wall shields from the spell. Caster-centred patterns trace from the
+     * caster; everything else needs a line to the aimed cell and then spreads from there,
+     * at eye height above the aimed cell's ground. No-op when los is null. World thread.
+     */
+    public static void filterByLineOfSight(LineOfSightService los, World world, SpellPattern pattern,
+                                           int casterGridX, int casterGridZ, float casterY,
+                                           int aimGridX, int aimGridZ,
+                                           Set<SpellPatternCalculator.GridCell> cells) {
+        if (los == null || cells.isEmpty()) return;
+        if (isCasterCentered(pattern)) {
+            los.removeBlocked(world, casterGridX, casterGridZ, casterY, cells);
+            return;
+        }
+        if (los.cover(world, casterGridX, casterGridZ, casterY, aimGridX, aimGridZ)
+                == LineOfSightService.Cover.BLOCKED) {
+            cells.clear();
+            return;
+        }
+        // The spread starts on the ground at the aimed cell, not at the caster's height
+        Float aimY = MonsterEntityController.scanForGroundPublic(world, aimGridX, aimGridZ, casterY + 3.0f);
+        los.removeBlocked(world, aimGridX, aimGridZ, aimY != null ? aimY : casterY, cells);
+    }
+
     private String spellLabel(SpellData spell) {
         if (spell.isSubclassSpell()) return spell.getName() + " (" + spell.getSubclass().getDisplayName() + ")";
         if (spell.getClassType() == null) return spell.getName() + " (Monster Attack)";
         return spell.getName() + " (" + spell.getClassType().getDisplayName() + ")";
     }
 
-    private boolean canAccessSpell(GridPlayerState state, SpellData spell, PlayerRef playerRef) {
+    private boolean canAccessSpell(TableSession table, GridPlayerState state, SpellData spell, PlayerRef playerRef) {
+        com.gridifymydungeon.plugin.dnd.RoleManager roleManager = table.getRoleManager();
+        EncounterManager encounterManager = table.getEncounterManager();
         if (spell.isMonsterAttack()) {
             if (!DebugRoleWrapper.isGM(roleManager, playerRef)) return false;
             com.gridifymydungeon.plugin.dnd.MonsterState controlled = encounterManager.getControlledMonster();
@@ -7,6 +7,9 @@ import com.gridifymydungeon.plugin.dnd.PlayerEntityController;
 import com.gridifymydungeon.plugin.dnd.RoleManager;
 import com.gridifymydungeon.plugin.gridmove.GridMoveManager;
 import com.gridifymydungeon.plugin.gridmove.GridPlayerState;
+import com.gridifymydungeon.plugin.gridmove.LineOfSightService;
+import com.gridifymydungeon.plugin.gridmove.TableRegistry;
+import com.gridifymydungeon.plugin.gridmove.TableSession;
 import com.hypixel.hytale.component.Ref;
 import com.hypixel.hytale.component.Store;
 import com.hypixel.hytale.protocol.ItemWithAllMetadata;
@@ -35,28 +38,30 @@ import java.util.Set;
  *   Bug 4: A cast animation is played on the NPC via playNpcAnimation() and auto-stopped after 1.5 s.
  *   Bug 5: 0-cost spells (cantrips, monster attacks) skip consumeSpellSlot entirely,
  *           so Burning_Hands / Thunderwave etc. no longer falsely abort with "Not enough spell slots!".
+ *
+ * Walls matter: the aimed cell needs line of sight from the caster, and cells
+ * shielded by a wall are dropped from the area before damage is applied.
  */
 public class CastFinalCommand extends AbstractPlayerCommand {
-    private final GridMoveManager playerManager;
-    private final EncounterManager encounterManager;
-    private final SpellVisualManager visualManager;
+
+    private final TableRegistry tables;
     private final CombatSettings combatSettings;
-    private final RoleManager roleManager;
 
-    public CastFinalCommand(GridMoveManager playerManager, EncounterManager encounterManager,
-                            SpellVisualManager visualManager, CombatSettings combatSettings,
-                            RoleManager roleManager) {
+    public CastFinalCommand(TableRegistry tables, CombatSettings combatSettings) {
         super("CastFinal", "Execute prepared spell");
-        this.playerManager = playerManager;
-        this.encounterManager = encounterManager;
-        this.visualManager = visualManager;
+        this.tables = tables;
         this.combatSettings = combatSettings;
-        this.roleManager = roleManager;
     }
 
     @Override
     protected void execute(@Nonnull CommandContext context, @Nonnull Store<EntityStore> store,
                            @Nonnull Ref<EntityStore> ref, @Nonnull PlayerRef playerRef, @Nonnull World world) {
+        TableSession table = tables.forWorld(world);
+        GridMoveManager playerManager = table.getGridMoveManager();
+        EncounterManager encounterManager = table.getEncounterManager();
+        SpellVisualManager visualManager = table.getSpellVisualManager();
+        RoleManager roleManager = table.getRoleManager();
+        LineOfSightService lineOfSight = table.getLineOfSight();
 
         GridPlayerState state = playerManager.getState(playerRef);
 
@@ -134,6 +139,16 @@ public class CastFinalCommand extends AbstractPlayerCommand {
             return;
         }
 
+        // Point-of-origin spells need a clear line to the aimed cell (multi-target picks were checked at /CastTarget)
+        SpellPattern aimPattern = spell.getPattern();
+        if (!spell.isMultiTarget() && !CastCommand.isCasterCentered(aimPattern)
+                && lineOfSight.cover(world, castState.getCasterGridX(), castState.getCasterGridZ(),
+                        castState.getCasterY(), aimGridX, aimGridZ) == LineOfSightService.Cover.BLOCKED) {
+            playerRef.sendMessage(Message.raw("[Griddify] No line of sight to (" + aimGridX + ", " + aimGridZ
+                    + ") — a wall is in the way.").color("#FF0000"));
+            return;
+        }
+
         state.hasUsedAction = true;
 
         // FIX 5: Only consume spell slots for spells that actually cost slots (cost > 0).
@@ -180,18 +195,20 @@ public class CastFinalCommand extends AbstractPlayerCommand {
             }
         }
 
-        // Debug log
-        StringBuilder dbg = new StringBuilder("[Griddify] [CASTFINAL] " + spell.getName()
-                + " dir=" + castState.getDirection().name()
-                + " caster=(" + castState.getCasterGridX() + "," + castState.getCasterGridZ() + ")"
-                + " cells=[");
-        for (SpellPatternCalculator.GridCell c : affectedCells) dbg.append("(").append(c.x).append(",").append(c.z).append(")");
-        dbg.append("] monsters=[");
-        for (com.gridifymydungeon.plugin.dnd.MonsterState m : encounterManager.getMonsters()) {
-            if (m.isAlive()) dbg.append(m.getDisplayName()).append("@(").append(m.currentGridX).append(",").append(m.currentGridZ).append(")");
+        // Drop cells a wall shields from the blast
+        int shielded = affectedCells.size();
+        if (spell.isMultiTarget() && !castState.getConfirmedTargets().isEmpty()) {
+            lineOfSight.removeBlocked(world, castState.getCasterGridX(), castState.getCasterGridZ(),
+                    castState.getCasterY(), affectedCells);
+        } else {
+            CastCommand.filterByLineOfSight(lineOfSight, world, pattern,
+                    castState.getCasterGridX(), castState.getCasterGridZ(), castState.getCasterY(),
+                    aimGridX, aimGridZ, affectedCells);
+        }
+        shielded -= affectedCells.size();
+        if (shielded > 0) {
+            playerRef.sendMessage(Message.raw("[Griddify] " + shielded + " cell(s) shielded by walls.").color("#AAAAAA"));
         }
-        dbg.append("]");
-        System.out.println(dbg);
 
         // --- Calculate roll amount (damage or healing) ---
         int rollAmount = 0;
@@ -206,118 +223,114 @@ public class CastFinalCommand extends AbstractPlayerCommand {
 
         PlayerRef gmRef = roleManager.getGM();
 
+        // One pass: affected cells x occupancy index -> typed hit lists
+        SpellTargets hits = SpellTargets.resolve(affectedCells, encounterManager, playerManager);
+        System.out.println("[Griddify] [CASTFINAL] " + spell.getName()
+                + " dir=" + castState.getDirection().name()
+                + " caster=(" + castState.getCasterGridX() + "," + castState.getCasterGridZ() + ")"
+                + " cells=" + affectedCells.size()
+                + " hits=" + hits.monsters.size() + " monsters/" + hits.players.size() + " players");
+
         int targetsAffected = 0;
 
         if (isHeal) {
             if (casterIsGM) {
-                for (MonsterState monster : encounterManager.getMonsters()) {
-                    if (!monster.isAlive()) continue;
-                    if (affectedCells.contains(new SpellPatternCalculator.GridCell(monster.currentGridX, monster.currentGridZ))) {
-                        targetsAffected++;
-                        if (rollAmount > 0) {
-                            int before = monster.stats.currentHP;
-                            monster.stats.heal(rollAmount);
-                            int after = monster.stats.currentHP;
-                            if (gmRef != null) {
-                                gmRef.sendMessage(Message.raw("[Griddify] [HEAL] " + monster.getDisplayName()
-                                        + " healed " + (after - before) + " HP → "
-                                        + after + "/" + monster.stats.maxHP).color("#00FF7F"));
-                            }
+                for (MonsterState monster : hits.allyMonsters(casterIsGM)) {
+                    targetsAffected++;
+                    if (rollAmount > 0) {
+                        int before = monster.stats.currentHP;
+                        monster.stats.heal(rollAmount);
+                        int after = monster.stats.currentHP;
+                        if (gmRef != null) {
+                            gmRef.sendMessage(Message.raw("[Griddify] [HEAL] " + monster.getDisplayName()
+                                    + " healed " + (after - before) + " HP → "
+                                    + after + "/" + monster.stats.maxHP).color("#00FF7F"));
                         }
                     }
                 }
             } else {
-                for (com.gridifymydungeon.plugin.gridmove.GridPlayerState ps : playerManager.getAllStates()) {
-                    if (ps.npcEntity == null || !ps.npcEntity.isValid()) continue;
-                    if (affectedCells.contains(new SpellPatternCalculator.GridCell(ps.currentGridX, ps.currentGridZ))) {
-                        targetsAffected++;
-                        if (rollAmount > 0 && ps.playerRef != null) {
-                            int before = ps.stats.currentHP;
-                            ps.stats.heal(rollAmount);
-                            int after = ps.stats.currentHP;
-                            ps.playerRef.sendMessage(Message.raw("[Griddify] [HEAL] Healed " + (after - before)
-                                    + " HP  →  " + after + "/" + ps.stats.maxHP + " HP").color("#00FF7F"));
-                            if (!ps.playerRef.equals(playerRef)) {
-                                playerRef.sendMessage(Message.raw("[Griddify] [HEAL] " + ps.playerRef.getUsername()
-                                        + ": " + after + "/" + ps.stats.maxHP + " HP").color("#00FF7F"));
-                            }
+                for (GridPlayerState ps : hits.allyPlayers(casterIsGM)) {
+                    targetsAffected++;
+                    if (rollAmount > 0 && ps.playerRef != null) {
+                        int before = ps.stats.currentHP;
+                        ps.stats.heal(rollAmount);
+                        int after = ps.stats.currentHP;
+                        ps.playerRef.sendMessage(Message.raw("[Griddify] [HEAL] Healed " + (after - before)
+                                + " HP  →  " + after + "/" + ps.stats.maxHP + " HP").color("#00FF7F"));
+                        if (!ps.playerRef.equals(playerRef)) {
+                            playerRef.sendMessage(Message.raw("[Griddify] [HEAL] " + ps.playerRef.getUsername()
+                                    + ": " + after + "/" + ps.stats.maxHP + " HP").color("#00FF7F"));
                         }
                     }
                 }
             }
         } else {
             if (casterIsGM) {
-                for (com.gridifymydungeon.plugin.gridmove.GridPlayerState ps : playerManager.getAllStates()) {
-                    if (ps.npcEntity == null || !ps.npcEntity.isValid()) continue;
+                for (GridPlayerState ps : hits.enemyPlayers(casterIsGM)) {
                     if (!ps.stats.isAlive()) continue;
-                    if (affectedCells.contains(new SpellPatternCalculator.GridCell(ps.currentGridX, ps.currentGridZ))) {
-                        targetsAffected++;
-                        if (rollAmount > 0) {
-                            ps.stats.takeDamage(rollAmount);
-                            int remaining = ps.stats.currentHP;
-                            if (ps.playerRef != null) {
-                                String hpBar = buildHPBar(remaining, ps.stats.maxHP);
-                                if (remaining == 0) {
-                                    ps.playerRef.sendMessage(Message.raw(
-                                                    "[Griddify] [DEAD] You took " + rollAmount + " "
-                                                            + spell.getDamageType().name().toLowerCase() + " damage!  "
-                                                            + remaining + "/" + ps.stats.maxHP + " HP  " + hpBar)
-                                            .color("#FF0000"));
-                                    ps.playerRef.sendMessage(Message.raw("[Griddify] You are DOWN!").color("#FF0000"));
-                                } else {
-                                    ps.playerRef.sendMessage(Message.raw(
-                                                    "[Griddify] [HIT] You took " + rollAmount + " "
-                                                            + spell.getDamageType().name().toLowerCase() + " damage!  "
-                                                            + remaining + "/" + ps.stats.maxHP + " HP  " + hpBar)
-                                            .color("#FF6B6B"));
-                                }
-                            }
-                            if (gmRef != null) {
-                                String who = ps.playerRef != null ? ps.playerRef.getUsername() : "Player";
-                                String tag = remaining == 0 ? "[DEAD]" : "[HIT]";
-                                gmRef.sendMessage(Message.raw("[Griddify] " + tag + " " + who
-                                                + " took " + rollAmount + " dmg → "
-                                                + remaining + "/" + ps.stats.maxHP + " HP")
-                                        .color(remaining == 0 ? "#FF0000" : "#FFA500"));
+                    targetsAffected++;
+                    if (rollAmount > 0) {
+                        ps.stats.takeDamage(rollAmount);
+                        int remaining = ps.stats.currentHP;
+                        if (ps.playerRef != null) {
+                            String hpBar = buildHPBar(remaining, ps.stats.maxHP);
+                            if (remaining == 0) {
+                                ps.playerRef.sendMessage(Message.raw(
+                                                "[Griddify] [DEAD] You took " + rollAmount + " "
+                                                        + spell.getDamageType().name().toLowerCase() + " damage!  "
+                                                        + remaining + "/" + ps.stats.maxHP + " HP  " + hpBar)
+                                        .color("#FF0000"));
+                                ps.playerRef.sendMessage(Message.raw("[Griddify] You are DOWN!").color("#FF0000"));
+                            } else {
+                                ps.playerRef.sendMessage(Message.raw(
+                                                "[Griddify] [HIT] You took " + rollAmount + " "
+                                                        + spell.getDamageType().name().toLowerCase() + " damage!  "
+                                                        + remaining + "/" + ps.stats.maxHP + " HP  " + hpBar)
+                                        .color("#FF6B6B"));
                             }
                         }
+                        if (gmRef != null) {
+                            String who = ps.playerRef != null ? ps.playerRef.getUsername() : "Player";
+                            String tag = remaining == 0 ? "[DEAD]" : "[HIT]";
+                            gmRef.sendMessage(Message.raw("[Griddify] " + tag + " " + who
+                                            + " took " + rollAmount + " dmg → "
+                                            + remaining + "/" + ps.stats.maxHP + " HP")
+                                    .color(remaining == 0 ? "#FF0000" : "#FFA500"));
+                        }
                     }
                 }
             } else {
-                for (MonsterState monster : encounterManager.getMonsters()) {
-                    if (!monster.isAlive()) continue;
-                    if (affectedCells.contains(new SpellPatternCalculator.GridCell(monster.currentGridX, monster.currentGridZ))) {
-                        targetsAffected++;
-                        if (rollAmount > 0) {
-                            int before = monster.stats.currentHP;
-                            monster.takeDamage(rollAmount);
-                            int after = monster.stats.currentHP;
-                            boolean slain = (after == 0);
-                            String tag = slain ? "[DEAD]" : "[HIT]";
-                            playerRef.sendMessage(Message.raw("[Griddify] " + tag + " " + monster.getDisplayName()
-                                            + "  -" + rollAmount + " "
-                                            + spell.getDamageType().name().toLowerCase()
-                                            + "  →  " + after + "/" + monster.stats.maxHP + " HP")
-                                    .color(slain ? "#FF0000" : "#FF6B6B"));
-                            if (gmRef != null && !gmRef.equals(playerRef)) {
-                                String hpBar = buildHPBar(after, monster.stats.maxHP);
-                                gmRef.sendMessage(Message.raw("[Griddify] " + tag + " " + monster.getDisplayName()
-                                                + " took " + rollAmount + " dmg → "
-                                                + after + "/" + monster.stats.maxHP + " HP  " + hpBar)
-                                        .color(slain ? "#FF0000" : "#FFA500"));
-                            }
-                            if (slain) {
-                                final MonsterState deadMonster = monster;
-                                final int deadNum = monster.monsterNumber;
-                                world.execute(() -> {
-                                    com.gridifymydungeon.plugin.dnd.commands.MonsterEntityController.despawnMonster(world, deadMonster);
-                                    encounterManager.removeMonster(deadNum);
-                                    System.out.println("[Griddify] [AUTO-SLAIN] " + deadMonster.getDisplayName() + " auto-removed on death.");
-                                });
-                                if (gmRef != null) {
-                                    gmRef.sendMessage(Message.raw("[Griddify] " + monster.getDisplayName()
-                                            + " automatically removed from encounter.").color("#FF4500"));
-                                }
+                for (MonsterState monster : hits.enemyMonsters(casterIsGM)) {
+                    targetsAffected++;
+                    if (rollAmount > 0) {
+                        int before = monster.stats.currentHP;
+                        monster.takeDamage(rollAmount);
+                        int after = monster.stats.currentHP;
+                        boolean slain = (after == 0);
+                        String tag = slain ? "[DEAD]" : "[HIT]";
+                        playerRef.sendMessage(Message.raw("[Griddify] " + tag + " " + monster.getDisplayName()
+                                        + "  -" + rollAmount + " "
+                                        + spell.getDamageType().name().toLowerCase()
+                                        + "  →  " + after + "/" + monster.stats.maxHP + " HP")
+                                .color(slain ? "#FF0000" : "#FF6B6B"));
+                        if (gmRef != null && !gmRef.equals(playerRef)) {
+                            String hpBar = buildHPBar(after, monster.stats.maxHP);
+                            gmRef.sendMessage(Message.raw("[Griddify] " + tag + " " + monster.getDisplayName()
+                                            + " took " + rollAmount + " dmg → "
+                                            + after + "/" + monster.stats.maxHP + " HP  " + hpBar)
+                                    .color(slain ? "#FF0000" : "#FFA500"));
+                        }
+                        if (slain) {
+                            final MonsterState deadMonster = monster;
+                            final int deadNum = monster.monsterNumber;
+                            world.execute(() -> {
+                                com.gridifymydungeon.plugin.dnd.commands.MonsterEntityController.despawnMonster(world, deadMonster);
+                                encounterManager.removeMonster(deadNum);
+                                System.out.println("[Griddify] [AUTO-SLAIN] " + deadMonster.getDisplayName() + " auto-removed on death.");
+                            });
+                            if (gmRef != null) {
+                                gmRef.sendMessage(Message.raw("[Griddify] " + monster.getDisplayName()
+                                        + " automatically removed from encounter.").color("#FF4500"));
                             }
                         }
                     }
@@ -329,10 +342,11 @@ public class CastFinalCommand extends AbstractPlayerCommand {
         int monstersHit = targetsAffected;
 
         // Persistent spell handling
+        PersistentSpellEffect persistentEffect = null;
         if (spell.isPersistent()) {
-            PersistentSpellEffect persistentEffect = new PersistentSpellEffect(
-                    spell, playerRef, affectedCells, 0);
-            // TODO: persistentSpellManager.addEffect(persistentEffect);
+            persistentEffect = new PersistentSpellEffect(
+                    spell, playerRef, affectedCells, table.getCombatManager().getRoundNumber());
+            table.getPersistentSpellManager().addEffect(persistentEffect);
             playerRef.sendMessage(Message.raw("  Duration: " + spell.getDurationTurns() + " turns").color("#9370DB"));
         }
 
@@ -353,6 +367,7 @@ public class CastFinalCommand extends AbstractPlayerCommand {
         final float fTargetWX     = targetWX;
         final float fTargetWZ     = targetWZ;
         final Set<SpellPatternCalculator.GridCell> fAffectedCells = affectedCells;
+        final PersistentSpellEffect fPersistentEffect = persistentEffect;
 
         // BUG 3 FIX: Capture the raw confirmed-targets LIST (allows same-cell duplicates).
         // affectedCells is a HashSet which deduplicates by (x,z), so hitting the same cell
@@ -394,10 +409,9 @@ public class CastFinalCommand extends AbstractPlayerCommand {
 
             // Auto-stop animation after delay (for staff/spellbook, stop after 5000ms)
             long stopDelay = (isStaffWeapon || isSpellbookWeapon) ? 5000L : 1500L;
-            java.util.concurrent.Executors.newSingleThreadScheduledExecutor()
-                    .schedule(() -> world.execute(() ->
-                                    PlayerEntityController.stopNpcAnimation(world, fSt)),
-                            stopDelay, java.util.concurrent.TimeUnit.MILLISECONDS);
+            table.schedule(() ->
+                    PlayerEntityController.stopNpcAnimation(world, fSt),
+                    stopDelay, java.util.concurrent.TimeUnit.MILLISECONDS);
 
             // BUG FIX 6: Area-effect dispatch - handle spells that need spawnWave instead of projectiles
             SpellPattern spellPattern = spell.getPattern();
@@ -420,29 +434,26 @@ public class CastFinalCommand extends AbstractPlayerCommand {
 
                 if (spellNameLower.contains("entangle")) {
                     if (effectDelayMs > 0) {
-                        java.util.concurrent.Executors.newSingleThreadScheduledExecutor()
-                                .schedule(() -> world.execute(() ->
-                                                SpellVisualEffect.spawnEntangle(world, fAffectedCells, fSt.npcY)),
-                                        effectDelayMs, java.util.concurrent.TimeUnit.MILLISECONDS);
+                        table.schedule(() ->
+                                SpellVisualEffect.spawnEntangle(world, fAffectedCells, fSt.npcY, fPersistentEffect),
+                                effectDelayMs, java.util.concurrent.TimeUnit.MILLISECONDS);
                     } else {
-                        SpellVisualEffect.spawnEntangle(world, fAffectedCells, fSt.npcY);
+                        SpellVisualEffect.spawnEntangle(world, fAffectedCells, fSt.npcY, fPersistentEffect);
                     }
                 } else if (spellNameLower.contains("ice_storm")) {
                     if (effectDelayMs > 0) {
-                        java.util.concurrent.Executors.newSingleThreadScheduledExecutor()
-                                .schedule(() -> world.execute(() ->
-                                                SpellVisualEffect.spawnIceStorm(world, fAffectedCells, fSt.npcY, ignored)),
-                                        effectDelayMs, java.util.concurrent.TimeUnit.MILLISECONDS);
+                        table.schedule(() ->
+                                SpellVisualEffect.spawnIceStorm(world, fAffectedCells, fSt.npcY, ignored),
+                                effectDelayMs, java.util.concurrent.TimeUnit.MILLISECONDS);
                     } else {
                         SpellVisualEffect.spawnIceStorm(world, fAffectedCells, fSt.npcY, ignored);
                     }
                 } else {
                     // Default to spawnWave (Thunderwave, Moonbeam, Sunbeam)
                     if (effectDelayMs > 0) {
-                        java.util.concurrent.Executors.newSingleThreadScheduledExecutor()
-                                .schedule(() -> world.execute(() ->
-                                                SpellVisualEffect.spawnWave(spellName, 1.0f, world, casterGX, casterGZ, fSt.npcY, fAffectedCells, ignored, fFaceYaw)),
-                                        effectDelayMs, java.util.concurrent.TimeUnit.MILLISECONDS);
+                        table.schedule(() ->
+                                SpellVisualEffect.spawnWave(spellName, 1.0f, world, casterGX, casterGZ, fSt.npcY, fAffectedCells, ignored, fFaceYaw),
+                                effectDelayMs, java.util.concurrent.TimeUnit.MILLISECONDS);
                     } else {
                         SpellVisualEffect.spawnWave(spellName, 1.0f, world, casterGX, casterGZ, fSt.npcY, fAffectedCells, ignored, fFaceYaw);
                     }
@@ -483,14 +494,13 @@ public class CastFinalCommand extends AbstractPlayerCommand {
                         final double endZ = targetCell.z * 2.0f + 1.0f;
 
                         if (effectDelayMs > 0) {
-                            java.util.concurrent.Executors.newSingleThreadScheduledExecutor()
-                                    .schedule(() -> world.execute(() ->
-                                                    SpellVisualEffect.launchProjectile(
-                                                            projectileModel, projectileScale, world,
-                                                            startX, startY, startZ,
-                                                            endX, endY, endZ,
-                                                            fFaceYaw, 600L)),
-                                            effectDelayMs, java.util.concurrent.TimeUnit.MILLISECONDS);
+                            table.schedule(() ->
+                                    SpellVisualEffect.launchProjectile(
+                                            projectileModel, projectileScale, world,
+                                            startX, startY, startZ,
+                                            endX, endY, endZ,
+                                            fFaceYaw, 600L),
+                                    effectDelayMs, java.util.concurrent.TimeUnit.MILLISECONDS);
                         } else {
                             SpellVisualEffect.launchProjectile(
                                     projectileModel, projectileScale, world,
@@ -516,26 +526,22 @@ public class CastFinalCommand extends AbstractPlayerCommand {
                             int d = SpellPatternCalculator.getDistance(bhCasterGX, bhCasterGZ, c.x, c.z);
                             byDist.computeIfAbsent(d, k -> new java.util.ArrayList<>()).add(c);
                         }
+                        // One timeline for the whole wave: column i launches at effectDelay + i*100ms
+                        EffectTimeline fireWave = new EffectTimeline();
                         int colIndex = 0;
                         System.out.println("[Griddify] [PROJECTILE] Burning_Hands wave - " + byDist.size() + " columns");
                         for (java.util.List<SpellPatternCalculator.GridCell> col : byDist.values()) {
-                            final long colDelay = effectDelayMs + (colIndex * 100L);
-                            final java.util.List<SpellPatternCalculator.GridCell> fCol = col;
-                            java.util.concurrent.Executors.newSingleThreadScheduledExecutor()
-                                    .schedule(() -> world.execute(() -> {
-                                        for (SpellPatternCalculator.GridCell targetCell : fCol) {
-                                            final double endX = targetCell.x * 2.0f + 1.0f;
-                                            final double endY = fSt.npcY + 1.4;
-                                            final double endZ = targetCell.z * 2.0f + 1.0f;
-                                            SpellVisualEffect.launchProjectile(
-                                                    projectileModel, projectileScale, world,
-                                                    startX, startY, startZ,
-                                                    endX, endY, endZ,
-                                                    fFaceYaw, 400L); // shorter travel = snappier fire feel
-                                        }
-                                    }), colDelay, java.util.concurrent.TimeUnit.MILLISECONDS);
+                            int colTick = EffectTimeline.ticks(effectDelayMs + (colIndex * 100L));
+                            for (SpellPatternCalculator.GridCell targetCell : col) {
+                                SpellVisualEffect.addProjectile(fireWave, colTick,
+                                        projectileModel, projectileScale,
+                                        startX, startY, startZ,
+                                        targetCell.x * 2.0f + 1.0f, fSt.npcY + 1.4, targetCell.z * 2.0f + 1.0f,
+                                        fFaceYaw, 400L); // shorter travel = snappier fire feel
+                            }
                             colIndex++;
                         }
+                        VfxSequencer.play(world, fireWave);
                     } else {
                         // Other CONE/LINE/WALL: fire all simultaneously
                         System.out.println("[Griddify] [PROJECTILE] Area projectile - firing " + fAffectedCells.size() + " cells simultaneously");
@@ -545,14 +551,13 @@ public class CastFinalCommand extends AbstractPlayerCommand {
                             final double endZ = targetCell.z * 2.0f + 1.0f;
 
                             if (effectDelayMs > 0) {
-                                java.util.concurrent.Executors.newSingleThreadScheduledExecutor()
-                                        .schedule(() -> world.execute(() ->
-                                                        SpellVisualEffect.launchProjectile(
-                                                                projectileModel, projectileScale, world,
-                                                                startX, startY, startZ,
-                                                                endX, endY, endZ,
-                                                                fFaceYaw, 600L)),
-                                                effectDelayMs, java.util.concurrent.TimeUnit.MILLISECONDS);
+                                table.schedule(() ->
+                                        SpellVisualEffect.launchProjectile(
+                                                projectileModel, projectileScale, world,
+                                                startX, startY, startZ,
+                                                endX, endY, endZ,
+                                                fFaceYaw, 600L),
+                                        effectDelayMs, java.util.concurrent.TimeUnit.MILLISECONDS);
                             } else {
                                 SpellVisualEffect.launchProjectile(
                                         projectileModel, projectileScale, world,
@@ -571,14 +576,13 @@ public class CastFinalCommand extends AbstractPlayerCommand {
                     System.out.println("[Griddify] [PROJECTILE] Launching " + projectileModel + " scale=" + projectileScale);
 
                     if (effectDelayMs > 0) {
-                        java.util.concurrent.Executors.newSingleThreadScheduledExecutor()
-                                .schedule(() -> world.execute(() ->
-                                                SpellVisualEffect.launchProjectile(
-                                                        projectileModel, projectileScale, world,
-                                                        startX, startY, startZ,
-                                                        endX, endY, endZ,
-                                                        fFaceYaw, 600L)),
-                                        effectDelayMs, java.util.concurrent.TimeUnit.MILLISECONDS);
+                        table.schedule(() ->
+                                SpellVisualEffect.launchProjectile(
+                                        projectileModel, projectileScale, world,
+                                        startX, startY, startZ,
+                                        endX, endY, endZ,
+                                        fFaceYaw, 600L),
+                                effectDelayMs, java.util.concurrent.TimeUnit.MILLISECONDS);
                     } else {
                         SpellVisualEffect.launchProjectile(
                                 projectileModel, projectileScale, world,
@@ -2,6 +2,9 @@ package com.gridifymydungeon.plugin.spell;
 
 import com.gridifymydungeon.plugin.gridmove.GridMoveManager;
 import com.gridifymydungeon.plugin.gridmove.GridPlayerState;
+import com.gridifymydungeon.plugin.gridmove.LineOfSightService;
+import com.gridifymydungeon.plugin.gridmove.TableRegistry;
+import com.gridifymydungeon.plugin.gridmove.TableSession;
 import com.hypixel.hytale.component.Ref;
 import com.hypixel.hytale.component.Store;
 import com.hypixel.hytale.server.core.Message;
@@ -27,23 +30,26 @@ import java.util.Set;
  *     are ignored (the whole pattern fires together).
  *   - The overlay freezes (stops following the player) after the first /CastTarget.
  *
- * Blocked if the player is currently outside the spell's range.
+ * Blocked if the player is currently outside the spell's range, or if a wall
+ * stands between the caster and the aimed cell (LineOfSightService).
  */
 public class CastTargetCommand extends AbstractPlayerCommand {
 
-    private final GridMoveManager playerManager;
-    private final SpellVisualManager visualManager;
+    private final TableRegistry tables;
 
-    public CastTargetCommand(GridMoveManager playerManager, SpellVisualManager visualManager) {
+    public CastTargetCommand(TableRegistry tables) {
         super("CastTarget", "Confirm the current aim cell as a target");
-        this.playerManager = playerManager;
-        this.visualManager = visualManager;
+        this.tables = tables;
     }
 
     @Override
     protected void execute(@Nonnull CommandContext context, @Nonnull Store<EntityStore> store,
                            @Nonnull Ref<EntityStore> ref, @Nonnull PlayerRef playerRef,
                            @Nonnull World world) {
+        TableSession table = tables.forWorld(world);
+        GridMoveManager playerManager = table.getGridMoveManager();
+        SpellVisualManager visualManager = table.getSpellVisualManager();
+        LineOfSightService lineOfSight = table.getLineOfSight();
 
         GridPlayerState state = playerManager.getState(playerRef);
 
@@ -114,6 +120,14 @@ public class CastTargetCommand extends AbstractPlayerCommand {
                     pattern, castState.getDirection(),
                     castState.getCasterGridX(), castState.getCasterGridZ(),
                     spell, aimX, aimZ);
+            CastCommand.filterByLineOfSight(lineOfSight, world, pattern,
+                    castState.getCasterGridX(), castState.getCasterGridZ(), castState.getCasterY(),
+                    aimX, aimZ, cells);
+            if (cells.isEmpty()) {
+                playerRef.sendMessage(Message.raw(
+                        "[Griddify] No line of sight — a wall blocks " + spell.getName() + ".").color("#FF0000"));
+                return;
+            }
             castState.setConfirmedCells(cells, aimX, aimZ);
             final float refY = castState.getCasterY();
             world.execute(() -> visualManager.showSpellArea(playerRef.getUuid(), cells, world, refY, playerRef));
@@ -133,11 +147,23 @@ public class CastTargetCommand extends AbstractPlayerCommand {
             return;
         }
 
+        // A wall between caster and aim cell rules the target out; a low wall or creature is half cover
+        LineOfSightService.Cover cover = lineOfSight.cover(world,
+                castState.getCasterGridX(), castState.getCasterGridZ(), castState.getCasterY(), aimX, aimZ);
+        if (cover == LineOfSightService.Cover.BLOCKED) {
+            playerRef.sendMessage(Message.raw(
+                    "[Griddify] No line of sight to (" + aimX + ", " + aimZ + ") — pick another target.").color("#FF0000"));
+            return;
+        }
+
         // Always recompute cells from current aim position.
         Set<SpellPatternCalculator.GridCell> cells = CastCommand.computeOverlay(
                 pattern, castState.getDirection(),
                 castState.getCasterGridX(), castState.getCasterGridZ(),
                 spell, aimX, aimZ);
+        CastCommand.filterByLineOfSight(lineOfSight, world, pattern,
+                castState.getCasterGridX(), castState.getCasterGridZ(), castState.getCasterY(),
+                aimX, aimZ, cells);
         castState.setConfirmedCells(cells, aimX, aimZ);
 
         // Append this target BEFORE redrawing so all stacked tiles are replayed correctly
@@ -175,6 +201,7 @@ public class CastTargetCommand extends AbstractPlayerCommand {
                 ? " [x" + hitCount + " on this cell, scale "
                 + String.format("%.1f", Math.max(0.2f, 1.0f - (hitCount - 1) * 0.2f)) + "]"
                 : "";
+        if (cover == LineOfSightService.Cover.HALF) hitNote += " [half cover]";
         if (totalConfirmed >= max) {
             playerRef.sendMessage(Message.raw(
                     "[Griddify] " + totalConfirmed + "/" + max + " confirmed" + hitNote
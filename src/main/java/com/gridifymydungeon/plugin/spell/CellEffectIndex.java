@@ -0,0 +1,72 @@
+package com.gridifymydungeon.plugin.spell;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable cell → effects lookup with primitive long keys.
+ *
+ * Open addressing (linear probe) over a power-of-two table, so a lookup is a few
+ * array reads and never boxes the key. Rebuilt from scratch whenever the set of
+ * active effects changes, which happens a handful of times per fight; lookups
+ * happen for every occupant on every turn and every step.
+ */
+final class CellEffectIndex {
+
+    static final PersistentSpellEffect[] NONE = new PersistentSpellEffect[0];
+    static final CellEffectIndex EMPTY = build(List.of());
+
+    private final long[] keys;
+    private final PersistentSpellEffect[][] values;
+    private final int mask;
+
+    private CellEffectIndex(long[] keys, PersistentSpellEffect[][] values) {
+        this.keys = keys;
+        this.values = values;
+        this.mask = keys.length - 1;
+    }
+
+    static CellEffectIndex build(List<PersistentSpellEffect> effects) {
+        Map<Long, List<PersistentSpellEffect>> byCell = new HashMap<>();
+        for (PersistentSpellEffect effect : effects) {
+            for (long key : effect.getCellKeys()) {
+                byCell.computeIfAbsent(key, k -> new ArrayList<>()).add(effect);
+            }
+        }
+
+        int capacity = Integer.highestOneBit(Math.max(4, byCell.size() * 2) - 1) << 1;
+        long[] keys = new long[capacity];
+        PersistentSpellEffect[][] values = new PersistentSpellEffect[capacity][];
+        for (Map.Entry<Long, List<PersistentSpellEffect>> e : byCell.entrySet()) {
+            long key = e.getKey();
+            int slot = slot(key, capacity - 1);
+            while (values[slot] != null) slot = (slot + 1) & (capacity - 1);
+            keys[slot] = key;
+            values[slot] = e.getValue().toArray(NONE);
+        }
+        return new CellEffectIndex(keys, values);
+    }
+
+    /** Effects covering the cell; never null, shared array — do not modify. */
+    PersistentSpellEffect[] at(long key) {
+        int slot = slot(key, mask);
+        while (values[slot] != null) {
+            if (keys[slot] == key) return values[slot];
+            slot = (slot + 1) & mask;
+        }
+        return NONE;
+    }
+
+    int cellCount() {
+        int n = 0;
+        for (PersistentSpellEffect[] v : values) if (v != null) n++;
+        return n;
+    }
+
+    private static int slot(long key, int mask) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32)) & mask;
+    }
+}
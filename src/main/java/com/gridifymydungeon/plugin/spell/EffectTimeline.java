@@ -0,0 +1,131 @@
+package com.gridifymydungeon.plugin.spell;
+
+import com.hypixel.hytale.component.Ref;
+import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Declarative script for a spell visual: keyframes that spawn, move, rescale and
+ * despawn entities at tick offsets (one tick = VfxSequencer.TICK_MS).
+ *
+ * A timeline is plain data. Build it anywhere, then hand it to VfxSequencer.play,
+ * which runs every keyframe that falls due in a tick as one batch on the world
+ * thread. Entities are addressed by slot: spawn() creates one, attach() adopts an
+ * entity that already exists (e.g. a Ref the caller also keeps).
+ *
+ * Keyframes on the same tick run in the order they were added.
+ */
+public final class EffectTimeline {
+
+    enum Op { SPAWN, MOVE, SCALE, DESPAWN }
+
+    static final class Keyframe {
+        final int tick;
+        final Op op;
+        final int slot;
+        final String modelId;
+        final float scale;
+        final double x, y, z;
+        final float pitch, yaw;
+
+        Keyframe(int tick, Op op, int slot, String modelId, float scale,
+                 double x, double y, double z, float pitch, float yaw) {
+            this.tick = tick;
+            this.op = op;
+            this.slot = slot;
+            this.modelId = modelId;
+            this.scale = scale;
+            this.x = x; this.y = y; this.z = z;
+            this.pitch = pitch; this.yaw = yaw;
+        }
+    }
+
+    private final List<Keyframe> keyframes = new ArrayList<>();
+    // Per slot: the adopted Ref (null for spawned slots) and whether cancelling should remove it
+    private final List<Ref<EntityStore>> attached = new ArrayList<>();
+    private final List<Boolean> transientSlot = new ArrayList<>();
+
+    /** Milliseconds → ticks, rounded to the nearest tick. */
+    public static int ticks(long ms) {
+        return (int) Math.max(0, (ms + VfxSequencer.TICK_MS / 2) / VfxSequencer.TICK_MS);
+    }
+
+    /** Spawn a model at tick. Returns the new entity's slot. */
+    public int spawn(int tick, String modelId, float scale,
+                     double x, double y, double z, float pitch, float yaw) {
+        int slot = newSlot(null, true);
+        keyframes.add(new Keyframe(tick, Op.SPAWN, slot, modelId, scale, x, y, z, pitch, yaw));
+        return slot;
+    }
+
+    /**
+     * Adopt an existing entity. It is only removed on cancel if the timeline also
+     * despawns it, so long-lived visuals (Entangle vines) survive a cancelled grow.
+     */
+    public int attach(Ref<EntityStore> ref) {
+        return newSlot(ref, false);
+    }
+
+    public EffectTimeline move(int tick, int slot, double x, double y, double z) {
+        keyframes.add(new Keyframe(tick, Op.MOVE, slot, null, 0f, x, y, z, 0f, 0f));
+        return this;
+    }
+
+    /** One MOVE per tick over (fromTick, toTick], interpolating linearly between the two points. */
+    public EffectTimeline moveLinear(int fromTick, int toTick, int slot,
+                                     double fromX, double fromY, double fromZ,
+                                     double toX, double toY, double toZ) {
+        int steps = Math.max(1, toTick - fromTick);
+        for (int i = 1; i <= steps; i++) {
+            double t = (double) i / steps;
+            move(fromTick + i, slot,
+                    fromX + (toX - fromX) * t, fromY + (toY - fromY) * t, fromZ + (toZ - fromZ) * t);
+        }
+        return this;
+    }
+
+    /** Swap the entity's model for the same asset at a new scale. */
+    public EffectTimeline scale(int tick, int slot, String modelId, float scale) {
+        keyframes.add(new Keyframe(tick, Op.SCALE, slot, modelId, scale, 0, 0, 0, 0f, 0f));
+        return this;
+    }
+
+    public EffectTimeline despawn(int tick, int slot) {
+        keyframes.add(new Keyframe(tick, Op.DESPAWN, slot, null, 0f, 0, 0, 0, 0f, 0f));
+        transientSlot.set(slot, true);
+        return this;
+    }
+
+    public boolean isEmpty() { return keyframes.isEmpty(); }
+
+    /** Tick of the last keyframe. */
+    public int length() {
+        int max = 0;
+        for (Keyframe k : keyframes) max = Math.max(max, k.tick);
+        return max;
+    }
+
+    // ── Sequencer access ─────────────────────────────────────────────────────
+
+    /** Keyframes ordered by tick (stable, so same-tick order is insertion order). */
+    List<Keyframe> sortedKeyframes() {
+        List<Keyframe> sorted = new ArrayList<>(keyframes);
+        sorted.sort(Comparator.comparingInt(k -> k.tick));
+        return sorted;
+    }
+
+    int slotCount() { return attached.size(); }
+
+    Ref<EntityStore> attachedRef(int slot) { return attached.get(slot); }
+
+    boolean isTransient(int slot) { return transientSlot.get(slot); }
+
+    private int newSlot(Ref<EntityStore> ref, boolean isTransient) {
+        attached.add(ref);
+        transientSlot.add(isTransient);
+        return attached.size() - 1;
+    }
+}
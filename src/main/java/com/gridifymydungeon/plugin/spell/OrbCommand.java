@@ -2,6 +2,8 @@ package com.gridifymydungeon.plugin.spell;
 
 import com.gridifymydungeon.plugin.gridmove.GridMoveManager;
 import com.gridifymydungeon.plugin.gridmove.GridPlayerState;
+import com.gridifymydungeon.plugin.gridmove.TableRegistry;
+import com.gridifymydungeon.plugin.gridmove.TableSession;
 import com.hypixel.hytale.component.Ref;
 import com.hypixel.hytale.component.Store;
 import com.hypixel.hytale.server.core.Message;
@@ -24,12 +26,13 @@ import javax.annotation.Nonnull;
  */
 public class OrbCommand extends AbstractPlayerCommand {
 
-    private final GridMoveManager playerManager;
+    private final TableRegistry tables;
+
     private final RequiredArg<String> elementArg;
 
-    public OrbCommand(GridMoveManager playerManager) {
+    public OrbCommand(TableRegistry tables) {
         super("orb", "Choose Chromatic Orb element: /orb {acid|fire|cold|lightning|poison|thunder}");
-        this.playerManager = playerManager;
+        this.tables = tables;
         this.elementArg = this.withRequiredArg("element", "Element: acid/fire/cold/lightning/poison/thunder", ArgTypes.STRING);
     }
 
@@ -37,6 +40,8 @@ public class OrbCommand extends AbstractPlayerCommand {
     protected void execute(@Nonnull CommandContext context, @Nonnull Store<EntityStore> store,
                            @Nonnull Ref<EntityStore> ref, @Nonnull PlayerRef playerRef,
                            @Nonnull World world) {
+        TableSession table = tables.forWorld(world);
+        GridMoveManager playerManager = table.getGridMoveManager();
 
         GridPlayerState state = playerManager.getState(playerRef);
         SpellCastingState castState = state.getSpellCastingState();
@@ -1,11 +1,18 @@
 package com.gridifymydungeon.plugin.spell;
 
 import com.gridifymydungeon.plugin.dnd.MonsterState;
+import com.gridifymydungeon.plugin.gridmove.EntityReaper;
+import com.gridifymydungeon.plugin.gridmove.GridPlayerState;
 import com.hypixel.hytale.component.Ref;
 import com.hypixel.hytale.server.core.universe.PlayerRef;
+import com.hypixel.hytale.server.core.universe.world.World;
 import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 import java.util.UUID;
 
@@ -14,21 +21,29 @@ import java.util.UUID;
  * Examples: Wall of Fire, Spirit Guardians, Moonbeam
  * FIXED: Use Ref<EntityStore> instead of Entity for visual entities
  *
+ * Pooled visuals (Entangle vines) are attached with attachVisuals and go back to
+ * their VfxPool in cleanup(); until then the effect is their EntityReaper owner.
+ *
  * TODO FUTURE: Add terrain modification (spawn actual blocks/entities)
  * TODO FUTURE: Add concentration tracking (breaks when caster takes damage)
  * TODO FUTURE: Add movement tracking (some spells can be moved as bonus action)
  */
-public class PersistentSpellEffect {
+public class PersistentSpellEffect implements EntityReaper.Owner {
     private final UUID effectId;
     private final SpellData spell;
     private final PlayerRef caster;
     private final Set<SpellPatternCalculator.GridCell> affectedCells;
+    private final long[] cellKeys; // sorted packed x/z keys: allocation-free membership
     private final int startTurn;
     private int turnsRemaining;
     private final boolean isConcentration;
 
     // FIXED: Visual entities (e.g., Spear_Cobalt markers) - use Ref<EntityStore> instead of Entity
     private final Set<Ref<EntityStore>> visualEntities;
+    // Pooled visuals and the world they were spawned in; released on cleanup
+    private final List<Ref<EntityStore>> pooledVisuals = new ArrayList<>();
+    private World visualWorld;
+    private volatile boolean ended = false;
 
     public PersistentSpellEffect(SpellData spell, PlayerRef caster,
                                  Set<SpellPatternCalculator.GridCell> affectedCells,
@@ -37,6 +52,10 @@ public class PersistentSpellEffect {
         this.spell = spell;
         this.caster = caster;
         this.affectedCells = new HashSet<>(affectedCells);
+        this.cellKeys = new long[this.affectedCells.size()];
+        int i = 0;
+        for (SpellPatternCalculator.GridCell cell : this.affectedCells) cellKeys[i++] = cellKey(cell.x, cell.z);
+        Arrays.sort(cellKeys);
         this.startTurn = currentTurn;
         this.turnsRemaining = spell.getDurationTurns();
         this.isConcentration = false; // TODO FUTURE: Add concentration flag to SpellData
@@ -56,23 +75,40 @@ public class PersistentSpellEffect {
      * Check if a grid cell is affected by this spell
      */
     public boolean isAffected(int gridX, int gridZ) {
-        return affectedCells.contains(new SpellPatternCalculator.GridCell(gridX, gridZ));
+        return Arrays.binarySearch(cellKeys, cellKey(gridX, gridZ)) >= 0;
     }
 
     /**
      * Apply effect to a monster in the area
      * Called each turn for persistent damage/effects
+     * @return damage dealt
      */
-    public void applyEffect(MonsterState monster) {
+    public int applyEffect(MonsterState monster) {
         // For now, just apply damage if spell has damage
-        if (spell.getDamageDice() != null && !spell.getDamageDice().isEmpty()) {
-            int damage = rollDamage(spell.getDamageDice());
-            monster.takeDamage(damage);
-        }
+        int damage = rollEffectDamage();
+        if (damage > 0) monster.takeDamage(damage);
 
         // TODO FUTURE: Apply status effects (frightened, paralyzed, etc.)
         // TODO FUTURE: Apply healing for beneficial spells
         // TODO FUTURE: Apply movement restrictions (difficult terrain, etc.)
+        return damage;
+    }
+
+    /**
+     * Apply effect to a player NPC in the area. The caster is never hurt by their own zone.
+     * @return damage dealt
+     */
+    public int applyEffect(GridPlayerState player) {
+        if (caster != null && player.playerRef != null && caster.getUuid().equals(player.playerRef.getUuid())) return 0;
+        if (player.stats == null) return 0;
+        int damage = rollEffectDamage();
+        if (damage > 0) player.stats.takeDamage(damage);
+        return damage;
+    }
+
+    private int rollEffectDamage() {
+        if (spell.getDamageDice() == null || spell.getDamageDice().isEmpty()) return 0;
+        return rollDamage(spell.getDamageDice());
     }
 
     /**
@@ -99,10 +135,15 @@ public class PersistentSpellEffect {
     public SpellData getSpell() { return spell; }
     public PlayerRef getCaster() { return caster; }
     public Set<SpellPatternCalculator.GridCell> getAffectedCells() { return affectedCells; }
+    long[] getCellKeys() { return cellKeys; }
     public int getTurnsRemaining() { return turnsRemaining; }
     public boolean isConcentration() { return isConcentration; }
     public Set<Ref<EntityStore>> getVisualEntities() { return visualEntities; }
 
+    static long cellKey(int gridX, int gridZ) {
+        return ((long) gridX << 32) | (gridZ & 0xFFFFFFFFL);
+    }
+
     /**
      * Add visual entity (e.g., Spear_Cobalt marker)
      * FIXED: Parameter is Ref<EntityStore> instead of Entity
@@ -111,15 +152,42 @@ public class PersistentSpellEffect {
         visualEntities.add(entityRef);
     }
 
+    /**
+     * Attach pooled visuals spawned for this effect. If it already ended (the visuals
+     * were spawned after a delay), they are released right away. World thread.
+     */
+    public void attachVisuals(World world, Collection<Ref<EntityStore>> refs) {
+        if (ended) {
+            for (Ref<EntityStore> ref : refs) SpellVisualEffect.despawn(world, ref);
+            return;
+        }
+        visualWorld = world;
+        pooledVisuals.addAll(refs);
+    }
+
+    /** Pooled visuals stay owned until the effect ends. */
+    @Override
+    public boolean isLive() { return !ended; }
+
     /**
      * Cleanup visual entities when effect ends
      */
     public void cleanup() {
+        ended = true;
         for (Ref<EntityStore> entityRef : visualEntities) {
             if (entityRef != null && entityRef.isValid()) {
                 // World will despawn these - just clear references
             }
         }
         visualEntities.clear();
+        if (visualWorld != null && !pooledVisuals.isEmpty()) {
+            World world = visualWorld;
+            List<Ref<EntityStore>> refs = new ArrayList<>(pooledVisuals);
+            world.execute(() -> {
+                for (Ref<EntityStore> ref : refs) SpellVisualEffect.despawn(world, ref);
+                EntityReaper.release(world, this);
+            });
+        }
+        pooledVisuals.clear();
     }
 }
\ No newline at end of file
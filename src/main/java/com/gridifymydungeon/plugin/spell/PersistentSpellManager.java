@@ -1,17 +1,27 @@
 package com.gridifymydungeon.plugin.spell;
 
 import com.gridifymydungeon.plugin.dnd.MonsterState;
+import com.gridifymydungeon.plugin.gridmove.GridPlayerState;
 import com.hypixel.hytale.server.core.Message;
 
 import java.util.*;
 
 /**
  * Manages all persistent spell effects in combat
- * Tracks turn-based durations and applies effects
+ * Tracks round-based durations and applies effects
  * FIXED: Use grid coordinates instead of entity positions
+ *
+ * Effects are resolved from the occupant's side: a CellEffectIndex maps each
+ * covered cell to the effects on it, so a trigger is one lookup for the cell the
+ * creature stands in rather than a scan of every effect × every creature.
+ *   - onTurnStart: a creature beginning its turn inside a zone is affected
+ *   - onEnter:     a creature stepping into a zone it was not already in is affected
+ *   - advanceRound: durations tick once per round and expired zones are removed
+ * Both monsters and player NPCs are covered. Lookups do not allocate.
  */
 public class PersistentSpellManager {
     private final List<PersistentSpellEffect> activeEffects = new ArrayList<>();
+    private CellEffectIndex index = CellEffectIndex.EMPTY;
     private int currentTurn = 0;
 
     /**
@@ -19,42 +29,73 @@ public class PersistentSpellManager {
      */
     public void addEffect(PersistentSpellEffect effect) {
         activeEffects.add(effect);
+        index = CellEffectIndex.build(activeEffects);
         System.out.println("[Griddify] [PERSISTENT] Added effect: " + effect.getSpell().getName() +
-                " (duration: " + effect.getTurnsRemaining() + " turns)");
+                " (duration: " + effect.getTurnsRemaining() + " turns, " + index.cellCount() + " cells indexed)");
+    }
+
+    // ========================================================
+    // TRIGGERS
+    // ========================================================
+
+    /** A monster starts its turn: apply every zone covering its cell. Returns effects applied. */
+    public int onTurnStart(MonsterState monster) {
+        if (!monster.isAlive()) return 0;
+        return applyAll(index.at(PersistentSpellEffect.cellKey(monster.currentGridX, monster.currentGridZ)),
+                monster, null, Integer.MIN_VALUE, 0);
+    }
+
+    /** A player NPC starts its turn: apply every zone covering its cell. Returns effects applied. */
+    public int onTurnStart(GridPlayerState player) {
+        return applyAll(index.at(PersistentSpellEffect.cellKey(player.currentGridX, player.currentGridZ)),
+                null, player, Integer.MIN_VALUE, 0);
+    }
+
+    /** A monster moved from (fromX, fromZ) to its current cell: apply zones it just entered. */
+    public int onEnter(MonsterState monster, int fromX, int fromZ) {
+        if (!monster.isAlive()) return 0;
+        return applyAll(index.at(PersistentSpellEffect.cellKey(monster.currentGridX, monster.currentGridZ)),
+                monster, null, fromX, fromZ);
+    }
+
+    /** A player NPC moved from (fromX, fromZ) to its current cell: apply zones it just entered. */
+    public int onEnter(GridPlayerState player, int fromX, int fromZ) {
+        return applyAll(index.at(PersistentSpellEffect.cellKey(player.currentGridX, player.currentGridZ)),
+                null, player, fromX, fromZ);
+    }
+
+    /** Exactly one of monster / player is non-null. fromX == MIN_VALUE means "no previous cell". */
+    private int applyAll(PersistentSpellEffect[] effects, MonsterState monster, GridPlayerState player,
+                         int fromX, int fromZ) {
+        int applied = 0;
+        for (PersistentSpellEffect effect : effects) {
+            if (fromX != Integer.MIN_VALUE && effect.isAffected(fromX, fromZ)) continue; // already inside
+            int damage = monster != null ? effect.applyEffect(monster) : effect.applyEffect(player);
+            if (damage <= 0) continue;
+            applied++;
+
+            String name = monster != null ? monster.getDisplayName()
+                    : player.playerRef != null ? player.playerRef.getUsername() : "Player";
+            Message msg = Message.raw("[" + effect.getSpell().getName() + "] " + name
+                    + " takes " + damage + " damage!").color("#FF6B6B");
+            // Notify caster, and the player who was hit
+            if (effect.getCaster() != null) effect.getCaster().sendMessage(msg);
+            if (player != null && player.playerRef != null
+                    && (effect.getCaster() == null || !effect.getCaster().getUuid().equals(player.playerRef.getUuid()))) {
+                player.playerRef.sendMessage(msg);
+            }
+        }
+        return applied;
     }
 
     /**
-     * Advance to next turn - process all persistent effects
-     * @param monsters All monsters in combat
+     * A new combat round began: tick every duration and remove expired effects.
      */
-    public void advanceTurn(List<MonsterState> monsters) {
+    public void advanceRound() {
         currentTurn++;
 
         List<PersistentSpellEffect> expiredEffects = new ArrayList<>();
-
-        // Process each active effect
         for (PersistentSpellEffect effect : activeEffects) {
-            // Apply effect to monsters in area
-            for (MonsterState monster : monsters) {
-                if (!monster.isAlive()) continue;
-
-                // FIXED: Use monster grid coordinates instead of entity position
-                int monsterGridX = monster.currentGridX;
-                int monsterGridZ = monster.currentGridZ;
-
-                if (effect.isAffected(monsterGridX, monsterGridZ)) {
-                    effect.applyEffect(monster);
-
-                    // Notify caster
-                    if (effect.getCaster() != null) {
-                        effect.getCaster().sendMessage(
-                                Message.raw("[" + effect.getSpell().getName() + "] " +
-                                        monster.getDisplayName() + " takes damage!").color("#FF6B6B")
-                        );
-                    }
-                }
-            }
-
             // Advance turn counter
             if (!effect.advanceTurn()) {
                 expiredEffects.add(effect);
@@ -72,6 +113,7 @@ public class PersistentSpellManager {
      */
     public void removeEffect(PersistentSpellEffect effect) {
         activeEffects.remove(effect);
+        index = CellEffectIndex.build(activeEffects);
         effect.cleanup();
 
         if (effect.getCaster() != null) {
@@ -111,12 +153,6 @@ public class PersistentSpellManager {
      * Check if a grid cell has any active spell effects
      */
     public List<PersistentSpellEffect> getEffectsAt(int gridX, int gridZ) {
-        List<PersistentSpellEffect> effects = new ArrayList<>();
-        for (PersistentSpellEffect effect : activeEffects) {
-            if (effect.isAffected(gridX, gridZ)) {
-                effects.add(effect);
-            }
-        }
-        return effects;
+        return Arrays.asList(index.at(PersistentSpellEffect.cellKey(gridX, gridZ)).clone());
     }
-}
\ No newline at end of file
+}
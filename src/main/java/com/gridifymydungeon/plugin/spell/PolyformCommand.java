@@ -4,6 +4,8 @@ import com.gridifymydungeon.plugin.dnd.EncounterManager;
 import com.gridifymydungeon.plugin.dnd.MonsterState;
 import com.gridifymydungeon.plugin.gridmove.GridMoveManager;
 import com.gridifymydungeon.plugin.gridmove.GridPlayerState;
+import com.gridifymydungeon.plugin.gridmove.TableRegistry;
+import com.gridifymydungeon.plugin.gridmove.TableSession;
 import com.hypixel.hytale.component.Ref;
 import com.hypixel.hytale.component.Store;
 import com.hypixel.hytale.server.core.Message;
@@ -27,17 +29,14 @@ import javax.annotation.Nonnull;
  */
 public class PolyformCommand extends AbstractPlayerCommand {
 
-    private final GridMoveManager gridMoveManager;
-    private final EncounterManager encounterManager;
-    private final PolymorphManager polymorphManager;
+    private final TableRegistry tables;
+
     private final RequiredArg<String> formArg;
 
-    public PolyformCommand(GridMoveManager gm, EncounterManager em, PolymorphManager pm) {
+    public PolyformCommand(TableRegistry tables) {
         super("polyform",
                 "Choose polymorph form: /polyform {Bear|Dire_Wolf|Rex|Feran_Windwalker|Spider}");
-        this.gridMoveManager = gm;
-        this.encounterManager = em;
-        this.polymorphManager = pm;
+        this.tables = tables;
         this.formArg = this.withRequiredArg("form",
                 "Form: Bear, Dire_Wolf, Rex, Feran_Windwalker, Spider", ArgTypes.STRING);
     }
@@ -46,6 +45,10 @@ public class PolyformCommand extends AbstractPlayerCommand {
     protected void execute(@Nonnull CommandContext context, @Nonnull Store<EntityStore> store,
                            @Nonnull Ref<EntityStore> ref, @Nonnull PlayerRef playerRef,
                            @Nonnull World world) {
+        TableSession table = tables.forWorld(world);
+        GridMoveManager gridMoveManager = table.getGridMoveManager();
+        EncounterManager encounterManager = table.getEncounterManager();
+        PolymorphManager polymorphManager = table.getPolymorphManager();
 
         String input = formArg.get(context);
 
@@ -5,10 +5,10 @@ import com.gridifymydungeon.plugin.dnd.EncounterManager;
 import com.gridifymydungeon.plugin.dnd.MonsterState;
 import com.gridifymydungeon.plugin.gridmove.GridMoveManager;
 import com.gridifymydungeon.plugin.gridmove.GridPlayerState;
+import com.gridifymydungeon.plugin.gridmove.ModelRegistry;
 import com.hypixel.hytale.component.Ref;
 import com.hypixel.hytale.server.core.Message;
 import com.hypixel.hytale.server.core.asset.type.model.config.Model;
-import com.hypixel.hytale.server.core.asset.type.model.config.ModelAsset;
 import com.hypixel.hytale.server.core.modules.entity.component.BoundingBox;
 import com.hypixel.hytale.server.core.modules.entity.component.ModelComponent;
 import com.hypixel.hytale.server.core.modules.entity.component.PersistentModel;
@@ -18,7 +18,10 @@ import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
 
 import javax.annotation.Nullable;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
 
 /**
  * Handles Polymorph transformations.
@@ -270,19 +273,33 @@ public class PolymorphManager {
 
     public boolean isPolymorphed(String key) { return active.containsKey(key); }
 
+    /** Player NPCs currently polymorphed (session audit). */
+    public Set<UUID> polymorphedPlayers() {
+        Set<UUID> ids = new HashSet<>();
+        for (String key : active.keySet()) {
+            if (!key.startsWith("player:")) continue;
+            try { ids.add(UUID.fromString(key.substring("player:".length()))); } catch (IllegalArgumentException ignored) {}
+        }
+        return ids;
+    }
+
+    /**
+     * Drop a player's polymorph record (disconnect) and give their stats back the
+     * original HP, so the temporary form's HP is not what gets saved or resumed.
+     * The NPC itself is removed by the caller.
+     */
+    public void forgetPlayer(UUID playerUUID, @Nullable GridPlayerState ps) {
+        PolymorphRecord rec = active.remove("player:" + playerUUID);
+        if (rec == null || ps == null || ps.stats == null) return;
+        ps.stats.maxHP = rec.originalMaxHp;
+        ps.stats.currentHP = Math.min(rec.originalHp, rec.originalMaxHp);
+    }
+
     // ── Internals ──────────────────────────────────────────────────────────────
 
     @Nullable
     private static Model loadModel(String assetId) {
-        if (assetId == null) return null;
-        try {
-            ModelAsset asset = ModelAsset.getAssetMap().getAsset(assetId);
-            if (asset == null) return null;
-            return Model.createScaledModel(asset, 1.0f);
-        } catch (Exception e) {
-            System.err.println("[Griddify] [POLYMORPH] loadModel failed '" + assetId + "': " + e.getMessage());
-            return null;
-        }
+        return ModelRegistry.get(assetId);
     }
 
     private static void send(PlayerRef p, String msg, String color) {
@@ -2,6 +2,8 @@ package com.gridifymydungeon.plugin.spell;
 
 import com.gridifymydungeon.plugin.dnd.EncounterManager;
 import com.gridifymydungeon.plugin.dnd.MonsterState;
+import com.gridifymydungeon.plugin.gridmove.TableRegistry;
+import com.gridifymydungeon.plugin.gridmove.TableSession;
 import com.hypixel.hytale.component.Ref;
 import com.hypixel.hytale.component.Store;
 import com.hypixel.hytale.server.core.Message;
@@ -23,14 +25,13 @@ import javax.annotation.Nonnull;
  */
 public class PolyrevertCommand extends AbstractPlayerCommand {
 
-    private final EncounterManager encounterManager;
-    private final PolymorphManager polymorphManager;
+    private final TableRegistry tables;
+
     private final RequiredArg<Integer> numberArg;
 
-    public PolyrevertCommand(EncounterManager em, PolymorphManager pm) {
+    public PolyrevertCommand(TableRegistry tables) {
         super("polyrevert", "Revert a polymorphed monster: /polyrevert {monster#}");
-        this.encounterManager = em;
-        this.polymorphManager = pm;
+        this.tables = tables;
         this.numberArg = this.withRequiredArg("number", "Monster number to revert", ArgTypes.INTEGER);
     }
 
@@ -38,6 +39,9 @@ public class PolyrevertCommand extends AbstractPlayerCommand {
     protected void execute(@Nonnull CommandContext context, @Nonnull Store<EntityStore> store,
                            @Nonnull Ref<EntityStore> ref, @Nonnull PlayerRef playerRef,
                            @Nonnull World world) {
+        TableSession table = tables.forWorld(world);
+        EncounterManager encounterManager = table.getEncounterManager();
+        PolymorphManager polymorphManager = table.getPolymorphManager();
 
         int num = numberArg.get(context);
 
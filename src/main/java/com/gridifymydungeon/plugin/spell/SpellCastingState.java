@@ -1,6 +1,14 @@
 package com.gridifymydungeon.plugin.spell;
 
 import com.gridifymydungeon.plugin.dnd.MonsterState;
+import com.gridifymydungeon.plugin.gridmove.LineOfSightService;
+import com.hypixel.hytale.server.core.universe.world.World;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 
 /**
  * Tracks the spell being prepared between /cast and /castfinal.
@@ -16,6 +24,13 @@ import com.gridifymydungeon.plugin.dnd.MonsterState;
  *
  * For self spells (SELF, AURA):
  *   - No freeze, fires immediately.
+ *
+ * Precompute (precompute(), run once on the world thread at /cast):
+ *   - the Grid_Range ring cells around the caster
+ *   - for CONE/LINE/WALL, the wall-filtered pattern for all eight facings, so walking
+ *     around the NPC turns the overlay by lookup instead of pattern + line-of-sight
+ *     work per step. Skipped when the eight variants together exceed
+ *     MAX_PRECOMPUTE_CELLS; callers then fall back to computing on the fly.
  */
 public class SpellCastingState {
     private final SpellData spell;
@@ -51,6 +66,13 @@ public class SpellCastingState {
     // Polymorph: the target cell set by /castfinal, awaiting /polyform for form choice
     private GridCell pendingPolymorphTarget = null;
 
+    // Precomputed at /cast (see precompute); null until then or when skipped
+    private volatile List<SpellPatternCalculator.GridCell> rangeCells = null;
+    private volatile Set<SpellPatternCalculator.GridCell>[] directionalCells = null;
+
+    /** Upper bound on the cells held across all eight directional variants. */
+    static final int MAX_PRECOMPUTE_CELLS = 4096;
+
     // Wild Shape: true while player is transformed
     private boolean wildShapeActive = false;
     private String wildShapeForm = null; // e.g. "Wild_Shape_Bear"
@@ -129,6 +151,62 @@ public class SpellCastingState {
         return direction; // fallback
     }
 
+    // ── Precompute (world thread, at /cast) ──────────────────────────────────
+
+    /**
+     * Fill the range ring and, for directional patterns, all eight facings.
+     * Must run on the world thread (line of sight reads blocks).
+     */
+    @SuppressWarnings("unchecked")
+    public void precompute(LineOfSightService los, World world) {
+        rangeCells = computeRangeRing(casterGridX, casterGridZ, spell.getRangeGrids());
+
+        SpellPattern pattern = spell.getPattern();
+        if (pattern != SpellPattern.CONE && pattern != SpellPattern.LINE && pattern != SpellPattern.WALL) return;
+
+        Direction8[] dirs = Direction8.values();
+        Set<SpellPatternCalculator.GridCell>[] variants = new Set[dirs.length];
+        int total = 0;
+        for (Direction8 d : dirs) {
+            Set<SpellPatternCalculator.GridCell> cells = SpellPatternCalculator.calculatePattern(
+                    pattern, d, casterGridX, casterGridZ, spell.getRangeGrids(), spell.getAreaGrids());
+            total += cells.size();
+            if (total > MAX_PRECOMPUTE_CELLS) {
+                System.out.println("[Griddify] [CAST] " + spell.getName() + ": skipping direction precompute ("
+                        + total + "+ cells)");
+                return;
+            }
+            CastCommand.filterByLineOfSight(los, world, pattern, casterGridX, casterGridZ, casterY,
+                    casterGridX, casterGridZ, cells);
+            variants[d.ordinal()] = Collections.unmodifiableSet(cells);
+        }
+        directionalCells = variants;
+    }
+
+    /**
+     * Wall-filtered pattern cells for a facing as a fresh mutable set, or null when
+     * not precomputed (non-directional spell, too large, or precompute still pending).
+     */
+    public Set<SpellPatternCalculator.GridCell> getDirectionalCells(Direction8 dir) {
+        Set<SpellPatternCalculator.GridCell>[] variants = directionalCells;
+        return variants != null ? new HashSet<>(variants[dir.ordinal()]) : null;
+    }
+
+    /** Range ring cells around the caster (Chebyshev distance 1..range), or null if not computed. */
+    public List<SpellPatternCalculator.GridCell> getRangeCells() { return rangeCells; }
+
+    static List<SpellPatternCalculator.GridCell> computeRangeRing(int cx, int cz, int rangeGrids) {
+        if (rangeGrids <= 0) return List.of();
+        List<SpellPatternCalculator.GridCell> ring = new ArrayList<>((2 * rangeGrids + 1) * (2 * rangeGrids + 1) - 1);
+        for (int dx = -rangeGrids; dx <= rangeGrids; dx++) {
+            for (int dz = -rangeGrids; dz <= rangeGrids; dz++) {
+                if (dx == 0 && dz == 0) continue;
+                ring.add(new SpellPatternCalculator.GridCell(cx + dx, cz + dz));
+            }
+        }
+        return Collections.unmodifiableList(ring);
+    }
+
     public int getAimGridX() { return aimGridX; }
     public int getAimGridZ() { return aimGridZ; }
 
@@ -0,0 +1,173 @@
+package com.gridifymydungeon.plugin.spell;
+
+import com.gridifymydungeon.plugin.utils.PrefixTrie;
+import com.gridifymydungeon.plugin.utils.TsvTable;
+
+import java.util.*;
+
+/**
+ * Immutable, pre-indexed view of every registered spell and monster attack.
+ *
+ * Built once from the rows of spells.tsv. Per-class and per-subclass
+ * lists are sorted by minLevel with a level → count cut table, so
+ * "spells available at level N" is a subList slice instead of a stream filter.
+ */
+public final class SpellCatalog {
+
+    /** Sorted-by-minLevel spell list plus cut table: cut[lvl] = number of spells with minLevel ≤ lvl. */
+    static final class LevelSlice {
+        static final LevelSlice EMPTY = new LevelSlice(Collections.emptyList());
+
+        final List<SpellData> spells;
+        final int[] cut;
+
+        LevelSlice(List<SpellData> unsorted) {
+            List<SpellData> sorted = new ArrayList<>(unsorted);
+            sorted.sort(Comparator.comparingInt(SpellData::getMinLevel)); // stable: keeps registration order per level
+            int maxLevel = 0;
+            for (SpellData s : sorted) maxLevel = Math.max(maxLevel, s.getMinLevel());
+            this.spells = Collections.unmodifiableList(sorted);
+            this.cut = new int[maxLevel + 1];
+            int n = 0;
+            for (int lvl = 0; lvl <= maxLevel; lvl++) {
+                while (n < sorted.size() && sorted.get(n).getMinLevel() <= lvl) n++;
+                cut[lvl] = n;
+            }
+        }
+
+        List<SpellData> upTo(int level) {
+            if (level < 0 || spells.isEmpty()) return Collections.emptyList();
+            return spells.subList(0, cut[Math.min(level, cut.length - 1)]);
+        }
+    }
+
+    private final Map<String, SpellData> byName;
+    private final Map<ClassType, List<SpellData>> byClass;
+    private final Map<SubclassType, List<SpellData>> bySubclass;
+    private final Map<ClassType, LevelSlice> baseByClass;
+    private final Map<SubclassType, LevelSlice> subclassByLevel;
+    private final Map<MonsterType, List<SpellData>> attacksByMonster;
+    private final PrefixTrie<SpellData> nameTrie = new PrefixTrie<>();
+
+    /**
+     * Builds every index from spells in registration order (later duplicates win, like SPELL_MAP.put).
+     * monsterAttacks is the raw attack list: an attack shared by several monster types
+     * (e.g. Goblin_Slash) stays listed under each of them even though only one wins by name.
+     */
+    public SpellCatalog(Collection<SpellData> spells, Collection<SpellData> monsterAttacks) {
+        Map<String, SpellData> names = new LinkedHashMap<>();
+        for (SpellData s : spells) names.put(s.getName().toLowerCase(), s);
+        this.byName = Collections.unmodifiableMap(names);
+
+        Map<ClassType, List<SpellData>> cls = new EnumMap<>(ClassType.class);
+        Map<ClassType, List<SpellData>> base = new EnumMap<>(ClassType.class);
+        Map<SubclassType, List<SpellData>> sub = new EnumMap<>(SubclassType.class);
+        Map<MonsterType, List<SpellData>> atk = new EnumMap<>(MonsterType.class);
+        for (SpellData s : names.values()) {
+            if (s.getClassType() != null) {
+                cls.computeIfAbsent(s.getClassType(), k -> new ArrayList<>()).add(s);
+                if (s.isBaseClassSpell()) base.computeIfAbsent(s.getClassType(), k -> new ArrayList<>()).add(s);
+            }
+            if (s.getSubclass() != null) sub.computeIfAbsent(s.getSubclass(), k -> new ArrayList<>()).add(s);
+            nameTrie.put(s.getName(), s);
+        }
+        for (SpellData s : monsterAttacks) {
+            atk.computeIfAbsent(s.getRequiredMonsterType(), k -> new ArrayList<>()).add(s);
+        }
+
+        this.byClass = freezeLists(cls, new EnumMap<>(ClassType.class));
+        this.bySubclass = freezeLists(sub, new EnumMap<>(SubclassType.class));
+        this.attacksByMonster = freezeLists(atk, new EnumMap<>(MonsterType.class));
+
+        Map<ClassType, LevelSlice> baseSlices = new EnumMap<>(ClassType.class);
+        base.forEach((k, v) -> baseSlices.put(k, new LevelSlice(v)));
+        this.baseByClass = Collections.unmodifiableMap(baseSlices);
+
+        Map<SubclassType, LevelSlice> subSlices = new EnumMap<>(SubclassType.class);
+        sub.forEach((k, v) -> subSlices.put(k, new LevelSlice(v)));
+        this.subclassByLevel = Collections.unmodifiableMap(subSlices);
+    }
+
+    /**
+     * Builds a catalog from spells.tsv rows. kind selects the SpellData constructor:
+     * BASE → ClassType owner, SUBCLASS → SubclassType owner, MONSTER → MonsterType owner.
+     */
+    public static SpellCatalog fromTable(TsvTable table) {
+        List<SpellData> spells = new ArrayList<>();
+        List<SpellData> attacks = new ArrayList<>();
+        for (TsvTable.Row r : table.rows()) {
+            String name = r.required("name");
+            String kind = r.required("kind").toUpperCase();
+            int range = r.integer("range");
+            SpellPattern pattern = r.enumOf(SpellPattern.class, "pattern");
+            int area = r.integer("area");
+            String dice = r.optStr("dice");
+            DamageType damageType = r.enumOf(DamageType.class, "damageType");
+            String description = r.str("description");
+
+            SpellData spell;
+            switch (kind) {
+                case "BASE":
+                    spell = new SpellData(name, r.integer("level"), range, pattern, area, dice, damageType,
+                            r.enumOf(ClassType.class, "owner"), r.integer("minLevel"),
+                            r.bool("persistent"), r.integer("duration"), description, r.integer("targets"));
+                    break;
+                case "SUBCLASS":
+                    spell = new SpellData(name, r.integer("level"), range, pattern, area, dice, damageType,
+                            r.enumOf(SubclassType.class, "owner"), r.integer("minLevel"),
+                            r.bool("persistent"), r.integer("duration"), description, r.integer("targets"));
+                    break;
+                case "MONSTER":
+                    spell = new SpellData(name, range, pattern, area, dice, damageType,
+                            r.enumOf(MonsterType.class, "owner"), description);
+                    attacks.add(spell);
+                    break;
+                default:
+                    throw r.error("kind must be BASE, SUBCLASS or MONSTER, got '" + kind + "'");
+            }
+            spells.add(spell);
+        }
+        return new SpellCatalog(spells, attacks);
+    }
+
+    private static <K> Map<K, List<SpellData>> freezeLists(Map<K, List<SpellData>> src, Map<K, List<SpellData>> dst) {
+        src.forEach((k, v) -> dst.put(k, Collections.unmodifiableList(v)));
+        return Collections.unmodifiableMap(dst);
+    }
+
+    // ── Queries ──────────────────────────────────────────────────────────────
+
+    public SpellData get(String name) {
+        return name != null ? byName.get(name.toLowerCase()) : null;
+    }
+
+    public Set<String> names() { return byName.keySet(); }
+
+    public int size() { return byName.size(); }
+
+    public List<SpellData> forClass(ClassType classType) {
+        return byClass.getOrDefault(classType, Collections.emptyList());
+    }
+
+    public List<SpellData> forSubclass(SubclassType subclass) {
+        return bySubclass.getOrDefault(subclass, Collections.emptyList());
+    }
+
+    /** Base class spells (no subclass) with minLevel ≤ level. Read-only slice. */
+    public List<SpellData> baseSpellsUpTo(ClassType classType, int level) {
+        return baseByClass.getOrDefault(classType, LevelSlice.EMPTY).upTo(level);
+    }
+
+    /** Subclass spells with minLevel ≤ level. Read-only slice. */
+    public List<SpellData> subclassSpellsUpTo(SubclassType subclass, int level) {
+        return subclassByLevel.getOrDefault(subclass, LevelSlice.EMPTY).upTo(level);
+    }
+
+    public List<SpellData> attacksFor(MonsterType monsterType) {
+        return attacksByMonster.getOrDefault(monsterType, Collections.emptyList());
+    }
+
+    public List<SpellData> withPrefix(String prefix, int limit) {
+        return nameTrie.withPrefix(prefix, limit);
+    }
+}
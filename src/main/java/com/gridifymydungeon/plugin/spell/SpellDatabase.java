@@ -1,1488 +1,85 @@
 package com.gridifymydungeon.plugin.spell;
 
-import com.gridifymydungeon.plugin.spell.MonsterType;
+import com.gridifymydungeon.plugin.utils.TsvTable;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
 import java.util.*;
-import java.util.stream.Collectors;
 
 /**
  * COMPLETE D&D Spell Database
  * - Base Class Spells: Available level 1+ (before subclass selection)
  * - Subclass Spells: Available level 3+ (after subclass selection)
+ * - Monster attacks: locked to one MonsterType
  *
- * TODO FUTURE: Move to JSON/config file for easier editing
+ * The data lives in spells.tsv. The bundled copy (BUNDLED_RESOURCE) is the
+ * default; CatalogLoader copies it to the plugin data folder and installs the
+ * edited version at startup and on /gridreload. Every query reads the current
+ * SpellCatalog snapshot through one volatile field, so a reload swaps the whole
+ * catalog at once. In-flight casts keep the SpellData they captured.
  */
 public class SpellDatabase {
-    private static final Map<String, SpellData> SPELL_MAP = new HashMap<>();
-    private static final Map<SubclassType, List<SpellData>> SPELLS_BY_SUBCLASS = new HashMap<>();
-    private static final Map<ClassType, List<SpellData>> SPELLS_BY_CLASS = new HashMap<>();
-    private static final List<SpellData> MONSTER_ATTACKS = new java.util.ArrayList<>();
-
-    static {
-        initializeBaseClassSpells();
-        initializeSubclassSpells();
-        initializeMonsterAttacks();
-        buildIndices();
-    }
-
-    /**
-     * BASE CLASS SPELLS - Available from Level 1
-     * These spells don't require a subclass (available before level 3)
-     */
-    private static void initializeBaseClassSpells() {
-        // =====================================================================
-        // WIZARD - Base Class Spells
-        // =====================================================================
-
-        registerBase(new SpellData(
-                "Magic_Missile",
-                1, 10, SpellPattern.SINGLE_TARGET, 0,
-                "1d4", DamageType.FORCE,
-                ClassType.WIZARD, 1,
-                false, 0,
-                "Auto-hit 3 missiles dealing 1d4+1 each. +1 missile every 2 levels (max 5 at lvl 9)", 3
-        ));
-
-        registerBase(new SpellData(
-                "Burning_Hands",
-                1, 0, SpellPattern.CONE, 3,
-                "3d6", DamageType.FIRE,
-                ClassType.WIZARD, 1,
-                false, 0,
-                "3-grid cone of fire. DEX save for half. +1d6 per spell level above 1st"
-        ));
-
-        registerBase(new SpellData(
-                "Fireball",
-                3, 30, SpellPattern.SPHERE, 4,
-                "8d6", DamageType.FIRE,
-                ClassType.WIZARD, 5,
-                false, 0,
-                "20ft radius explosion (4 grids). DEX save for half. +1d6 per level above 3rd"
-        ));
-
-        registerBase(new SpellData(
-                "Lightning_Bolt",
-                3, 0, SpellPattern.LINE, 10,
-                "8d6", DamageType.LIGHTNING,
-                ClassType.WIZARD, 5,
-                false, 0,
-                "10-grid long line. DEX save for half. +1d6 per spell level above 3rd"
-        ));
-
-        registerBase(new SpellData(
-                "Cone_of_Cold",
-                5, 0, SpellPattern.CONE, 12,
-                "8d8", DamageType.COLD,
-                ClassType.WIZARD, 9,
-                false, 0,
-                "12-grid cone. CON save for half. +1d8 per spell level above 5th"
-        ));
-
-        registerBase(new SpellData(
-                "Arcane_Barrage",
-                4, 15, SpellPattern.SINGLE_TARGET, 0,
-                "4d10", DamageType.FORCE,
-                ClassType.WIZARD, 7,
-                false, 0,
-                "Multi-target (up to 3 targets). Can split or focus all on one", 3
-        ));
-
-        // =====================================================================
-        // FIGHTER - Base Class Attacks
-        // =====================================================================
-
-        registerBase(new SpellData(
-                "Cleave",
-                0, 0, SpellPattern.CONE, 1,
-                "2d8", DamageType.SLASHING,
-                ClassType.FIGHTER, 1,
-                false, 0,
-                "Sweeping attack 1 grid in front (5ft arc). Weapon damage + STR to targets in arc"
-        ));
-
-        registerBase(new SpellData(
-                "Shield_Bash",
-                0, 0, SpellPattern.SINGLE_TARGET, 0,
-                "2d6", DamageType.BLUDGEONING,
-                ClassType.FIGHTER, 3,
-                false, 0,
-                "STR save or target knocked prone and pushed 1 grid"
-        ));
-
-        registerBase(new SpellData(
-                "Whirlwind_Attack",
-                0, 0, SpellPattern.AURA, 1,
-                null, DamageType.SLASHING,
-                ClassType.FIGHTER, 5,
-                false, 0,
-                "Weapon damage to all adjacent enemies. 360° spinning attack"
-        ));
-
-        registerBase(new SpellData(
-                "Charging_Strike",
-                0, 0, SpellPattern.LINE, 6,
-                "3d10", DamageType.BLUDGEONING,
-                ClassType.FIGHTER, 5,
-                false, 0,
-                "+1d6 per 2 grids charged. Must move at least 4 grids straight before attack"
-        ));
-
-        registerBase(new SpellData(
-                "Intimidating_Shout",
-                0, 0, SpellPattern.CONE, 8,
-                null, DamageType.NONE,
-                ClassType.FIGHTER, 7,
-                true, 10,
-                "WIS save or frightened for 1 minute. Disadvantage, can't move closer"
-        ));
-
-        registerBase(new SpellData(
-                "Execute",
-                0, 0, SpellPattern.SINGLE_TARGET, 0,
-                "6d12", DamageType.SLASHING,
-                ClassType.FIGHTER, 9,
-                false, 0,
-                "Double damage if target below 25% HP. Instant kill if below 15% HP"
-        ));
-
-        // =====================================================================
-        // DRUID - Base Class Spells
-        // =====================================================================
-
-        registerBase(new SpellData(
-                "Produce_Flame",
-                0, 6, SpellPattern.SINGLE_TARGET, 0,
-                "1d8", DamageType.FIRE,
-                ClassType.DRUID, 1,
-                false, 0,
-                "Ranged spell attack or held light. +1d8 every 4 levels"
-        ));
-
-        registerBase(new SpellData(
-                "Entangle",
-                1, 18, SpellPattern.CUBE, 2,
-                null, DamageType.NONE,
-                ClassType.DRUID, 1,
-                true, 10,
-                "20ft square of grasping vines (2 grid radius = 5x5 grids). STR save or restrained. Difficult terrain"
-        ));
-
-        registerBase(new SpellData(
-                "Moonbeam",
-                2, 24, SpellPattern.CYLINDER, 1,
-                "2d10", DamageType.RADIANT,
-                ClassType.DRUID, 3,
-                true, 10,
-                "Movable beam. Bonus action to move 12 grids. CON save for half. +1d10 per level"
-        ));
-
-        registerBase(new SpellData(
-                "Call_Lightning",
-                3, 24, SpellPattern.CYLINDER, 1,
-                "3d10", DamageType.LIGHTNING,
-                ClassType.DRUID, 5,
-                true, 10,
-                "Call new bolt each turn. DEX save for half. +1d10 per level above 3rd"
-        ));
-
-        registerBase(new SpellData(
-                "Ice_Storm",
-                4, 60, SpellPattern.CYLINDER, 4,
-                "2d8", DamageType.BLUDGEONING, // Plus 4d6 cold
-                ClassType.DRUID, 7,
-                false, 0,
-                "2d8 bludgeoning + 4d6 cold. DEX save for half. Difficult terrain"
-        ));
-
-        registerBase(new SpellData(
-                "Wild_Shape_Bear",
-                0, 0, SpellPattern.SELF, 0,
-                "2d6", DamageType.SLASHING,
-                ClassType.DRUID, 3,
-                true, 100,
-                "Transform into bear. Gain 34 temp HP, multiattack. Lasts 1 hour or until 0 HP"
-        ));
-
-        registerBase(new SpellData(
-                "Wild_Shape_Dire_Wolf",
-                0, 0, SpellPattern.SELF, 0,
-                "2d6", DamageType.PIERCING,
-                ClassType.DRUID, 5,
-                true, 100,
-                "Transform into dire wolf. Knock prone on hit, pack tactics. High mobility"
-        ));
-
-        registerBase(new SpellData(
-                "Sunbeam",
-                6, 0, SpellPattern.LINE, 12,
-                "6d8", DamageType.RADIANT,
-                ClassType.DRUID, 9,
-                true, 10,
-                "12-grid line. CON save for half, blind on fail. Create new beam each turn"
-        ));
-
-        // =====================================================================
-        // MONK - Base Class Ki Abilities
-        // =====================================================================
-
-        registerBase(new SpellData(
-                "Flurry_of_Blows",
-                0, 0, SpellPattern.SINGLE_TARGET, 0,
-                "1d6", DamageType.BLUDGEONING,
-                ClassType.MONK, 1,
-                false, 0,
-                "Bonus action after attack. 2 strikes. Costs 1 Ki. Can push/trip target"
-        ));
-
-        registerBase(new SpellData(
-                "Stunning_Strike",
-                0, 0, SpellPattern.SINGLE_TARGET, 0,
-                null, DamageType.NONE,
-                ClassType.MONK, 3,
-                false, 0,
-                "After hitting: Costs 1 Ki. CON save or stunned until end of your next turn"
-        ));
-
-        registerBase(new SpellData(
-                "Step_of_the_Wind",
-                0, 0, SpellPattern.SELF, 0,
-                null, DamageType.NONE,
-                ClassType.MONK, 1,
-                false, 0,
-                "Bonus action. Costs 1 Ki. Double jump, disengage or dash. No opportunity attacks"
-        ));
-
-        registerBase(new SpellData(
-                "Deflect_Missiles",
-                0, 0, SpellPattern.SELF, 0,
-                null, DamageType.NONE,
-                ClassType.MONK, 1,
-                false, 0,
-                "Reaction. Reduce damage by 1d10+DEX+Monk level. Spend 1 Ki to throw back"
-        ));
-
-        registerBase(new SpellData(
-                "Hurricane_Strike",
-                0, 0, SpellPattern.AURA, 1,
-                "2d8", DamageType.BLUDGEONING,
-                ClassType.MONK, 5,
-                false, 0,
-                "Costs 2 Ki. Hit all adjacent enemies. Can move between targets"
-        ));
-
-        registerBase(new SpellData(
-                "Shadow_Step",
-                0, 12, SpellPattern.SELF, 0,
-                null, DamageType.NONE,
-                ClassType.MONK, 5,
-                false, 0,
-                "Costs 2 Ki. Bonus action teleport to dim light/darkness. Next attack has advantage"
-        ));
-
-        registerBase(new SpellData(
-                "Quivering_Palm",
-                0, 0, SpellPattern.SINGLE_TARGET, 0,
-                "10d10", DamageType.NECROTIC,
-                ClassType.MONK, 9,
-                false, 0,
-                "Costs 3 Ki. Plant vibrations. Later: CON save or 10d10 damage, or reduce to 0 HP"
-        ));
-
-        registerBase(new SpellData(
-                "Radiant_Sun_Bolt",
-                0, 6, SpellPattern.SINGLE_TARGET, 0,
-                "1d6", DamageType.RADIANT,
-                ClassType.MONK, 3,
-                false, 0,
-                "Martial arts die + DEX. Costs 1 Ki for 2 additional bolts (total 3)"
-        ));
-
-        // =====================================================================
-        // BARD - Base Class Spells
-        // =====================================================================
-
-        registerBase(new SpellData(
-                "Vicious_Mockery",
-                0, 12, SpellPattern.SINGLE_TARGET, 0,
-                "1d4", DamageType.PSYCHIC,
-                ClassType.BARD, 1,
-                false, 0,
-                "WIS save to resist. On fail: disadvantage on next attack. +1d4 every 5 levels"
-        ));
-
-        registerBase(new SpellData(
-                "Bardic_Inspiration",
-                0, 12, SpellPattern.SINGLE_TARGET, 0,
-                null, DamageType.NONE,
-                ClassType.BARD, 1,
-                false, 0,
-                "Bonus action. Grant 1d6 bonus to attack/save/check. Die increases with level"
-        ));
-
-        registerBase(new SpellData(
-                "Thunderwave",
-                1, 0, SpellPattern.CUBE, 1,
-                "2d8", DamageType.THUNDER,
-                ClassType.BARD, 1,
-                false, 0,
-                "15ft cube (1 grid radius = 3x3 grids). CON save for half, push 2 grids on fail. +1d8 per level"
-        ));
-
-        registerBase(new SpellData(
-                "Shatter",
-                2, 12, SpellPattern.SPHERE, 2,
-                "3d8", DamageType.THUNDER,
-                ClassType.BARD, 3,
-                false, 0,
-                "CON save for half. Damages objects, extra vs constructs. +1d8 per level"
-        ));
-
-        registerBase(new SpellData(
-                "Hypnotic_Pattern",
-                3, 24, SpellPattern.CUBE, 3,
-                null, DamageType.NONE,
-                ClassType.BARD, 5,
-                true, 10,
-                "30ft cube (3 grid radius = 7x7 grids). WIS save or charmed/incapacitated. Ends if damaged or shaken"
-        ));
-
-        registerBase(new SpellData(
-                "Song_of_Rest",
-                0, 0, SpellPattern.AURA, 99,
-                null, DamageType.NONE,
-                ClassType.BARD, 1,
-                false, 0,
-                "Short rest only. Allies regain extra 1d6 HP. Die increases with level"
-        ));
-
-        registerBase(new SpellData(
-                "Mass_Suggestion",
-                6, 12, SpellPattern.SINGLE_TARGET, 0,
-                null, DamageType.NONE,
-                ClassType.BARD, 9,
-                true, 1440,
-                "Up to 12 targets. WIS save or follow reasonable suggestion for 24 hours"
-        ));
-
-        registerBase(new SpellData(
-                "Power_Word_Stun",
-                8, 12, SpellPattern.SINGLE_TARGET, 0,
-                null, DamageType.NONE,
-                ClassType.BARD, 9,
-                true, 1,
-                "No save if 150 HP or fewer. Stunned until end of your next turn"
-        ));
-
-        // =====================================================================
-        // SORCERER - Base Class Spells
-        // =====================================================================
-
-        registerBase(new SpellData(
-                "Fire_Bolt",
-                0, 24, SpellPattern.SINGLE_TARGET, 0,
-                "1d10", DamageType.FIRE,
-                ClassType.SORCERER, 1,
-                false, 0,
-                "Ranged spell attack. Can ignite flammable objects. +1d10 every 5 levels"
-        ));
-
-        registerBase(new SpellData(
-                "Chromatic_Orb",
-                1, 18, SpellPattern.SINGLE_TARGET, 0,
-                "3d8", DamageType.FIRE, // Can choose: acid/cold/fire/lightning/poison/thunder
-                ClassType.SORCERER, 1,
-                false, 0,
-                "Choose damage type: acid/cold/fire/lightning/poison/thunder. +1d8 per level"
-        ));
-
-        registerBase(new SpellData(
-                "Twinned_Fire_Bolt",
-                0, 24, SpellPattern.SINGLE_TARGET, 0,
-                "1d10", DamageType.FIRE,
-                ClassType.SORCERER, 1,
-                false, 0,
-                "Metamagic. Costs 1 sorcery point. Hit two targets simultaneously"
-        ));
-
-        registerBase(new SpellData(
-                "Quickened_Fireball",
-                3, 30, SpellPattern.SPHERE, 4,
-                "8d6", DamageType.FIRE,
-                ClassType.SORCERER, 5,
-                false, 0,
-                "Metamagic. Costs 2 sorcery points. Cast as bonus action"
-        ));
-
-        registerBase(new SpellData(
-                "Chaos_Bolt",
-                1, 24, SpellPattern.CHAIN, 6,
-                "2d8", DamageType.FIRE, // Random damage type
-                ClassType.SORCERER, 1,
-                false, 0,
-                "Damage type = lowest d8 roll. If both d8s match, leaps to new target. +1d6/level"
-        ));
-
-        registerBase(new SpellData(
-                "Empowered_Lightning_Bolt",
-                3, 0, SpellPattern.LINE, 10,
-                "8d6", DamageType.LIGHTNING,
-                ClassType.SORCERER, 5,
-                false, 0,
-                "Metamagic. Costs 1 sorcery point. Reroll up to CHA mod damage dice"
-        ));
-
-        registerBase(new SpellData(
-                "Careful_Fireball",
-                3, 30, SpellPattern.SPHERE, 4,
-                "8d6", DamageType.FIRE,
-                ClassType.SORCERER, 5,
-                false, 0,
-                "Metamagic. Costs 1 sorcery point. CHA mod allies auto-succeed save"
-        ));
-
-        registerBase(new SpellData(
-                "Meteor_Swarm",
-                9, 200, SpellPattern.SPHERE, 4,
-                "20d6", DamageType.FIRE, // Plus 20d6 bludgeoning
-                ClassType.SORCERER, 9,
-                false, 0,
-                "Four 4-grid radius spheres. 20d6 fire + 20d6 bludgeoning each. Can overlap"
-        ));
-
-        // =====================================================================
-        // CLERIC - Base Class Spells (available to all clerics)
-        // =====================================================================
-
-        registerBase(new SpellData(
-                "Sacred_Flame",
-                0, 12, SpellPattern.SINGLE_TARGET, 0,
-                "1d8", DamageType.RADIANT,
-                ClassType.CLERIC, 1,
-                false, 0,
-                "DEX save to avoid. +1d8 every 5 levels. Ignores cover"
-        ));
-
-        registerBase(new SpellData(
-                "Bless",
-                1, 6, SpellPattern.SINGLE_TARGET, 0,
-                null, DamageType.NONE,
-                ClassType.CLERIC, 1,
-                true, 10,
-                "3 targets. +1d4 to attack rolls and saves. Lasts 10 turns", 3
-        ));
-
-        registerBase(new SpellData(
-                "Cure_Wounds",
-                1, 0, SpellPattern.SINGLE_TARGET, 0,
-                "1d8", DamageType.NONE, // Healing
-                ClassType.CLERIC, 1,
-                false, 0,
-                "Touch. Heal 1d8 + WIS modifier. +1d8 per level above 1st"
-        ));
-
-        registerBase(new SpellData(
-                "Spiritual_Weapon",
-                2, 12, SpellPattern.SINGLE_TARGET, 0,
-                "1d8", DamageType.FORCE,
-                ClassType.CLERIC, 3,
-                true, 10,
-                "Summon floating weapon. Bonus action to move + attack. +1d8 per 2 levels"
-        ));
-
-        registerBase(new SpellData(
-                "Spirit_Guardians",
-                3, 0, SpellPattern.AURA, 3,
-                "3d8", DamageType.RADIANT,
-                ClassType.CLERIC, 5,
-                true, 10,
-                "3-grid radius. Speed halved, WIS save for half damage. +1d8 per level"
-        ));
-
-        // =====================================================================
-        // PALADIN - Base Class Abilities
-        // =====================================================================
-
-        registerBase(new SpellData(
-                "Divine_Smite",
-                0, 0, SpellPattern.SINGLE_TARGET, 0,
-                "2d8", DamageType.RADIANT,
-                ClassType.PALADIN, 1,
-                false, 0,
-                "Add to weapon attack. +1d8 per spell slot level. +1d8 vs undead/fiends"
-        ));
-
-        registerBase(new SpellData(
-                "Lay_on_Hands",
-                0, 0, SpellPattern.SINGLE_TARGET, 0,
-                null, DamageType.NONE,
-                ClassType.PALADIN, 1,
-                false, 0,
-                "Heal HP = Paladin level × 5. Can cure disease/poison for 5 HP"
-        ));
-
-        registerBase(new SpellData(
-                "Aura_of_Protection",
-                0, 0, SpellPattern.AURA, 2,
-                null, DamageType.NONE,
-                ClassType.PALADIN, 3,
-                false, 0,
-                "Passive. You and allies within 2 grids add CHA to saves (6 grids at level 18)"
-        ));
-
-        // =====================================================================
-        // WARLOCK - Base Class Spells
-        // =====================================================================
-
-        registerBase(new SpellData(
-                "Eldritch_Blast",
-                0, 24, SpellPattern.SINGLE_TARGET, 0,
-                "1d10", DamageType.FORCE,
-                ClassType.WARLOCK, 1,
-                false, 0,
-                "Ranged spell attack. +1 beam every 5 levels (max 4 at level 17)"
-        ));
-
-        registerBase(new SpellData(
-                "Hex",
-                1, 18, SpellPattern.SINGLE_TARGET, 0,
-                "1d6", DamageType.NECROTIC,
-                ClassType.WARLOCK, 1,
-                true, 10,
-                "Bonus action. +1d6 damage when you hit. Disadvantage on chosen ability checks"
-        ));
-
-        registerBase(new SpellData(
-                "Armor_of_Agathys",
-                1, 0, SpellPattern.SELF, 0,
-                "5", DamageType.COLD,
-                ClassType.WARLOCK, 1,
-                true, 10,
-                "Gain 5 temp HP. Attackers take 5 cold damage. +5 HP per level"
-        ));
-
-        // =====================================================================
-        // RANGER - Base Class Spells
-        // =====================================================================
-
-        registerBase(new SpellData(
-                "Hunter's_Mark",
-                1, 18, SpellPattern.SINGLE_TARGET, 0,
-                "1d6", DamageType.NONE, // Extra weapon damage
-                ClassType.RANGER, 1,
-                true, 10,
-                "Bonus action. +1d6 damage when you hit. Advantage on Perception/Survival checks"
-        ));
-
-        registerBase(new SpellData(
-                "Hail_of_Thorns",
-                1, 0, SpellPattern.SPHERE, 1,
-                "1d10", DamageType.PIERCING,
-                ClassType.RANGER, 1,
-                false, 0,
-                "Bonus action on ranged attack. On hit: 1-grid radius, DEX save. +1d10 per level"
-        ));
-
-        registerBase(new SpellData(
-                "Lightning_Arrow",
-                3, 0, SpellPattern.LINE, 6,
-                "4d8", DamageType.LIGHTNING,
-                ClassType.RANGER, 5,
-                false, 0,
-                "Bonus action. Next ranged attack becomes lightning. 6-grid line, DEX save"
-        ));
-
-        // =====================================================================
-        // BARBARIAN - Base Class Abilities
-        // =====================================================================
-
-        registerBase(new SpellData(
-                "Rage",
-                0, 0, SpellPattern.SELF, 0,
-                null, DamageType.NONE,
-                ClassType.BARBARIAN, 1,
-                true, 10,
-                "Bonus action. +2 damage, resist physical damage, advantage on STR. Lasts 10 turns"
-        ));
-
-        registerBase(new SpellData(
-                "Reckless_Attack",
-                0, 0, SpellPattern.SELF, 0,
-                null, DamageType.NONE,
-                ClassType.BARBARIAN, 1,
-                false, 0,
-                "Advantage on STR melee attacks this turn, but enemies have advantage vs you"
-        ));
-
-        // =====================================================================
-        // ROGUE - Base Class Abilities
-        // =====================================================================
-
-        registerBase(new SpellData(
-                "Sneak_Attack",
-                0, 0, SpellPattern.SINGLE_TARGET, 0,
-                "1d6", DamageType.PIERCING,
-                ClassType.ROGUE, 1,
-                false, 0,
-                "Once per turn. Need advantage or ally adjacent. +1d6 every 2 levels"
-        ));
-
-        registerBase(new SpellData(
-                "Cunning_Action",
-                0, 0, SpellPattern.SELF, 0,
-                null, DamageType.NONE,
-                ClassType.ROGUE, 1,
-                false, 0,
-                "Bonus action: Dash, Disengage, or Hide"
-        ));
-
-        registerBase(new SpellData(
-                "Uncanny_Dodge",
-                0, 0, SpellPattern.SELF, 0,
-                null, DamageType.NONE,
-                ClassType.ROGUE, 3,
-                false, 0,
-                "Reaction. Halve damage from one attack you can see"
-        ));
-    }
-
-    /**
-     * SUBCLASS SPELLS - Available from Level 3
-     * These require a specific subclass selection
-     */
-    private static void initializeSubclassSpells() {
-        // =====================================================================
-        // WIZARD - SCHOOL OF EVOCATION
-        // =====================================================================
-
-        registerSubclass(new SpellData(
-                "Sculpt_Spells",
-                0, 0, SpellPattern.SELF, 0,
-                null, DamageType.NONE,
-                SubclassType.WIZARD_EVOCATION, 1,
-                false, 0,
-                "Passive: Allies in evocation spell areas auto-succeed saves and take no damage"
-        ));
-
-        registerSubclass(new SpellData(
-                "Potent_Cantrip",
-                0, 0, SpellPattern.SELF, 0,
-                null, DamageType.NONE,
-                SubclassType.WIZARD_EVOCATION, 3,
-                false, 0,
-                "Passive: Targets take half damage even on successful save"
-        ));
-
-        registerSubclass(new SpellData(
-                "Empowered_Evocation",
-                0, 0, SpellPattern.SELF, 0,
-                null, DamageType.NONE,
-                SubclassType.WIZARD_EVOCATION, 5,
-                false, 0,
-                "Passive: Add INT modifier to one damage roll of evocation spells"
-        ));
-
-        registerSubclass(new SpellData(
-                "Overchannel",
-                0, 0, SpellPattern.SELF, 0,
-                null, DamageType.NONE,
-                SubclassType.WIZARD_EVOCATION, 7,
-                false, 0,
-                "Deal max damage on spell of 5th level or lower. First use free, subsequent uses deal 2d12 necrotic per spell level"
-        ));
-
-        registerSubclass(new SpellData(
-                "Explosive_Runes",
-                5, 0, SpellPattern.SPHERE, 3,
-                "10d8", DamageType.FORCE,
-                SubclassType.WIZARD_EVOCATION, 5,
-                false, 0,
-                "Place trap on object/surface. Explodes when read or approached (3 grid radius)"
-        ));
-
-        registerSubclass(new SpellData(
-                "Delayed_Blast_Fireball",
-                7, 30, SpellPattern.SPHERE, 4,
-                "12d6", DamageType.FIRE,
-                SubclassType.WIZARD_EVOCATION, 7,
-                true, 10,
-                "Glowing bead grows stronger each round delayed (up to 10 rounds). +1d6 per round delayed"
-        ));
-
-        registerSubclass(new SpellData(
-                "Chain_Lightning",
-                9, 30, SpellPattern.CHAIN, 6,
-                "10d8", DamageType.LIGHTNING,
-                SubclassType.WIZARD_EVOCATION, 9,
-                false, 0,
-                "Chains to 3 targets within 6 grids each. +1 target per level above 6th", 3
-        ));
-
-        registerSubclass(new SpellData(
-                "Prismatic_Spray",
-                9, 0, SpellPattern.CONE, 12,
-                "10d6", DamageType.FIRE, // Random damage type per target
-                SubclassType.WIZARD_EVOCATION, 9,
-                false, 0,
-                "12-grid cone. Each target rolls d8 for random color effect (fire/acid/lightning/poison/cold/petrify/blind/banish)"
-        ));
-
-        // =====================================================================
-        // WIZARD - SCHOOL OF ABJURATION
-        // =====================================================================
-
-        registerSubclass(new SpellData(
-                "Arcane_Ward",
-                0, 0, SpellPattern.SELF, 0,
-                null, DamageType.NONE,
-                SubclassType.WIZARD_ABJURATION, 1,
-                false, 0,
-                "Passive: Ward has HP = 2 × wizard level + INT modifier. Recharge 2 HP per abjuration spell cast"
-        ));
-
-        registerSubclass(new SpellData(
-                "Projected_Ward",
-                0, 6, SpellPattern.SINGLE_TARGET, 0,
-                null, DamageType.NONE,
-                SubclassType.WIZARD_ABJURATION, 3,
-                false, 0,
-                "Reaction: Your Arcane Ward protects ally instead of you"
-        ));
-
-        registerSubclass(new SpellData(
-                "Counterspell",
-                5, 12, SpellPattern.SINGLE_TARGET, 0,
-                null, DamageType.NONE,
-                SubclassType.WIZARD_ABJURATION, 5,
-                false, 0,
-                "Reaction: Auto-cancel ≤3rd level spell. Ability check for higher levels. Abjuration wizards add INT to roll"
-        ));
-
-        registerSubclass(new SpellData(
-                "Spell_Resistance",
-                0, 0, SpellPattern.SELF, 0,
-                null, DamageType.NONE,
-                SubclassType.WIZARD_ABJURATION, 7,
-                false, 0,
-                "Passive: Advantage on saves vs spells, resist spell damage"
-        ));
-
-        registerSubclass(new SpellData(
-                "Shield",
-                1, 0, SpellPattern.SELF, 0,
-                null, DamageType.NONE,
-                SubclassType.WIZARD_ABJURATION, 1,
-                false, 1,
-                "Reaction: +5 AC until start of your next turn"
-        ));
-
-        registerSubclass(new SpellData(
-                "Dispel_Magic",
-                5, 24, SpellPattern.SINGLE_TARGET, 0,
-                null, DamageType.NONE,
-                SubclassType.WIZARD_ABJURATION, 5,
-                false, 0,
-                "End spells of 3rd level or lower. Check for higher levels"
-        ));
-
-        registerSubclass(new SpellData(
-                "Globe_of_Invulnerability",
-                9, 0, SpellPattern.SPHERE, 2,
-                null, DamageType.NONE,
-                SubclassType.WIZARD_ABJURATION, 9,
-                true, 10,
-                "Immobile sphere blocks spells of 5th level or lower from outside. Lasts 10 turns"
-        ));
-
-        registerSubclass(new SpellData(
-                "Banishment",
-                7, 12, SpellPattern.SINGLE_TARGET, 0,
-                null, DamageType.NONE,
-                SubclassType.WIZARD_ABJURATION, 7,
-                true, 10,
-                "Banish target to harmless demiplane for 10 turns. Permanent if not native to plane"
-        ));
-
-        // =====================================================================
-        // WIZARD - SCHOOL OF DIVINATION
-        // =====================================================================
-
-        registerSubclass(new SpellData(
-                "Portent",
-                0, 0, SpellPattern.SELF, 0,
-                null, DamageType.NONE,
-                SubclassType.WIZARD_DIVINATION, 1,
-                false, 0,
-                "Passive: Roll 2d20 after long rest, replace any d20 roll you see. Increases to 3d20 at level 14"
-        ));
-
-        registerSubclass(new SpellData(
-                "Expert_Divination",
-                0, 0, SpellPattern.SELF, 0,
-                null, DamageType.NONE,
-                SubclassType.WIZARD_DIVINATION, 3,
-                false, 0,
-                "Passive: Recover spell slot when casting divination 2nd level+"
-        ));
-
-        registerSubclass(new SpellData(
-                "Third_Eye",
-                0, 0, SpellPattern.SELF, 0,
-                null, DamageType.NONE,
-                SubclassType.WIZARD_DIVINATION, 5,
-                true, 100,
-                "Choose: darkvision, ethereal sight, see invisible, or read. Lasts until short rest (100 turns)"
-        ));
-
-        registerSubclass(new SpellData(
-                "Greater_Portent",
-                0, 0, SpellPattern.SELF, 0,
-                null, DamageType.NONE,
-                SubclassType.WIZARD_DIVINATION, 7,
-                false, 0,
-                "Passive: Roll 3d20 for Portent instead of 2d20"
-        ));
-
-        registerSubclass(new SpellData(
-                "Detect_Thoughts",
-                3, 0, SpellPattern.CONE, 6,
-                null, DamageType.NONE,
-                SubclassType.WIZARD_DIVINATION, 3,
-                true, 10,
-                "Detect surface thoughts in 6-grid cone. Can probe deeper with WIS save"
-        ));
 
-        registerSubclass(new SpellData(
-                "Scrying",
-                5, 999, SpellPattern.SINGLE_TARGET, 0,
-                null, DamageType.NONE,
-                SubclassType.WIZARD_DIVINATION, 5,
-                true, 10,
-                "Create invisible sensor near target (unlimited range, same plane). WIS save to resist"
-        ));
-
-        registerSubclass(new SpellData(
-                "Foresight",
-                9, 0, SpellPattern.SINGLE_TARGET, 0,
-                null, DamageType.NONE,
-                SubclassType.WIZARD_DIVINATION, 9,
-                true, 80,
-                "Target gets advantage on everything, enemies have disadvantage. Lasts 8 hours (80 turns)"
-        ));
-
-        registerSubclass(new SpellData(
-                "True_Seeing",
-                9, 0, SpellPattern.SINGLE_TARGET, 0,
-                null, DamageType.NONE,
-                SubclassType.WIZARD_DIVINATION, 9,
-                true, 60,
-                "See in darkness, invisible creatures, illusions, true forms. See into Ethereal Plane. Lasts 1 hour (60 turns)"
-        ));
-
-        // =====================================================================
-        // CLERIC - LIFE DOMAIN
-        // =====================================================================
-
-        registerSubclass(new SpellData(
-                "Disciple_of_Life",
-                0, 0, SpellPattern.SELF, 0,
-                null, DamageType.NONE,
-                SubclassType.CLERIC_LIFE, 1,
-                false, 0,
-                "Passive: Healing spells restore +2 + spell level extra HP"
-        ));
-
-        registerSubclass(new SpellData(
-                "Preserve_Life",
-                0, 0, SpellPattern.AURA, 6,
-                null, DamageType.NONE,
-                SubclassType.CLERIC_LIFE, 1,
-                false, 0,
-                "Channel Divinity. Restore 5 HP × cleric level, distribute as you choose. Can't heal above half HP"
-        ));
-
-        registerSubclass(new SpellData(
-                "Blessed_Healer",
-                0, 0, SpellPattern.SELF, 0,
-                null, DamageType.NONE,
-                SubclassType.CLERIC_LIFE, 3,
-                false, 0,
-                "Passive: When healing others, heal self for 2 + spell level"
-        ));
-
-        registerSubclass(new SpellData(
-                "Mass_Cure_Wounds",
-                5, 12, SpellPattern.SPHERE, 6,
-                "3d8", DamageType.NONE,
-                SubclassType.CLERIC_LIFE, 5,
-                false, 0,
-                "Heal 3d8 + WIS + 5 HP to up to 6 creatures in area. Disciple of Life bonus applies to all"
-        ));
-
-        registerSubclass(new SpellData(
-                "Divine_Strike",
-                0, 0, SpellPattern.SINGLE_TARGET, 0,
-                "1d8", DamageType.RADIANT,
-                SubclassType.CLERIC_LIFE, 5,
-                false, 0,
-                "Once per turn: Weapon damage + 1d8 radiant (+2d8 at level 14)"
-        ));
-
-        registerSubclass(new SpellData(
-                "Supreme_Healing",
-                0, 0, SpellPattern.SELF, 0,
-                null, DamageType.NONE,
-                SubclassType.CLERIC_LIFE, 9,
-                false, 0,
-                "Passive: Healing spells always restore maximum HP (no rolling)"
-        ));
-
-        registerSubclass(new SpellData(
-                "Heal",
-                9, 0, SpellPattern.SINGLE_TARGET, 0,
-                "70", DamageType.NONE,
-                SubclassType.CLERIC_LIFE, 9,
-                false, 0,
-                "Touch. Restore 70 HP, cure blindness/deafness/disease. +10 HP per level above 6th. Supreme Healing makes this always 70+"
-        ));
-
-        // Add other subclasses as needed...
-    }
-
-    /**
-     * Register a base class spell
-     */
-    private static void initializeMonsterAttacks() {
-        // Helper: ma(name, range, pattern, area, dice, dmgType, monsterType, desc)
-        // All registered into SPELL_MAP so /cast <n> works.
-
-        // ── GOBLIN ────────────────────────────────────────────────────────────
-        ma("Goblin_Slash",      1, SpellPattern.SINGLE_TARGET, 0, "1d6",  DamageType.SLASHING,  MonsterType.GOBLIN,
-                "Melee scimitar. 1 grid. DEX-based.");
-        ma("Goblin_Arrow",      8, SpellPattern.SINGLE_TARGET, 0, "1d6",  DamageType.PIERCING,  MonsterType.GOBLIN,
-                "Shortbow shot. 8 grids.");
-        ma("Goblin_Nimble",     0, SpellPattern.SELF,          0, null,   DamageType.NONE,       MonsterType.GOBLIN,
-                "Nimble Escape: Bonus action disengage. No damage.");
-
-        // ── GOBLIN LOBBER ─────────────────────────────────────────────────────
-        ma("Goblin_Bomb",       6, SpellPattern.SPHERE,        2, "2d6",  DamageType.FIRE,       MonsterType.GOBLIN_LOBBER,
-                "Fire bomb. 6-grid range, 2-grid blast. DEX save for half.");
-        ma("Goblin_Slash",      1, SpellPattern.SINGLE_TARGET, 0, "1d6",  DamageType.SLASHING,   MonsterType.GOBLIN_LOBBER,
-                "Melee scimitar (fallback). 1 grid.");
-
-        // ── GOBLIN SHAMAN ─────────────────────────────────────────────────────
-        ma("Shaman_HexBolt",    6, SpellPattern.SINGLE_TARGET, 0, "2d6",  DamageType.NECROTIC,   MonsterType.GOBLIN_SHAMAN,
-                "Hex bolt. Ranged necrotic curse, 6 grids.");
-        ma("Shaman_HexCone",    0, SpellPattern.CONE,          3, "2d4",  DamageType.NECROTIC,   MonsterType.GOBLIN_SHAMAN,
-                "Necrotic cone shriek, 3-grid cone.");
-
-        // ── GOBLIN BOSS ───────────────────────────────────────────────────────
-        ma("GoblinBoss_Slash",  1, SpellPattern.SINGLE_TARGET, 0, "2d6",  DamageType.SLASHING,   MonsterType.GOBLIN_BOSS,
-                "Morningstar. Melee 1 grid, 2d6.");
-        ma("GoblinBoss_Arrow",  8, SpellPattern.SINGLE_TARGET, 0, "1d6",  DamageType.PIERCING,   MonsterType.GOBLIN_BOSS,
-                "Shortbow. 8 grids.");
-        ma("GoblinBoss_Redirect",0,SpellPattern.SELF,          0, null,   DamageType.NONE,       MonsterType.GOBLIN_BOSS,
-                "Redirect: Use a reaction to redirect an attack to an adjacent goblin. Flavour only.");
-
-        // ── GOBLIN OGRE ───────────────────────────────────────────────────────
-        ma("Ogre_Slam",         1, SpellPattern.SINGLE_TARGET, 0, "2d8+4",DamageType.BLUDGEONING,MonsterType.GOBLIN_OGRE,
-                "Greatclub slam. Melee 1 grid, 2d8+4.");
-        ma("Ogre_Sweep",        0, SpellPattern.CONE,          2, "1d8+4",DamageType.BLUDGEONING,MonsterType.GOBLIN_OGRE,
-                "Sweeping greatclub arc. 2-grid cone.");
-        ma("Ogre_Javelin",      6, SpellPattern.SINGLE_TARGET, 0, "2d6+4",DamageType.PIERCING,   MonsterType.GOBLIN_OGRE,
-                "Javelin throw. 6 grids.");
-
-        // ── TRORK ─────────────────────────────────────────────────────────────
-        ma("Trork_Axe",         1, SpellPattern.SINGLE_TARGET, 0, "1d12+3",DamageType.SLASHING,  MonsterType.TRORK,
-                "Greataxe. Melee 1 grid.");
-        ma("Trork_Slam",        0, SpellPattern.CONE,          2, "1d8+3", DamageType.BLUDGEONING,MonsterType.TRORK,
-                "Wild swing, 2-grid cone.");
-        ma("Trork_Javelin",     6, SpellPattern.SINGLE_TARGET, 0, "1d6+3", DamageType.PIERCING,  MonsterType.TRORK,
-                "Javelin throw. 6 grids.");
-
-        // ── TRORK SHAMAN ──────────────────────────────────────────────────────
-        ma("TrorkShaman_Bolt",  8, SpellPattern.SINGLE_TARGET, 0, "2d8",  DamageType.LIGHTNING,  MonsterType.TRORK_SHAMAN,
-                "Lightning bolt. 8 grids.");
-        ma("TrorkShaman_Storm", 0, SpellPattern.CYLINDER,      3, "2d6",  DamageType.LIGHTNING,  MonsterType.TRORK_SHAMAN,
-                "Call lightning cylinder, 3-grid radius.");
-        ma("TrorkShaman_Heal",  1, SpellPattern.SINGLE_TARGET, 0, "2d8",  DamageType.NONE,       MonsterType.TRORK_SHAMAN,
-                "Healing touch. Restores 2d8 HP to one adjacent ally.");
-
-        // ── TRORK CHIEFTAIN ───────────────────────────────────────────────────
-        ma("TrorkChief_Axe",    1, SpellPattern.SINGLE_TARGET, 0, "2d12+5",DamageType.SLASHING,  MonsterType.TRORK_CHIEFTAIN,
-                "Greataxe. Melee 1 grid, 2d12+5.");
-        ma("TrorkChief_Sweep",  0, SpellPattern.AURA,          2, "1d10+5",DamageType.SLASHING,  MonsterType.TRORK_CHIEFTAIN,
-                "Whirlwind sweep, 2-grid aura.");
-        ma("TrorkChief_Shout",  0, SpellPattern.CONE,          4, null,   DamageType.NONE,       MonsterType.TRORK_CHIEFTAIN,
-                "War shout cone 4 grids: frightened condition on targets.");
-
-        // ── SKELETON ──────────────────────────────────────────────────────────
-        ma("Skel_Slash",        1, SpellPattern.SINGLE_TARGET, 0, "1d6+2", DamageType.SLASHING,  MonsterType.SKELETON,
-                "Shortsword. Melee 1 grid.");
-        ma("Skel_Dagger",       4, SpellPattern.SINGLE_TARGET, 0, "1d4+2", DamageType.PIERCING,  MonsterType.SKELETON,
-                "Dagger throw. 4 grids.");
-
-        // ── SKELETON ARCHER ───────────────────────────────────────────────────
-        ma("SkelArcher_Arrow",  12, SpellPattern.SINGLE_TARGET, 0,"1d8+2", DamageType.PIERCING,  MonsterType.SKELETON_ARCHER,
-                "Shortbow shot. 12 grids.");
-        ma("SkelArcher_Volley",  8, SpellPattern.SPHERE,         2,"1d6",  DamageType.PIERCING,  MonsterType.SKELETON_ARCHER,
-                "Arrow volley: 2-grid sphere. 8 grids range.");
-        ma("SkelArcher_Slash",   1, SpellPattern.SINGLE_TARGET,  0,"1d6",  DamageType.SLASHING,  MonsterType.SKELETON_ARCHER,
-                "Shortsword fallback. 1 grid.");
-
-        // ── SKELETON KNIGHT ───────────────────────────────────────────────────
-        ma("SkelKnight_Sword",   1, SpellPattern.SINGLE_TARGET, 0, "1d8+3",DamageType.SLASHING,  MonsterType.SKELETON_KNIGHT,
-                "Longsword. Melee 1 grid.");
-        ma("SkelKnight_Sweep",   0, SpellPattern.CONE,          2, "1d8+3",DamageType.SLASHING,  MonsterType.SKELETON_KNIGHT,
-                "Sweeping longsword, 2-grid cone.");
-        ma("SkelKnight_Shield",  0, SpellPattern.SELF,          0, null,   DamageType.NONE,      MonsterType.SKELETON_KNIGHT,
-                "Shield wall: +2 AC until next turn. Flavour/GM tracks manually.");
-
-        // ── SKELETON MAGE ─────────────────────────────────────────────────────
-        ma("SkelMage_Ray",       8, SpellPattern.LINE,           6, "2d6", DamageType.NECROTIC,  MonsterType.SKELETON_MAGE,
-                "Necrotic ray. LINE 6 grids long, 8 range.");
-        ma("SkelMage_Bolt",      6, SpellPattern.SINGLE_TARGET,  0, "2d8", DamageType.COLD,      MonsterType.SKELETON_MAGE,
-                "Ice bolt. 6 grids.");
-        ma("SkelMage_Burst",     0, SpellPattern.SPHERE,         3, "3d6", DamageType.NECROTIC,  MonsterType.SKELETON_MAGE,
-                "Necrotic burst. Centered on self, 3-grid radius.");
-
-        // ── ZOMBIE ────────────────────────────────────────────────────────────
-        ma("Zombie_Slam",        1, SpellPattern.SINGLE_TARGET, 0, "1d6+1",DamageType.BLUDGEONING,MonsterType.ZOMBIE,
-                "Slam. Melee 1 grid. Target must STR save or be grappled.");
-        ma("Zombie_Bite",        1, SpellPattern.SINGLE_TARGET, 0, "2d6+1",DamageType.PIERCING,  MonsterType.ZOMBIE,
-                "Zombie bite. Melee 1 grid.");
-
-        // ── ZOMBIE WEREWOLF ───────────────────────────────────────────────────
-        ma("ZWolf_Bite",         1, SpellPattern.SINGLE_TARGET, 0, "2d8+4",DamageType.PIERCING,  MonsterType.ZOMBIE_WEREWOLF,
-                "Savage bite. 1 grid, 2d8+4.");
-        ma("ZWolf_Claw",         0, SpellPattern.CONE,          2, "2d6+4",DamageType.SLASHING,  MonsterType.ZOMBIE_WEREWOLF,
-                "Claw sweep, 2-grid cone.");
-
-        // ── GHOUL ─────────────────────────────────────────────────────────────
-        ma("Ghoul_Bite",         1, SpellPattern.SINGLE_TARGET, 0, "2d6+2",DamageType.PIERCING,  MonsterType.GHOUL,
-                "Diseased bite. 1 grid. On hit: target CON save or paralyzed.");
-        ma("Ghoul_Claw",         0, SpellPattern.CONE,          2, "2d4+2",DamageType.SLASHING,  MonsterType.GHOUL,
-                "Claw sweep, 2-grid cone.");
-
-        // ── WRAITH ────────────────────────────────────────────────────────────
-        ma("Wraith_Touch",       1, SpellPattern.SINGLE_TARGET, 0, "4d6",  DamageType.NECROTIC,  MonsterType.WRAITH,
-                "Life drain touch. Melee 1 grid, necrotic. Max HP reduced by damage dealt.");
-        ma("Wraith_Ray",         6, SpellPattern.LINE,          4, "3d6",  DamageType.NECROTIC,  MonsterType.WRAITH,
-                "Necrotic ray. LINE 4 grids, 6 range.");
-
-        // ── SHADOW KNIGHT ─────────────────────────────────────────────────────
-        ma("ShadowK_Sword",      1, SpellPattern.SINGLE_TARGET, 0, "2d8+4",DamageType.SLASHING,  MonsterType.SHADOW_KNIGHT,
-                "Shadow blade. Melee 1 grid, 2d8+4.");
-        ma("ShadowK_Wave",       0, SpellPattern.CONE,          3, "3d6",  DamageType.NECROTIC,  MonsterType.SHADOW_KNIGHT,
-                "Shadow wave. 3-grid cone, necrotic.");
-        ma("ShadowK_Step",       0, SpellPattern.SELF,          0, null,   DamageType.NONE,      MonsterType.SHADOW_KNIGHT,
-                "Shadow step: teleport to any shadow within 6 grids. Flavour/GM places.");
-
-        // ── OUTLANDER ─────────────────────────────────────────────────────────
-        ma("Outlander_Axe",      1, SpellPattern.SINGLE_TARGET, 0, "1d8+2",DamageType.SLASHING,  MonsterType.OUTLANDER,
-                "Handaxe. Melee 1 grid.");
-        ma("Outlander_AxeThrow", 5, SpellPattern.SINGLE_TARGET, 0, "1d6+2",DamageType.SLASHING,  MonsterType.OUTLANDER,
-                "Thrown handaxe. 5 grids.");
-
-        // ── OUTLANDER BERSERKER ───────────────────────────────────────────────
-        ma("Berserk_Axe",        1, SpellPattern.SINGLE_TARGET, 0, "2d6+4",DamageType.SLASHING,  MonsterType.OUTLANDER_BERSERKER,
-                "Greataxe, reckless. 1 grid, 2d6+4.");
-        ma("Berserk_Frenzy",     0, SpellPattern.AURA,          1, "1d6+4",DamageType.SLASHING,  MonsterType.OUTLANDER_BERSERKER,
-                "Frenzy: attack all adjacent. 1-grid AURA, 1d6+4.");
-
-        // ── OUTLANDER PRIEST ──────────────────────────────────────────────────
-        ma("Priest_SacredFlame", 6, SpellPattern.SINGLE_TARGET, 0, "2d8",  DamageType.RADIANT,   MonsterType.OUTLANDER_PRIEST,
-                "Sacred flame. 6 grids, DEX save.");
-        ma("Priest_SpiritWave",  0, SpellPattern.CONE,          3, "2d6",  DamageType.RADIANT,   MonsterType.OUTLANDER_PRIEST,
-                "Spirit wave cone. 3-grid radiant.");
-        ma("Priest_Heal",        1, SpellPattern.SINGLE_TARGET, 0, "2d8",  DamageType.NONE,      MonsterType.OUTLANDER_PRIEST,
-                "Healing word. Touch ally, restores 2d8 HP.");
-
-        // ── OUTLANDER SORCERER ────────────────────────────────────────────────
-        ma("Sorc_Fireball",      8, SpellPattern.SPHERE,         3, "6d6", DamageType.FIRE,      MonsterType.OUTLANDER_SORCERER,
-                "Fireball. 8-grid range, 3-grid sphere, 6d6 fire.");
-        ma("Sorc_ArcBolt",       6, SpellPattern.SINGLE_TARGET,  0, "2d10",DamageType.LIGHTNING, MonsterType.OUTLANDER_SORCERER,
-                "Arc bolt. 6 grids, 2d10 lightning.");
-        ma("Sorc_IceRay",        0, SpellPattern.LINE,           8, "3d8", DamageType.COLD,      MonsterType.OUTLANDER_SORCERER,
-                "Ice ray. LINE 8 grids, 3d8 cold.");
-
-        // ── OUTLANDER HUNTER ──────────────────────────────────────────────────
-        ma("Hunter_Arrow",      10, SpellPattern.SINGLE_TARGET,  0, "1d8+2",DamageType.PIERCING, MonsterType.OUTLANDER_HUNTER,
-                "Longbow shot. 10 grids.");
-        ma("Hunter_Volley",      8, SpellPattern.CONE,           3, "1d6",  DamageType.PIERCING, MonsterType.OUTLANDER_HUNTER,
-                "Arrow volley cone. 3-grid cone.");
-
-        // ── SAURIAN ───────────────────────────────────────────────────────────
-        ma("Saurian_Slash",      1, SpellPattern.SINGLE_TARGET, 0, "1d6+2",DamageType.SLASHING,  MonsterType.SAURIAN,
-                "Bladed weapon. 1 grid.");
-        ma("Saurian_Spear",      4, SpellPattern.LINE,          3, "1d6+2",DamageType.PIERCING,  MonsterType.SAURIAN,
-                "Spear thrust. LINE 3 grids, 4 range.");
-
-        // ── SAURIAN ROGUE ─────────────────────────────────────────────────────
-        ma("SaurRogue_Sneak",    1, SpellPattern.SINGLE_TARGET, 0, "3d6+3",DamageType.PIERCING,  MonsterType.SAURIAN_ROGUE,
-                "Sneak attack with dagger. 1 grid, 3d6+3.");
-        ma("SaurRogue_Shadow",   4, SpellPattern.SINGLE_TARGET, 0, "2d6+3",DamageType.PIERCING,  MonsterType.SAURIAN_ROGUE,
-                "Thrown dagger from shadow. 4 grids.");
-
-        // ── SAURIAN WARRIOR ───────────────────────────────────────────────────
-        ma("SaurWarrior_Spear",  1, SpellPattern.SINGLE_TARGET, 0, "1d8+3",DamageType.PIERCING,  MonsterType.SAURIAN_WARRIOR,
-                "Spear. Melee 1 grid.");
-        ma("SaurWarrior_Sweep",  0, SpellPattern.CONE,          2, "1d8+3",DamageType.SLASHING,  MonsterType.SAURIAN_WARRIOR,
-                "Sweeping axe, 2-grid cone.");
-
-        // ── SLOTHIAN ──────────────────────────────────────────────────────────
-        ma("Slothian_Club",      1, SpellPattern.SINGLE_TARGET, 0, "1d6+1",DamageType.BLUDGEONING,MonsterType.SLOTHIAN,
-                "Club strike. 1 grid.");
-        ma("Slothian_Rock",      5, SpellPattern.SINGLE_TARGET, 0, "1d6+1",DamageType.BLUDGEONING,MonsterType.SLOTHIAN,
-                "Rock throw. 5 grids.");
-
-        // ── SLOTHIAN MONK ─────────────────────────────────────────────────────
-        ma("SlothMonk_Strike",   1, SpellPattern.SINGLE_TARGET, 0, "1d6+3",DamageType.BLUDGEONING,MonsterType.SLOTHIAN_MONK,
-                "Unarmed strike. 1 grid.");
-        ma("SlothMonk_Flurry",   0, SpellPattern.CONE,          1, "1d4+3",DamageType.BLUDGEONING,MonsterType.SLOTHIAN_MONK,
-                "Flurry of blows, 1-grid cone (2 hits).");
-        ma("SlothMonk_Stun",     1, SpellPattern.SINGLE_TARGET, 0, "1d6",  DamageType.BLUDGEONING,MonsterType.SLOTHIAN_MONK,
-                "Stunning strike. CON save or stunned.");
-
-        // ── SLOTHIAN ELDER ────────────────────────────────────────────────────
-        ma("SlothElder_Staff",   1, SpellPattern.SINGLE_TARGET, 0, "1d8+2",DamageType.BLUDGEONING,MonsterType.SLOTHIAN_ELDER,
-                "Quarterstaff. 1 grid.");
-        ma("SlothElder_Bolt",    8, SpellPattern.SINGLE_TARGET, 0, "3d8",  DamageType.LIGHTNING,  MonsterType.SLOTHIAN_ELDER,
-                "Lightning bolt. 8 grids.");
-        ma("SlothElder_Heal",    1, SpellPattern.SINGLE_TARGET, 0, "3d8",  DamageType.NONE,       MonsterType.SLOTHIAN_ELDER,
-                "Healing word. Touch ally, 3d8 HP.");
-
-        // ── GOLEM ─────────────────────────────────────────────────────────────
-        ma("Golem_Slam",         1, SpellPattern.SINGLE_TARGET, 0, "2d8+5",DamageType.BLUDGEONING,MonsterType.GOLEM,
-                "Slam. Melee 1 grid, 2d8+5.");
-        ma("Golem_Sweep",        0, SpellPattern.AURA,          1, "1d10+5",DamageType.BLUDGEONING,MonsterType.GOLEM,
-                "Ground slam sweep. 1-grid aura.");
-        ma("Golem_CrystalBurst", 0, SpellPattern.SPHERE,        2, "3d6",  DamageType.FORCE,      MonsterType.GOLEM,
-                "Crystal burst. Self-centred 2-grid sphere.");
-
-        // ── SCARAK ────────────────────────────────────────────────────────────
-        ma("Scarak_Bite",        1, SpellPattern.SINGLE_TARGET, 0, "1d8+3",DamageType.PIERCING,   MonsterType.SCARAK,
-                "Mandible bite. 1 grid.");
-        ma("Scarak_Spit",        5, SpellPattern.SINGLE_TARGET, 0, "1d6",  DamageType.ACID,       MonsterType.SCARAK,
-                "Acid spit. 5 grids, 1d6 acid.");
-        ma("Scarak_PinClaw",     0, SpellPattern.CONE,          2, "1d6+2",DamageType.PIERCING,   MonsterType.SCARAK,
-                "Claw strike cone. 2-grid cone.");
-
-        // ── SCARAK BROODMOTHER ────────────────────────────────────────────────
-        ma("Brood_Bite",         1, SpellPattern.SINGLE_TARGET, 0, "2d8+4",DamageType.PIERCING,   MonsterType.SCARAK_BROODMOTHER,
-                "Massive mandible bite. 1 grid.");
-        ma("Brood_SpitBurst",    6, SpellPattern.SPHERE,        3, "3d6",  DamageType.ACID,       MonsterType.SCARAK_BROODMOTHER,
-                "Acid burst. 6-grid range, 3-grid sphere.");
-        ma("Brood_EggSpit",      8, SpellPattern.SINGLE_TARGET, 0, "2d6",  DamageType.PIERCING,   MonsterType.SCARAK_BROODMOTHER,
-                "Egg projectile. 8 grids. On hit: hatches a Scarak_Louse.");
-
-        // ── VOID CREATURE ─────────────────────────────────────────────────────
-        ma("Void_Claw",          1, SpellPattern.SINGLE_TARGET, 0, "2d6",  DamageType.NECROTIC,   MonsterType.VOID_CREATURE,
-                "Void claw. 1 grid, necrotic.");
-        ma("Void_Ray",           8, SpellPattern.LINE,          5, "3d6",  DamageType.NECROTIC,   MonsterType.VOID_CREATURE,
-                "Void ray. LINE 5 grids, 8 range.");
-        ma("Void_Burst",         0, SpellPattern.SPHERE,        2, "2d8",  DamageType.NECROTIC,   MonsterType.VOID_CREATURE,
-                "Void burst. Self-centred 2-grid sphere.");
-
-        // ── SPIRIT ────────────────────────────────────────────────────────────
-        ma("Spirit_Strike",      1, SpellPattern.SINGLE_TARGET, 0, "2d6",  DamageType.FORCE,      MonsterType.SPIRIT,
-                "Elemental strike. 1 grid, force damage.");
-        ma("Spirit_Pulse",       0, SpellPattern.AURA,          2, "2d6",  DamageType.FORCE,      MonsterType.SPIRIT,
-                "Elemental pulse. 2-grid aura burst.");
-
-        // ── BAT ───────────────────────────────────────────────────────────────
-        ma("Bat_Bite",           1, SpellPattern.SINGLE_TARGET, 0, "1d4",  DamageType.PIERCING,   MonsterType.BAT,
-                "Bat bite. Melee 1 grid.");
-        ma("Bat_DiveClaws",      0, SpellPattern.CONE,          1, "1d6",  DamageType.SLASHING,   MonsterType.BAT,
-                "Diving claw strike. 1-grid cone.");
-
-        // ── BEAR ──────────────────────────────────────────────────────────────
-        ma("Bear_Bite",          1, SpellPattern.SINGLE_TARGET, 0, "1d8+5",DamageType.PIERCING,   MonsterType.BEAR,
-                "Bear bite. 1 grid.");
-        ma("Bear_Claw",          0, SpellPattern.CONE,          2, "1d6+5",DamageType.SLASHING,   MonsterType.BEAR,
-                "Claw swipe. 2-grid cone.");
-
-        // ── WOLF ──────────────────────────────────────────────────────────────
-        ma("Wolf_Bite",          1, SpellPattern.SINGLE_TARGET, 0, "2d4+2",DamageType.PIERCING,   MonsterType.WOLF,
-                "Wolf bite. 1 grid. Target STR save or knocked prone.");
-        ma("Wolf_Pack",          0, SpellPattern.CONE,          2, "1d6+2",DamageType.PIERCING,   MonsterType.WOLF,
-                "Pack lunge. 2-grid cone.");
-
-        // ── BOAR ──────────────────────────────────────────────────────────────
-        ma("Boar_Tusk",          1, SpellPattern.SINGLE_TARGET, 0, "2d6+3",DamageType.SLASHING,   MonsterType.BOAR,
-                "Tusk gore. 1 grid. Target STR save or knocked prone.");
-        ma("Boar_Charge",        3, SpellPattern.LINE,          3, "2d6+3",DamageType.BLUDGEONING,MonsterType.BOAR,
-                "Charge. LINE 3 grids. Target STR save or knocked prone.");
-
-        // ── CROCODILE ─────────────────────────────────────────────────────────
-        ma("Croc_Bite",          1, SpellPattern.SINGLE_TARGET, 0, "1d10+5",DamageType.PIERCING,  MonsterType.CROCODILE,
-                "Bite and grapple. 1 grid, 1d10+5.");
-        ma("Croc_Tail",          0, SpellPattern.CONE,          2, "1d6+5",DamageType.BLUDGEONING,MonsterType.CROCODILE,
-                "Tail slap. 2-grid cone behind.");
-
-        // ── SPIDER ────────────────────────────────────────────────────────────
-        ma("Spider_Bite",        1, SpellPattern.SINGLE_TARGET, 0, "1d8",  DamageType.PIERCING,   MonsterType.SPIDER,
-                "Venomous bite. 1 grid, 1d8 piercing + CON save or 2d8 poison.");
-        ma("Spider_Web",         4, SpellPattern.CUBE,          2, null,   DamageType.NONE,       MonsterType.SPIDER,
-                "Web. 4-grid range, 2-grid cube. STR save or restrained.");
-
-        // ── SNAKE ─────────────────────────────────────────────────────────────
-        ma("Snake_Bite",         1, SpellPattern.SINGLE_TARGET, 0, "1d4",  DamageType.PIERCING,   MonsterType.SNAKE,
-                "Bite. 1 grid, 1d4 + CON save or 3d6 poison.");
-        ma("Snake_Constrict",    1, SpellPattern.SINGLE_TARGET, 0, "1d8+3",DamageType.BLUDGEONING,MonsterType.SNAKE,
-                "Constrict. 1 grid, grappled and restrained on hit.");
-
-        // ── SCORPION ──────────────────────────────────────────────────────────
-        ma("Scorpion_Claw",      1, SpellPattern.SINGLE_TARGET, 0, "1d8",  DamageType.BLUDGEONING,MonsterType.SCORPION,
-                "Claw grapple. 1 grid, grappled on hit.");
-        ma("Scorpion_Sting",     1, SpellPattern.SINGLE_TARGET, 0, "1d8",  DamageType.PIERCING,   MonsterType.SCORPION,
-                "Stinger. 1 grid, 1d8 + CON save or 4d10 poison.");
-
-        // ── BIG CAT ───────────────────────────────────────────────────────────
-        ma("BigCat_Bite",        1, SpellPattern.SINGLE_TARGET, 0, "1d8+4",DamageType.PIERCING,   MonsterType.BIG_CAT,
-                "Bite. 1 grid.");
-        ma("BigCat_Pounce",      3, SpellPattern.LINE,          3, "2d6+4",DamageType.SLASHING,   MonsterType.BIG_CAT,
-                "Pounce. LINE 3 grids. STR save or prone + bite attack.");
-        ma("BigCat_Claw",        0, SpellPattern.CONE,          2, "1d6+4",DamageType.SLASHING,   MonsterType.BIG_CAT,
-                "Claw swipe. 2-grid cone.");
-
-        // ── RAPTOR ────────────────────────────────────────────────────────────
-        ma("Raptor_Bite",        1, SpellPattern.SINGLE_TARGET, 0, "1d8+4",DamageType.PIERCING,   MonsterType.RAPTOR,
-                "Bite. 1 grid.");
-        ma("Raptor_Slash",       0, SpellPattern.CONE,          2, "1d6+4",DamageType.SLASHING,   MonsterType.RAPTOR,
-                "Claw slash. 2-grid cone.");
-
-        // ── REX ───────────────────────────────────────────────────────────────
-        ma("Rex_Bite",           1, SpellPattern.SINGLE_TARGET, 0, "4d12+7",DamageType.PIERCING,  MonsterType.REX,
-                "Massive bite. 1 grid, 4d12+7.");
-        ma("Rex_Stomp",          0, SpellPattern.AURA,          2, "2d10+7",DamageType.BLUDGEONING,MonsterType.REX,
-                "Ground stomp. 2-grid aura. DEX save or knocked prone.");
-        ma("Rex_Roar",           0, SpellPattern.CONE,          5, null,   DamageType.NONE,       MonsterType.REX,
-                "Terrifying roar. 5-grid cone. WIS save or frightened.");
-
-        // ── PTERODACTYL ───────────────────────────────────────────────────────
-        ma("Ptero_Bite",         1, SpellPattern.SINGLE_TARGET, 0, "2d6+4",DamageType.PIERCING,   MonsterType.PTERODACTYL,
-                "Dive-bite. 1 grid.");
-        ma("Ptero_Claw",         0, SpellPattern.CONE,          2, "1d8+4",DamageType.SLASHING,   MonsterType.PTERODACTYL,
-                "Claw sweep dive. 2-grid cone.");
-
-        // ── SHARK ─────────────────────────────────────────────────────────────
-        ma("Shark_Bite",         1, SpellPattern.SINGLE_TARGET, 0, "2d8+4",DamageType.PIERCING,   MonsterType.SHARK,
-                "Bite. 1 grid, 2d8+4.");
-
-        // ── MOOSE ─────────────────────────────────────────────────────────────
-        ma("Moose_Gore",         1, SpellPattern.SINGLE_TARGET, 0, "2d8+5",DamageType.PIERCING,   MonsterType.MOOSE,
-                "Antler gore. 1 grid.");
-        ma("Moose_Stomp",        0, SpellPattern.AURA,          1, "2d6+5",DamageType.BLUDGEONING,MonsterType.MOOSE,
-                "Hooves stomp. 1-grid aura.");
-
-        // ── WARTHOG ───────────────────────────────────────────────────────────
-        ma("Warthog_Tusk",       1, SpellPattern.SINGLE_TARGET, 0, "2d6+3",DamageType.SLASHING,   MonsterType.WARTHOG,
-                "Tusk gore. 1 grid.");
-        ma("Warthog_Charge",     3, SpellPattern.LINE,          3, "2d6+3",DamageType.BLUDGEONING,MonsterType.WARTHOG,
-                "Charge. LINE 3 grids.");
-
-        // ── YETI ──────────────────────────────────────────────────────────────
-        ma("Yeti_Slam",          1, SpellPattern.SINGLE_TARGET, 0, "2d6+5",DamageType.BLUDGEONING,MonsterType.YETI,
-                "Fist slam. 1 grid.");
-        ma("Yeti_ColdBreath",    0, SpellPattern.CONE,          4, "4d6",  DamageType.COLD,       MonsterType.YETI,
-                "Cold breath. 4-grid cone. CON save for half.");
-        ma("Yeti_Chilling",      1, SpellPattern.SINGLE_TARGET, 0, "1d6",  DamageType.COLD,       MonsterType.YETI,
-                "Chilling gaze. 1 grid, CON save or restrained.");
-
-        // ── WEREWOLF ──────────────────────────────────────────────────────────
-        ma("Werewolf_Bite",      1, SpellPattern.SINGLE_TARGET, 0, "2d8+4",DamageType.PIERCING,   MonsterType.WEREWOLF,
-                "Bite. 1 grid, 2d8+4. CON save or lycanthropy curse.");
-        ma("Werewolf_Claw",      0, SpellPattern.CONE,          2, "2d6+4",DamageType.SLASHING,   MonsterType.WEREWOLF,
-                "Claw swipe. 2-grid cone.");
-
-        // ── ZOMBIE WEREWOLF ───────────────────────────────────────────────────
-        ma("ZWolf_Bite",         1, SpellPattern.SINGLE_TARGET, 0, "2d8+4",DamageType.PIERCING,   MonsterType.ZOMBIE_WEREWOLF,
-                "Savage bite. 1 grid.");
-        ma("ZWolf_Claw",         0, SpellPattern.CONE,          2, "2d6+4",DamageType.SLASHING,   MonsterType.ZOMBIE_WEREWOLF,
-                "Claw sweep. 2-grid cone.");
-
-        // ── FERAN ─────────────────────────────────────────────────────────────
-        ma("Feran_Gore",         1, SpellPattern.SINGLE_TARGET, 0, "2d6+4",DamageType.PIERCING,   MonsterType.FERAN,
-                "Antler gore. 1 grid.");
-        ma("Feran_Kick",         0, SpellPattern.CONE,          1, "1d8+4",DamageType.BLUDGEONING,MonsterType.FERAN,
-                "Hoof kick. 1-grid cone.");
-
-        // ── FERAN WINDWALKER ──────────────────────────────────────────────────
-        ma("WindFeran_Dive",     1, SpellPattern.SINGLE_TARGET, 0, "2d6+4",DamageType.SLASHING,   MonsterType.FERAN_WINDWALKER,
-                "Diving gore. 1 grid from flight.");
-        ma("WindFeran_Gust",     0, SpellPattern.CONE,          4, "2d6",  DamageType.BLUDGEONING,MonsterType.FERAN_WINDWALKER,
-                "Wind gust. 4-grid cone, STR save or pushed back 2 grids.");
-        ma("WindFeran_Vortex",   0, SpellPattern.CYLINDER,      3, "3d6",  DamageType.BLUDGEONING,MonsterType.FERAN_WINDWALKER,
-                "Wind vortex cylinder. 3-grid radius below.");
-
-        // ── BRAMBLEKIN ────────────────────────────────────────────────────────
-        ma("Bramble_Whip",       2, SpellPattern.LINE,           2, "1d6+1",DamageType.PIERCING,  MonsterType.BRAMBLEKIN,
-                "Thorn whip. LINE 2 grids, pulls target 1 grid closer.");
-        ma("Bramble_Spines",     0, SpellPattern.AURA,           1, "1d4",  DamageType.PIERCING,  MonsterType.BRAMBLEKIN,
-                "Spine aura. 1-grid burst, 1d4 piercing.");
-
-        // ── BRAMBLEKIN SHAMAN ─────────────────────────────────────────────────
-        ma("BrambleShaman_Whip", 3, SpellPattern.SINGLE_TARGET,  0, "2d6",  DamageType.PIERCING,  MonsterType.BRAMBLEKIN_SHAMAN,
-                "Thorn whip. 3 grids.");
-        ma("BrambleShaman_Entangle",5,SpellPattern.CUBE,          3, null,   DamageType.NONE,      MonsterType.BRAMBLEKIN_SHAMAN,
-                "Entangle. 5-grid range, 3-grid cube. STR save or restrained.");
-        ma("BrambleShaman_Spike",0, SpellPattern.SPHERE,         2, "3d4",  DamageType.PIERCING,  MonsterType.BRAMBLEKIN_SHAMAN,
-                "Spike burst. Self-centred 2-grid sphere.");
-
-        // ── FEN STALKER ───────────────────────────────────────────────────────
-        ma("Fen_Claw",           1, SpellPattern.SINGLE_TARGET,  0, "2d6+3",DamageType.SLASHING,  MonsterType.FEN_STALKER,
-                "Claw rake. 1 grid.");
-        ma("Fen_ToxicSpray",     0, SpellPattern.CONE,           3, "3d6",  DamageType.POISON,    MonsterType.FEN_STALKER,
-                "Toxic spray. 3-grid cone. CON save for half.");
-        ma("Fen_Drag",           1, SpellPattern.SINGLE_TARGET,  0, "1d6+3",DamageType.SLASHING,  MonsterType.FEN_STALKER,
-                "Drag. 1 grid, STR save or grappled + pulled into swamp.");
-
-        // ── SNAPJAW ───────────────────────────────────────────────────────────
-        ma("Snapjaw_Bite",       1, SpellPattern.SINGLE_TARGET,  0, "1d8+4",DamageType.PIERCING,  MonsterType.SNAPJAW,
-                "Bite. 1 grid, 1d8+4.");
-
-        // ── SLUG MAGMA ────────────────────────────────────────────────────────
-        ma("Slug_LavaGlob",      4, SpellPattern.SINGLE_TARGET,  0, "2d6",  DamageType.FIRE,      MonsterType.SLUG_MAGMA,
-                "Lava glob. 4 grids, 2d6 fire.");
-        ma("Slug_LavaBurst",     0, SpellPattern.SPHERE,         2, "3d6",  DamageType.FIRE,      MonsterType.SLUG_MAGMA,
-                "Lava burst. Self-centred 2-grid sphere.");
-
-        // ── EMBERWULF ─────────────────────────────────────────────────────────
-        ma("Ember_Bite",         1, SpellPattern.SINGLE_TARGET,  0, "2d6+4",DamageType.FIRE,      MonsterType.EMBER_WULF,
-                "Ember bite. 1 grid, 2d6+4 fire.");
-        ma("Ember_Breath",       0, SpellPattern.CONE,           4, "4d6",  DamageType.FIRE,      MonsterType.EMBER_WULF,
-                "Fire breath. 4-grid cone, 4d6 fire. DEX save for half.");
-
-        // ── TRILLODON ─────────────────────────────────────────────────────────
-        ma("Trillo_Bite",        1, SpellPattern.SINGLE_TARGET,  0, "2d8+5",DamageType.PIERCING,  MonsterType.TRILLODON,
-                "Crushing bite. 1 grid.");
-        ma("Trillo_Charge",      4, SpellPattern.LINE,           4, "2d6+5",DamageType.BLUDGEONING,MonsterType.TRILLODON,
-                "Charge. LINE 4 grids, STR save or prone.");
-
-        // ── TOAD RHINO ────────────────────────────────────────────────────────
-        ma("ToadRhino_Gore",     1, SpellPattern.SINGLE_TARGET,  0, "2d8+5",DamageType.PIERCING,  MonsterType.TOAD_RHINO,
-                "Horn gore. 1 grid.");
-        ma("ToadRhino_Charge",   4, SpellPattern.LINE,           4, "2d8+5",DamageType.BLUDGEONING,MonsterType.TOAD_RHINO,
-                "Charge. LINE 4 grids.");
-        ma("ToadRhino_Stomp",    0, SpellPattern.AURA,           1, "2d6+5",DamageType.BLUDGEONING,MonsterType.TOAD_RHINO,
-                "Stomp. 1-grid aura. DEX save or knocked prone.");
-
-        // ── SPARK LIVING ──────────────────────────────────────────────────────
-        ma("Spark_ZapBolt",      6, SpellPattern.LINE,           4, "2d6",  DamageType.LIGHTNING,  MonsterType.SPARK_LIVING,
-                "Lightning bolt. LINE 4 grids.");
-        ma("Spark_ChainArc",     4, SpellPattern.CHAIN,          0, "1d8",  DamageType.LIGHTNING,  MonsterType.SPARK_LIVING,
-                "Chain lightning. Arcs to nearest 2 targets.");
-
-        // ── TORNADO ───────────────────────────────────────────────────────────
-        ma("Tornado_Vortex",     0, SpellPattern.AURA,           3, "3d6",  DamageType.BLUDGEONING,MonsterType.TORNADO,
-                "Wind vortex. 3-grid aura. STR save or flung 2 grids.");
-        ma("Tornado_Slam",       0, SpellPattern.CYLINDER,       4, "4d8",  DamageType.BLUDGEONING,MonsterType.TORNADO,
-                "Tornado column. 4-grid cylinder. DEX save for half.");
-
-        // ── DRAGON: FIRE ──────────────────────────────────────────────────────
-        ma("DragonFire_Bite",    1, SpellPattern.SINGLE_TARGET,  0, "2d10+7",DamageType.PIERCING,  MonsterType.DRAGON_FIRE,
-                "Dragon bite. 1 grid.");
-        ma("DragonFire_Claw",    0, SpellPattern.CONE,           2, "2d6+7", DamageType.SLASHING,  MonsterType.DRAGON_FIRE,
-                "Claw sweep. 2-grid cone.");
-        ma("DragonFire_Breath",  0, SpellPattern.CONE,          12, "18d6",  DamageType.FIRE,       MonsterType.DRAGON_FIRE,
-                "Fire breath. 12-grid cone, 18d6. DEX save for half. Recharge 5-6.");
-        ma("DragonFire_Tail",    0, SpellPattern.LINE,           5, "2d8+7", DamageType.BLUDGEONING,MonsterType.DRAGON_FIRE,
-                "Tail slap. LINE 5 grids behind.");
-
-        // ── DRAGON: FROST ─────────────────────────────────────────────────────
-        ma("DragonFrost_Bite",   1, SpellPattern.SINGLE_TARGET,  0, "2d10+7",DamageType.PIERCING,  MonsterType.DRAGON_FROST,
-                "Dragon bite. 1 grid.");
-        ma("DragonFrost_Claw",   0, SpellPattern.CONE,           2, "2d6+7", DamageType.SLASHING,  MonsterType.DRAGON_FROST,
-                "Claw sweep. 2-grid cone.");
-        ma("DragonFrost_Breath", 0, SpellPattern.CONE,          12, "12d8",  DamageType.COLD,       MonsterType.DRAGON_FROST,
-                "Cold breath. 12-grid cone, 12d8. CON save for half. Recharge 5-6.");
-        ma("DragonFrost_Tail",   0, SpellPattern.LINE,           5, "2d8+7", DamageType.BLUDGEONING,MonsterType.DRAGON_FROST,
-                "Tail slap. LINE 5 grids.");
-
-        // ── DRAGON: VOID ──────────────────────────────────────────────────────
-        ma("DragonVoid_Bite",    1, SpellPattern.SINGLE_TARGET,  0, "2d10+9",DamageType.PIERCING,  MonsterType.DRAGON_VOID,
-                "Dragon bite. 1 grid.");
-        ma("DragonVoid_Claw",    0, SpellPattern.CONE,           2, "2d6+9", DamageType.SLASHING,  MonsterType.DRAGON_VOID,
-                "Claw sweep. 2-grid cone.");
-        ma("DragonVoid_Breath",  0, SpellPattern.CONE,          12, "14d8",  DamageType.NECROTIC,   MonsterType.DRAGON_VOID,
-                "Void breath. 12-grid cone, 14d8 necrotic. CON save for half. Recharge 5-6.");
-        ma("DragonVoid_VoidRip", 8, SpellPattern.SPHERE,         4, "8d8",   DamageType.NECROTIC,   MonsterType.DRAGON_VOID,
-                "Void tear. 8-grid range, 4-grid sphere. Spell once per day.");
-        ma("DragonVoid_Tail",    0, SpellPattern.LINE,           5, "2d8+9", DamageType.BLUDGEONING,MonsterType.DRAGON_VOID,
-                "Tail slap. LINE 5 grids.");
-
-        // Register all monster attacks in SPELL_MAP so /cast <n> works
-        for (SpellData atk : MONSTER_ATTACKS) {
-            SPELL_MAP.put(atk.getName().toLowerCase(), atk);
-        }
-    }
-
-    /** Shorthand to register a monster attack */
-    private static void ma(String name, int range, SpellPattern pattern, int area,
-                           String dice, DamageType dmgType, MonsterType mt, String desc) {
-        MONSTER_ATTACKS.add(new SpellData(name, range, pattern, area, dice, dmgType, mt, desc));
-    }
-
-    /** Get all attacks available to a specific monster type */
-    public static List<SpellData> getAttacksForMonsterType(MonsterType mt) {
-        List<SpellData> result = new java.util.ArrayList<>();
-        for (SpellData s : MONSTER_ATTACKS) {
-            if (s.getRequiredMonsterType() == mt) result.add(s);
+    /** Default catalog shipped in the plugin jar. */
+    public static final String BUNDLED_RESOURCE = "/griddify/spells.tsv";
+
+    private static volatile SpellCatalog catalog;
+
+    /** Current snapshot; parses the bundled defaults on first use if nothing was installed yet. */
+    public static SpellCatalog catalog() {
+        SpellCatalog c = catalog;
+        if (c != null) return c;
+        synchronized (SpellDatabase.class) {
+            if (catalog == null) {
+                try (InputStream in = SpellDatabase.class.getResourceAsStream(BUNDLED_RESOURCE)) {
+                    if (in == null) throw new IllegalStateException("Missing bundled " + BUNDLED_RESOURCE);
+                    catalog = parse(new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8)),
+                            BUNDLED_RESOURCE);
+                } catch (IOException e) {
+                    throw new IllegalStateException("Failed to read bundled " + BUNDLED_RESOURCE, e);
+                }
+            }
+            return catalog;
         }
-        return result;
     }
 
-    private static void registerBase(SpellData spell) {
-        SPELL_MAP.put(spell.getName().toLowerCase(), spell);
+    /** Atomically replace the live catalog. */
+    public static void install(SpellCatalog next) {
+        catalog = Objects.requireNonNull(next);
     }
 
-    /**
-     * Register a subclass spell
-     */
-    private static void registerSubclass(SpellData spell) {
-        SPELL_MAP.put(spell.getName().toLowerCase(), spell);
+    /** Parse a spells.tsv file. Throws IllegalArgumentException with "source:line" on bad rows. */
+    public static SpellCatalog parse(BufferedReader reader, String source) throws IOException {
+        return SpellCatalog.fromTable(TsvTable.read(reader, source));
     }
 
-    /**
-     * Build indices for fast lookup
-     */
-    private static void buildIndices() {
-        for (SpellData spell : SPELL_MAP.values()) {
-            // Index by subclass (for subclass spells)
-            if (spell.getSubclass() != null) {
-                SPELLS_BY_SUBCLASS
-                        .computeIfAbsent(spell.getSubclass(), k -> new ArrayList<>())
-                        .add(spell);
-            }
-
-            // Index by class (for base class spells)
-            if (spell.getClassType() != null) {
-                SPELLS_BY_CLASS
-                        .computeIfAbsent(spell.getClassType(), k -> new ArrayList<>())
-                        .add(spell);
-            }
-        }
+    /** Get all attacks available to a specific monster type (read-only, precomputed). */
+    public static List<SpellData> getAttacksForMonsterType(MonsterType mt) {
+        return catalog().attacksFor(mt);
     }
 
     /**
      * Get spell by name (case-insensitive)
      */
     public static SpellData getSpell(String name) {
-        return SPELL_MAP.get(name.toLowerCase());
+        return catalog().get(name);
     }
 
     /**
      * Get all spells for a subclass
      */
     public static List<SpellData> getSpellsForSubclass(SubclassType subclass) {
-        return SPELLS_BY_SUBCLASS.getOrDefault(subclass, Collections.emptyList());
+        return catalog().forSubclass(subclass);
     }
 
     /**
      * Get all base class spells
      */
     public static List<SpellData> getSpellsForClass(ClassType classType) {
-        return SPELLS_BY_CLASS.getOrDefault(classType, Collections.emptyList());
+        return catalog().forClass(classType);
     }
 
     /**
@@ -1491,28 +88,20 @@ public class SpellDatabase {
      * @param subclass Player's subclass (null if level < 3)
      * @param playerLevel Player's level
      *
-     * FIX: Base-class section now filters with isBaseClassSpell() to exclude
-     *      subclass spells from other subclasses that share the same parent
-     *      classType index.
+     * Both parts are level-gated slices of the precomputed catalog indexes
+     * (sorted by minLevel), so no per-call filtering happens here.
+     * Returns a fresh mutable list; callers such as PlayerHotbarState may clear it.
      */
     public static List<SpellData> getAvailableSpells(ClassType classType, SubclassType subclass, int playerLevel) {
-        List<SpellData> available = new ArrayList<>();
-
-        // Add base class spells ONLY (exclude subclass spells — they are handled below)
-        if (classType != null) {
-            available.addAll(getSpellsForClass(classType).stream()
-                    .filter(SpellData::isBaseClassSpell)              // ← FIX: skip subclass spells
-                    .filter(spell -> spell.getMinLevel() <= playerLevel)
-                    .collect(Collectors.toList()));
-        }
-
-        // Add subclass spells (only the player's chosen subclass)
-        if (subclass != null && playerLevel >= 3) {
-            available.addAll(getSpellsForSubclass(subclass).stream()
-                    .filter(spell -> spell.getMinLevel() <= playerLevel)
-                    .collect(Collectors.toList()));
-        }
-
+        SpellCatalog c = catalog();
+        List<SpellData> base = classType != null
+                ? c.baseSpellsUpTo(classType, playerLevel) : Collections.emptyList();
+        List<SpellData> sub = (subclass != null && playerLevel >= 3)
+                ? c.subclassSpellsUpTo(subclass, playerLevel) : Collections.emptyList();
+
+        List<SpellData> available = new ArrayList<>(base.size() + sub.size());
+        available.addAll(base);
+        available.addAll(sub);
         return available;
     }
 
@@ -1520,6 +109,14 @@ public class SpellDatabase {
      * Get all spell names (for autocomplete)
      */
     public static Set<String> getAllSpellNames() {
-        return SPELL_MAP.keySet();
+        return catalog().names();
+    }
+
+    /**
+     * Spells whose name starts with prefix (case-insensitive), alphabetical,
+     * exact match first. Used by /Cast to resolve abbreviations and suggest names.
+     */
+    public static List<SpellData> findSpellsByPrefix(String prefix, int limit) {
+        return catalog().withPrefix(prefix, limit);
     }
 }
\ No newline at end of file
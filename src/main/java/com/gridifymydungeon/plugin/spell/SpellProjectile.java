@@ -1,10 +1,8 @@
 package com.gridifymydungeon.plugin.spell;
 
-import com.hypixel.hytale.component.AddReason;
-import com.hypixel.hytale.component.Holder;
+import com.gridifymydungeon.plugin.gridmove.ModelRegistry;
+import com.gridifymydungeon.plugin.gridmove.WorldWorkQueue;
 import com.hypixel.hytale.component.Ref;
-import com.hypixel.hytale.component.RemoveReason;
-import com.hypixel.hytale.component.Store;
 import com.hypixel.hytale.math.vector.Vector3d;
 import com.hypixel.hytale.math.vector.Vector3f;
 import com.hypixel.hytale.protocol.AnimationSlot;
@@ -12,23 +10,14 @@ import com.hypixel.hytale.protocol.Direction;
 import com.hypixel.hytale.protocol.Position;
 import com.hypixel.hytale.protocol.packets.world.SpawnParticleSystem;
 import com.hypixel.hytale.server.core.asset.type.model.config.Model;
-import com.hypixel.hytale.server.core.asset.type.model.config.ModelAsset;
 import com.hypixel.hytale.server.core.entity.AnimationUtils;
-import com.hypixel.hytale.server.core.entity.UUIDComponent;
-import com.hypixel.hytale.server.core.modules.entity.component.ActiveAnimationComponent;
-import com.hypixel.hytale.server.core.modules.entity.component.BoundingBox;
-import com.hypixel.hytale.server.core.modules.entity.component.ModelComponent;
-import com.hypixel.hytale.server.core.modules.entity.component.PersistentModel;
 import com.hypixel.hytale.server.core.modules.entity.component.TransformComponent;
-import com.hypixel.hytale.server.core.modules.entity.tracker.NetworkId;
 import com.hypixel.hytale.server.core.universe.PlayerRef;
 import com.hypixel.hytale.server.core.universe.world.World;
 import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
 
 import javax.annotation.Nullable;
-import java.util.EnumMap;
 import java.util.List;
-import java.util.Map;
 
 /**
  * Generic projectile engine for all SINGLE_TARGET and CONE spell visuals.
@@ -46,7 +35,6 @@ public class SpellProjectile {
     private static final long  SAFETY_TTL_MS   = 8000L;
 
     // One cached model per ProjectileType (scale baked in at load)
-    private static final Map<ProjectileType, Model> modelCache = new EnumMap<>(ProjectileType.class);
 
     // -----------------------------------------------------------------------
     // PUBLIC API
@@ -75,19 +63,10 @@ public class SpellProjectile {
         float yaw    = -(float) Math.atan2(dx, -dz);
         float pitch  = (float) Math.asin(-dy / len);
 
-        Store<EntityStore> store = world.getEntityStore().getStore();
-        Holder<EntityStore> holder = EntityStore.REGISTRY.newHolder();
-        holder.addComponent(TransformComponent.getComponentType(),
-                new TransformComponent(origin, new Vector3f(pitch, yaw, 0f)));
-        holder.addComponent(PersistentModel.getComponentType(), new PersistentModel(model.toReference()));
-        holder.addComponent(ModelComponent.getComponentType(), new ModelComponent(model));
-        holder.addComponent(BoundingBox.getComponentType(), new BoundingBox(model.getBoundingBox()));
-        holder.addComponent(NetworkId.getComponentType(),
-                new NetworkId(store.getExternalData().takeNextNetworkId()));
-        holder.ensureComponent(UUIDComponent.getComponentType());
-        holder.ensureComponent(ActiveAnimationComponent.getComponentType());
-
-        Ref<EntityStore> ref = store.addEntity(holder, AddReason.SPAWN);
+        Ref<EntityStore> ref = VfxPool.acquire(world, type.modelAssetId, type.entityScale, model,
+                origin.x, origin.y, origin.z, pitch, yaw, true,
+                null, 2 * SAFETY_TTL_MS); // stray if the flight task's own SAFETY_TTL_MS despawn never ran
+        if (ref == null) return null;
 
         if (type.animSetId != null) {
             AnimationUtils.playAnimation(ref, AnimationSlot.Action, type.animSetId, true,
@@ -103,8 +82,8 @@ public class SpellProjectile {
     }
 
     public static void despawn(World world, @Nullable Ref<EntityStore> ref) {
-        if (ref == null || !ref.isValid()) return;
-        try { world.getEntityStore().getStore().removeEntity(ref, RemoveReason.REMOVE); }
+        if (ref == null) return;
+        try { VfxPool.release(world, ref); }
         catch (Exception e) { System.err.println("[Griddify] [PROJ] despawn: " + e.getMessage()); }
     }
 
@@ -131,7 +110,7 @@ public class SpellProjectile {
                 try { Thread.sleep(TICK_RATE_MS); } catch (InterruptedException e) { break; }
 
                 if (System.currentTimeMillis() - startTime >= SAFETY_TTL_MS || !ref.isValid()) {
-                    world.execute(() -> despawn(world, ref));
+                    WorldWorkQueue.submit(world, WorldWorkQueue.Priority.VFX, () -> despawn(world, ref));
                     break;
                 }
 
@@ -141,7 +120,7 @@ public class SpellProjectile {
 
                 if (travelled >= targetDist) {
                     final double fx = targetPos.x, fy = y, fz = targetPos.z;
-                    world.execute(() -> {
+                    WorldWorkQueue.submit(world, WorldWorkQueue.Priority.VFX, ref, () -> {
                         if (!ref.isValid()) return;
                         try {
                             TransformComponent tc = world.getEntityStore().getStore()
@@ -151,7 +130,7 @@ public class SpellProjectile {
                     });
                     try { Thread.sleep(80); } catch (InterruptedException ignored) {}
                     if (type.arrivalParticle != null) sendParticle(type, fx, fy, fz, players);
-                    world.execute(() -> despawn(world, ref));
+                    WorldWorkQueue.submit(world, WorldWorkQueue.Priority.VFX, () -> despawn(world, ref));
                     break;
                 }
 
@@ -160,7 +139,8 @@ public class SpellProjectile {
                 float nw = -(float) Math.atan2(dx, -dz);
                 final double fx = x, fy = y, fz = z;
                 final float fp = np, fw = nw;
-                world.execute(() -> {
+                // Keyed by entity: if the world thread falls behind, only the latest pose is applied
+                WorldWorkQueue.submit(world, WorldWorkQueue.Priority.VFX, ref, () -> {
                     if (!ref.isValid()) return;
                     try {
                         TransformComponent tc = world.getEntityStore().getStore()
@@ -193,23 +173,9 @@ public class SpellProjectile {
 
     @Nullable
     private static Model getModel(ProjectileType type) {
-        Model cached = modelCache.get(type);
-        if (cached != null) return cached;
-        try {
-            ModelAsset asset = ModelAsset.getAssetMap().getAsset(type.modelAssetId);
-            if (asset == null) {
-                System.err.println("[Griddify] [PROJ] ModelAsset '" + type.modelAssetId + "' not found for " + type);
-                return null;
-            }
-            Model model = Model.createScaledModel(asset, type.entityScale);
-            modelCache.put(type, model);
-            System.out.println("[Griddify] [PROJ] Loaded '" + type.modelAssetId
-                    + "' scale=" + type.entityScale + " for " + type
-                    + " | AnimSets=" + model.getAnimationSetMap().keySet());
-            return model;
-        } catch (Exception e) {
-            System.err.println("[Griddify] [PROJ] Load failed for " + type + ": " + e.getMessage());
-            return null;
-        }
+        Model model = ModelRegistry.get(type.modelAssetId, type.entityScale);
+        if (model == null)
+            System.err.println("[Griddify] [PROJ] ModelAsset '" + type.modelAssetId + "' not found for " + type);
+        return model;
     }
 }
\ No newline at end of file
@@ -0,0 +1,91 @@
+package com.gridifymydungeon.plugin.spell;
+
+import com.gridifymydungeon.plugin.dnd.EncounterManager;
+import com.gridifymydungeon.plugin.dnd.MonsterState;
+import com.gridifymydungeon.plugin.gridmove.GridMoveManager;
+import com.gridifymydungeon.plugin.gridmove.GridPlayerState;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Who a spell's area actually hits, split by side.
+ *
+ * Resolution snapshots the occupied cells once (one pass over the monster map and
+ * the player states, no roster copies) and then probes that occupancy index with
+ * each affected cell. Cost is cells + occupants instead of cells × occupants per
+ * pass, and the healing / damage branches work straight off the hit lists.
+ *
+ * Sides are relative to the caster: the GM's allies are monsters and its enemies
+ * are player NPCs; for a player it is the other way round.
+ */
+public final class SpellTargets {
+
+    /** Living monsters standing in an affected cell. */
+    public final List<MonsterState> monsters;
+    /** Player NPCs (valid entity, alive or down) standing in an affected cell. */
+    public final List<GridPlayerState> players;
+
+    private SpellTargets(List<MonsterState> monsters, List<GridPlayerState> players) {
+        this.monsters = monsters;
+        this.players = players;
+    }
+
+    public static SpellTargets resolve(Set<SpellPatternCalculator.GridCell> cells,
+                                       EncounterManager encounterManager, GridMoveManager playerManager) {
+        List<MonsterState> monsters = new ArrayList<>();
+        List<GridPlayerState> players = new ArrayList<>();
+        if (cells.isEmpty()) return new SpellTargets(monsters, players);
+
+        // Occupancy index: packed cell -> occupants (usually one; stacked tokens are possible)
+        Map<Long, List<Object>> occupants = new HashMap<>();
+        for (MonsterState m : encounterManager.getAllMonsters().values()) {
+            if (!m.isAlive()) continue;
+            occupants.computeIfAbsent(PersistentSpellEffect.cellKey(m.currentGridX, m.currentGridZ),
+                    k -> new ArrayList<>(1)).add(m);
+        }
+        for (GridPlayerState ps : playerManager.getAllStates()) {
+            if (ps.npcEntity == null || !ps.npcEntity.isValid()) continue;
+            occupants.computeIfAbsent(PersistentSpellEffect.cellKey(ps.currentGridX, ps.currentGridZ),
+                    k -> new ArrayList<>(1)).add(ps);
+        }
+        if (occupants.isEmpty()) return new SpellTargets(monsters, players);
+
+        for (SpellPatternCalculator.GridCell c : cells) {
+            List<Object> here = occupants.get(PersistentSpellEffect.cellKey(c.x, c.z));
+            if (here == null) continue;
+            for (Object o : here) {
+                if (o instanceof MonsterState m) monsters.add(m);
+                else players.add((GridPlayerState) o);
+            }
+        }
+        return new SpellTargets(monsters, players);
+    }
+
+    /** Monsters for a GM caster, otherwise nothing (players heal players). */
+    public List<MonsterState> allyMonsters(boolean casterIsGM) {
+        return casterIsGM ? monsters : List.of();
+    }
+
+    /** Player NPCs on the caster's side. */
+    public List<GridPlayerState> allyPlayers(boolean casterIsGM) {
+        return casterIsGM ? List.of() : players;
+    }
+
+    /** Monsters a player caster is attacking. */
+    public List<MonsterState> enemyMonsters(boolean casterIsGM) {
+        return casterIsGM ? List.of() : monsters;
+    }
+
+    /** Player NPCs a GM caster is attacking. */
+    public List<GridPlayerState> enemyPlayers(boolean casterIsGM) {
+        return casterIsGM ? players : List.of();
+    }
+
+    public int size() {
+        return monsters.size() + players.size();
+    }
+}
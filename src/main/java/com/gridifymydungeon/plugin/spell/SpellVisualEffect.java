@@ -1,33 +1,16 @@
 package com.gridifymydungeon.plugin.spell;
 
-import com.hypixel.hytale.component.AddReason;
-import com.hypixel.hytale.component.Holder;
+import com.gridifymydungeon.plugin.gridmove.ModelRegistry;
 import com.hypixel.hytale.component.Ref;
-import com.hypixel.hytale.component.RemoveReason;
-import com.hypixel.hytale.component.Store;
-import com.hypixel.hytale.math.vector.Vector3d;
-import com.hypixel.hytale.math.vector.Vector3f;
 import com.hypixel.hytale.server.core.asset.type.model.config.Model;
-import com.hypixel.hytale.server.core.asset.type.model.config.ModelAsset;
-import com.hypixel.hytale.server.core.entity.UUIDComponent;
-import com.hypixel.hytale.server.core.modules.entity.component.BoundingBox;
-import com.hypixel.hytale.server.core.modules.entity.component.ModelComponent;
-import com.hypixel.hytale.server.core.modules.entity.component.PersistentModel;
-import com.hypixel.hytale.server.core.modules.entity.component.TransformComponent;
-import com.hypixel.hytale.server.core.modules.entity.tracker.NetworkId;
 import com.hypixel.hytale.server.core.universe.PlayerRef;
 import com.hypixel.hytale.server.core.universe.world.World;
 import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
 
 import javax.annotation.Nullable;
 import java.util.ArrayList;
-import java.util.EnumMap;
 import java.util.List;
-import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.TimeUnit;
 
 /**
  * Stationary / animated spell visual effects — NOT projectiles.
@@ -37,65 +20,53 @@ import java.util.concurrent.TimeUnit;
  *   spawnGrowing     – entity grows from scale 0→target over durationMs (Entangle per cell)
  *   spawnWave        – sweeping row-by-row wave of entities then despawn (Thunderwave)
  *   spawnWithTimeout – spawn then auto-despawn after ms (Fireball lingering Explosion)
+ *
+ * Everything timed is expressed as an EffectTimeline and played by VfxSequencer,
+ * so all entity operations due in a tick run as one world-thread batch and the
+ * whole effect can be cancelled when combat ends.
  */
 public class SpellVisualEffect {
 
-    private static final ScheduledExecutorService SCHED =
-            Executors.newSingleThreadScheduledExecutor(r -> {
-                Thread t = new Thread(r, "griddify-vfx");
-                t.setDaemon(true);
-                return t;
-            });
-
-    private static final Map<String, Model> modelCache = new java.util.HashMap<>();
+    /** Added to every in-use deadline (see VfxPool.acquire): budget deferrals, slow ticks. */
+    static final long TTL_SLACK_MS = 30_000L;
+    /** Entangle vines without a persistent effect to hold them. */
+    private static final long ENTANGLE_TTL_MS = 60_000L;
 
     // ── PUBLIC API ────────────────────────────────────────────────────────────
 
     /**
      * Spawn a single stationary entity at world pos with given yaw.
-     * Returns the Ref so the caller can despawn it later (or after a delay).
+     * Returns the Ref so the caller can despawn it later (or after a delay); owner
+     * and ttlMs are its EntityReaper owner and deadline (see VfxPool.acquire).
      * Must be called inside world.execute().
      */
     @Nullable
     public static Ref<EntityStore> spawnStationary(String modelAssetId, float entityScale,
                                                    World world,
                                                    double wx, double wy, double wz,
-                                                   float yaw) {
-        Model model = getModel(modelAssetId, entityScale);
-        if (model == null) return null;
-        return spawnEntity(model, world, wx, wy, wz, 0f, yaw, 0f);
+                                                   float yaw, @Nullable Object owner, long ttlMs) {
+        return spawnPooled(modelAssetId, entityScale, world, wx, wy, wz, 0f, yaw, owner, ttlMs);
     }
 
     /**
      * Spawn an entity that grows from scale 0 → entityScale over growMs milliseconds.
-     * After growing it stays permanently (caller is responsible for despawning).
-     * Returns the Ref. Must be called inside world.execute().
+     * After growing it stays until the caller despawns it, owner stops holding it or
+     * ttlMs passes (see VfxPool.acquire). Returns the Ref. Must be called inside world.execute().
      */
     @Nullable
     public static Ref<EntityStore> spawnGrowing(String modelAssetId, float entityScale,
                                                 World world,
                                                 double wx, double wy, double wz,
-                                                long growMs) {
+                                                long growMs, @Nullable Object owner, long ttlMs) {
         // Spawn at scale 0 first (tiny), then animate scale up
-        Model model = getModel(modelAssetId, 0.001f); // near-zero initial scale
-        if (model == null) return null;
-        Ref<EntityStore> ref = spawnEntity(model, world, wx, wy, wz, 0f, 0f, 0f);
+        Ref<EntityStore> ref = spawnPooled(modelAssetId, 0.001f, world, wx, wy, wz, 0f, 0f, // near-zero initial scale
+                owner, ttlMs);
         if (ref == null) return null;
 
         // Animate scale from 0 → entityScale over growMs by swapping the model
-        Model fullModel = getModel(modelAssetId, entityScale);
-        if (fullModel == null) return ref;
-        SCHED.schedule(() -> world.execute(() -> {
-            if (!ref.isValid()) return;
-            try {
-                Store<EntityStore> store = world.getEntityStore().getStore();
-                store.replaceComponent(ref, ModelComponent.getComponentType(), new ModelComponent(fullModel));
-                store.replaceComponent(ref, PersistentModel.getComponentType(),
-                        new PersistentModel(fullModel.toReference()));
-                store.replaceComponent(ref, BoundingBox.getComponentType(),
-                        new BoundingBox(fullModel.getBoundingBox()));
-            } catch (Exception ignored) {}
-        }), growMs, TimeUnit.MILLISECONDS);
+        EffectTimeline grow = new EffectTimeline();
+        grow.scale(EffectTimeline.ticks(growMs), grow.attach(ref), modelAssetId, entityScale);
+        VfxSequencer.play(world, grow);
         return ref;
     }
 
@@ -108,10 +79,12 @@ public class SpellVisualEffect {
                                                     World world,
                                                     double wx, double wy, double wz,
                                                     float yaw, long lifetimeMs) {
-        Ref<EntityStore> ref = spawnStationary(modelAssetId, entityScale, world, wx, wy, wz, yaw);
+        Ref<EntityStore> ref = spawnStationary(modelAssetId, entityScale, world, wx, wy, wz, yaw,
+                null, lifetimeMs + TTL_SLACK_MS);
         if (ref != null) {
-            SCHED.schedule(() -> world.execute(() -> despawn(world, ref)),
-                    lifetimeMs, TimeUnit.MILLISECONDS);
+            EffectTimeline life = new EffectTimeline();
+            life.despawn(EffectTimeline.ticks(lifetimeMs), life.attach(ref));
+            VfxSequencer.play(world, life);
         }
         return ref;
     }
@@ -148,60 +121,9 @@ public class SpellVisualEffect {
                                  Set<SpellPatternCalculator.GridCell> cells,
                                  List<PlayerRef> ignoredPlayers,
                                  float yawRad, int numSweeps) {
-        if (cells.isEmpty() || numSweeps <= 0) return;
-
-        // Exclude caster cell
-        Set<SpellPatternCalculator.GridCell> filteredCells = new java.util.HashSet<>();
-        for (SpellPatternCalculator.GridCell c : cells) {
-            if (c.x != casterGridX || c.z != casterGridZ) filteredCells.add(c);
-        }
-        if (filteredCells.isEmpty()) return;
-
-        float perpX = (float) Math.sin(yawRad + Math.PI / 2.0);
-        float perpZ = (float) Math.cos(yawRad + Math.PI / 2.0);
-
-        java.util.TreeMap<Integer, List<SpellPatternCalculator.GridCell>> byDist = new java.util.TreeMap<>();
-        for (SpellPatternCalculator.GridCell c : filteredCells) {
-            int d = SpellPatternCalculator.getDistance(casterGridX, casterGridZ, c.x, c.z);
-            byDist.computeIfAbsent(d, k -> new ArrayList<>()).add(c);
-        }
-        List<List<SpellPatternCalculator.GridCell>> columns = new ArrayList<>(byDist.values());
-        if (columns.isEmpty()) return;
-
-        int numCols     = columns.size();
-        long colStepMs  = 120L; // slightly faster per-column for fire cone feel
-        long waveLinger = 200L;
-        long sweepDur   = numCols * colStepMs + waveLinger;
-
-        final float fpX = perpX, fpZ = perpZ;
-
-        for (int sweep = 0; sweep < numSweeps; sweep++) {
-            long sweepStart = sweep * (sweepDur + 60L);
-
-            for (int ci = 0; ci < numCols; ci++) {
-                final List<SpellPatternCalculator.GridCell> col = columns.get(ci);
-                final long showAt = sweepStart + ci * colStepMs;
-                final long hideAt = showAt + waveLinger;
-
-                SCHED.schedule(() -> world.execute(() -> {
-                    List<Ref<EntityStore>> colRefs = new ArrayList<>();
-                    for (SpellPatternCalculator.GridCell c : col) {
-                        float wx = (c.x * 2.0f) + 1.0f;
-                        float wz = (c.z * 2.0f) + 1.0f;
-                        Float groundY = SpellVisualManager.scanForGround(world, c.x, c.z, npcY + 30f, 45);
-                        float wy = (groundY != null ? groundY : npcY) + 0.5f;
-                        for (float sign : new float[]{-0.5f, 0.5f}) {
-                            Ref<EntityStore> ref = spawnStationary(modelAssetId, entityScale, world,
-                                    wx + fpX * sign, wy, wz + fpZ * sign, yawRad);
-                            if (ref != null) colRefs.add(ref);
-                        }
-                    }
-                    SCHED.schedule(() -> world.execute(() -> {
-                        for (Ref<EntityStore> r : colRefs) despawn(world, r);
-                    }), waveLinger, TimeUnit.MILLISECONDS);
-                }), showAt, TimeUnit.MILLISECONDS);
-            }
-        }
+        // slightly faster per-column for fire cone feel
+        playWave(modelAssetId, entityScale, world, casterGridX, casterGridZ, npcY, cells,
+                yawRad, numSweeps, 120L, 200L);
     }
 
     public static void spawnWave(String modelAssetId, float entityScale,
@@ -210,75 +132,80 @@ public class SpellVisualEffect {
                                  Set<SpellPatternCalculator.GridCell> cells,
                                  List<PlayerRef> ignoredPlayers,
                                  float yawRad) {
-        if (cells.isEmpty()) return;
-
-        // Exclude caster cell
-        Set<SpellPatternCalculator.GridCell> filteredCells = new java.util.HashSet<>();
-        for (SpellPatternCalculator.GridCell c : cells) {
-            if (c.x != casterGridX || c.z != casterGridZ) filteredCells.add(c);
-        }
-        if (filteredCells.isEmpty()) return;
+        playWave(modelAssetId, entityScale, world, casterGridX, casterGridZ, npcY, cells,
+                yawRad, 3, 150L, 180L);
+    }
 
-        // Perpendicular offset (±0.5) along the axis perpendicular to cast direction
-        float perpX = (float) Math.sin(yawRad + Math.PI / 2.0);
-        float perpZ = (float) Math.cos(yawRad + Math.PI / 2.0);
+    /**
+     * Build and play the wave timeline. Cells are grouped by Chebyshev distance from
+     * the caster (one "column" per distance ring); each column shows colStepMs after
+     * the previous one and lingers waveLinger. Ground heights are resolved once here,
+     * so this must run on the world thread.
+     */
+    private static void playWave(String modelAssetId, float entityScale, World world,
+                                 int casterGridX, int casterGridZ, float npcY,
+                                 Set<SpellPatternCalculator.GridCell> cells,
+                                 float yawRad, int numSweeps, long colStepMs, long waveLinger) {
+        if (cells.isEmpty() || numSweeps <= 0) return;
 
-        // Group cells by Chebyshev distance from caster — each distance ring is one "column"
+        // Group cells by Chebyshev distance from caster, excluding the caster cell
         java.util.TreeMap<Integer, List<SpellPatternCalculator.GridCell>> byDist = new java.util.TreeMap<>();
-        for (SpellPatternCalculator.GridCell c : filteredCells) {
+        for (SpellPatternCalculator.GridCell c : cells) {
+            if (c.x == casterGridX && c.z == casterGridZ) continue;
             int d = SpellPatternCalculator.getDistance(casterGridX, casterGridZ, c.x, c.z);
             byDist.computeIfAbsent(d, k -> new ArrayList<>()).add(c);
         }
         List<List<SpellPatternCalculator.GridCell>> columns = new ArrayList<>(byDist.values());
         if (columns.isEmpty()) return;
 
-        int numCols     = columns.size();
-        long colStepMs  = 150L;
-        long waveLinger = 180L;
-        long sweepDur   = numCols * colStepMs + waveLinger;
-        int  numSweeps  = 3;
+        // Perpendicular offset (±0.5) along the axis perpendicular to cast direction
+        float perpX = (float) Math.sin(yawRad + Math.PI / 2.0);
+        float perpZ = (float) Math.cos(yawRad + Math.PI / 2.0);
 
-        final float fpX = perpX, fpZ = perpZ;
+        // Spawn positions per column, 2 entities per cell
+        List<List<double[]>> columnPositions = new ArrayList<>();
+        for (List<SpellPatternCalculator.GridCell> col : columns) {
+            List<double[]> positions = new ArrayList<>();
+            for (SpellPatternCalculator.GridCell c : col) {
+                float wx = (c.x * 2.0f) + 1.0f;
+                float wz = (c.z * 2.0f) + 1.0f;
+                Float groundY = SpellVisualManager.scanForGround(world, c.x, c.z, npcY + 30f, 45);
+                float wy = (groundY != null ? groundY : npcY) + 0.5f;
+                for (float sign : new float[]{-0.5f, 0.5f}) {
+                    positions.add(new double[]{wx + perpX * sign, wy, wz + perpZ * sign});
+                }
+            }
+            columnPositions.add(positions);
+        }
 
+        long sweepDur = columns.size() * colStepMs + waveLinger;
+        EffectTimeline wave = new EffectTimeline();
         for (int sweep = 0; sweep < numSweeps; sweep++) {
             long sweepStart = sweep * (sweepDur + 60L);
-
-            for (int ci = 0; ci < numCols; ci++) {
-                final List<SpellPatternCalculator.GridCell> col = columns.get(ci);
-                final long showAt   = sweepStart + ci * colStepMs;
-                final long hideAt   = showAt + waveLinger;
-
-                SCHED.schedule(() -> world.execute(() -> {
-                    List<Ref<EntityStore>> colRefs = new ArrayList<>();
-                    for (SpellPatternCalculator.GridCell c : col) {
-                        float wx = (c.x * 2.0f) + 1.0f;
-                        float wz = (c.z * 2.0f) + 1.0f;
-                        Float groundY = SpellVisualManager.scanForGround(world, c.x, c.z, npcY + 30f, 45);
-                        float wy = (groundY != null ? groundY : npcY) + 0.5f;
-                        // 2 entities per cell, offset ±0.5 perpendicular to cast direction
-                        for (float sign : new float[]{-0.5f, 0.5f}) {
-                            Ref<EntityStore> ref = spawnStationary(modelAssetId, entityScale, world,
-                                    wx + fpX * sign, wy, wz + fpZ * sign, yawRad);
-                            if (ref != null) colRefs.add(ref);
-                        }
-                    }
-                    SCHED.schedule(() -> world.execute(() -> {
-                        for (Ref<EntityStore> r : colRefs) despawn(world, r);
-                    }), waveLinger, TimeUnit.MILLISECONDS);
-                }), showAt, TimeUnit.MILLISECONDS);
+            for (int ci = 0; ci < columns.size(); ci++) {
+                int showAt = EffectTimeline.ticks(sweepStart + ci * colStepMs);
+                int hideAt = EffectTimeline.ticks(sweepStart + ci * colStepMs + waveLinger);
+                for (double[] pos : columnPositions.get(ci)) {
+                    int slot = wave.spawn(showAt, modelAssetId, entityScale, pos[0], pos[1], pos[2], 0f, yawRad);
+                    wave.despawn(hideAt, slot);
+                }
             }
         }
+        VfxSequencer.play(world, wave);
     }
 
     /**
      * Entangle: spawn 4 Entangle entities per grid cell in the affected area,
      * offset at the 4 block corners (+/-0.5, +/-0.5) within the 2×2 grid cell.
      * Each grows from scale 0→entityScale over growMs.
-     * Returns a list of all spawned refs so they can be tracked for despawn.
+     * The vines belong to the persistent effect, which releases them when it ends and
+     * gets no deadline (the reaper goes by isLive()); without one they are reaped after
+     * ENTANGLE_TTL_MS. Returns all spawned refs.
      */
     public static List<Ref<EntityStore>> spawnEntangle(World world,
                                                        Set<SpellPatternCalculator.GridCell> cells,
-                                                       float npcY) {
+                                                       float npcY, @Nullable PersistentSpellEffect effect) {
+        long ttlMs = effect != null ? 0L : ENTANGLE_TTL_MS;
         List<Ref<EntityStore>> refs = new java.util.concurrent.CopyOnWriteArrayList<>();
         float[] offsets = {-0.5f, 0.5f};
         for (SpellPatternCalculator.GridCell c : cells) {
@@ -289,85 +216,58 @@ public class SpellVisualEffect {
             for (float ox : offsets) {
                 for (float oz : offsets) {
                     final float fx = cx + ox, fy = wy, fz = cz + oz;
-                    Ref<EntityStore> ref = spawnGrowing("Entangle", 0.7f, world, fx, fy, fz, 400L);
+                    Ref<EntityStore> ref = spawnGrowing("Entangle", 0.7f, world, fx, fy, fz, 400L, effect, ttlMs);
                     if (ref != null) refs.add(ref);
                 }
             }
         }
+        if (effect != null) effect.attachVisuals(world, refs);
         return refs;
     }
 
 
     /**
-     * Ice Storm: Frost_Bolt entities fall from 5 world-units above ground into random cells
-     * for 5 seconds at 5-10 bolts/second.
+     * Ice Storm: Frost_Bolt entities fall from 10 world-units above ground into random cells
+     * for 5 seconds at 5-10 bolts/second. The whole storm is one timeline, rolled up
+     * front; must run on the world thread (ground scans).
      */
     public static void spawnIceStorm(World world,
                                      Set<SpellPatternCalculator.GridCell> cells,
                                      float npcY, List<PlayerRef> players) {
         if (cells.isEmpty()) return;
         List<SpellPatternCalculator.GridCell> cellList = new ArrayList<>(cells);
+        java.util.Map<SpellPatternCalculator.GridCell, Float> ground = new java.util.HashMap<>();
         java.util.Random rng = new java.util.Random();
         long durationMs = 5000L;
-        long startTime = System.currentTimeMillis();
-
-        Thread t = new Thread(() -> {
-            while (System.currentTimeMillis() - startTime < durationMs) {
-                long sleepMs = 100 + rng.nextInt(100); // 100–200ms = 5–10/sec
-                try { Thread.sleep(sleepMs); } catch (InterruptedException e) { break; }
-
-                SpellPatternCalculator.GridCell cell = cellList.get(rng.nextInt(cellList.size()));
-                float wx = (cell.x * 2.0f) + 1.0f + (rng.nextFloat() - 0.5f) * 1.2f;
-                float wz = (cell.z * 2.0f) + 1.0f + (rng.nextFloat() - 0.5f) * 1.2f;
-                Float groundY = SpellVisualManager.scanForGround(world, cell.x, cell.z, npcY + 30f, 45);
-                float gy = groundY != null ? groundY : npcY;
-                float startY = gy + 10f;
-                float endY   = gy + 0.3f;
-                final float fx = wx, fz = wz, fStartY = startY, fEndY = endY;
-                world.execute(() -> launchFallingBolt(world, fx, fStartY, fz, fEndY, players));
-            }
-        });
-        t.setDaemon(true);
-        t.setName("griddify-icestorm");
-        t.start();
-    }
 
-    private static void launchFallingBolt(World world,
-                                          float wx, float startY, float wz, float endY,
-                                          List<PlayerRef> players) {
-        Model model = getModel("Frost_Bolt", ProjectileType.ICE_STORM_BOLT.entityScale);
-        if (model == null) return;
-        // pitch = PI/2 so bolt faces downward
-        Ref<EntityStore> ref = spawnEntity(model, world, wx, startY, wz,
-                (float)(Math.PI / 2), 0f, 0f);
-        if (ref == null) return;
+        EffectTimeline storm = new EffectTimeline();
+        long at = 0;
+        while (true) {
+            at += 100 + rng.nextInt(100); // 100–200ms = 5–10/sec
+            if (at >= durationMs) break;
+
+            SpellPatternCalculator.GridCell cell = cellList.get(rng.nextInt(cellList.size()));
+            float wx = (cell.x * 2.0f) + 1.0f + (rng.nextFloat() - 0.5f) * 1.2f;
+            float wz = (cell.z * 2.0f) + 1.0f + (rng.nextFloat() - 0.5f) * 1.2f;
+            float gy = ground.computeIfAbsent(cell, c -> {
+                Float g = SpellVisualManager.scanForGround(world, c.x, c.z, npcY + 30f, 45);
+                return g != null ? g : npcY;
+            });
+            addFallingBolt(storm, EffectTimeline.ticks(at), wx, gy + 10f, wz, gy + 0.3f);
+        }
+        VfxSequencer.play(world, storm);
+    }
 
+    /** One Frost_Bolt falling straight down at 8 units/s, then despawning. */
+    private static void addFallingBolt(EffectTimeline tl, int startTick,
+                                       float wx, float startY, float wz, float endY) {
         float fallDist = startY - endY;
-        long tickMs = 50L;
-        long steps = Math.max(1, (long)(fallDist / 8.0f * 1000 / tickMs));
-        float dyPerTick = -fallDist / steps;
-
-        Thread ft = new Thread(() -> {
-            double y = startY;
-            for (int i = 0; i < steps; i++) {
-                try { Thread.sleep(tickMs); } catch (InterruptedException e) { break; }
-                if (!ref.isValid()) return;
-                y += dyPerTick;
-                final double fy = y;
-                world.execute(() -> {
-                    if (!ref.isValid()) return;
-                    try {
-                        TransformComponent tc = world.getEntityStore().getStore().getComponent(
-                                ref, TransformComponent.getComponentType());
-                        if (tc != null) tc.setPosition(new Vector3d(wx, fy, wz));
-                    } catch (Exception ignored) {}
-                });
-            }
-            world.execute(() -> despawn(world, ref));
-        });
-        ft.setDaemon(true);
-        ft.setName("griddify-bolt-fall");
-        ft.start();
+        int steps = (int) Math.max(1, (long) (fallDist / 8.0f * 1000 / VfxSequencer.TICK_MS));
+        // pitch = PI/2 so bolt faces downward
+        int slot = tl.spawn(startTick, "Frost_Bolt", ProjectileType.ICE_STORM_BOLT.entityScale,
+                wx, startY, wz, (float) (Math.PI / 2), 0f);
+        tl.moveLinear(startTick, startTick + steps, slot, wx, startY, wz, wx, endY, wz);
+        tl.despawn(startTick + steps, slot);
     }
 
 
@@ -409,107 +309,54 @@ public class SpellVisualEffect {
     /**
      * Launch a flying projectile from start to end position over durationMs.
      * The entity moves smoothly and despawns when it reaches the target.
-     * Must be called inside world.execute().
      */
     public static void launchProjectile(String modelAssetId, float entityScale,
                                         World world,
                                         double startX, double startY, double startZ,
                                         double endX, double endY, double endZ,
                                         float yaw, long durationMs) {
-        Model model = getModel(modelAssetId, entityScale);
-        if (model == null) return;
-
-        // Spawn at start position
-        Ref<EntityStore> ref = spawnEntity(model, world, startX, startY, startZ, 0f, yaw, 0f);
-        if (ref == null) return;
-
-        // Calculate movement per tick
-        double dx = endX - startX;
-        double dy = endY - startY;
-        double dz = endZ - startZ;
-        long tickMs = 50L; // 20 ticks per second
-        long steps = Math.max(1, durationMs / tickMs);
-        double dxPerTick = dx / steps;
-        double dyPerTick = dy / steps;
-        double dzPerTick = dz / steps;
-
-        // Animate movement
-        Thread flyThread = new Thread(() -> {
-            double x = startX;
-            double y = startY;
-            double z = startZ;
-            for (int i = 0; i < steps; i++) {
-                try { Thread.sleep(tickMs); } catch (InterruptedException e) { break; }
-                if (!ref.isValid()) return;
-                x += dxPerTick;
-                y += dyPerTick;
-                z += dzPerTick;
-                final double fx = x, fy = y, fz = z;
-                world.execute(() -> {
-                    if (!ref.isValid()) return;
-                    try {
-                        Store<EntityStore> store = world.getEntityStore().getStore();
-                        TransformComponent tc = store.getComponent(ref, TransformComponent.getComponentType());
-                        if (tc != null) tc.setPosition(new Vector3d(fx, fy, fz));
-                    } catch (Exception ignored) {}
-                });
-            }
-            // Despawn when reaching target
-            world.execute(() -> despawn(world, ref));
-        });
-        flyThread.setDaemon(true);
-        flyThread.setName("griddify-projectile");
-        flyThread.start();
+        EffectTimeline flight = new EffectTimeline();
+        addProjectile(flight, 0, modelAssetId, entityScale, startX, startY, startZ, endX, endY, endZ, yaw, durationMs);
+        VfxSequencer.play(world, flight);
     }
 
+    /**
+     * Append a projectile flight to a timeline: spawn at startTick, one move per tick
+     * (20 ticks per second), despawn on arrival. Lets callers stagger many shots in
+     * a single timeline (Burning Hands columns).
+     */
+    public static void addProjectile(EffectTimeline tl, int startTick,
+                                     String modelAssetId, float entityScale,
+                                     double startX, double startY, double startZ,
+                                     double endX, double endY, double endZ,
+                                     float yaw, long durationMs) {
+        int steps = (int) Math.max(1, durationMs / VfxSequencer.TICK_MS);
+        int slot = tl.spawn(startTick, modelAssetId, entityScale, startX, startY, startZ, 0f, yaw);
+        tl.moveLinear(startTick, startTick + steps, slot, startX, startY, startZ, endX, endY, endZ);
+        tl.despawn(startTick + steps, slot);
+    }
+
+    /** Hand the entity back to its VfxPool (parked for reuse, or removed). World thread. */
     public static void despawn(World world, @Nullable Ref<EntityStore> ref) {
-        if (ref == null || !ref.isValid()) return;
-        try { world.getEntityStore().getStore().removeEntity(ref, RemoveReason.REMOVE); }
-        catch (Exception ignored) {}
+        VfxPool.release(world, ref);
     }
 
     // ── INTERNALS ────────────────────────────────────────────────────────────
 
+    /** A pooled entity for (assetId, scale) at the given pose, or null if the model is missing. World thread. */
     @Nullable
-    private static Ref<EntityStore> spawnEntity(Model model, World world,
-                                                double wx, double wy, double wz,
-                                                float pitch, float yaw, float roll) {
-        try {
-            Store<EntityStore> store = world.getEntityStore().getStore();
-            Holder<EntityStore> holder = EntityStore.REGISTRY.newHolder();
-            holder.addComponent(TransformComponent.getComponentType(),
-                    new TransformComponent(new Vector3d(wx, wy, wz), new Vector3f(pitch, yaw, roll)));
-            holder.addComponent(PersistentModel.getComponentType(), new PersistentModel(model.toReference()));
-            holder.addComponent(ModelComponent.getComponentType(), new ModelComponent(model));
-            holder.addComponent(BoundingBox.getComponentType(), new BoundingBox(model.getBoundingBox()));
-            holder.addComponent(NetworkId.getComponentType(),
-                    new NetworkId(store.getExternalData().takeNextNetworkId()));
-            holder.ensureComponent(UUIDComponent.getComponentType());
-            return store.addEntity(holder, AddReason.SPAWN);
-        } catch (Exception e) {
-            System.err.println("[Griddify] [VFX] spawnEntity failed: " + e.getMessage());
-            return null;
-        }
+    static Ref<EntityStore> spawnPooled(String assetId, float scale, World world,
+                                        double wx, double wy, double wz, float pitch, float yaw,
+                                        @Nullable Object owner, long ttlMs) {
+        Model model = getModel(assetId, scale);
+        if (model == null) return null;
+        return VfxPool.acquire(world, assetId, scale, model, wx, wy, wz, pitch, yaw, false, owner, ttlMs);
     }
 
     @Nullable
-    private static Model getModel(String assetId, float scale) {
-        String key = assetId + "@" + scale;
-        Model cached = modelCache.get(key);
-        if (cached != null) return cached;
-        try {
-            ModelAsset asset = ModelAsset.getAssetMap().getAsset(assetId);
-            if (asset == null) {
-                System.err.println("[Griddify] [VFX] ModelAsset '" + assetId + "' not found");
-                return null;
-            }
-            Model model = Model.createScaledModel(asset, scale);
-            modelCache.put(key, model);
-            System.out.println("[Griddify] [VFX] Loaded '" + assetId + "' scale=" + scale);
-            return model;
-        } catch (Exception e) {
-            System.err.println("[Griddify] [VFX] Load failed '" + assetId + "': " + e.getMessage());
-            return null;
-        }
+    static Model getModel(String assetId, float scale) {
+        Model model = ModelRegistry.get(assetId, scale);
+        if (model == null) System.err.println("[Griddify] [VFX] ModelAsset '" + assetId + "' not found");
+        return model;
     }
 }
\ No newline at end of file
@@ -1,8 +1,12 @@
 package com.gridifymydungeon.plugin.spell;
 
 import com.gridifymydungeon.plugin.dnd.commands.MonsterEntityController;
+import com.gridifymydungeon.plugin.gridmove.BlockFlags;
+import com.gridifymydungeon.plugin.gridmove.EntityReaper;
 import com.gridifymydungeon.plugin.gridmove.GridMoveManager;
 import com.gridifymydungeon.plugin.gridmove.GridPlayerState;
+import com.gridifymydungeon.plugin.gridmove.ModelRegistry;
+import com.gridifymydungeon.plugin.gridmove.TilePool;
 import com.hypixel.hytale.component.AddReason;
 import com.hypixel.hytale.component.Holder;
 import com.hypixel.hytale.component.Ref;
@@ -11,9 +15,7 @@ import com.hypixel.hytale.component.Store;
 import com.hypixel.hytale.math.util.ChunkUtil;
 import com.hypixel.hytale.math.vector.Vector3d;
 import com.hypixel.hytale.math.vector.Vector3f;
-import com.hypixel.hytale.math.vector.Vector3i;
 import com.hypixel.hytale.server.core.asset.type.model.config.Model;
-import com.hypixel.hytale.server.core.asset.type.model.config.ModelAsset;
 import com.hypixel.hytale.server.core.entity.UUIDComponent;
 import com.hypixel.hytale.server.core.modules.entity.component.BoundingBox;
 import com.hypixel.hytale.server.core.modules.entity.component.ModelComponent;
@@ -26,8 +28,6 @@ import com.hypixel.hytale.server.core.universe.world.chunk.section.ChunkSection;
 import com.hypixel.hytale.server.core.universe.world.chunk.section.FluidSection;
 import com.hypixel.hytale.server.core.universe.world.storage.ChunkStore;
 import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
-import com.hypixel.hytale.protocol.BlockMaterial;
-import com.hypixel.hytale.server.core.asset.type.blocktype.config.BlockType;
 
 import java.util.*;
 import java.util.concurrent.Executors;
@@ -52,6 +52,11 @@ public class SpellVisualManager {
     // Spell area (red, Grid_Spell)
     private final Map<UUID, List<Ref<EntityStore>>> playerSpellVisuals = new HashMap<>();
 
+    // Tiles placed by showSpellArea, by cell, plus the reference Y they were grounded from —
+    // lets the next showSpellArea keep tiles whose cell is still covered (aim rotation diff)
+    private final Map<UUID, Map<SpellPatternCalculator.GridCell, Ref<EntityStore>>> playerSpellTiles = new HashMap<>();
+    private final Map<UUID, Float> playerSpellRefY = new HashMap<>();
+
     // Spell range ring (yellow, Grid_Range)  FIX #1
     private final Map<UUID, List<Ref<EntityStore>>> playerRangeVisuals = new HashMap<>();
 
@@ -99,19 +104,23 @@ public class SpellVisualManager {
 
     /**
      * Show spell impact area in red, optionally private to owner.
+     * Tiles from the previous call whose cell is still covered stay where they are;
+     * only the cells that left or entered the area are parked / placed.
      * @param owner PlayerRef for privacy filter (null = visible to all)
      */
     public void showSpellArea(UUID playerUUID, Set<SpellPatternCalculator.GridCell> cells,
                               World world, float playerY, PlayerRef owner) {
-        clearSpellVisuals(playerUUID, world);
-
         Model model = getModel(SPELL_MODEL_ID);
         if (model == null) {
+            clearSpellVisuals(playerUUID, world);
             System.err.println("[Griddify] [SPELL] Failed to load spell model!");
             return;
         }
 
         float referenceY = resolveNpcY(playerUUID, playerY);
+        Map<SpellPatternCalculator.GridCell, Ref<EntityStore>> kept = keepCoveredTiles(playerUUID, cells, referenceY);
+        clearSpellVisuals(playerUUID, world);
+
         // Park 30 units below the player's feet — always outside tracker range of nearby players.
         final float parkedY = referenceY - 30f;
         // Cluster parked tiles at the player's XZ so they don't scatter underground.
@@ -120,10 +129,17 @@ public class SpellVisualManager {
         float parkedZ = (_gps != null) ? (_gps.currentGridZ * 2.0f) + 1.0f : 0f;
 
         List<Ref<EntityStore>> newVisuals = new ArrayList<>();
+        Map<SpellPatternCalculator.GridCell, Ref<EntityStore>> tiles = new HashMap<>();
         Store<EntityStore> store = world.getEntityStore().getStore();
         List<Ref<EntityStore>> pool = playerSpellPool.computeIfAbsent(playerUUID, k -> new ArrayList<>());
 
         for (SpellPatternCalculator.GridCell cell : cells) {
+            Ref<EntityStore> same = kept.get(cell);
+            if (same != null) {
+                newVisuals.add(same);
+                tiles.put(cell, same);
+                continue;
+            }
             float cx = (cell.x * 2.0f) + 1.0f;
             float cz = (cell.z * 2.0f) + 1.0f;
 
@@ -145,10 +161,10 @@ public class SpellVisualManager {
                     if (tc != null) tc.setPosition(new Vector3d(cx, targetY, cz));
                 } catch (Exception ignored) {}
             } else {
-                // Fresh spawn: born below player → hide immediately → teleport to real Y.
+                // From the world pool: placed below player → hide immediately → teleport to real Y.
                 // Other players receive the remove-packet while tile is underground,
                 // so they never see it appear at ground level.
-                ref = spawnTile(store, model, parkedX, parkedY, parkedZ);
+                ref = TilePool.borrow(world, model, parkedX, parkedY, parkedZ, "spell-tile", this);
                 if (ref == null) continue;
                 if (owner != null) hideRefFromOthers(store, world, ref, owner);
                 try {
@@ -158,9 +174,12 @@ public class SpellVisualManager {
             }
 
             newVisuals.add(ref);
+            tiles.put(cell, ref);
         }
 
         playerSpellVisuals.put(playerUUID, newVisuals);
+        playerSpellTiles.put(playerUUID, tiles);
+        playerSpellRefY.put(playerUUID, referenceY);
 
         // For wide spells (>45° arc) pre-load the pool so the NEXT showSpellArea call
         // can recycle immediately instead of spawning fresh tiles.
@@ -169,10 +188,38 @@ public class SpellVisualManager {
         }
 
         System.out.println("[Griddify] [SPELL] Spell overlay: " + cells.size()
-                + " cells placed (spawn-hide-teleport)" + (owner != null ? " (private)" : ""));
+                + " cells (" + kept.size() + " kept, " + (newVisuals.size() - kept.size()) + " placed)"
+                + (owner != null ? " (private)" : ""));
+    }
+
+    /**
+     * Detach the previous overlay's tiles that still cover a cell in the new area, so
+     * clearSpellVisuals only parks the rest. Nothing is kept if the reference Y moved
+     * (tiles were grounded from a different height).
+     */
+    private Map<SpellPatternCalculator.GridCell, Ref<EntityStore>> keepCoveredTiles(
+            UUID playerUUID, Set<SpellPatternCalculator.GridCell> cells, float referenceY) {
+        Map<SpellPatternCalculator.GridCell, Ref<EntityStore>> prev = playerSpellTiles.remove(playerUUID);
+        Float prevY = playerSpellRefY.remove(playerUUID);
+        List<Ref<EntityStore>> visuals = playerSpellVisuals.get(playerUUID);
+        if (prev == null || visuals == null || prevY == null || prevY != referenceY) return Map.of();
+
+        Map<SpellPatternCalculator.GridCell, Ref<EntityStore>> kept = new HashMap<>();
+        Set<Ref<EntityStore>> keptRefs = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (Map.Entry<SpellPatternCalculator.GridCell, Ref<EntityStore>> e : prev.entrySet()) {
+            Ref<EntityStore> ref = e.getValue();
+            if (ref != null && ref.isValid() && cells.contains(e.getKey())) {
+                kept.put(e.getKey(), ref);
+                keptRefs.add(ref);
+            }
+        }
+        if (!keptRefs.isEmpty()) visuals.removeIf(keptRefs::contains);
+        return kept;
     }
 
     public void clearSpellVisuals(UUID playerUUID, World world) {
+        playerSpellTiles.remove(playerUUID);
+        playerSpellRefY.remove(playerUUID);
         List<Ref<EntityStore>> visuals = playerSpellVisuals.remove(playerUUID);
         if (visuals == null) return;
         Store<EntityStore> store = world.getEntityStore().getStore();
@@ -206,6 +253,8 @@ public class SpellVisualManager {
 
     /** Fully destroy spell visuals AND its pool for one player. */
     public void destroySpellVisuals(UUID playerUUID, World world) {
+        playerSpellTiles.remove(playerUUID);
+        playerSpellRefY.remove(playerUUID);
         List<Ref<EntityStore>> visuals = playerSpellVisuals.remove(playerUUID);
         List<Ref<EntityStore>> pool = playerSpellPool.remove(playerUUID);
         Store<EntityStore> store = world.getEntityStore().getStore();
@@ -225,6 +274,7 @@ public class SpellVisualManager {
             }
             pool.clear();
         }
+        EntityReaper.release(world, playerUUID);
     }
 
 // ========================================================
@@ -259,6 +309,7 @@ public class SpellVisualManager {
         // Move immediately to real Y (no explicit hide needed — underground spawn is invisible).
         Ref<EntityStore> ref = spawnTile(store, model, parkedX, parkedY, parkedZ);
         if (ref != null) {
+            EntityReaper.tag(world, ref, "spell-tile", playerUUID);
             try {
                 TransformComponent tc = store.getComponent(ref, TransformComponent.getComponentType());
                 if (tc != null) tc.setPosition(new Vector3d(cx, targetY, cz));
@@ -268,15 +319,8 @@ public class SpellVisualManager {
     }
 
     private static Model getSpellModelScaled(float scale) {
-        try {
-            ModelAsset asset = ModelAsset.getAssetMap().getAsset(SPELL_MODEL_ID);
-            if (asset != null) return Model.createScaledModel(asset, scale);
-            asset = ModelAsset.getAssetMap().getAsset(FALLBACK_MODEL_ID);
-            if (asset != null) return Model.createScaledModel(asset, scale);
-        } catch (Exception e) {
-            System.err.println("[Griddify] [SPELL] Error loading scaled model: " + e.getMessage());
-        }
-        return null;
+        Model model = ModelRegistry.get(SPELL_MODEL_ID, scale);
+        return model != null ? model : ModelRegistry.get(FALLBACK_MODEL_ID, scale);
     }
 
 // ========================================================
@@ -296,13 +340,7 @@ public class SpellVisualManager {
                 boolean hasGround = false;
                 for (int xOff = 0; xOff < 2; xOff++) {
                     for (int zOff = 0; zOff < 2; zOff++) {
-                        BlockType block = world.getBlockType(
-                                new com.hypixel.hytale.math.vector.Vector3i(
-                                        (gridX * 2) + xOff, blockY, (gridZ * 2) + zOff));
-                        if (block != null
-                                && block.getMaterial() == BlockMaterial.Solid
-                                && (block.getId() == null
-                                || !block.getId().toLowerCase().contains("barrier"))) {
+                        if (BlockFlags.isGround(BlockFlags.at(world, (gridX * 2) + xOff, blockY, (gridZ * 2) + zOff))) {
                             hasGround = true;
                         }
                     }
@@ -326,9 +364,17 @@ public class SpellVisualManager {
      */
     public void showRangeOverlay(UUID playerUUID, int casterGridX, int casterGridZ,
                                  int rangeGrids, World world, float npcY, PlayerRef owner) {
+        showRangeOverlay(playerUUID, casterGridX, casterGridZ,
+                SpellCastingState.computeRangeRing(casterGridX, casterGridZ, rangeGrids), world, npcY, owner);
+    }
+
+    /** Range ring from cells precomputed at /cast (SpellCastingState.getRangeCells). */
+    public void showRangeOverlay(UUID playerUUID, int casterGridX, int casterGridZ,
+                                 List<SpellPatternCalculator.GridCell> ringCells,
+                                 World world, float npcY, PlayerRef owner) {
         clearRangeOverlay(playerUUID, world);
 
-        if (rangeGrids <= 0) return;
+        if (ringCells.isEmpty()) return;
 
         Model model = getRangeModel();
         if (model == null) {
@@ -345,45 +391,39 @@ public class SpellVisualManager {
         float parkedZ = (casterGridZ * 2.0f) + 1.0f;
         List<Ref<EntityStore>> pool = playerRangePool.computeIfAbsent(playerUUID, k -> new ArrayList<>());
 
-        for (int dx = -rangeGrids; dx <= rangeGrids; dx++) {
-            for (int dz = -rangeGrids; dz <= rangeGrids; dz++) {
-                int chebyshev = Math.max(Math.abs(dx), Math.abs(dz));
-                if (chebyshev == 0) continue;
-                if (chebyshev > rangeGrids) continue;
-
-                int gx = casterGridX + dx;
-                int gz = casterGridZ + dz;
-                float cx = (gx * 2.0f) + 1.0f;
-                float cz2 = (gz * 2.0f) + 1.0f;
-
-                Float groundY = MonsterEntityController.scanForGroundPublic(world, gx, gz, npcY + 3.0f);
-                if (groundY == null) groundY = npcY;
-                float targetY = groundY + RANGE_Y_OFFSET;
-
-                Ref<EntityStore> ref = null;
-                // Recycle from pool first (already hidden, just teleport)
-                while (!pool.isEmpty()) {
-                    Ref<EntityStore> c = pool.remove(pool.size() - 1);
-                    if (c != null && c.isValid()) { ref = c; break; }
-                }
+        for (SpellPatternCalculator.GridCell cell : ringCells) {
+            int gx = cell.x;
+            int gz = cell.z;
+            float cx = (gx * 2.0f) + 1.0f;
+            float cz2 = (gz * 2.0f) + 1.0f;
 
-                if (ref != null) {
-                    try {
-                        TransformComponent tc = store.getComponent(ref, TransformComponent.getComponentType());
-                        if (tc != null) tc.setPosition(new Vector3d(cx, targetY, cz2));
-                    } catch (Exception ignored) {}
-                } else {
-                    // Fresh spawn: born below player → hide immediately → teleport to real Y.
-                    ref = spawnTile(store, model, parkedX, parkedY, parkedZ);
-                    if (ref == null) continue;
-                    if (owner != null) hideRefFromOthers(store, world, ref, owner);
-                    try {
-                        TransformComponent tc = store.getComponent(ref, TransformComponent.getComponentType());
-                        if (tc != null) tc.setPosition(new Vector3d(cx, targetY, cz2));
-                    } catch (Exception ignored) {}
-                }
-                refs.add(ref);
+            Float groundY = MonsterEntityController.scanForGroundPublic(world, gx, gz, npcY + 3.0f);
+            if (groundY == null) groundY = npcY;
+            float targetY = groundY + RANGE_Y_OFFSET;
+
+            Ref<EntityStore> ref = null;
+            // Recycle from pool first (already hidden, just teleport)
+            while (!pool.isEmpty()) {
+                Ref<EntityStore> c = pool.remove(pool.size() - 1);
+                if (c != null && c.isValid()) { ref = c; break; }
+            }
+
+            if (ref != null) {
+                try {
+                    TransformComponent tc = store.getComponent(ref, TransformComponent.getComponentType());
+                    if (tc != null) tc.setPosition(new Vector3d(cx, targetY, cz2));
+                } catch (Exception ignored) {}
+            } else {
+                // From the world pool: placed below player → hide immediately → teleport to real Y.
+                ref = TilePool.borrow(world, model, parkedX, parkedY, parkedZ, "range-tile", this);
+                if (ref == null) continue;
+                if (owner != null) hideRefFromOthers(store, world, ref, owner);
+                try {
+                    TransformComponent tc = store.getComponent(ref, TransformComponent.getComponentType());
+                    if (tc != null) tc.setPosition(new Vector3d(cx, targetY, cz2));
+                } catch (Exception ignored) {}
             }
+            refs.add(ref);
         }
 
         playerRangeVisuals.put(playerUUID, refs);
@@ -395,8 +435,8 @@ public class SpellVisualManager {
                 preloadSpellPool(playerUUID, refs.size(), spellMdl, store, world, owner, parkedX, parkedY, parkedZ);
         }
 
-        System.out.println("[Griddify] [RANGE] Range ring: " + refs.size() + " tiles at radius " + rangeGrids
-                + " (spawn-hide-teleport)");
+        System.out.println("[Griddify] [RANGE] Range ring: " + refs.size() + " tiles around ("
+                + casterGridX + "," + casterGridZ + ") (spawn-hide-teleport)");
     }
 
     /** Legacy overload without owner (range ring visible to all — use sparingly). */
@@ -438,6 +478,23 @@ public class SpellVisualManager {
             if (ref != null && ref.isValid()) { try { store.removeEntity(ref, RemoveReason.REMOVE); } catch (Exception ignored) {} }
     }
 
+    /** Players holding any spell tile, range tile or pool here (session audit). World thread. */
+    public Set<UUID> trackedPlayers() {
+        Set<UUID> ids = new HashSet<>(playerSpellVisuals.keySet());
+        ids.addAll(playerSpellTiles.keySet());
+        ids.addAll(playerSpellRefY.keySet());
+        ids.addAll(playerRangeVisuals.keySet());
+        ids.addAll(playerSpellPool.keySet());
+        ids.addAll(playerRangePool.keySet());
+        return ids;
+    }
+
+    /** Remove every spell and range tile the player owns, pools included (disconnect). World thread. */
+    public void releasePlayer(UUID playerUUID, World world) {
+        destroySpellVisuals(playerUUID, world);
+        destroyRangeOverlay(playerUUID, world);
+    }
+
     public void clearAllRangeVisuals(World world) {
         for (UUID id : new HashSet<>(playerRangeVisuals.keySet())) clearRangeOverlay(id, world);
     }
@@ -611,7 +668,7 @@ public class SpellVisualManager {
         List<Ref<EntityStore>> pool = playerSpellPool.computeIfAbsent(playerUUID, k -> new ArrayList<>());
         int toSpawn = Math.max(0, targetCount - pool.size());
         for (int i = 0; i < toSpawn; i++) {
-            Ref<EntityStore> ref = spawnTile(store, model, parkedX, parkedY, parkedZ);
+            Ref<EntityStore> ref = TilePool.borrow(world, model, parkedX, parkedY, parkedZ, "spell-tile", this);
             if (ref == null) continue;
             hideRefFromOthers(store, world, ref, owner);
             pool.add(ref);
@@ -672,16 +729,8 @@ public class SpellVisualManager {
     }
 
     private static Model loadModel(String id) {
-        try {
-            ModelAsset asset = ModelAsset.getAssetMap().getAsset(id);
-            if (asset != null) {
-                System.out.println("[Griddify] [SPELL] Loaded model: " + id);
-                return Model.createScaledModel(asset, 1.0f);
-            }
-            System.out.println("[Griddify] [SPELL] Model not found: " + id);
-        } catch (Exception e) {
-            System.err.println("[Griddify] [SPELL] Error loading " + id + ": " + e.getMessage());
-        }
-        return null;
+        Model model = ModelRegistry.get(id);
+        System.out.println("[Griddify] [SPELL] " + (model != null ? "Loaded model: " : "Model not found: ") + id);
+        return model;
     }
 }
\ No newline at end of file
@@ -0,0 +1,271 @@
+package com.gridifymydungeon.plugin.spell;
+
+import com.gridifymydungeon.plugin.gridmove.EntityReaper;
+import com.hypixel.hytale.component.AddReason;
+import com.hypixel.hytale.component.Holder;
+import com.hypixel.hytale.component.Ref;
+import com.hypixel.hytale.component.RemoveReason;
+import com.hypixel.hytale.component.Store;
+import com.hypixel.hytale.math.vector.Vector3d;
+import com.hypixel.hytale.math.vector.Vector3f;
+import com.hypixel.hytale.server.core.asset.type.model.config.Model;
+import com.hypixel.hytale.server.core.entity.UUIDComponent;
+import com.hypixel.hytale.server.core.modules.entity.component.ActiveAnimationComponent;
+import com.hypixel.hytale.server.core.modules.entity.component.BoundingBox;
+import com.hypixel.hytale.server.core.modules.entity.component.ModelComponent;
+import com.hypixel.hytale.server.core.modules.entity.component.PersistentModel;
+import com.hypixel.hytale.server.core.modules.entity.component.TransformComponent;
+import com.hypixel.hytale.server.core.modules.entity.tracker.NetworkId;
+import com.hypixel.hytale.server.core.universe.world.World;
+import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+
+import javax.annotation.Nullable;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Per-world pools of parked spell-effect entities, one pool per (model, scale).
+ *
+ * Effects are short-lived and come in bursts (a Thunderwave sweep, an Ice Storm,
+ * a Burning Hands fan), so instead of building a Holder, taking a network id and
+ * adding an entity for every bolt and removing it again a few ticks later, a
+ * released entity is parked PARK_DEPTH blocks under where it was, inside the
+ * terrain, and the next acquire for the same model teleports it back up. This is
+ * how TilePool parks overlay tiles too. The server has no per-entity visibility
+ * flag to toggle instead: the only hide available is the per-viewer EntityUpdates
+ * removal the fog of war uses, which the entity tracker undoes whenever the entity
+ * comes back into a viewer's range, so it would have to be re-sent for every
+ * player on every step.
+ *
+ * Capacity adapts to demand: each pool tracks the peak number of its entities in
+ * use, halving it every DECAY_MS once the burst is over. Idle entities beyond
+ * max(MIN_IDLE, peak), capped at MAX_IDLE, are removed on release. stats() reports
+ * the counters for logs.
+ *
+ * EntityReaper tags: a parked entity belongs to the world's pool. An entity in use
+ * belongs to the owner the caller names (the timeline playing it, the persistent
+ * spell it shows) and always carries a deadline, so one whose release never comes
+ * is reaped once its owner is done or the deadline passes, whichever is first.
+ *
+ * World thread only. Entities not acquired here are simply removed on release.
+ */
+public final class VfxPool {
+
+    private static final float PARK_DEPTH = 30f;
+    private static final int MIN_IDLE = 4;
+    private static final int MAX_IDLE = Integer.getInteger("griddify.vfxPool.maxIdle", 96);
+    private static final long DECAY_MS = 10_000L;
+
+    private static final class Pool {
+        final Deque<Ref<EntityStore>> idle = new ArrayDeque<>();
+        int inUse = 0, peak = 0;
+        long lastDecay = System.currentTimeMillis();
+
+        int capacity() {
+            long now = System.currentTimeMillis();
+            if (now - lastDecay >= DECAY_MS) {
+                peak = Math.max(inUse, peak / 2);
+                lastDecay = now;
+            }
+            return Math.min(MAX_IDLE, Math.max(MIN_IDLE, peak));
+        }
+    }
+
+    private static final class Shard implements EntityReaper.Owner {
+        final World world;
+        final Map<String, Pool> pools = new HashMap<>();
+        final Map<Ref<EntityStore>, String> keyOf = new IdentityHashMap<>();
+        int acquired = 0, reused = 0, spawned = 0, trimmed = 0;
+        Shard(World world) { this.world = world; }
+
+        /** Effects, parked or playing, are owned until the table forgets the pool. */
+        @Override
+        public boolean isLive() { return shards.get(world) == this; }
+    }
+
+    private static final Map<World, Shard> shards = new ConcurrentHashMap<>();
+
+    private static Shard shard(World world) {
+        return shards.computeIfAbsent(world, Shard::new);
+    }
+
+    private static String key(String modelId, float scale, boolean animated) {
+        return modelId + "@" + scale + (animated ? "+anim" : "");
+    }
+
+    // ========================================================
+    // ACQUIRE / RELEASE
+    // ========================================================
+
+    /**
+     * An entity showing model at (x, y, z) with the given rotation. Reuses a parked
+     * one for the same (modelId, scale) when available. Returns null if spawning fails.
+     *
+     * @param animated spawn with an ActiveAnimationComponent (projectiles that play an animation)
+     * @param owner    responsible for releasing it (see EntityReaper); null = the pool itself
+     * @param ttlMs    stray after this long in use, whatever the owner says; 0 = no deadline
+     */
+    public static Ref<EntityStore> acquire(World world, String modelId, float scale, Model model,
+                                           double x, double y, double z,
+                                           float pitch, float yaw, boolean animated,
+                                           @Nullable Object owner, long ttlMs) {
+        Shard shard = shard(world);
+        String key = key(modelId, scale, animated);
+        Pool pool = shard.pools.computeIfAbsent(key, k -> new Pool());
+        Store<EntityStore> store = world.getEntityStore().getStore();
+        shard.acquired++;
+
+        Ref<EntityStore> ref = null;
+        while (!pool.idle.isEmpty()) {
+            Ref<EntityStore> candidate = pool.idle.pollLast();
+            if (candidate == null || !candidate.isValid()) { shard.keyOf.remove(candidate); continue; }
+            try {
+                TransformComponent tc = store.getComponent(candidate, TransformComponent.getComponentType());
+                if (tc == null) continue;
+                tc.setRotation(new Vector3f(pitch, yaw, 0f));
+                tc.setPosition(new Vector3d(x, y, z));
+                ref = candidate;
+                shard.reused++;
+                break;
+            } catch (Exception ignored) {}
+        }
+        if (ref == null) {
+            ref = spawn(store, model, x, y, z, pitch, yaw, animated);
+            if (ref == null) return null;
+            shard.keyOf.put(ref, key);
+            shard.spawned++;
+        }
+
+        pool.inUse++;
+        pool.peak = Math.max(pool.peak, pool.inUse);
+        EntityReaper.tag(world, ref, "vfx", owner != null ? owner : shard, ttlMs);
+        return ref;
+    }
+
+    /**
+     * The entity's model was swapped (a growing effect reached full size): move it
+     * to the pool of its new model so a later acquire gets what it asked for.
+     */
+    public static void retag(World world, Ref<EntityStore> ref, String modelId, float scale) {
+        Shard shard = shards.get(world);
+        if (shard == null || ref == null) return;
+        String old = shard.keyOf.get(ref);
+        if (old == null) return;
+        String key = key(modelId, scale, old.endsWith("+anim"));
+        if (key.equals(old)) return;
+        Pool from = shard.pools.get(old);
+        if (from != null) from.inUse = Math.max(0, from.inUse - 1);
+        Pool to = shard.pools.computeIfAbsent(key, k -> new Pool());
+        to.inUse++;
+        to.peak = Math.max(to.peak, to.inUse);
+        shard.keyOf.put(ref, key);
+    }
+
+    /** Park a pooled entity for reuse, or remove it (pool full, or not from this pool). */
+    public static void release(World world, Ref<EntityStore> ref) {
+        if (ref == null) return;
+        Shard shard = shards.get(world);
+        String key = shard != null ? shard.keyOf.get(ref) : null;
+        Pool pool = key != null ? shard.pools.get(key) : null;
+        if (pool != null && pool.idle.contains(ref)) return; // already parked
+        if (pool != null) pool.inUse = Math.max(0, pool.inUse - 1);
+        if (!ref.isValid()) {
+            if (key != null) shard.keyOf.remove(ref);
+            return;
+        }
+        Store<EntityStore> store = world.getEntityStore().getStore();
+        if (pool == null) {
+            remove(store, ref);
+            return;
+        }
+
+        int capacity = pool.capacity();
+        // Shrink back after a burst: drop surplus idle entities a few at a time
+        for (int i = 0; i < 8 && pool.idle.size() > capacity; i++) {
+            Ref<EntityStore> surplus = pool.idle.pollFirst();
+            shard.keyOf.remove(surplus);
+            remove(store, surplus);
+            shard.trimmed++;
+        }
+        if (pool.idle.size() >= capacity) {
+            shard.keyOf.remove(ref);
+            remove(store, ref);
+            shard.trimmed++;
+            return;
+        }
+        try {
+            TransformComponent tc = store.getComponent(ref, TransformComponent.getComponentType());
+            if (tc != null) {
+                Vector3d p = tc.getPosition();
+                tc.setPosition(new Vector3d(p.getX(), p.getY() - PARK_DEPTH, p.getZ()));
+            }
+        } catch (Exception ignored) {}
+        pool.idle.addLast(ref);
+        EntityReaper.tag(world, ref, "vfx", shard); // clears any deadline set while in use
+    }
+
+    /**
+     * Forget the world's pools now (table closed). Returns the removal of the parked
+     * entities, to run on the world thread if the world is still up.
+     */
+    public static Runnable detach(World world) {
+        Shard shard = shards.remove(world);
+        if (shard == null) return () -> {};
+        return () -> {
+            Store<EntityStore> store = world.getEntityStore().getStore();
+            for (Pool pool : shard.pools.values()) {
+                for (Ref<EntityStore> ref : pool.idle) remove(store, ref);
+                pool.idle.clear();
+            }
+        };
+    }
+
+    /** One-line pool summary for logs: totals, then idle/in-use/peak per model. */
+    public static String stats(World world) {
+        Shard s = shards.get(world);
+        if (s == null) return "empty";
+        StringBuilder sb = new StringBuilder("acquired=" + s.acquired + " reused=" + s.reused
+                + " spawned=" + s.spawned + " trimmed=" + s.trimmed);
+        for (Map.Entry<String, Pool> e : new TreeMap<>(s.pools).entrySet()) {
+            Pool p = e.getValue();
+            sb.append(" | ").append(e.getKey()).append(" idle=").append(p.idle.size())
+                    .append(" use=").append(p.inUse).append(" peak=").append(p.peak);
+        }
+        return sb.toString();
+    }
+
+    // ========================================================
+    // ENTITY SPAWNING
+    // ========================================================
+
+    private static Ref<EntityStore> spawn(Store<EntityStore> store, Model model,
+                                          double x, double y, double z, float pitch, float yaw,
+                                          boolean animated) {
+        try {
+            Holder<EntityStore> holder = EntityStore.REGISTRY.newHolder();
+            holder.addComponent(TransformComponent.getComponentType(),
+                    new TransformComponent(new Vector3d(x, y, z), new Vector3f(pitch, yaw, 0f)));
+            holder.addComponent(PersistentModel.getComponentType(), new PersistentModel(model.toReference()));
+            holder.addComponent(ModelComponent.getComponentType(), new ModelComponent(model));
+            holder.addComponent(BoundingBox.getComponentType(), new BoundingBox(model.getBoundingBox()));
+            holder.addComponent(NetworkId.getComponentType(),
+                    new NetworkId(store.getExternalData().takeNextNetworkId()));
+            holder.ensureComponent(UUIDComponent.getComponentType());
+            if (animated) holder.ensureComponent(ActiveAnimationComponent.getComponentType());
+            return store.addEntity(holder, AddReason.SPAWN);
+        } catch (Exception e) {
+            System.err.println("[Griddify] [VFX] spawn failed: " + e.getMessage());
+            return null;
+        }
+    }
+
+    private static void remove(Store<EntityStore> store, Ref<EntityStore> ref) {
+        if (ref == null || !ref.isValid()) return;
+        try { store.removeEntity(ref, RemoveReason.REMOVE); } catch (Exception ignored) {}
+    }
+}
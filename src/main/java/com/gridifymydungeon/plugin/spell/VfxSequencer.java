@@ -0,0 +1,243 @@
+package com.gridifymydungeon.plugin.spell;
+
+import com.gridifymydungeon.plugin.gridmove.EntityReaper;
+import com.gridifymydungeon.plugin.gridmove.TableSession;
+import com.gridifymydungeon.plugin.gridmove.WorldWorkQueue;
+import com.hypixel.hytale.component.Ref;
+import com.hypixel.hytale.component.Store;
+import com.hypixel.hytale.math.vector.Vector3d;
+import com.hypixel.hytale.server.core.asset.type.model.config.Model;
+import com.hypixel.hytale.server.core.modules.entity.component.BoundingBox;
+import com.hypixel.hytale.server.core.modules.entity.component.ModelComponent;
+import com.hypixel.hytale.server.core.modules.entity.component.PersistentModel;
+import com.hypixel.hytale.server.core.modules.entity.component.TransformComponent;
+import com.hypixel.hytale.server.core.universe.world.World;
+import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Plays EffectTimelines, one sequencer per world.
+ *
+ * Each sequencer ticks every TICK_MS on its table's scheduler while anything is
+ * playing, and stops when idle. Per tick, the sequencer collects
+ * the keyframes that fell due across all of its timelines and submits them as ONE
+ * VFX-priority WorldWorkQueue task, instead of one closure or sleeping thread per
+ * entity per step. Batches deferred by the tick budget run in order.
+ *
+ * cancelAll (combat end) and release (table closed) stop playback and remove the
+ * entities the cancelled timelines spawned. Each spawned entity is owned by its
+ * Playback for EntityReaper, with a deadline at the end of the timeline.
+ */
+public final class VfxSequencer {
+
+    public static final long TICK_MS = 50L;
+
+    private static final Map<World, VfxSequencer> active = new ConcurrentHashMap<>();
+
+
+    private final World world;
+    private final List<Playback> playing = new ArrayList<>(); // guarded by this
+    private ScheduledFuture<?> ticker = null;                  // guarded by this
+    private long tick = 0;
+
+    private VfxSequencer(World world) {
+        this.world = world;
+    }
+
+    /** A running timeline. Slot Refs are only touched on the world thread. */
+    public static final class Playback implements EntityReaper.Owner {
+        private final World world;
+        private final EffectTimeline timeline;
+        private final List<EffectTimeline.Keyframe> keyframes;
+        private final Ref<EntityStore>[] refs;
+        private long startTick;
+        private int next = 0;
+        private volatile boolean cancelled = false;
+        private volatile boolean finished = false; // last keyframe applied on the world thread
+
+        @SuppressWarnings("unchecked")
+        private Playback(World world, EffectTimeline timeline) {
+            this.world = world;
+            this.timeline = timeline;
+            this.keyframes = timeline.sortedKeyframes();
+            this.refs = new Ref[timeline.slotCount()];
+            for (int i = 0; i < refs.length; i++) refs[i] = timeline.attachedRef(i);
+        }
+
+        /** Stop playback and remove every entity this timeline spawned or was due to despawn. */
+        public void cancel() {
+            if (cancelled) return;
+            cancelled = true;
+            // Queued after any batch already submitted, so it sees every spawned Ref
+            WorldWorkQueue.submit(world, WorldWorkQueue.Priority.VFX, () -> {
+                for (int i = 0; i < refs.length; i++) {
+                    if (timeline.isTransient(i)) SpellVisualEffect.despawn(world, refs[i]);
+                    refs[i] = null;
+                }
+                EntityReaper.release(world, this);
+            });
+        }
+
+        public boolean isCancelled() { return cancelled; }
+
+        /** Entities spawned by the timeline are held until it is cancelled or has played out. */
+        @Override
+        public boolean isLive() { return !cancelled && !finished; }
+
+        /** Time from keyframe tick until the timeline's last keyframe. */
+        private long remainingMs(int tick) {
+            int last = keyframes.isEmpty() ? tick : keyframes.get(keyframes.size() - 1).tick;
+            return Math.max(0, last - tick) * TICK_MS;
+        }
+    }
+
+    // ========================================================
+    // PUBLIC API
+    // ========================================================
+
+    public static Playback play(World world, EffectTimeline timeline) {
+        return play(world, timeline, 0);
+    }
+
+    /** Start a timeline delayTicks from now. Keyframes at tick 0 run on the next tick. */
+    public static Playback play(World world, EffectTimeline timeline, int delayTicks) {
+        Playback p = new Playback(world, timeline);
+        if (timeline.isEmpty()) return p;
+        VfxSequencer seq = active.computeIfAbsent(world, VfxSequencer::new);
+        synchronized (seq) {
+            p.startTick = seq.tick + Math.max(0, delayTicks);
+            seq.playing.add(p);
+            if (seq.ticker == null) seq.startTicker();
+        }
+        return p;
+    }
+
+    /** Cancel everything playing in the world (combat ended). */
+    public static void cancelAll(World world) {
+        VfxSequencer seq = active.get(world);
+        if (seq == null) return;
+        synchronized (seq) {
+            for (Playback p : seq.playing) p.cancel();
+            seq.playing.clear();
+        }
+    }
+
+    /** Cancel and forget the world's sequencer (table closed). */
+    public static void release(World world) {
+        cancelAll(world);
+        VfxSequencer seq = active.remove(world);
+        if (seq == null) return;
+        synchronized (seq) {
+            seq.stopTicker();
+        }
+    }
+
+    // ========================================================
+    // TICK
+    // ========================================================
+
+    /** Guarded by this. Without an open table there is nothing to tick on; playback waits. */
+    private void startTicker() {
+        ScheduledExecutorService scheduler = TableSession.schedulerOf(world);
+        if (scheduler == null) return;
+        try {
+            ticker = scheduler.scheduleAtFixedRate(this::tickOnce, TICK_MS, TICK_MS, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException ignored) {
+            // table closing; release() follows
+        }
+    }
+
+    /** Guarded by this. */
+    private void stopTicker() {
+        if (ticker == null) return;
+        ticker.cancel(false);
+        ticker = null;
+    }
+
+    private void tickOnce() {
+        try {
+            advance();
+        } catch (Exception e) {
+            System.err.println("[Griddify] [VFX] Tick failed: " + e.getMessage());
+        }
+        synchronized (this) {
+            if (playing.isEmpty()) stopTicker();
+        }
+    }
+
+    private void advance() {
+        List<Playback> dueP = new ArrayList<>();
+        List<EffectTimeline.Keyframe> dueK = new ArrayList<>();
+        List<Playback> done = new ArrayList<>();
+        synchronized (this) {
+            tick++;
+            Iterator<Playback> it = playing.iterator();
+            while (it.hasNext()) {
+                Playback p = it.next();
+                if (p.cancelled) { it.remove(); continue; }
+                while (p.next < p.keyframes.size() && p.startTick + p.keyframes.get(p.next).tick <= tick) {
+                    dueP.add(p);
+                    dueK.add(p.keyframes.get(p.next++));
+                }
+                if (p.next >= p.keyframes.size()) {
+                    done.add(p);
+                    it.remove();
+                }
+            }
+        }
+        if (dueK.isEmpty() && done.isEmpty()) return;
+
+        WorldWorkQueue.submit(world, WorldWorkQueue.Priority.VFX, () -> {
+            Store<EntityStore> store = world.getEntityStore().getStore();
+            for (int i = 0; i < dueK.size(); i++) apply(store, dueP.get(i), dueK.get(i));
+            // Played out: anything a timeline forgot to despawn is the reaper's
+            for (Playback p : done) {
+                p.finished = true;
+                EntityReaper.release(world, p);
+            }
+        });
+    }
+
+    /** World thread. */
+    private void apply(Store<EntityStore> store, Playback p, EffectTimeline.Keyframe k) {
+        if (p.cancelled) return;
+        Ref<EntityStore> ref = p.refs[k.slot];
+        try {
+            switch (k.op) {
+                case SPAWN -> {
+                    p.refs[k.slot] = SpellVisualEffect.spawnPooled(k.modelId, k.scale, world,
+                            k.x, k.y, k.z, k.pitch, k.yaw,
+                            p, p.remainingMs(k.tick) + SpellVisualEffect.TTL_SLACK_MS);
+                }
+                case MOVE -> {
+                    if (ref == null || !ref.isValid()) return;
+                    TransformComponent tc = store.getComponent(ref, TransformComponent.getComponentType());
+                    if (tc != null) tc.setPosition(new Vector3d(k.x, k.y, k.z));
+                }
+                case SCALE -> {
+                    if (ref == null || !ref.isValid()) return;
+                    Model model = SpellVisualEffect.getModel(k.modelId, k.scale);
+                    if (model == null) return;
+                    store.replaceComponent(ref, ModelComponent.getComponentType(), new ModelComponent(model));
+                    store.replaceComponent(ref, PersistentModel.getComponentType(),
+                            new PersistentModel(model.toReference()));
+                    store.replaceComponent(ref, BoundingBox.getComponentType(), new BoundingBox(model.getBoundingBox()));
+                    VfxPool.retag(world, ref, k.modelId, k.scale);
+                }
+                case DESPAWN -> {
+                    SpellVisualEffect.despawn(world, ref);
+                    p.refs[k.slot] = null;
+                }
+            }
+        } catch (Exception ignored) {}
+    }
+}
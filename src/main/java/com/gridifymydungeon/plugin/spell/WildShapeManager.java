@@ -2,9 +2,9 @@ package com.gridifymydungeon.plugin.spell;
 
 import com.gridifymydungeon.plugin.gridmove.GridMoveManager;
 import com.gridifymydungeon.plugin.gridmove.GridPlayerState;
+import com.gridifymydungeon.plugin.gridmove.ModelRegistry;
 import com.hypixel.hytale.component.Ref;
 import com.hypixel.hytale.server.core.asset.type.model.config.Model;
-import com.hypixel.hytale.server.core.asset.type.model.config.ModelAsset;
 import com.hypixel.hytale.server.core.modules.entity.component.BoundingBox;
 import com.hypixel.hytale.server.core.modules.entity.component.ModelComponent;
 import com.hypixel.hytale.server.core.modules.entity.component.PersistentModel;
@@ -14,7 +14,9 @@ import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
 
 import javax.annotation.Nullable;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
 /**
@@ -131,19 +133,22 @@ public class WildShapeManager {
         }
     }
 
+    /** Players currently in Wild Shape (session audit). */
+    public Set<UUID> transformedPlayers() {
+        return new HashSet<>(originalModels.keySet());
+    }
+
+    /** Forget the saved model without reverting (disconnect: the NPC is removed anyway). */
+    public void forget(UUID playerUUID) {
+        originalModels.remove(playerUUID);
+    }
+
     public boolean isTransformed(UUID playerUUID) {
         return originalModels.containsKey(playerUUID);
     }
 
     @Nullable
     private static Model loadModel(String assetId) {
-        try {
-            ModelAsset asset = ModelAsset.getAssetMap().getAsset(assetId);
-            if (asset == null) return null;
-            return Model.createScaledModel(asset, 1.0f);
-        } catch (Exception e) {
-            System.err.println("[Griddify] [WILDSHAPE] Load failed '" + assetId + "': " + e.getMessage());
-            return null;
-        }
+        return ModelRegistry.get(assetId);
     }
 }
\ No newline at end of file
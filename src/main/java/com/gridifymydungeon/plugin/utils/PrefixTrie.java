@@ -0,0 +1,74 @@
+package com.gridifymydungeon.plugin.utils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Case-insensitive prefix trie used for spell / monster name autocomplete.
+ *
+ * Filled once while a catalog is built and only read afterwards, so it is
+ * safe to share between threads once published through a final field.
+ * Results come back in alphabetical order of their (lower-cased) keys.
+ */
+public class PrefixTrie<V> {
+
+    private static final class Node<V> {
+        final Map<Character, Node<V>> children = new TreeMap<>();
+        V value;
+    }
+
+    private final Node<V> root = new Node<>();
+    private int size = 0;
+
+    /** Insert or replace the value stored under key (case-insensitive). */
+    public void put(String key, V value) {
+        Node<V> node = root;
+        String lower = key.toLowerCase();
+        for (int i = 0; i < lower.length(); i++) {
+            node = node.children.computeIfAbsent(lower.charAt(i), c -> new Node<>());
+        }
+        if (node.value == null) size++;
+        node.value = value;
+    }
+
+    /** Exact lookup (case-insensitive). */
+    public V get(String key) {
+        Node<V> node = find(key);
+        return node != null ? node.value : null;
+    }
+
+    /**
+     * All values whose key starts with prefix, at most limit entries.
+     * An exact match, if present, is always returned first.
+     */
+    public List<V> withPrefix(String prefix, int limit) {
+        Node<V> node = find(prefix);
+        if (node == null || limit <= 0) return Collections.emptyList();
+        List<V> out = new ArrayList<>(Math.min(limit, 16));
+        collect(node, out, limit);
+        return out;
+    }
+
+    public int size() { return size; }
+
+    private Node<V> find(String key) {
+        if (key == null) return null;
+        Node<V> node = root;
+        String lower = key.toLowerCase();
+        for (int i = 0; i < lower.length() && node != null; i++) {
+            node = node.children.get(lower.charAt(i));
+        }
+        return node;
+    }
+
+    private static <V> void collect(Node<V> node, List<V> out, int limit) {
+        if (node.value != null) out.add(node.value);
+        for (Node<V> child : node.children.values()) {
+            if (out.size() >= limit) return;
+            collect(child, out, limit);
+        }
+    }
+}
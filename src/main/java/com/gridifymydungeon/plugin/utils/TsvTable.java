@@ -0,0 +1,111 @@
+package com.gridifymydungeon.plugin.utils;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Minimal tab-separated table reader for Griddify data files.
+ *
+ * Blank lines and lines starting with '#' are skipped. The first remaining
+ * line is the header; cells are then looked up by column name so columns can
+ * be reordered freely. Every parse error carries "source:line" so a GM editing
+ * the file by hand knows exactly where to look.
+ */
+public class TsvTable {
+
+    private final String source;
+    private final Map<String, Integer> columns = new HashMap<>();
+    private final List<Row> rows = new ArrayList<>();
+
+    private TsvTable(String source) {
+        this.source = source;
+    }
+
+    public static TsvTable read(BufferedReader reader, String source) throws IOException {
+        TsvTable table = new TsvTable(source);
+        String line;
+        int lineNo = 0;
+        boolean headerSeen = false;
+        while ((line = reader.readLine()) != null) {
+            lineNo++;
+            if (line.isBlank() || line.startsWith("#")) continue;
+            String[] cells = line.split("\t", -1);
+            if (!headerSeen) {
+                for (int i = 0; i < cells.length; i++) table.columns.put(cells[i].trim(), i);
+                headerSeen = true;
+            } else {
+                table.rows.add(table.new Row(cells, lineNo));
+            }
+        }
+        if (!headerSeen) throw new IllegalArgumentException(source + ": missing header row");
+        return table;
+    }
+
+    public List<Row> rows() { return rows; }
+
+    public class Row {
+        private final String[] cells;
+        private final int line;
+
+        private Row(String[] cells, int line) {
+            this.cells = cells;
+            this.line = line;
+        }
+
+        /** Raw cell text, trimmed; empty string when the column is missing or blank. */
+        public String str(String column) {
+            Integer idx = columns.get(column);
+            if (idx == null) throw error("unknown column '" + column + "'");
+            return idx < cells.length ? cells[idx].trim() : "";
+        }
+
+        /** Cell text, or null when blank. */
+        public String optStr(String column) {
+            String s = str(column);
+            return s.isEmpty() ? null : s;
+        }
+
+        public String required(String column) {
+            String s = str(column);
+            if (s.isEmpty()) throw error("'" + column + "' is required");
+            return s;
+        }
+
+        public int integer(String column) {
+            String s = required(column);
+            try {
+                return Integer.parseInt(s);
+            } catch (NumberFormatException e) {
+                throw error("'" + column + "' must be a number, got '" + s + "'");
+            }
+        }
+
+        public boolean bool(String column) {
+            String s = required(column);
+            if (s.equalsIgnoreCase("true")) return true;
+            if (s.equalsIgnoreCase("false")) return false;
+            throw error("'" + column + "' must be true or false, got '" + s + "'");
+        }
+
+        public <E extends Enum<E>> E enumOf(Class<E> type, String column) {
+            String s = required(column);
+            try {
+                return Enum.valueOf(type, s.toUpperCase());
+            } catch (IllegalArgumentException e) {
+                throw error("unknown " + type.getSimpleName() + " '" + s + "'");
+            }
+        }
+
+        public boolean isBlank(String column) {
+            return str(column).isEmpty();
+        }
+
+        public IllegalArgumentException error(String message) {
+            return new IllegalArgumentException(source + ":" + line + ": " + message);
+        }
+    }
+}
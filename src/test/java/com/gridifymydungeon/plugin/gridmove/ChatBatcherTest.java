@@ -0,0 +1,105 @@
+package com.gridifymydungeon.plugin.gridmove;
+
+import com.gridifymydungeon.plugin.gridmove.ChatBatcher.Line;
+import com.gridifymydungeon.plugin.gridmove.ChatBatcher.Outbox;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertIterableEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ChatBatcherTest {
+
+    private Outbox box;
+
+    @BeforeEach
+    void setUp() {
+        box = new Outbox(null);
+    }
+
+    private static Line line(String text) {
+        return new Line(text, null, null);
+    }
+
+    private static Line counter(String key, String text) {
+        return new Line(text, null, key);
+    }
+
+    private static List<String> texts(List<Line> batch) {
+        List<String> out = new ArrayList<>();
+        for (Line l : batch) out.add(l.text);
+        return out;
+    }
+
+    @Test
+    void linesWithinOneTickShareOneFlush() {
+        assertTrue(box.offer(line("a"), false, 0), "first line schedules the flush");
+        assertFalse(box.offer(line("b"), false, 10));
+        assertFalse(box.offer(line("c"), false, 20));
+
+        assertIterableEquals(List.of("a", "b", "c"), texts(box.take(ChatBatcher.FLUSH_MS)));
+        assertTrue(box.offer(line("d"), false, 100), "the next batch needs its own flush");
+    }
+
+    @Test
+    void throttledRepeatIsDroppedUntilTheCooldownPasses() {
+        assertTrue(box.offer(line("Not your turn!"), true, 0));
+        assertFalse(box.offer(line("Not your turn!"), true, 100));
+        assertIterableEquals(List.of("Not your turn!"), texts(box.take(ChatBatcher.FLUSH_MS)));
+
+        assertFalse(box.offer(line("Not your turn!"), true, ChatBatcher.REPEAT_COOLDOWN_MS - 1));
+        assertTrue(box.take(ChatBatcher.REPEAT_COOLDOWN_MS).isEmpty());
+        assertTrue(box.offer(line("Not your turn!"), true, ChatBatcher.REPEAT_COOLDOWN_MS));
+    }
+
+    @Test
+    void unthrottledRepeatsAreAllDelivered() {
+        box.offer(line("Hit!"), false, 0);
+        box.offer(line("Hit!"), false, 1);
+
+        assertEquals(2, box.take(ChatBatcher.FLUSH_MS).size());
+    }
+
+    @Test
+    void counterKeepsOnlyItsLatestValueMovedToTheEnd() {
+        box.offer(counter("moves", "Moves: 6/6"), false, 0);
+        box.offer(line("Stepped north"), false, 1);
+        box.offer(counter("moves", "Moves: 5/6"), false, 2);
+        box.offer(counter("hp", "HP: 20"), false, 3);
+        box.offer(counter("moves", "Moves: 4/6"), false, 4);
+
+        assertIterableEquals(List.of("Stepped north", "HP: 20", "Moves: 4/6"), texts(box.take(ChatBatcher.FLUSH_MS)));
+    }
+
+    @Test
+    void lostFlushIsRescheduled() {
+        assertTrue(box.offer(line("a"), false, 0));
+        // The scheduled flush never ran (its table closed): queue another once it is long overdue
+        assertFalse(box.offer(line("b"), false, ChatBatcher.FLUSH_MS + ChatBatcher.LOST_FLUSH_MS - 1));
+        assertTrue(box.offer(line("c"), false, ChatBatcher.FLUSH_MS + ChatBatcher.LOST_FLUSH_MS));
+
+        assertIterableEquals(List.of("a", "b", "c"), texts(box.take(2000)));
+    }
+
+    @Test
+    void idleOutboxIsMarkedDead() {
+        box.offer(line("a"), false, 0);
+        box.take(ChatBatcher.FLUSH_MS);
+        assertTrue(box.dead, "nothing left to remember");
+    }
+
+    @Test
+    void throttleMemoryKeepsTheOutboxUntilItExpires() {
+        box.offer(line("Not your turn!"), true, 0);
+        box.take(ChatBatcher.FLUSH_MS);
+        assertFalse(box.dead);
+
+        box.take(ChatBatcher.REPEAT_COOLDOWN_MS);
+        assertTrue(box.dead);
+    }
+}
@@ -0,0 +1,116 @@
+package com.gridifymydungeon.plugin.gridmove;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FieldOfViewTest {
+
+    private static final int RADIUS = 8;
+
+    /** Opaque cells as a set of packed keys. */
+    private static final class Walls implements FieldOfView.OpacityTest {
+        final Set<Long> cells = new HashSet<>();
+        Walls add(int x, int z) { cells.add(((long) x << 32) | (z & 0xFFFFFFFFL)); return this; }
+        @Override public boolean isOpaque(int x, int z) { return cells.contains(((long) x << 32) | (z & 0xFFFFFFFFL)); }
+    }
+
+    private static boolean inCircle(int dx, int dz) {
+        return dx * dx + dz * dz <= RADIUS * RADIUS + RADIUS;
+    }
+
+    @Test
+    void openFieldSeesTheWholeCircle() {
+        FieldOfView fov = new FieldOfView(RADIUS);
+        fov.compute(100, -50, new Walls());
+
+        int expected = 0;
+        for (int dx = -RADIUS - 2; dx <= RADIUS + 2; dx++) {
+            for (int dz = -RADIUS - 2; dz <= RADIUS + 2; dz++) {
+                boolean in = Math.abs(dx) <= RADIUS && Math.abs(dz) <= RADIUS && inCircle(dx, dz);
+                if (in) expected++;
+                assertEquals(in, fov.isVisible(100 + dx, -50 + dz), "cell " + dx + "," + dz);
+            }
+        }
+        assertEquals(expected, fov.visibleCount());
+    }
+
+    @Test
+    void wallIsSeenButHidesWhatIsBehindIt() {
+        FieldOfView fov = new FieldOfView(RADIUS);
+        fov.compute(0, 0, new Walls().add(0, -2));
+
+        assertTrue(fov.isVisible(0, -1));
+        assertTrue(fov.isVisible(0, -2), "the wall itself is visible");
+        assertFalse(fov.isVisible(0, -3));
+        assertFalse(fov.isVisible(0, -6));
+        assertTrue(fov.isVisible(3, -3), "off to the side is still lit");
+    }
+
+    @Test
+    void closedRoomHidesEverythingOutside() {
+        Walls walls = new Walls();
+        for (int i = -3; i <= 3; i++) {
+            walls.add(i, -3).add(i, 3).add(-3, i).add(3, i);
+        }
+        FieldOfView fov = new FieldOfView(RADIUS);
+        fov.compute(0, 0, walls);
+
+        for (int dx = -RADIUS; dx <= RADIUS; dx++) {
+            for (int dz = -RADIUS; dz <= RADIUS; dz++) {
+                boolean inside = Math.abs(dx) <= 3 && Math.abs(dz) <= 3;
+                assertEquals(inside, fov.isVisible(dx, dz), "cell " + dx + "," + dz);
+            }
+        }
+    }
+
+    @Test
+    void visibilityIsSymmetricBetweenFloorCells() {
+        Random random = new Random(29);
+        for (int map = 0; map < 20; map++) {
+            Walls walls = new Walls();
+            for (int x = -12; x <= 12; x++) {
+                for (int z = -12; z <= 12; z++) {
+                    if (random.nextInt(100) < 25) walls.add(x, z);
+                }
+            }
+            FieldOfView a = new FieldOfView(RADIUS);
+            FieldOfView b = new FieldOfView(RADIUS);
+            for (int ax = -4; ax <= 4; ax++) {
+                for (int az = -4; az <= 4; az++) {
+                    if (walls.isOpaque(ax, az)) continue;
+                    a.compute(ax, az, walls);
+                    for (int bx = ax - RADIUS; bx <= ax + RADIUS; bx++) {
+                        for (int bz = az - RADIUS; bz <= az + RADIUS; bz++) {
+                            if (walls.isOpaque(bx, bz)) continue;
+                            b.compute(bx, bz, walls);
+                            assertEquals(a.isVisible(bx, bz), b.isVisible(ax, az),
+                                    "map " + map + ": (" + ax + "," + az + ") vs (" + bx + "," + bz + ")");
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    void originIsTrackedAndCleared() {
+        FieldOfView fov = new FieldOfView(RADIUS);
+        assertFalse(fov.hasOrigin(0, 0));
+
+        fov.compute(3, 4, new Walls());
+        assertTrue(fov.hasOrigin(3, 4));
+        assertTrue(fov.isVisible(3, 4));
+
+        fov.clear();
+        assertFalse(fov.hasOrigin(3, 4));
+        assertEquals(0, fov.visibleCount());
+        assertFalse(fov.isVisible(3, 4));
+    }
+}
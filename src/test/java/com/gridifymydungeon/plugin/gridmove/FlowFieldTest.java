@@ -0,0 +1,166 @@
+package com.gridifymydungeon.plugin.gridmove;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FlowFieldTest {
+
+    private static final float FLOOR = 64.0f;
+    private static final double EPS = 1e-9;
+
+    /** Flat floor at FLOOR unless a cell says otherwise; walls have no ground. */
+    private static final class Map2D implements FlowField.Terrain {
+        final Map<Long, Float> ground = new HashMap<>();
+        final Map<Long, Double> cost = new HashMap<>();
+        final Map<Long, Boolean> walls = new HashMap<>();
+
+        @Override
+        public Float groundAt(int gridX, int gridZ, float refY) {
+            long key = key(gridX, gridZ);
+            if (walls.containsKey(key)) return null;
+            return ground.getOrDefault(key, FLOOR);
+        }
+
+        @Override
+        public double multiplier(int gridX, int gridZ, float groundY) {
+            return cost.getOrDefault(key(gridX, gridZ), 1.0);
+        }
+    }
+
+    private Map2D terrain;
+    private Map<Long, Float> goals;
+
+    @BeforeEach
+    void setUp() {
+        terrain = new Map2D();
+        goals = new LinkedHashMap<>();
+    }
+
+    private static long key(int x, int z) {
+        return ((long) x << 32) | (z & 0xFFFFFFFFL);
+    }
+
+    private FlowField fieldToward(int x, int z) {
+        goals.put(key(x, z), FLOOR);
+        return FlowField.compute(goals, terrain);
+    }
+
+    @Test
+    void noGoalsGiveAnEmptyField() {
+        FlowField field = FlowField.compute(goals, terrain);
+        assertEquals(0, field.size());
+        assertNull(field.nextStep(0, 0));
+        assertEquals(Double.POSITIVE_INFINITY, field.distanceAt(0, 0));
+    }
+
+    @Test
+    void cardinalStepsCostOneAndDiagonalsOneAndAHalf() {
+        FlowField field = fieldToward(0, 0);
+
+        assertEquals(0.0, field.distanceAt(0, 0), EPS);
+        assertEquals(1.0, field.distanceAt(1, 0), EPS);
+        assertEquals(1.5, field.distanceAt(1, 1), EPS);
+        assertEquals(2.5, field.distanceAt(2, -1), EPS);
+        assertEquals(3.0, field.distanceAt(0, -3), EPS);
+        assertEquals(4.5, field.distanceAt(-3, 3), EPS);
+    }
+
+    @Test
+    void expansionStopsAtTheRadius() {
+        FlowField field = fieldToward(0, 0);
+        assertTrue(field.contains(FlowField.RADIUS, -FlowField.RADIUS));
+        assertFalse(field.contains(FlowField.RADIUS + 1, 0));
+    }
+
+    @Test
+    void nearestGoalWins() {
+        goals.put(key(10, 0), FLOOR);
+        FlowField field = fieldToward(0, 0);
+
+        assertEquals(2.0, field.distanceAt(8, 0), EPS);
+        assertArrayEquals(new int[]{9, 0}, field.nextStep(8, 0));
+        assertArrayEquals(new int[]{1, 0}, field.nextStep(2, 0));
+        assertNull(field.nextStep(10, 0), "goals have no next step");
+    }
+
+    @Test
+    void difficultTerrainCostsMoreToEnterAndIsRoutedAround() {
+        terrain.cost.put(key(1, 0), 3.0);
+        FlowField field = fieldToward(0, 0);
+
+        assertEquals(1.0, field.distanceAt(1, 0), EPS, "leaving difficult terrain is normal cost");
+        assertEquals(3.0, field.distanceAt(2, 0), EPS, "around via (1,±1) rather than 1 + 3");
+        int[] step = field.nextStep(2, 0);
+        assertEquals(1, step[0]);
+        assertEquals(1, Math.abs(step[1]));
+        assertEquals(4.5, field.stepCost(2, 1, 1, 0), EPS);
+    }
+
+    @Test
+    void wallsAreRoutedAround() {
+        for (int z = -3; z <= 3; z++) terrain.walls.put(key(1, z), true);
+        FlowField field = fieldToward(0, 0);
+
+        assertFalse(field.contains(1, 0));
+        assertNull(field.groundAt(1, 0));
+        // Around either end of the wall: (1,±4) is 4.5 from both sides
+        assertEquals(9.0, field.distanceAt(2, 0), EPS);
+    }
+
+    @Test
+    void climbAndDropLimitsMatchTheMovementSearch() {
+        terrain.ground.put(key(3, 0), FLOOR - 3.0f);  // too deep to climb out of
+        terrain.ground.put(key(0, 3), FLOOR + 4.0f);  // a 4-block drop is allowed
+        terrain.ground.put(key(-3, 0), FLOOR + 5.0f); // a 5-block drop is not
+        terrain.ground.put(key(0, -1), FLOOR - 2.0f); // a 2-block climb is fine
+        FlowField field = fieldToward(0, 0);
+
+        assertFalse(field.contains(3, 0));
+        assertEquals(3.0, field.distanceAt(0, 3), EPS);
+        assertFalse(field.contains(-3, 0));
+        assertEquals(1.0, field.distanceAt(0, -1), EPS);
+    }
+
+    @Test
+    void blockedStepFallsBackToAnotherDownhillNeighbour() {
+        FlowField field = fieldToward(0, 0);
+        assertArrayEquals(new int[]{1, 0}, field.nextStep(2, 0));
+
+        int[] step = field.nextStep(2, 0, (x, z) -> x == 1 && z == 0);
+        assertEquals(1.5, field.distanceAt(step[0], step[1]), EPS);
+        assertEquals(1, step[0]);
+
+        assertArrayEquals(new int[]{1, 0}, field.nextStep(2, 0, (x, z) -> false));
+    }
+
+    @Test
+    void fallbackNeverStandsOnAGoal() {
+        terrain.ground.put(key(1, 0), FLOOR - 2.0f);
+        FlowField field = fieldToward(0, 0);
+
+        assertArrayEquals(new int[]{0, 0}, field.nextStep(1, 1));
+        assertArrayEquals(new int[]{1, 0}, field.nextStep(1, 1, (x, z) -> x == 0 && z == 0));
+        assertNull(field.nextStep(2, 0, (x, z) -> true), "everything around blocked: stay put");
+    }
+
+    @Test
+    void fallbackOnlyTakesLegalSteps() {
+        terrain.ground.put(key(2, 0), FLOOR + 2.0f);
+        terrain.ground.put(key(1, 1), FLOOR - 2.5f); // reachable from the goal, a 4.5 drop from (2,0)
+        FlowField field = fieldToward(0, 0);
+        assertEquals(1.5, field.distanceAt(1, 1), EPS);
+
+        int[] step = field.nextStep(2, 0, (x, z) -> x == 1 && z == 0);
+        assertArrayEquals(new int[]{1, -1}, step);
+    }
+}
@@ -0,0 +1,91 @@
+package com.gridifymydungeon.plugin.gridmove;
+
+import com.gridifymydungeon.plugin.gridmove.LineOfSightService.Cover;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class LineOfSightServiceTest {
+
+    /** Cover per grid cell; unlisted cells are clear. */
+    private static final class Cells implements LineOfSightService.CellCover {
+        final Map<Long, Cover> cover = new HashMap<>();
+
+        Cells set(int x, int z, Cover c) {
+            cover.put(((long) x << 32) | (z & 0xFFFFFFFFL), c);
+            return this;
+        }
+
+        @Override
+        public Cover at(int gridX, int gridZ) {
+            return cover.getOrDefault(((long) gridX << 32) | (gridZ & 0xFFFFFFFFL), Cover.CLEAR);
+        }
+    }
+
+    @Test
+    void openGroundIsClear() {
+        assertEquals(Cover.CLEAR, LineOfSightService.trace(0, 0, 7, 3, new Cells()));
+        assertEquals(Cover.CLEAR, LineOfSightService.trace(2, 2, 2, 2, new Cells()));
+    }
+
+    @Test
+    void wallAcrossTheLineBlocks() {
+        Cells cells = new Cells().set(3, 0, Cover.BLOCKED);
+        assertEquals(Cover.BLOCKED, LineOfSightService.trace(0, 0, 6, 0, cells));
+        assertEquals(Cover.CLEAR, LineOfSightService.trace(0, 1, 6, 1, cells), "the next row is open");
+    }
+
+    @Test
+    void lowWallGivesHalfCoverAndTheWorstCellCounts() {
+        Cells cells = new Cells().set(2, 0, Cover.HALF);
+        assertEquals(Cover.HALF, LineOfSightService.trace(0, 0, 5, 0, cells));
+
+        cells.set(4, 0, Cover.BLOCKED);
+        assertEquals(Cover.BLOCKED, LineOfSightService.trace(0, 0, 5, 0, cells));
+    }
+
+    @Test
+    void endCellsAreNotTested() {
+        Cells cells = new Cells().set(0, 0, Cover.BLOCKED).set(4, 0, Cover.BLOCKED);
+        assertEquals(Cover.CLEAR, LineOfSightService.trace(0, 0, 4, 0, cells));
+    }
+
+    @Test
+    void exactCornerTakesTheLesserSideCell() {
+        // (0,0) -> (2,2) squeezes between (1,0) and (0,1), then (2,1) and (1,2)
+        Cells one = new Cells().set(1, 0, Cover.BLOCKED);
+        assertEquals(Cover.CLEAR, LineOfSightService.trace(0, 0, 2, 2, one));
+
+        Cells halfAndWall = new Cells().set(1, 0, Cover.BLOCKED).set(0, 1, Cover.HALF);
+        assertEquals(Cover.HALF, LineOfSightService.trace(0, 0, 2, 2, halfAndWall));
+
+        Cells both = new Cells().set(1, 0, Cover.BLOCKED).set(0, 1, Cover.BLOCKED);
+        assertEquals(Cover.BLOCKED, LineOfSightService.trace(0, 0, 2, 2, both));
+
+        Cells middle = new Cells().set(1, 1, Cover.BLOCKED);
+        assertEquals(Cover.BLOCKED, LineOfSightService.trace(0, 0, 2, 2, middle));
+    }
+
+    @Test
+    void coverIsTheSameBothWays() {
+        Random random = new Random(7L);
+        Cells cells = new Cells();
+        Cover[] kinds = Cover.values();
+        for (int x = -8; x <= 8; x++) {
+            for (int z = -8; z <= 8; z++) {
+                if (random.nextInt(6) == 0) cells.set(x, z, kinds[1 + random.nextInt(2)]);
+            }
+        }
+        for (int i = 0; i < 500; i++) {
+            int fx = random.nextInt(17) - 8, fz = random.nextInt(17) - 8;
+            int tx = random.nextInt(17) - 8, tz = random.nextInt(17) - 8;
+            assertEquals(LineOfSightService.trace(fx, fz, tx, tz, cells),
+                    LineOfSightService.trace(tx, tz, fx, fz, cells),
+                    "(" + fx + "," + fz + ") <-> (" + tx + "," + tz + ")");
+        }
+    }
+}
@@ -0,0 +1,188 @@
+package com.gridifymydungeon.plugin.gridmove;
+
+import com.gridifymydungeon.plugin.gridmove.WorldWorkQueue.Priority;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertIterableEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class WorldWorkQueueTest {
+
+    private static final long MS = 1_000_000L;
+    private static final long BUDGET = 5 * MS;
+
+    private long now;
+    private ArrayDeque<Runnable> worldThread;
+    private ArrayDeque<Runnable> nextTick;
+    private List<String> ran;
+    private WorldWorkQueue queue;
+
+    @BeforeEach
+    void setUp() {
+        now = 0;
+        worldThread = new ArrayDeque<>();
+        nextTick = new ArrayDeque<>();
+        ran = new ArrayList<>();
+        queue = new WorldWorkQueue(worldThread::add, nextTick::add, () -> now, BUDGET);
+    }
+
+    /** A task that records its name and takes costMs of (fake) time. */
+    private Runnable task(String name, long costMs) {
+        return () -> {
+            ran.add(name);
+            now += costMs * MS;
+        };
+    }
+
+    private void runWorldThread() {
+        while (!worldThread.isEmpty()) worldThread.poll().run();
+    }
+
+    /** The next tick: TICK_MS later, run the retry drain. */
+    private void runNextTick() {
+        now += WorldWorkQueue.TICK_MS * MS;
+        Runnable retry = nextTick.poll();
+        if (retry != null) retry.run();
+        runWorldThread();
+    }
+
+    @Test
+    void oneDrainPerBurstRunsHighestPriorityFirst() {
+        queue.enqueue(Priority.VFX, null, task("vfx", 0));
+        queue.enqueue(Priority.OVERLAY, null, task("overlay", 0));
+        queue.enqueue(Priority.MOVEMENT, null, task("move", 0));
+
+        assertEquals(1, worldThread.size(), "one world.execute for the whole burst");
+        runWorldThread();
+        assertIterableEquals(List.of("move", "overlay", "vfx"), ran);
+        assertEquals(0, queue.depth());
+        assertTrue(nextTick.isEmpty());
+    }
+
+    @Test
+    void keyedTaskReplacesTheQueuedOneAndLeavesDepth() {
+        queue.enqueue(Priority.OVERLAY, "refresh:p1", task("old", 0));
+        queue.enqueue(Priority.OVERLAY, "refresh:p1", task("new", 0));
+        queue.enqueue(Priority.OVERLAY, "refresh:p2", task("other", 0));
+
+        assertEquals(2, queue.depth(), "the replaced task is not counted");
+        runWorldThread();
+        assertIterableEquals(List.of("new", "other"), ran);
+        assertEquals(0, queue.depth());
+    }
+
+    @Test
+    void keyRunsAgainOnceItsTaskHasRun() {
+        queue.enqueue(Priority.OVERLAY, "refresh:p1", task("first", 0));
+        runWorldThread();
+        queue.enqueue(Priority.OVERLAY, "refresh:p1", task("second", 0));
+        runWorldThread();
+
+        assertIterableEquals(List.of("first", "second"), ran);
+    }
+
+    @Test
+    void overBudgetWorkWaitsForTheNextTick() {
+        for (int i = 0; i < 4; i++) queue.enqueue(Priority.OVERLAY, null, task("o" + i, 2));
+
+        runWorldThread();
+        assertIterableEquals(List.of("o0", "o1", "o2"), ran, "6 ms spent against a 5 ms budget");
+        assertEquals(1, queue.depth());
+        assertEquals(1, nextTick.size());
+
+        runNextTick();
+        assertIterableEquals(List.of("o0", "o1", "o2", "o3"), ran);
+        assertEquals(0, queue.depth());
+        assertTrue(nextTick.isEmpty());
+    }
+
+    @Test
+    void movementIsNeverDeferred() {
+        queue.enqueue(Priority.OVERLAY, null, task("overlay", 6));
+        queue.enqueue(Priority.MOVEMENT, null, task("m1", 3));
+        queue.enqueue(Priority.MOVEMENT, null, task("m2", 3));
+        queue.enqueue(Priority.VFX, null, task("vfx", 1));
+
+        runWorldThread();
+        assertIterableEquals(List.of("m1", "m2"), ran);
+        assertEquals(2, queue.depth());
+
+        // Movement submitted while the leftovers wait gets its own drain right away
+        queue.enqueue(Priority.MOVEMENT, null, task("m3", 1));
+        assertEquals(1, worldThread.size());
+        runWorldThread();
+        assertEquals("m3", ran.get(2));
+    }
+
+    @Test
+    void overrunIsRepaidByTheNextDrain() {
+        queue.enqueue(Priority.MOVEMENT, null, task("move", 10));
+        runWorldThread();
+        assertEquals(0, queue.nextBudgetNs(), "10 ms spent: the 5 ms overrun is owed");
+
+        // A drain posted straight after (same tick) starts with no budget left
+        queue.enqueue(Priority.OVERLAY, null, task("overlay", 1));
+        runWorldThread();
+        assertIterableEquals(List.of("move"), ran);
+        assertEquals(1, queue.depth());
+
+        // A tick later the debt is gone
+        runNextTick();
+        assertIterableEquals(List.of("move", "overlay"), ran);
+        assertEquals(BUDGET, queue.nextBudgetNs());
+    }
+
+    @Test
+    void partialOverrunShrinksTheNextBudget() {
+        queue.enqueue(Priority.OVERLAY, null, task("a", 7));
+        runWorldThread();
+        assertEquals(3 * MS, queue.nextBudgetNs());
+
+        queue.enqueue(Priority.OVERLAY, null, task("b", 2));
+        queue.enqueue(Priority.OVERLAY, null, task("c", 2));
+        queue.enqueue(Priority.OVERLAY, null, task("d", 2));
+        runWorldThread();
+        assertIterableEquals(List.of("a", "b", "c"), ran, "4 ms spent of a 3 ms budget");
+        assertEquals(1, queue.depth());
+    }
+
+    @Test
+    void overdueWorkRunsDespiteTheBudget() {
+        queue.enqueue(Priority.VFX, null, task("late", 1));
+        now += WorldWorkQueue.MAX_WAIT_NS;
+        queue.enqueue(Priority.MOVEMENT, null, task("move", 10));
+
+        runWorldThread();
+        assertIterableEquals(List.of("move", "late"), ran);
+    }
+
+    @Test
+    void releaseRunsEverythingAndStopsDraining() {
+        for (int i = 0; i < 3; i++) queue.enqueue(Priority.VFX, null, task("v" + i, 4));
+        queue.enqueue(Priority.VFX, "k", task("replaced", 0));
+        queue.enqueue(Priority.VFX, "k", task("kept", 0));
+
+        queue.runAllAndStop();
+        assertIterableEquals(List.of("v0", "v1", "v2", "kept"), ran);
+        assertEquals(0, queue.depth());
+
+        runWorldThread(); // the drain posted before release finds nothing to do
+        assertEquals(4, ran.size());
+    }
+
+    @Test
+    void failingTaskDoesNotStopTheDrain() {
+        queue.enqueue(Priority.OVERLAY, null, () -> { throw new IllegalStateException("boom"); });
+        queue.enqueue(Priority.OVERLAY, null, task("after", 0));
+
+        runWorldThread();
+        assertIterableEquals(List.of("after"), ran);
+        assertTrue(queue.stats().contains("failed=1"));
+    }
+}
@@ -0,0 +1,66 @@
+package com.gridifymydungeon.plugin.spell;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static com.gridifymydungeon.plugin.spell.SpellFixtures.zone;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class CellEffectIndexTest {
+
+    private static long key(int x, int z) {
+        return PersistentSpellEffect.cellKey(x, z);
+    }
+
+    @Test
+    void emptyIndexMissesEverywhere() {
+        assertSame(CellEffectIndex.NONE, CellEffectIndex.EMPTY.at(key(0, 0)));
+        assertEquals(0, CellEffectIndex.EMPTY.cellCount());
+    }
+
+    @Test
+    void findsEveryCoveredCellAndNothingElse() {
+        PersistentSpellEffect a = zone(3, new int[]{0, 0}, new int[]{1, 0}, new int[]{-3, -7});
+        CellEffectIndex index = CellEffectIndex.build(List.of(a));
+
+        assertEquals(3, index.cellCount());
+        assertArrayEquals(new PersistentSpellEffect[]{a}, index.at(key(0, 0)));
+        assertArrayEquals(new PersistentSpellEffect[]{a}, index.at(key(1, 0)));
+        assertArrayEquals(new PersistentSpellEffect[]{a}, index.at(key(-3, -7)));
+        assertSame(CellEffectIndex.NONE, index.at(key(0, 1)));
+        assertSame(CellEffectIndex.NONE, index.at(key(-7, -3)));
+    }
+
+    @Test
+    void overlappingZonesShareACell() {
+        PersistentSpellEffect a = zone(3, new int[]{0, 0}, new int[]{1, 0});
+        PersistentSpellEffect b = zone(3, new int[]{1, 0}, new int[]{2, 0});
+        CellEffectIndex index = CellEffectIndex.build(List.of(a, b));
+
+        assertEquals(3, index.cellCount());
+        assertArrayEquals(new PersistentSpellEffect[]{a}, index.at(key(0, 0)));
+        assertArrayEquals(new PersistentSpellEffect[]{a, b}, index.at(key(1, 0)));
+        assertArrayEquals(new PersistentSpellEffect[]{b}, index.at(key(2, 0)));
+    }
+
+    @Test
+    void largeZoneSurvivesProbeCollisions() {
+        int[][] cells = new int[41 * 41][];
+        int n = 0;
+        for (int x = -20; x <= 20; x++) {
+            for (int z = -20; z <= 20; z++) cells[n++] = new int[]{x, z};
+        }
+        PersistentSpellEffect a = zone(3, cells);
+        CellEffectIndex index = CellEffectIndex.build(List.of(a));
+
+        assertEquals(cells.length, index.cellCount());
+        for (int[] c : cells) assertEquals(1, index.at(key(c[0], c[1])).length);
+        for (int x = -25; x <= 25; x++) {
+            assertEquals(0, index.at(key(x, 21)).length);
+            assertEquals(0, index.at(key(21, x)).length);
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.gridifymydungeon.plugin.spell;
+
+import com.gridifymydungeon.plugin.dnd.MonsterState;
+import com.gridifymydungeon.plugin.gridmove.GridPlayerState;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static com.gridifymydungeon.plugin.spell.SpellFixtures.zone;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class PersistentSpellManagerTest {
+
+    private PersistentSpellManager manager;
+
+    @BeforeEach
+    void setUp() {
+        manager = new PersistentSpellManager();
+    }
+
+    private static MonsterState monsterAt(int x, int z) {
+        MonsterState m = new MonsterState(1, "Goblin");
+        m.currentGridX = x;
+        m.currentGridZ = z;
+        return m;
+    }
+
+    private static GridPlayerState playerAt(int x, int z) {
+        GridPlayerState p = new GridPlayerState();
+        p.currentGridX = x;
+        p.currentGridZ = z;
+        return p;
+    }
+
+    @Test
+    void turnStartAppliesZonesCoveringTheCell() {
+        manager.addEffect(zone(3, new int[]{0, 0}, new int[]{1, 0}));
+        manager.addEffect(zone(3, new int[]{1, 0}));
+        MonsterState inBoth = monsterAt(1, 0);
+        MonsterState inOne = monsterAt(0, 0);
+        MonsterState outside = monsterAt(5, 5);
+
+        assertEquals(2, manager.onTurnStart(inBoth));
+        assertEquals(1, manager.onTurnStart(inOne));
+        assertEquals(0, manager.onTurnStart(outside));
+        assertEquals(18, inBoth.stats.currentHP);
+        assertEquals(19, inOne.stats.currentHP);
+        assertEquals(20, outside.stats.currentHP);
+    }
+
+    @Test
+    void turnStartCoversPlayerNpcs() {
+        manager.addEffect(zone(3, new int[]{2, -4}));
+        GridPlayerState player = playerAt(2, -4);
+
+        assertEquals(1, manager.onTurnStart(player));
+        assertEquals(19, player.stats.currentHP);
+        assertEquals(0, manager.onTurnStart(playerAt(-4, 2)));
+    }
+
+    @Test
+    void deadMonstersAreSkipped() {
+        manager.addEffect(zone(3, new int[]{0, 0}));
+        MonsterState dead = monsterAt(0, 0);
+        dead.stats.currentHP = 0;
+
+        assertEquals(0, manager.onTurnStart(dead));
+        assertEquals(0, manager.onEnter(dead, 1, 0));
+    }
+
+    @Test
+    void enterAppliesOnlyWhenCrossingIntoTheZone() {
+        manager.addEffect(zone(3, new int[]{0, 0}, new int[]{1, 0}));
+        MonsterState m = monsterAt(0, 0);
+
+        assertEquals(1, manager.onEnter(m, -1, 0), "stepped in from outside");
+        m.currentGridX = 1;
+        assertEquals(0, manager.onEnter(m, 0, 0), "moved within the zone");
+        m.currentGridX = 2;
+        assertEquals(0, manager.onEnter(m, 1, 0), "left the zone");
+        assertEquals(19, m.stats.currentHP);
+    }
+
+    @Test
+    void enterOnlyCountsZonesNotAlreadyOccupied() {
+        manager.addEffect(zone(3, new int[]{0, 0}, new int[]{1, 0}));
+        manager.addEffect(zone(3, new int[]{1, 0}));
+        GridPlayerState player = playerAt(1, 0);
+
+        assertEquals(1, manager.onEnter(player, 0, 0));
+        assertEquals(19, player.stats.currentHP);
+    }
+
+    @Test
+    void expiredZonesStopApplying() {
+        manager.addEffect(zone(1, new int[]{0, 0}));
+        manager.addEffect(zone(2, new int[]{0, 0}));
+        MonsterState m = monsterAt(0, 0);
+
+        manager.advanceRound();
+        assertEquals(1, manager.getActiveEffects().size());
+        assertEquals(1, manager.onTurnStart(m));
+        assertEquals(1, manager.getEffectsAt(0, 0).size());
+
+        manager.advanceRound();
+        assertEquals(0, manager.getActiveEffects().size());
+        assertEquals(0, manager.onTurnStart(m));
+        assertEquals(0, manager.getEffectsAt(0, 0).size());
+    }
+}
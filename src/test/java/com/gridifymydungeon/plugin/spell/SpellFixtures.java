@@ -0,0 +1,19 @@
+package com.gridifymydungeon.plugin.spell;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/** Shared builders for the spell tests. */
+final class SpellFixtures {
+
+    private SpellFixtures() {}
+
+    /** A zone over the given cells that deals exactly 1 damage and lasts the given rounds. */
+    static PersistentSpellEffect zone(int rounds, int[]... cells) {
+        Set<SpellPatternCalculator.GridCell> set = new HashSet<>();
+        for (int[] c : cells) set.add(new SpellPatternCalculator.GridCell(c[0], c[1]));
+        SpellData spell = new SpellData("Zone", 2, 12, SpellPattern.CUBE, 2, "1d1", DamageType.FIRE,
+                ClassType.WIZARD, 1, true, rounds, "test zone");
+        return new PersistentSpellEffect(spell, null, set, 0);
+    }
+}